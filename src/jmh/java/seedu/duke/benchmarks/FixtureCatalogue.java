@@ -0,0 +1,101 @@
+package seedu.duke.benchmarks;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import seedu.duke.models.logic.Api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The `FixtureCatalogue` class stands in for the NUSMods API while benchmarks run, so that every run measures the
+ * same data and none of them touch the network. The modules of the CEG and CS requirements, with prerequisite
+ * trees shaped like those NUSMods returns, are read from catalogue.json beside this class. The list of all modules
+ * that searches run over is padded out to the size of a real academic year with titles made from a fixed seed.
+ */
+public class FixtureCatalogue {
+    public static final int MODULE_LIST_SIZE = 6500;
+
+    private static final String CATALOGUE_RESOURCE = "catalogue.json";
+    private static final long SEED = 2023;
+    private static final String[] PREFIXES = {"CS", "CG", "EE", "MA", "ST", "IS", "BT", "GE", "ES", "LAJ", "PL", "EC"};
+    private static final String[] WORDS = {"Introduction", "to", "Advanced", "Topics", "in", "Data", "Systems",
+        "Programming", "Engineering", "Design", "Analysis", "Theory", "Networks", "Machine", "Learning", "Software",
+        "Signals", "Mathematics", "Statistics", "Economics", "Japanese", "Psychology", "Principles", "Practice"};
+
+    private static boolean isLoaded;
+
+    /**
+     * Loads the fixture into the caches of Api. Later calls do nothing.
+     *
+     * @throws UncheckedIOException If the fixture could not be read.
+     * @throws IllegalStateException If the fixture is not valid JSON.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void load() {
+        if (isLoaded) {
+            return;
+        }
+        JSONObject catalogue = readCatalogue();
+        JSONObject modules = (JSONObject) catalogue.get("modules");
+        Map<String, JSONObject> moduleInfos = new HashMap<>();
+        JSONArray moduleList = new JSONArray();
+        for (Object code : modules.keySet()) {
+            JSONObject moduleInfo = (JSONObject) modules.get(code);
+            moduleInfos.put((String) code, moduleInfo);
+            moduleList.add(listEntry((String) code, (String) moduleInfo.get("title")));
+        }
+
+        Random random = new Random(SEED);
+        while (moduleList.size() < MODULE_LIST_SIZE) {
+            String code = PREFIXES[random.nextInt(PREFIXES.length)] + (1000 + random.nextInt(5000));
+            if (moduleInfos.containsKey(code)) {
+                continue;
+            }
+            StringBuilder title = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+            for (int words = 1 + random.nextInt(5); words > 0; words--) {
+                title.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            moduleList.add(listEntry(code, title.toString()));
+        }
+
+        Api.preloadModuleInfo(moduleInfos);
+        Api.preloadModuleList(moduleList);
+        isLoaded = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject listEntry(String code, String title) {
+        JSONArray semesters = new JSONArray();
+        semesters.add(1L);
+        semesters.add(2L);
+        JSONObject entry = new JSONObject();
+        entry.put("moduleCode", code);
+        entry.put("title", title);
+        entry.put("semesters", semesters);
+        return entry;
+    }
+
+    private static JSONObject readCatalogue() {
+        InputStream in = FixtureCatalogue.class.getResourceAsStream(CATALOGUE_RESOURCE);
+        if (in == null) {
+            throw new UncheckedIOException(new IOException("Missing benchmark fixture " + CATALOGUE_RESOURCE));
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return (JSONObject) new JSONParser().parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Benchmark fixture is not valid JSON: " + e);
+        }
+    }
+}
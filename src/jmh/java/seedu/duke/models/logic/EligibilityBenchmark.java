@@ -0,0 +1,63 @@
+package seedu.duke.models.logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.benchmarks.FixtureCatalogue;
+import seedu.duke.models.schema.Module;
+import seedu.duke.models.schema.ModuleList;
+import seedu.duke.models.schema.Schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures listing the modules a student can take next across every cached module, from the eligibility index and
+ * from a prerequisite check per module.
+ */
+@State(Scope.Benchmark)
+public class EligibilityBenchmark {
+    private static final int NEXT_SEMESTER = 3;
+
+    private final String academicYear = NusModsDataSource.DEFAULT_ACADEMIC_YEAR;
+    private List<List<String>> modulesBySemester;
+    private List<String> candidates;
+    private ModuleList modulesTaken;
+
+    @Setup
+    public void setUp() {
+        FixtureCatalogue.load();
+        candidates = Api.getCachedModuleCodes();
+        modulesBySemester = new ArrayList<>();
+        modulesBySemester.add(List.of("CG1111A", "MA1511", "MA1512", "CS1010"));
+        modulesBySemester.add(List.of("CS1231", "MA1508E", "CS2040C"));
+        while (modulesBySemester.size() < Schedule.getMaximumSemesters()) {
+            modulesBySemester.add(List.of());
+        }
+        modulesTaken = new ModuleList();
+        for (int i = 0; i < NEXT_SEMESTER - 1; i++) {
+            for (String moduleCode : modulesBySemester.get(i)) {
+                modulesTaken.addModule(new Module(moduleCode, 4));
+            }
+        }
+        // Indexes every candidate, so that only the queries are measured
+        EligibilityIndex.findEligibleModules(modulesBySemester, NEXT_SEMESTER, academicYear, candidates);
+    }
+
+    @Benchmark
+    public List<String> findEligibleModules() {
+        return EligibilityIndex.findEligibleModules(modulesBySemester, NEXT_SEMESTER, academicYear, candidates);
+    }
+
+    @Benchmark
+    public List<String> checkEachModule() {
+        List<String> eligible = new ArrayList<>();
+        for (String moduleCode : candidates) {
+            if (Api.satisfiesAllPrereq(moduleCode, modulesTaken, academicYear)) {
+                eligible.add(moduleCode);
+            }
+        }
+        return eligible;
+    }
+}
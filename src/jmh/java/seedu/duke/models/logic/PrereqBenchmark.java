@@ -0,0 +1,64 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.benchmarks.FixtureCatalogue;
+import seedu.duke.models.schema.Module;
+import seedu.duke.models.schema.ModuleList;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+import static seedu.duke.models.logic.DataRepository.getDegreeRequirements;
+
+/**
+ * Measures the prerequisite checks that run on every add and delete, and the flattening of prerequisite trees
+ * that schedule recommendation relies on.
+ */
+@State(Scope.Benchmark)
+public class PrereqBenchmark {
+    // CG4002 has the deepest tree in the fixture; CS2040C mixes and with or; CG2271 is a single or
+    @Param({"CG4002", "CS2040C", "CG2271"})
+    public String moduleCode;
+
+    private ModuleList completedModules;
+    private ArrayList<Objects> prereqBranches;
+    private String prereqKey;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        FixtureCatalogue.load();
+        completedModules = new ModuleList();
+        String[] completed = {"CG1111A", "MA1511", "MA1512", "CS1010", "CS1231", "MA1508E", "CS2040C", "CS2113",
+            "EE2026", "CG2028", "CG2271", "ST2334", "EE4204"};
+        for (String code : completed) {
+            completedModules.addModule(new Module(code, 4));
+        }
+        JSONObject prereqTree = Api.getModulePrereqTree(moduleCode);
+        prereqKey = (String) prereqTree.keySet().iterator().next();
+        prereqBranches = (ArrayList<Objects>) prereqTree.get(prereqKey);
+    }
+
+    @Benchmark
+    public boolean satisfiesAllPrereq() {
+        return Api.satisfiesAllPrereq(moduleCode, completedModules);
+    }
+
+    @Benchmark
+    public boolean checkPrereq() {
+        return Api.checkPrereq(prereqBranches, prereqKey, completedModules);
+    }
+
+    @Benchmark
+    public ArrayList<String> flattenPrereq() {
+        ArrayList<String> prerequisites = new ArrayList<>();
+        Api.flattenPrereq("CEG", prerequisites, prereqBranches, getDegreeRequirements("CEG").getModuleCodeSet(),
+                prereqKey);
+        return prerequisites;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.models.logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.benchmarks.FixtureCatalogue;
+
+import java.util.ArrayList;
+
+/**
+ * Measures recommending a schedule for a major, which flattens the prerequisites of every required module and
+ * orders them topologically.
+ */
+@State(Scope.Benchmark)
+public class ScheduleGeneratorBenchmark {
+    @Param({"CEG", "CS"})
+    public String major;
+
+    @Setup
+    public void setUp() {
+        FixtureCatalogue.load();
+    }
+
+    @Benchmark
+    public ArrayList<String> generateRecommendedSchedule() {
+        return ScheduleGenerator.generateRecommendedSchedule(major);
+    }
+}
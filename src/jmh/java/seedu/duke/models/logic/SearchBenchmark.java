@@ -0,0 +1,32 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.benchmarks.FixtureCatalogue;
+
+/**
+ * Measures a keyword search over a module list the size of a real academic year.
+ */
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+    // A keyword matching many titles, one matching a handful, and one matching none
+    @Param({"Engineering", "Operating System", "Quantum"})
+    public String keyword;
+
+    private JSONArray moduleList;
+
+    @Setup
+    public void setUp() {
+        FixtureCatalogue.load();
+        moduleList = Api.listAllModules();
+    }
+
+    @Benchmark
+    public JSONArray search() {
+        return Api.search(keyword, moduleList);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.duke.models.schema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.benchmarks.FixtureCatalogue;
+import seedu.duke.exceptions.FailPrereqException;
+
+import java.io.InvalidObjectException;
+
+/**
+ * Measures adding, deleting and moving a module in a CEG plan half way through its degree. Each operation is undone
+ * with the unchecked restore method, which costs little next to the prerequisite checks being measured, so that
+ * every invocation sees the same plan. A move is undone by moving the module back, which is checked as well.
+ */
+@State(Scope.Benchmark)
+public class ScheduleBenchmark {
+    private static final String[][] PLAN = {
+        {"CG1111A", "MA1511", "MA1512", "CS1010"},
+        {"CS1231", "MA1508E", "EE2026", "CG2111A"},
+        {"CS2040C", "CG2028", "ST2334", "CG2023"},
+        {"CG2271", "EE2211"},
+        {"EE4204", "CG2027"},
+    };
+    private static final String ADDED_MODULE = "CS2113";
+    private static final int ADDED_SEMESTER = 4;
+    private static final String DELETED_MODULE = "CG2023";
+    private static final int DELETED_SEMESTER = 3;
+    private static final int MOVED_TO_SEMESTER = 4;
+
+    private Schedule schedule;
+    private Module deletedModule;
+
+    @Setup
+    public void setUp() throws InvalidObjectException {
+        FixtureCatalogue.load();
+        schedule = new Schedule();
+        for (int semester = 1; semester <= PLAN.length; semester++) {
+            for (String module : PLAN[semester - 1]) {
+                schedule.addModuleWithoutCheckingPrereq(module, semester);
+            }
+        }
+        deletedModule = schedule.getModule(DELETED_MODULE);
+    }
+
+    @Benchmark
+    public Schedule addModule() throws InvalidObjectException, FailPrereqException {
+        schedule.addModule(ADDED_MODULE, ADDED_SEMESTER);
+        schedule.removeModuleWithoutCheckingPrereq(ADDED_MODULE);
+        return schedule;
+    }
+
+    @Benchmark
+    public Schedule deleteModule() throws FailPrereqException {
+        schedule.deleteModule(DELETED_MODULE);
+        schedule.restoreModule(deletedModule, DELETED_SEMESTER);
+        return schedule;
+    }
+
+    @Benchmark
+    public Schedule moveModule() throws FailPrereqException {
+        schedule.moveModule(DELETED_MODULE, MOVED_TO_SEMESTER);
+        schedule.moveModule(DELETED_MODULE, DELETED_SEMESTER);
+        return schedule;
+    }
+}
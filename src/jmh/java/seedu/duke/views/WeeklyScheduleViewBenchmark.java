@@ -0,0 +1,53 @@
+package seedu.duke.views;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import seedu.duke.models.schema.ModuleWeekly;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+/**
+ * Measures drawing a full semester as a weekly table, with two of its modules clashing. The table is printed to a
+ * stream that discards it, so the console does not take part in the measurement.
+ */
+@State(Scope.Benchmark)
+public class WeeklyScheduleViewBenchmark {
+    private final ArrayList<ModuleWeekly> modules = new ArrayList<>();
+    private PrintStream console;
+
+    @Setup
+    public void setUp() {
+        modules.add(weekly("CS2113", "Friday", 16, "Monday", 8, "Friday", 12));
+        modules.add(weekly("CS2040C", "Friday", 10, "Wednesday", 14, "Monday", 10));
+        modules.add(weekly("CG2271", "Tuesday", 10, "Thursday", 9, "Tuesday", 14));
+        modules.add(weekly("EE2026", "Thursday", 12, "Monday", 15, "Wednesday", 9));
+        modules.add(weekly("ST2334", "Tuesday", 10, "Friday", 9, "Thursday", 16));
+
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(console);
+    }
+
+    private static ModuleWeekly weekly(String code, String lectureDay, int lectureTime, String tutorialDay,
+            int tutorialTime, String labDay, int labTime) {
+        ModuleWeekly module = new ModuleWeekly(code, 4);
+        module.addLecture(lectureDay, lectureTime, 2);
+        module.addTutorial(tutorialDay, tutorialTime, 1);
+        module.addLab(labDay, labTime, 2);
+        return module;
+    }
+
+    @Benchmark
+    public void printWeeklySchedule() {
+        WeeklyScheduleView.printWeeklySchedule(modules);
+    }
+}
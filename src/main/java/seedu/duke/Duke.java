@@ -1,12 +1,40 @@
 package seedu.duke;
 
+import seedu.duke.controllers.BatchController;
+import seedu.duke.controllers.DemandController;
+import seedu.duke.controllers.ExportController;
+import seedu.duke.controllers.LoadTestController;
 import seedu.duke.controllers.ModulePlannerController;
+import seedu.duke.controllers.PlannerHttpService;
 
 public class Duke {
     /**
      * Main entry-point for the java.duke.Duke application.
+     * Runs interactively, in batch mode when started with --batch, as a local service with --serve, or forecasts
+     * module demand from stored plans with --demand, or exports stored plans with --export. --loadtest replays
+     * commands for many students against recorded module data and reports how long they took.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            BatchController.runFromArguments(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--demand")) {
+            DemandController.runFromArguments(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--export")) {
+            ExportController.runFromArguments(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--loadtest")) {
+            LoadTestController.runFromArguments(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--serve")) {
+            PlannerHttpService.runFromArguments(args);
+            return;
+        }
         ModulePlannerController controller = new ModulePlannerController();
         controller.start();
     }
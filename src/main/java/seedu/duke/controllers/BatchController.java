@@ -0,0 +1,208 @@
+package seedu.duke.controllers;
+
+import seedu.duke.storage.PlanRecord;
+import seedu.duke.storage.PlanStore;
+import seedu.duke.utils.ThreadOutputRouter;
+import seedu.duke.views.OutputFormat;
+import seedu.duke.views.Renderer;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs planner scripts without a user at the console. Each script holds one student's answers and commands, in the
+ * same order a user would type them. Scripts run in parallel, sharing the module data cached by Api, and their
+ * output is written to a single writer in script order. The resulting plans can be saved in a plan store.
+ * <p>
+ * In the text format the output of a script is everything it printed. In the JSON and CSV formats it is only the
+ * results of its schedule, search, prereq and timetable commands, followed by its final plan, so that other
+ * programs can read it without parsing console text.
+ */
+public class BatchController {
+    private final int threadCount;
+    private final PlanStore store;
+    private final OutputFormat format;
+
+    /**
+     * Constructs a batch controller.
+     *
+     * @param threadCount The number of scripts to run at the same time.
+     */
+    public BatchController(int threadCount) {
+        this(threadCount, null);
+    }
+
+    /**
+     * Constructs a batch controller that saves the plan of every script that finishes setting up its student.
+     *
+     * @param threadCount The number of scripts to run at the same time.
+     * @param store       Where to save the plans, or null to not save them.
+     */
+    public BatchController(int threadCount, PlanStore store) {
+        this(threadCount, store, OutputFormat.TEXT);
+    }
+
+    /**
+     * Constructs a batch controller that writes its output in a given format.
+     *
+     * @param threadCount The number of scripts to run at the same time.
+     * @param store       Where to save the plans, or null to not save them.
+     * @param format      The format of the output.
+     */
+    public BatchController(int threadCount, PlanStore store, OutputFormat format) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.threadCount = threadCount;
+        this.store = store;
+        this.format = format;
+    }
+
+    /**
+     * Entry point for batch mode.
+     * Usage: --batch SCRIPT_OR_DIRECTORY [--out FILE] [--threads N] [--store FILE] [--format text|json|csv]
+     *
+     * @param args The command line arguments, including --batch.
+     */
+    public static void runFromArguments(String[] args) {
+        Path scripts = null;
+        Path outputFile = null;
+        Path storeFile = null;
+        OutputFormat format = OutputFormat.TEXT;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--batch":
+                    scripts = Path.of(args[++i]);
+                    break;
+                case "--out":
+                    outputFile = Path.of(args[++i]);
+                    break;
+                case "--threads":
+                    threadCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--store":
+                    storeFile = Path.of(args[++i]);
+                    break;
+                case "--format":
+                    format = OutputFormat.fromName(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Usage: --batch SCRIPT_OR_DIRECTORY [--out FILE] [--threads N] [--store FILE]"
+                    + " [--format text|json|csv]");
+            return;
+        }
+
+        try (PlanStore store = storeFile == null ? null : PlanStore.open(storeFile);
+             Writer writer = outputFile == null
+                     ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                     : Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+            new BatchController(threadCount, store, format).run(listScripts(scripts), writer);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Unable to run batch: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lists the scripts to run. A directory yields every regular file in it, sorted by name.
+     *
+     * @param scripts A script file or a directory of scripts.
+     * @return The script files to run.
+     * @throws IOException If the directory could not be read.
+     */
+    public static List<Path> listScripts(Path scripts) throws IOException {
+        if (!Files.isDirectory(scripts)) {
+            return List.of(scripts);
+        }
+        try (Stream<Path> files = Files.list(scripts)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Runs every script and writes each script's output, preceded by a section naming the script.
+     *
+     * @param scripts The script files to run.
+     * @param writer  Where to write the output.
+     * @throws IOException If the output could not be written.
+     */
+    public void run(List<Path> scripts, Writer writer) throws IOException {
+        ThreadOutputRouter router = ThreadOutputRouter.install();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, Math.max(1, scripts.size())));
+        Renderer output = format.createRenderer(writer);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (Path script : scripts) {
+                results.add(executor.submit(() -> runScript(script, router)));
+            }
+            for (int i = 0; i < scripts.size(); i++) {
+                output.beginSection(scripts.get(i).getFileName().toString());
+                awaitResult(results.get(i), writer, output);
+                output.flush();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitResult(Future<String> result, Writer writer, Renderer output) throws IOException {
+        try {
+            writer.write(result.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            output.renderError("Batch interrupted");
+        } catch (ExecutionException e) {
+            output.renderError("Script failed: " + e.getCause());
+        }
+    }
+
+    private String runScript(Path script, ThreadOutputRouter router) throws IOException {
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        StringWriter rendered = new StringWriter();
+        boolean isText = format == OutputFormat.TEXT;
+        Renderer renderer = format.createRenderer(rendered);
+        router.capture(isText ? printed : OutputStream.nullOutputStream());
+        try (Scanner in = new Scanner(script, StandardCharsets.UTF_8)) {
+            ModulePlannerController controller = new ModulePlannerController(in, false);
+            if (!isText) {
+                controller.setRenderer(renderer);
+            }
+            controller.runScript();
+            if (store != null) {
+                store.put(controller.getStudent());
+            }
+            if (!isText) {
+                renderer.renderPlan(PlanRecord.fromStudent(controller.getStudent()));
+            }
+        } catch (NoSuchElementException e) {
+            renderer.renderError("Script ended before the name, major and year were given.");
+        } finally {
+            System.out.flush();
+            router.release();
+        }
+        return printed.toString(StandardCharsets.UTF_8) + rendered;
+    }
+}
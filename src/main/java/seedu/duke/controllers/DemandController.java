@@ -0,0 +1,92 @@
+package seedu.duke.controllers;
+
+import seedu.duke.models.logic.DemandForecast;
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.storage.PlanStore;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Forecasts the seats each module needs in each semester from every plan in a plan store, and writes the forecast
+ * as comma-separated values: one row per module with its demand in semesters 1 to 8 and in total.
+ */
+public class DemandController {
+
+    /**
+     * Entry point for demand forecasting.
+     * Usage: --demand STORE_FILE [--out FILE] [--threads N]
+     *
+     * @param args The command line arguments, including --demand.
+     */
+    public static void runFromArguments(String[] args) {
+        Path storeFile = null;
+        Path outputFile = null;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--demand":
+                    storeFile = Path.of(args[++i]);
+                    break;
+                case "--out":
+                    outputFile = Path.of(args[++i]);
+                    break;
+                case "--threads":
+                    threadCount = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (threadCount < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Usage: --demand STORE_FILE [--out FILE] [--threads N]");
+            return;
+        }
+
+        try (PlanStore store = PlanStore.open(storeFile);
+             Writer writer = outputFile == null
+                     ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                     : Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+            writeForecast(DemandForecast.compute(store, threadCount), writer);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Unable to forecast demand: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a forecast as comma-separated values, with a header row.
+     *
+     * @param forecast The forecast to write.
+     * @param writer   Where to write the forecast.
+     * @throws IOException If the forecast could not be written.
+     */
+    public static void writeForecast(DemandForecast forecast, Writer writer) throws IOException {
+        StringBuilder row = new StringBuilder("module");
+        for (int semester = 1; semester <= Schedule.getMaximumSemesters(); semester++) {
+            row.append(",sem").append(semester);
+        }
+        row.append(",total").append(System.lineSeparator());
+        writer.write(row.toString());
+        for (String moduleCode : forecast.getModuleCodes()) {
+            row.setLength(0);
+            row.append(moduleCode);
+            int total = 0;
+            for (int semesterDemand : forecast.getDemand(moduleCode)) {
+                row.append(',').append(semesterDemand);
+                total += semesterDemand;
+            }
+            row.append(',').append(total).append(System.lineSeparator());
+            writer.write(row.toString());
+        }
+        writer.flush();
+    }
+}
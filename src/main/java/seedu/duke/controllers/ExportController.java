@@ -0,0 +1,91 @@
+package seedu.duke.controllers;
+
+import seedu.duke.storage.PlanStore;
+import seedu.duke.views.OutputFormat;
+import seedu.duke.views.Renderer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes every plan in a plan store in one of the output formats. Plans are read and written one at a time, so the
+ * plans themselves are never all held in memory; opening the store still indexes every student, so memory grows with
+ * the number of students in the store.
+ */
+public class ExportController {
+
+    /**
+     * Entry point for exporting plans.
+     * Usage: --export STORE_FILE [--format text|json|csv] [--out FILE]
+     *
+     * @param args The command line arguments, including --export.
+     */
+    public static void runFromArguments(String[] args) {
+        Path storeFile = null;
+        Path outputFile = null;
+        OutputFormat format = OutputFormat.JSON;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--export":
+                    storeFile = Path.of(args[++i]);
+                    break;
+                case "--format":
+                    format = OutputFormat.fromName(args[++i]);
+                    break;
+                case "--out":
+                    outputFile = Path.of(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Usage: --export STORE_FILE [--format text|json|csv] [--out FILE]");
+            return;
+        }
+
+        try (PlanStore store = PlanStore.open(storeFile)) {
+            if (outputFile == null) {
+                // System.out is flushed rather than closed, as it is still needed once the export is done
+                Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+                exportPlans(store, format.createRenderer(writer));
+                writer.flush();
+            } else {
+                try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                    exportPlans(store, format.createRenderer(writer));
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Unable to export plans: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes every plan in a store.
+     *
+     * @param store    The store to read.
+     * @param renderer How to write each plan.
+     * @throws IOException If the store could not be read or the plans could not be written.
+     */
+    public static void exportPlans(PlanStore store, Renderer renderer) throws IOException {
+        try {
+            store.forEach(plan -> {
+                try {
+                    renderer.renderPlan(plan);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        renderer.flush();
+    }
+}
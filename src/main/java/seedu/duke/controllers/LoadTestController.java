@@ -0,0 +1,474 @@
+package seedu.duke.controllers;
+
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.logic.ModuleCatalogue;
+import seedu.duke.models.logic.ModuleDataSource;
+import seedu.duke.models.logic.NusModsDataSource;
+import seedu.duke.models.logic.RecordingDataSource;
+import seedu.duke.utils.ThreadOutputRouter;
+import seedu.duke.views.RenderBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Replays a mix of planner commands for many simulated students at once and reports the throughput and latency
+ * of each command. Module data is served by a NusModsStubServer from recorded responses, with the latency, errors
+ * and rate limit asked for, so runs can be repeated without touching NUSMods.
+ *
+ * <p>A mix is a list of lines of the form {@code WEIGHT | COMMAND}, where each student picks its next command with
+ * a chance proportional to its weight. In a command, {module} is replaced by a recorded module code, {sem} by a
+ * semester from 1 to 8 and {word} by a word from a recorded module title.
+ */
+public class LoadTestController {
+    public static final List<String> DEFAULT_MIX = List.of(
+            "25 | prereq {module}",
+            "15 | search {word}",
+            "20 | add {module} {sem}",
+            "5 | delete {module}",
+            "15 | schedule",
+            "10 | left",
+            "5 | pace",
+            "5 | required",
+            "5 | info description {module}");
+
+    private static final String[] MAJORS = {"CEG", "CS"};
+    private static final int MAXIMUM_SEMESTER = 8;
+    private static final int SHORTEST_KEYWORD = 5;
+
+    private final int threadCount;
+    private final int studentCount;
+    private final int commandsPerStudent;
+    private final long seed;
+    private final List<String> commands = new ArrayList<>();
+    private final int[] cumulativeWeights;
+
+    /**
+     * Constructs a load test.
+     *
+     * @param threadCount        The number of students served at the same time.
+     * @param studentCount       The number of students simulated.
+     * @param commandsPerStudent The number of commands each student runs after being set up.
+     * @param mix                The commands to choose from, as lines of the form {@code WEIGHT | COMMAND}.
+     * @param seed               The seed of every random choice, so that a run can be repeated.
+     * @throws IllegalArgumentException If a count is not positive or the mix is malformed.
+     */
+    public LoadTestController(int threadCount, int studentCount, int commandsPerStudent, List<String> mix,
+            long seed) {
+        if (threadCount < 1 || studentCount < 1 || commandsPerStudent < 1) {
+            throw new IllegalArgumentException("Thread, student and command counts must be at least 1");
+        }
+        this.threadCount = threadCount;
+        this.studentCount = studentCount;
+        this.commandsPerStudent = commandsPerStudent;
+        this.seed = seed;
+
+        List<Integer> weights = new ArrayList<>();
+        for (String line : mix) {
+            if (line.isBlank() || line.trim().startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isBlank()) {
+                throw new IllegalArgumentException("Mix lines must look like WEIGHT | COMMAND: " + line);
+            }
+            int weight = Integer.parseInt(parts[0].trim());
+            if (weight < 1) {
+                throw new IllegalArgumentException("Mix weights must be at least 1: " + line);
+            }
+            weights.add(weight);
+            commands.add(parts[1].trim());
+        }
+        if (commands.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no commands");
+        }
+        cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Entry point for load testing.
+     * Usage: --loadtest FIXTURE_DIRECTORY [--students N] [--threads N] [--commands N] [--mix FILE] [--seed N]
+     * [--latency MS] [--jitter MS] [--error-rate R] [--max-rps N] [--record]
+     * <p>
+     * With --record the commands are run against NUSMods itself, and every response is saved in the fixture
+     * directory for later runs.
+     *
+     * @param args The command line arguments, including --loadtest.
+     */
+    public static void runFromArguments(String[] args) {
+        Path fixtures = null;
+        Path mixFile = null;
+        int studentCount = 50;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        int commandsPerStudent = 20;
+        long seed = 1;
+        Duration latency = Duration.ZERO;
+        Duration jitter = Duration.ZERO;
+        double errorRate = 0;
+        int maxRequestsPerSecond = 0;
+        boolean isRecording = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--loadtest":
+                    fixtures = Path.of(args[++i]);
+                    break;
+                case "--students":
+                    studentCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threadCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--commands":
+                    commandsPerStudent = Integer.parseInt(args[++i]);
+                    break;
+                case "--mix":
+                    mixFile = Path.of(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--latency":
+                    latency = Duration.ofMillis(Long.parseLong(args[++i]));
+                    break;
+                case "--jitter":
+                    jitter = Duration.ofMillis(Long.parseLong(args[++i]));
+                    break;
+                case "--error-rate":
+                    errorRate = Double.parseDouble(args[++i]);
+                    break;
+                case "--max-rps":
+                    maxRequestsPerSecond = Integer.parseInt(args[++i]);
+                    break;
+                case "--record":
+                    isRecording = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (fixtures == null) {
+                throw new IllegalArgumentException("No fixture directory given");
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Usage: --loadtest FIXTURE_DIRECTORY [--students N] [--threads N] [--commands N]"
+                    + " [--mix FILE] [--seed N] [--latency MS] [--jitter MS] [--error-rate R] [--max-rps N]"
+                    + " [--record]");
+            return;
+        }
+
+        NusModsStubServer stub = null;
+        ModuleDataSource previousSource = Api.getDataSource();
+        try {
+            List<String> mix = mixFile == null ? DEFAULT_MIX : Files.readAllLines(mixFile, StandardCharsets.UTF_8);
+            LoadTestController loadTest = new LoadTestController(threadCount, studentCount, commandsPerStudent, mix,
+                    seed);
+            if (isRecording) {
+                Api.setDataSource(new RecordingDataSource(new NusModsDataSource(), fixtures));
+            } else {
+                stub = new NusModsStubServer(fixtures);
+                stub.setLatency(latency, jitter);
+                stub.setErrorRate(errorRate);
+                stub.setMaxRequestsPerSecond(maxRequestsPerSecond);
+                stub.setSeed(seed);
+                stub.start();
+                Api.setDataSource(new NusModsDataSource(stub.getBaseUri()));
+            }
+
+            Result result = loadTest.run(listModuleCodes(fixtures), listKeywords());
+            RenderBuffer out = RenderBuffer.get();
+            result.appendReport(out);
+            if (stub != null) {
+                out.append(String.format("NUSMods stub: %d requests, %d failed on purpose",
+                        stub.getRequestCount(), stub.getErrorCount())).newLine();
+            }
+            out.flush();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Unable to run load test: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Load test interrupted");
+        } finally {
+            if (stub != null) {
+                stub.stop();
+            }
+            Api.setDataSource(previousSource);
+        }
+    }
+
+    /**
+     * Lists the module codes recorded in a fixture directory, to fill {module} in commands.
+     *
+     * @param fixtures The fixture directory.
+     * @return The module codes, sorted, or CS2113 alone if none are recorded yet.
+     * @throws IOException If the directory could not be read.
+     */
+    public static List<String> listModuleCodes(Path fixtures) throws IOException {
+        Path modules = fixtures.resolve("modules");
+        if (!Files.isDirectory(modules)) {
+            return List.of("CS2113");
+        }
+        try (Stream<Path> files = Files.list(modules)) {
+            List<String> codes = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".json"))
+                    .map(name -> name.substring(0, name.length() - ".json".length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+            return codes.isEmpty() ? List.of("CS2113") : codes;
+        }
+    }
+
+    /**
+     * Collects the longer words in the titles of all modules, to fill {word} in commands.
+     *
+     * @return The words, sorted, or "Engineering" alone if the module list could not be fetched.
+     */
+    private static List<String> listKeywords() {
+        TreeSet<String> words = new TreeSet<>();
+        try {
+            ModuleCatalogue catalogue = Api.getModuleCatalogue();
+            for (int i = 0; catalogue != null && i < catalogue.size(); i++) {
+                String title = catalogue.getTitle(i);
+                for (String word : title == null ? new String[0] : title.split(" ")) {
+                    if (word.length() >= SHORTEST_KEYWORD && Character.isLetter(word.charAt(0))) {
+                        words.add(word);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // The mix still runs; searches for the fallback word find nothing to show
+        }
+        return words.isEmpty() ? List.of("Engineering") : new ArrayList<>(words);
+    }
+
+    /**
+     * Runs the mix for every student and collects how long each command took.
+     *
+     * @param moduleCodes The module codes to fill {module} with.
+     * @param keywords    The words to fill {word} with.
+     * @return The latencies of the run.
+     * @throws InterruptedException If the thread was interrupted while waiting for the students.
+     */
+    public Result run(List<String> moduleCodes, List<String> keywords) throws InterruptedException {
+        ThreadOutputRouter router = ThreadOutputRouter.install();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, studentCount));
+        Result result = new Result(threadCount, studentCount);
+        long start = System.nanoTime();
+        try {
+            List<Future<Result>> students = new ArrayList<>();
+            for (int student = 0; student < studentCount; student++) {
+                int studentNumber = student;
+                students.add(executor.submit(() -> runStudent(studentNumber, moduleCodes, keywords, router)));
+            }
+            for (Future<Result> student : students) {
+                result.addAll(student.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated student failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private Result runStudent(int studentNumber, List<String> moduleCodes, List<String> keywords,
+            ThreadOutputRouter router) {
+        Random random = new Random(seed + studentNumber);
+        Result result = new Result(threadCount, studentCount);
+        String setUp = "Student " + toLetters(studentNumber) + "\n" + MAJORS[studentNumber % MAJORS.length]
+                + "\nY1/S1\n";
+        router.capture(OutputStream.nullOutputStream());
+        try {
+            ModulePlannerController controller = new ModulePlannerController(new Scanner(setUp), false);
+            controller.initialiseUser();
+            for (int i = 0; i < commandsPerStudent; i++) {
+                String command = pickCommand(random);
+                String userInput = command.replace("{module}", pick(moduleCodes, random))
+                        .replace("{sem}", String.valueOf(1 + random.nextInt(MAXIMUM_SEMESTER)))
+                        .replace("{word}", pick(keywords, random));
+                long commandStart = System.nanoTime();
+                boolean isFailed = false;
+                try {
+                    controller.handleUserInput(userInput);
+                } catch (RuntimeException e) {
+                    // Failures of the stub reach the planner as runtime exceptions; the load test carries on
+                    isFailed = true;
+                }
+                result.record(command.split(" ")[0], System.nanoTime() - commandStart, isFailed);
+            }
+        } finally {
+            System.out.flush();
+            router.release();
+        }
+        return result;
+    }
+
+    /**
+     * Spells a number in letters, A to Z then BA and so on, since names may not hold digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.insert(0, (char) ('A' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    private String pickCommand(Random random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, ticket + 1);
+        return commands.get(index >= 0 ? index : -index - 1);
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * The latencies of the commands run in a load test, grouped by command word.
+     */
+    public static class Result {
+        private final int threadCount;
+        private final int studentCount;
+        private final Map<String, Samples> samplesByCommand = new TreeMap<>();
+        private long elapsedNanos;
+
+        Result(int threadCount, int studentCount) {
+            this.threadCount = threadCount;
+            this.studentCount = studentCount;
+        }
+
+        void record(String command, long nanos, boolean isFailed) {
+            samplesByCommand.computeIfAbsent(command, key -> new Samples()).add(nanos, isFailed);
+        }
+
+        void addAll(Result other) {
+            for (Map.Entry<String, Samples> entry : other.samplesByCommand.entrySet()) {
+                samplesByCommand.computeIfAbsent(entry.getKey(), key -> new Samples()).addAll(entry.getValue());
+            }
+        }
+
+        void setElapsedNanos(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            int count = 0;
+            for (Samples samples : samplesByCommand.values()) {
+                count += samples.size;
+            }
+            return count;
+        }
+
+        public int getFailedCount() {
+            int count = 0;
+            for (Samples samples : samplesByCommand.values()) {
+                count += samples.failed;
+            }
+            return count;
+        }
+
+        /**
+         * Retrieves a percentile of the latency of a command, by the nearest-rank method.
+         *
+         * @param command    The command word, or null for every command together.
+         * @param percentile The percentile, from 0 to 100.
+         * @return The latency in nanoseconds, or 0 if the command was never run.
+         */
+        public long getLatencyPercentile(String command, double percentile) {
+            Samples samples = command == null ? allSamples() : samplesByCommand.get(command);
+            return samples == null ? 0 : samples.percentile(percentile);
+        }
+
+        private Samples allSamples() {
+            Samples all = new Samples();
+            for (Samples samples : samplesByCommand.values()) {
+                all.addAll(samples);
+            }
+            return all;
+        }
+
+        /**
+         * Writes the throughput of the run and a table of latencies for each command and for all commands.
+         *
+         * @param out The buffer to write into.
+         */
+        public void appendReport(RenderBuffer out) {
+            double seconds = elapsedNanos / 1e9;
+            out.append(String.format("Load test: %d students on %d threads ran %d commands in %.2fs (%.1f commands/s)",
+                    studentCount, threadCount, getCommandCount(), seconds, getCommandCount() / seconds)).newLine();
+            out.append(String.format("%-10s %8s %8s %9s %9s %9s %9s", "command", "count", "failed", "p50 ms",
+                    "p90 ms", "p99 ms", "max ms")).newLine();
+            for (Map.Entry<String, Samples> entry : samplesByCommand.entrySet()) {
+                appendRow(out, entry.getKey(), entry.getValue());
+            }
+            appendRow(out, "all", allSamples());
+        }
+
+        private static void appendRow(RenderBuffer out, String command, Samples samples) {
+            out.append(String.format("%-10s %8d %8d %9.2f %9.2f %9.2f %9.2f", command, samples.size, samples.failed,
+                    samples.percentile(50) / 1e6, samples.percentile(90) / 1e6, samples.percentile(99) / 1e6,
+                    samples.percentile(100) / 1e6)).newLine();
+        }
+    }
+
+    private static class Samples {
+        private long[] nanos = new long[16];
+        private int size;
+        private int failed;
+        private boolean isSorted = true;
+
+        void add(long value, boolean isFailed) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            failed += isFailed ? 1 : 0;
+            isSorted = false;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i], false);
+            }
+            failed += other.failed;
+        }
+
+        long percentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            if (!isSorted) {
+                Arrays.sort(nanos, 0, size);
+                isSorted = true;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * size);
+            return nanos[Math.max(rank, 1) - 1];
+        }
+    }
+}
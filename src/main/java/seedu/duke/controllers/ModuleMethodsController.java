@@ -1,24 +1,49 @@
 package seedu.duke.controllers;
 
+import seedu.duke.exceptions.BatchAddException;
 import seedu.duke.exceptions.FailPrereqException;
 import seedu.duke.exceptions.MissingModuleException;
+import seedu.duke.exceptions.ModuleDataUnavailableException;
+import seedu.duke.models.logic.Api;
 import seedu.duke.models.logic.CompletePreqs;
+import seedu.duke.models.logic.EligibilityIndex;
+import seedu.duke.models.logic.ModuleCatalogue;
+import seedu.duke.models.logic.TimetableObjective;
+import seedu.duke.models.logic.TimetableOptimizer;
+import seedu.duke.models.schema.ChoiceGroup;
+import seedu.duke.models.schema.ClassOption;
+import seedu.duke.models.schema.DegreeRequirements;
+import seedu.duke.models.schema.ModulePlacement;
+import seedu.duke.models.schema.RequirementBucket;
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.models.schema.ScheduleDiff;
+import seedu.duke.models.schema.ScheduleHistory;
 import seedu.duke.models.schema.Student;
 import seedu.duke.utils.Parser;
+import seedu.duke.views.AsciiRenderer;
 import seedu.duke.views.CommandLineView;
+import seedu.duke.views.Renderer;
 
+import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Scanner;
+import java.util.Set;
 
 import static seedu.duke.controllers.ModuleServiceController.chooseToAddToSchedule;
 import static seedu.duke.models.logic.Api.doesModuleExist;
 import static seedu.duke.models.logic.Api.getModulePrereqBasedOnCourse;
+import static seedu.duke.models.logic.DataRepository.getDegreeRequirements;
 import static seedu.duke.models.logic.MajorRequirements.printRequiredModules;
-import static seedu.duke.models.logic.ScheduleGenerator.generateRecommendedSchedule;
+import static seedu.duke.models.logic.ScheduleGenerator.getRecommendedSchedule;
 import static seedu.duke.views.CommandLineView.displayMessage;
 import static seedu.duke.views.CommandLineView.displaySuccessfulAddMessage;
 import static seedu.duke.views.CommandLineView.showPrereqCEG;
 import static seedu.duke.views.CommandLineView.displaySuccessfulDeleteMessage;
+import static seedu.duke.views.CommandLineView.displaySuccessfulMoveMessage;
 import static seedu.duke.views.ModuleInfoView.printModuleStringArray;
 
 /**
@@ -32,6 +57,10 @@ import static seedu.duke.views.ModuleInfoView.printModuleStringArray;
  * @author ryanlohyr
  */
 public class ModuleMethodsController {
+    static final int TOTAL_CREDITS_TO_GRADUATE = 160;
+    // Modules matching a keyword that eligible may look up, as each costs a request to NUSMods
+    static final int MAX_KEYWORD_LOOKUPS = 20;
+
     /**
      * Computes and displays the recommended pace for completing remaining module credits until graduation.
      *
@@ -41,8 +70,7 @@ public class ModuleMethodsController {
      *
      */
     static void computePace(String[] arguments, int completedModuleCredits) {
-        int totalCreditsToGraduate = 160;
-        int creditsLeft = totalCreditsToGraduate - completedModuleCredits;
+        int creditsLeft = TOTAL_CREDITS_TO_GRADUATE - completedModuleCredits;
         boolean argumentProvided = arguments.length != 0;
         if (!argumentProvided) {
             displayMessage("You currently have " + creditsLeft + " MCs till graduation");
@@ -52,7 +80,20 @@ public class ModuleMethodsController {
             return;
         }
 
-        String[] parts = arguments[0].split("/");
+        int semestersLeft = computeSemestersLeft(arguments[0]);
+        int creditsPerSem = Math.round((float) creditsLeft / semestersLeft);
+        displayMessage("You have " + creditsLeft + "MCs for " + semestersLeft + " semesters. "
+                + "Recommended Pace: " + creditsPerSem + "MCs per sem until graduation");
+    }
+
+    /**
+     * Computes the number of semesters left until graduation.
+     *
+     * @param academicYear A valid academic year and semester, e.g. Y2/S1.
+     * @return The number of semesters left after the given one.
+     */
+    static int computeSemestersLeft(String academicYear) {
+        String[] parts = academicYear.split("/");
         String year = parts[0].toUpperCase();
         String semester = parts[1].toUpperCase();
 
@@ -62,10 +103,7 @@ public class ModuleMethodsController {
         int yearIntValue = Character.getNumericValue(year.charAt(1));
         int semesterIntValue = Character.getNumericValue(semester.charAt(1));
         //if we are at y2s1, we have 5 semesters left
-        int semestersLeft = (lastYearOfDegree - yearIntValue) * 2 + (lastSemesterOfYear - semesterIntValue);
-        int creditsPerSem = Math.round((float) creditsLeft / semestersLeft);
-        displayMessage("You have " + creditsLeft + "MCs for " + semestersLeft + " semesters. "
-                + "Recommended Pace: " + creditsPerSem + "MCs per sem until graduation");
+        return (lastYearOfDegree - yearIntValue) * 2 + (lastSemesterOfYear - semesterIntValue);
     }
 
     public static void showModulesLeft(ArrayList<String> moduleCodes) {
@@ -86,10 +124,86 @@ public class ModuleMethodsController {
         }
     }
 
-    public static void recommendScheduleToStudent(Student student){
+    /**
+     * Adds several modules at once, given as pairs of module code and semester. Either every module is added, or
+     * none is and every problem with the batch is shown.
+     *
+     * @param arguments The module codes and semesters, alternating.
+     * @param student   The student whose schedule is changed.
+     */
+    public static void addModules(String[] arguments, Student student) {
+        List<ModulePlacement> batch = new ArrayList<>();
+        for (int i = 0; i + 1 < arguments.length; i += 2) {
+            batch.add(new ModulePlacement(arguments[i].toUpperCase(), Integer.parseInt(arguments[i + 1])));
+        }
+        try {
+            student.addModulesSchedule(batch);
+            displayMessage(batch.size() + " Modules Successfully Added");
+            student.printSchedule();
+        } catch (BatchAddException e) {
+            displayMessage(e.getMessage() + ":");
+            for (String violation : e.getViolations()) {
+                displayMessage("  " + violation);
+            }
+        }
+    }
+
+    /**
+     * Picks one class of every lesson type of the modules planned for a semester, so that no lessons clash and the
+     * week best meets the objectives given, then shows the week.
+     *
+     * @param arguments The semester of the schedule, followed by objective keywords, most important first.
+     * @param student   The student whose planned modules are used.
+     * @param renderer  How to show the week.
+     */
+    public static void optimizeTimetable(String[] arguments, Student student, Renderer renderer) {
+        int targetSem = Integer.parseInt(arguments[0]);
+        List<TimetableObjective> objectives = new ArrayList<>();
+        for (int i = 1; i < arguments.length; i++) {
+            objectives.add(TimetableObjective.fromKeyword(arguments[i]));
+        }
+        if (objectives.isEmpty()) {
+            objectives.add(TimetableObjective.FEWEST_DAYS);
+            objectives.add(TimetableObjective.NO_MORNING_CLASSES);
+        }
+
+        List<String> moduleCodes = student.getSchedule().getModulesBySemester().get(targetSem - 1);
+        if (moduleCodes.isEmpty()) {
+            displayMessage("You have no modules planned for semester " + targetSem);
+            return;
+        }
+        // Odd semesters of the schedule are Semester 1 of an academic year, even semesters are Semester 2
+        int semesterOfYear = targetSem % 2 == 1 ? 1 : 2;
+        TimetableOptimizer optimizer = new TimetableOptimizer(objectives, TimetableOptimizer.DEFAULT_TIME_BUDGET);
+        for (String moduleCode : moduleCodes) {
+            if (!optimizer.addModule(moduleCode, semesterOfYear)) {
+                displayMessage(moduleCode + " has no lessons in Semester " + semesterOfYear + ", so it is left out");
+            }
+        }
+
+        TimetableOptimizer.Solution solution = optimizer.solve();
+        if (solution == null) {
+            displayMessage("No clash-free timetable could be found for semester " + targetSem);
+            return;
+        }
+        try {
+            renderer.renderTimetable(solution.toModules());
+        } catch (IOException e) {
+            displayMessage("Unable to show the timetable: " + e.getMessage());
+            return;
+        }
+        for (ClassOption option : solution.getClasses()) {
+            displayMessage(option.getModuleCode() + " " + option.getLessonType() + " " + option.getClassNo());
+        }
+        if (!solution.isOptimal()) {
+            displayMessage("This is the best timetable found in time; a better one may exist");
+        }
+    }
+
+    public static void recommendScheduleToStudent(Student student, Scanner in){
         CommandLineView.displayMessage("Hold on a sec! Generating your recommended schedule <3....");
-        ArrayList<String> recommendedSchedule = generateRecommendedSchedule(student.getMajor());
-        chooseToAddToSchedule(student, recommendedSchedule);
+        ArrayList<String> recommendedSchedule = getRecommendedSchedule(student.getMajor());
+        chooseToAddToSchedule(student, recommendedSchedule, in);
     }
 
     public static void deleteModule(String module, Student student) {
@@ -103,6 +217,189 @@ public class ModuleMethodsController {
     }
 
 
+    /**
+     * Moves a planned module to another semester, leaving the schedule unchanged if the move is not allowed.
+     *
+     * @param module    The code of the module to move.
+     * @param targetSem The semester to move it to.
+     * @param student   The student whose schedule is changed.
+     */
+    public static void moveModule(String module, int targetSem, Student student) {
+        try {
+            student.moveModuleSchedule(module, targetSem);
+            displaySuccessfulMoveMessage();
+            student.printSchedule();
+        } catch (IllegalArgumentException | FailPrereqException e) {
+            displayMessage(e.getMessage());
+        }
+    }
+
+    /**
+     * Undoes the last change to the student's schedule on their current plan, and shows the schedule.
+     *
+     * @param student The student whose schedule is changed.
+     */
+    public static void undoChange(Student student) {
+        if (!student.undo()) {
+            displayMessage("There is nothing to undo");
+            return;
+        }
+        displayMessage("Last change undone");
+        student.printSchedule();
+    }
+
+    /**
+     * Makes the last change undone on the student's current plan again, and shows the schedule.
+     *
+     * @param student The student whose schedule is changed.
+     */
+    public static void redoChange(Student student) {
+        if (!student.redo()) {
+            displayMessage("There is nothing to redo");
+            return;
+        }
+        displayMessage("Last change redone");
+        student.printSchedule();
+    }
+
+    /**
+     * Lists the student's plans, or starts a new plan from their schedule as it is.
+     *
+     * @param arguments The name of the new plan, or nothing to list the plans.
+     * @param student   The student whose plans are used.
+     */
+    public static void branchPlan(String[] arguments, Student student) {
+        ScheduleHistory history = student.getHistory();
+        if (arguments.length == 0) {
+            for (String name : history.getBranchNames()) {
+                displayMessage((name.equals(history.getCurrentBranch()) ? "* " : "  ") + name);
+            }
+            return;
+        }
+        try {
+            student.createPlan(arguments[0]);
+            displayMessage("Started plan " + arguments[0] + " from your current schedule");
+        } catch (IllegalArgumentException e) {
+            displayMessage(e.getMessage());
+        }
+    }
+
+    /**
+     * Brings the student's schedule to another of their plans, and shows the schedule.
+     *
+     * @param name    The name of the plan.
+     * @param student The student whose schedule is changed.
+     */
+    public static void switchPlan(String name, Student student) {
+        try {
+            student.switchPlan(name);
+            displayMessage("Switched to plan " + name);
+            student.printSchedule();
+        } catch (IllegalArgumentException e) {
+            displayMessage(e.getMessage());
+        }
+    }
+
+    /**
+     * Shows how another of the student's plans differs from their schedule.
+     *
+     * @param name    The name of the plan.
+     * @param student The student whose plans are compared.
+     */
+    public static void showPlanDiff(String name, Student student) {
+        ScheduleDiff diff;
+        try {
+            diff = student.diffPlan(name);
+        } catch (IllegalArgumentException e) {
+            displayMessage(e.getMessage());
+            return;
+        }
+        if (diff.isEmpty()) {
+            displayMessage("Plan " + name + " is the same as your current schedule");
+            return;
+        }
+        displayMessage("Plan " + name + " differs from your current schedule by:");
+        for (String line : diff.toLines()) {
+            displayMessage("  " + line);
+        }
+    }
+
+    /**
+     * Lists the modules the student could add to a semester, given the modules planned before it. With a filter,
+     * only modules that can count towards the requirement bucket of that id are listed, or if the major has no such
+     * bucket, modules with the filter in their code or title. Only the first MAX_KEYWORD_LOOKUPS modules matching a
+     * keyword that have not been looked up yet are checked, and the student is told when some were left out.
+     *
+     * @param arguments The semester, then optionally a bucket id or a keyword.
+     * @param student   The student whose schedule is read.
+     */
+    public static void showEligibleModules(String[] arguments, Student student) {
+        int targetSem = Integer.parseInt(arguments[0]);
+        String filter = String.join(" ", Arrays.copyOfRange(arguments, 1, arguments.length));
+        DegreeRequirements requirements = getDegreeRequirements(student.getMajor());
+        RequirementBucket bucket = filter.isEmpty() ? null : requirements.getBucket(filter);
+        String keyword = bucket == null ? filter.toLowerCase() : "";
+
+        // The module list carries no prerequisites, so the modules considered are those of the major, those already
+        // looked up and, for a keyword, the modules whose titles match it
+        Set<String> candidates = new LinkedHashSet<>(requirements.getModuleCodes());
+        for (ChoiceGroup choiceGroup : requirements.getChoiceGroups()) {
+            candidates.addAll(choiceGroup.getModuleCodes());
+        }
+        candidates.addAll(Api.getCachedModuleCodes());
+        boolean isPartial = false;
+        if (!keyword.isEmpty()) {
+            try {
+                ModuleCatalogue catalogue = Api.getModuleCatalogue();
+                int lookups = 0;
+                for (int i = 0; catalogue != null && i < catalogue.size(); i++) {
+                    String title = catalogue.getTitle(i);
+                    String moduleCode = catalogue.getModuleCode(i);
+                    if (title == null || !title.toLowerCase().contains(keyword) || candidates.contains(moduleCode)) {
+                        continue;
+                    }
+                    if (lookups == MAX_KEYWORD_LOOKUPS) {
+                        isPartial = true;
+                        break;
+                    }
+                    candidates.add(moduleCode);
+                    lookups++;
+                }
+            } catch (ModuleDataUnavailableException e) {
+                // The modules already known are still searched
+            }
+        }
+
+        Schedule schedule = student.getSchedule();
+        String academicYear = schedule.getAcademicYear(targetSem);
+        List<String> eligible = EligibilityIndex.findEligibleModules(schedule.getSnapshot().getModulesBySemester(),
+                targetSem, academicYear, candidates);
+        List<String> lines = new ArrayList<>();
+        for (String moduleCode : eligible) {
+            if (bucket != null && !requirements.canCountTowards(bucket, moduleCode)) {
+                continue;
+            }
+            String title = (String) Api.getModuleInfo(moduleCode, academicYear).get("title");
+            if (!keyword.isEmpty() && !moduleCode.toLowerCase().contains(keyword)
+                    && (title == null || !title.toLowerCase().contains(keyword))) {
+                continue;
+            }
+            lines.add(moduleCode + " " + title);
+        }
+        if (lines.isEmpty()) {
+            displayMessage("No modules found that you can take in semester " + targetSem);
+        } else {
+            displayMessage("You can take these modules in semester " + targetSem + ":");
+            for (String line : lines) {
+                displayMessage("  " + line);
+            }
+        }
+        if (isPartial) {
+            displayMessage("Only the first " + MAX_KEYWORD_LOOKUPS + " modules matching \"" + filter + "\" that you "
+                    + "have not looked up were checked. Try a narrower keyword to see the rest.");
+        }
+    }
+
     public static boolean canCompleteModule(
             String[] arguments,
             ArrayList<String> majorModuleCodes,
@@ -121,11 +418,26 @@ public class ModuleMethodsController {
 
 
 
-    public static void getRequiredModulesForStudent(String major) {
-        printRequiredModules(major);
+    public static void getRequiredModulesForStudent(Student student) {
+        if (student.getDegreeAudit() == null) {
+            printRequiredModules(student.getMajor());
+            return;
+        }
+        printRequiredModules(student.getDegreeAudit());
     }
 
     public static void determinePrereq(String moduleCode, String major) {
+        determinePrereq(moduleCode, major, new AsciiRenderer());
+    }
+
+    /**
+     * Shows the prerequisites of a module for a major.
+     *
+     * @param moduleCode The module.
+     * @param major      The major whose prerequisites apply.
+     * @param renderer   How to show the prerequisites.
+     */
+    public static void determinePrereq(String moduleCode, String major, Renderer renderer) {
         boolean exist = doesModuleExist(moduleCode);
 
         if (!exist) {
@@ -133,10 +445,24 @@ public class ModuleMethodsController {
         }
 
         ArrayList<String> prereq = getModulePrereqBasedOnCourse(moduleCode, major);
-        if(prereq == null || prereq.isEmpty()){
-            displayMessage("Module " + moduleCode + " has no prerequisites.");
-        }else{
-            displayMessage(prereq);
+        try {
+            renderer.renderPrerequisites(moduleCode, prereq == null ? new ArrayList<>() : prereq);
+        } catch (IOException e) {
+            displayMessage("Unable to show the prerequisites: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Shows the modules planned for each semester of a student's schedule.
+     *
+     * @param student  The student.
+     * @param renderer How to show the schedule.
+     */
+    public static void showSchedule(Student student, Renderer renderer) {
+        try {
+            renderer.renderSchedule(student.getSchedule().getSnapshot().getModulesBySemester());
+        } catch (IOException e) {
+            displayMessage("Unable to show the schedule: " + e.getMessage());
         }
     }
 
@@ -1,5 +1,7 @@
 package seedu.duke.controllers;
 
+import seedu.duke.exceptions.ModuleDataUnavailableException;
+import seedu.duke.models.logic.CatalogueWarmer;
 import seedu.duke.models.logic.CompletePreqs;
 import seedu.duke.models.schema.ModuleList;
 import seedu.duke.models.schema.Schedule;
@@ -7,10 +9,18 @@ import seedu.duke.models.schema.Student;
 import seedu.duke.models.schema.CommandManager;
 import seedu.duke.models.schema.UserCommands;
 import seedu.duke.models.logic.Api;
+import seedu.duke.storage.PlanJournal;
+import seedu.duke.storage.PlanStorage;
+import seedu.duke.views.AsciiRenderer;
 import seedu.duke.views.CommandLineView;
+import seedu.duke.views.MetricsView;
+import seedu.duke.views.Renderer;
 import seedu.duke.utils.Parser;
 import seedu.duke.utils.errors.UserError;
+import seedu.duke.utils.metrics.MetricsRegistry;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,16 +32,28 @@ import static seedu.duke.controllers.ModuleMethodsController.computePace;
 import static seedu.duke.controllers.ModuleMethodsController.getRequiredModulesForStudent;
 import static seedu.duke.controllers.ModuleMethodsController.canCompleteModule;
 import static seedu.duke.controllers.ModuleMethodsController.deleteModule;
+import static seedu.duke.controllers.ModuleMethodsController.moveModule;
+import static seedu.duke.controllers.ModuleMethodsController.undoChange;
+import static seedu.duke.controllers.ModuleMethodsController.redoChange;
+import static seedu.duke.controllers.ModuleMethodsController.branchPlan;
+import static seedu.duke.controllers.ModuleMethodsController.switchPlan;
+import static seedu.duke.controllers.ModuleMethodsController.showPlanDiff;
+import static seedu.duke.controllers.ModuleMethodsController.showEligibleModules;
 import static seedu.duke.controllers.ModuleMethodsController.addModule;
+import static seedu.duke.controllers.ModuleMethodsController.addModules;
 import static seedu.duke.controllers.ModuleMethodsController.recommendScheduleToStudent;
+import static seedu.duke.controllers.ModuleMethodsController.optimizeTimetable;
+import static seedu.duke.controllers.ModuleMethodsController.showSchedule;
 import static seedu.duke.utils.Parser.parseArguments;
 import static seedu.duke.utils.Parser.parseCommand;
 import static seedu.duke.controllers.ModuleServiceController.validateMajorInput;
 import static seedu.duke.views.CommandLineView.displayWelcome;
 import static seedu.duke.views.CommandLineView.displayReady;
+import static seedu.duke.views.CommandLineView.displayWarmUp;
 import static seedu.duke.views.CommandLineView.displayGoodbye;
 import static seedu.duke.views.CommandLineView.displayGetMajor;
 import static seedu.duke.views.CommandLineView.displayGetYear;
+import static seedu.duke.views.CommandLineView.displayWelcomeBack;
 import static seedu.duke.views.CommandLineView.printListOfCommands;
 
 
@@ -48,8 +70,43 @@ public class ModulePlannerController {
     private CompletePreqs addModulePreqs;
 
     private CommandManager commandManager;
+    private Scanner in;
+    private boolean showPrompts;
+    private PlanStorage storage;
+    private CatalogueWarmer warmer;
+    private Renderer renderer = new AsciiRenderer();
 
+    /**
+     * Constructs a controller that reads commands typed by the user on the console and saves their plan in the
+     * "data" directory.
+     */
     public ModulePlannerController() {
+        this(new Scanner(System.in), true, new PlanStorage());
+    }
+
+    /**
+     * Constructs a controller that reads the user's answers and commands from the given input. The plan is not
+     * saved.
+     *
+     * @param in          The source of user input.
+     * @param showPrompts Whether to print the questions asked while setting up the user.
+     */
+    public ModulePlannerController(Scanner in, boolean showPrompts) {
+        this(in, showPrompts, null);
+    }
+
+    /**
+     * Constructs a controller that reads the user's answers and commands from the given input. A returning user's
+     * saved plan is restored, and every change to the plan is saved.
+     *
+     * @param in          The source of user input.
+     * @param showPrompts Whether to print the questions asked while setting up the user.
+     * @param storage     Where plans are saved, or null to not save the plan.
+     */
+    public ModulePlannerController(Scanner in, boolean showPrompts, PlanStorage storage) {
+        this.in = in;
+        this.showPrompts = showPrompts;
+        this.storage = storage;
         this.commandManager = new CommandManager();
         this.parser = new Parser();
         this.student = new Student();
@@ -86,64 +143,193 @@ public class ModulePlannerController {
         displayWelcome();
         initialiseUser();
         displayReady();
+        if (warmer != null && !warmer.isDone()) {
+            displayWarmUp(warmer.getCompletedTasks(), warmer.getTotalTasks());
+        }
         handleUserInputTillExitCommand();
         displayGoodbye();
     }
 
+    /**
+     * Runs a script of user input without the welcome and ready messages. The script starts with the user's name,
+     * major and year, one per line, followed by commands. The script ends at the exit command or the end of input.
+     *
+     * @throws java.util.NoSuchElementException If the input ends before the user is set up.
+     */
+    public void runScript() {
+        initialiseUser();
+        handleUserInputTillExitCommand();
+    }
+
     public void initialiseUser() {
-        Scanner in = new Scanner(System.in);
         String userInput;
         do {
-            System.out.println("Please enter your name: ");
+            if (showPrompts) {
+                System.out.println("Please enter your name: ");
+            }
             userInput = in.nextLine().trim();
         } while (!parser.checkNameInput(userInput, commandManager.getListOfCommands()));
+
+        if (storage != null && storage.hasPlan(userInput) && restorePlan(userInput)) {
+            startWarmUp();
+            return;
+        }
         student.setName(userInput);
 
         // Get and set student's major
-        displayGetMajor(student.getName());
+        if (showPrompts) {
+            displayGetMajor(student.getName());
+        }
         do {
             userInput = in.nextLine().trim();
         } while (!validateMajorInput(userInput));
         student.setFirstMajor(userInput);
+        startWarmUp();
 
         // Get and set student's year
-        displayGetYear();
+        if (showPrompts) {
+            displayGetYear();
+        }
         do {
             userInput = in.nextLine().trim();
         } while (!Parser.isValidAcademicYear(userInput.toUpperCase()));
         student.setYear(userInput.toUpperCase());
+
+        if (storage != null) {
+            startPlan();
+        }
     }
 
-    public void handleUserInputTillExitCommand() {
+    /**
+     * Starts fetching the module data of the student's major in the background, while the rest of the questions
+     * are answered. Only done for a person at the prompt; scripts and load tests start on their commands at once.
+     */
+    private void startWarmUp() {
+        if (!showPrompts || student.getMajor() == null) {
+            return;
+        }
+        try {
+            warmer = CatalogueWarmer.start(student.getMajor());
+        } catch (IllegalArgumentException e) {
+            // A major without requirements has nothing to warm
+        }
+    }
 
-        Scanner in = new Scanner(System.in);
-        String userInput = in.nextLine();
+    public CatalogueWarmer getWarmer() {
+        return warmer;
+    }
 
-        String command = parseCommand(userInput);
+    /**
+     * Restores a returning user's saved plan. A plan that cannot be read is moved aside before a new plan is started
+     * in its place; if it cannot be moved either, the new plan is not saved, so the old files are never overwritten.
+     *
+     * @param name The name of the user.
+     * @return true if the plan was restored, false if it could not be read and a new plan should be started.
+     */
+    private boolean restorePlan(String name) {
+        PlanJournal journal = storage.getJournal(name);
+        try {
+            student = journal.restore();
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Your saved plan could not be read: " + e.getMessage());
+            try {
+                List<Path> moved = journal.moveAside();
+                System.out.println("It has been kept as " + moved + ", and a new plan will be started.");
+            } catch (IOException moveError) {
+                System.out.println("It could not be set aside either, so this session will not be saved: "
+                        + moveError.getMessage());
+                storage = null;
+            }
+            return false;
+        }
+        student.setJournal(journal);
+        displayWelcomeBack(student.getName());
+        return true;
+    }
 
-        while (!command.equals(UserCommands.EXIT_COMMAND)) {
-            command = parseCommand(userInput);
-            String[] arguments = parseArguments(userInput);
+    private void startPlan() {
+        PlanJournal journal = storage.getJournal(student.getName());
+        try {
+            journal.writeSnapshot(student);
+        } catch (IOException e) {
+            System.out.println("Your plan could not be saved: " + e.getMessage());
+            return;
+        }
+        student.setJournal(journal);
+    }
 
-            if(!commandManager.getListOfCommands().contains(command)){
-                UserError.displayInvalidInputCommand(command);
-                userInput = in.nextLine();
-                continue;
-            }
+    public Student getStudent() {
+        return student;
+    }
 
-            boolean validInput = Parser.isValidInputForCommand(command, arguments);
+    /**
+     * Sets how the results of the schedule, search, prereq and timetable commands are shown.
+     *
+     * @param renderer The renderer; the console text is shown by default.
+     */
+    public void setRenderer(Renderer renderer) {
+        this.renderer = renderer;
+    }
 
-            if (!validInput) {
-                UserError.displayInvalidMethodCommand(command);
-                userInput = in.nextLine();
-                continue;
+    public void handleUserInputTillExitCommand() {
+        while (in.hasNextLine()) {
+            try {
+                if (!handleUserInput(in.nextLine())) {
+                    break;
+                }
+            } catch (ModuleDataUnavailableException e) {
+                // The command is abandoned but the planner stays open, for commands that need no module data
+                UserError.moduleDataUnavailable(e);
             }
+        }
+        in.close();
+    }
 
-            processCommand(command, arguments, userInput);
+    /**
+     * Handles one line of user input, as if it had been typed at the prompt.
+     *
+     * @param userInput The line of input.
+     * @return false if the input was the exit command, true otherwise.
+     */
+    public boolean handleUserInput(String userInput) {
+        String command = parseCommand(userInput);
+        String[] arguments = parseArguments(userInput);
 
-            userInput = in.nextLine();
+        if (command.equals(UserCommands.EXIT_COMMAND)) {
+            return false;
         }
-        in.close();
+
+        if(!commandManager.getListOfCommands().contains(command)){
+            UserError.displayInvalidInputCommand(command);
+            return true;
+        }
+
+        boolean validInput = Parser.isValidInputForCommand(command, arguments);
+
+        if (!validInput) {
+            UserError.displayInvalidMethodCommand(command);
+            return true;
+        }
+
+        long upstreamRequestsBefore = Api.getUpstreamRequestsOfThread();
+        long start = System.nanoTime();
+        try {
+            processCommand(command, arguments, userInput);
+        } finally {
+            recordCommand(command, System.nanoTime() - start,
+                    Api.getUpstreamRequestsOfThread() - upstreamRequestsBefore);
+        }
+        return true;
+    }
+
+    private static void recordCommand(String command, long nanos, long upstreamRequests) {
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.counter("nusdegs_commands_total", "Planner commands handled.", "command", command).increment();
+        metrics.timer("nusdegs_command_duration_seconds", "Time taken to handle a planner command.",
+                "command", command).record(nanos);
+        metrics.histogram("nusdegs_command_upstream_requests",
+                "Requests made to the module data source while handling a planner command.",
+                "command", command).record(upstreamRequests);
     }
 
     private void processCommand(String command, String[] arguments, String userInput) {
@@ -158,14 +344,18 @@ public class ModulePlannerController {
         }
         case UserCommands.PREREQUISITE_COMMAND: {
             String module = arguments[0];
-            determinePrereq(module.toUpperCase(), student.getMajor()); //to convert "CEG" to dynamic course
+            determinePrereq(module.toUpperCase(), student.getMajor(), renderer); //to convert "CEG" to dynamic course
             break;
         }
         case UserCommands.RECOMMEND_COMMAND: {
-            recommendScheduleToStudent(student);
+            recommendScheduleToStudent(student, in);
             break;
         }
         case UserCommands.ADD_MODULE_COMMAND: {
+            if (arguments.length > 2) {
+                addModules(arguments, student);
+                break;
+            }
             String module = arguments[0].toUpperCase();
             int targetSem = Integer.parseInt(arguments[1]);
 
@@ -178,8 +368,39 @@ public class ModulePlannerController {
             deleteModule(module,student);
             break;
         }
+        case UserCommands.MOVE_MODULE_COMMAND: {
+            String module = arguments[0].toUpperCase();
+            int targetSem = Integer.parseInt(arguments[1]);
+
+            moveModule(module, targetSem, student);
+            break;
+        }
+        case UserCommands.UNDO_COMMAND: {
+            undoChange(student);
+            break;
+        }
+        case UserCommands.REDO_COMMAND: {
+            redoChange(student);
+            break;
+        }
+        case UserCommands.BRANCH_COMMAND: {
+            branchPlan(arguments, student);
+            break;
+        }
+        case UserCommands.SWITCH_COMMAND: {
+            switchPlan(arguments[0], student);
+            break;
+        }
+        case UserCommands.DIFF_COMMAND: {
+            showPlanDiff(arguments[0], student);
+            break;
+        }
+        case UserCommands.ELIGIBLE_COMMAND: {
+            showEligibleModules(arguments, student);
+            break;
+        }
         case UserCommands.VIEW_SCHEDULE_COMMAND: {
-            student.printSchedule();
+            showSchedule(student, renderer);
             break;
         }
         case UserCommands.COMPLETE_MODULE_COMMAND: {
@@ -191,7 +412,7 @@ public class ModulePlannerController {
             break;
         }
         case UserCommands.REQUIRED_MODULES_COMMAND: {
-            getRequiredModulesForStudent(student.getMajor());
+            getRequiredModulesForStudent(student);
             break;
         }
         case UserCommands.INFO_COMMAND: {
@@ -199,13 +420,21 @@ public class ModulePlannerController {
             break;
         }
         case UserCommands.SEARCH_MODULE_COMMAND: {
-            Api.searchCommand(userInput);
+            Api.searchCommand(userInput, renderer);
+            break;
+        }
+        case UserCommands.TIMETABLE_COMMAND: {
+            optimizeTimetable(arguments, student, renderer);
             break;
         }
         case UserCommands.HELP_COMMAND: {
             printListOfCommands(commandManager);
             break;
         }
+        case UserCommands.STATS_COMMAND: {
+            MetricsView.printStats(MetricsRegistry.global());
+            break;
+        }
         default: {
             break;
         }
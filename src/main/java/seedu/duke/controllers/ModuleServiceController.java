@@ -36,10 +36,10 @@ public class ModuleServiceController {
      * Displays the list of modules and asks for user input. Handles user input validation.
      *
      * @param scheduleToAdd A list of modules to be added to the schedule.
+     * @param in The source of the user's answer.
      */
-    public static void chooseToAddToSchedule(Student student, ArrayList<String> scheduleToAdd) {
+    public static void chooseToAddToSchedule(Student student, ArrayList<String> scheduleToAdd, Scanner in) {
 
-        Scanner in = new Scanner(System.in);
         printModuleStringArray(scheduleToAdd);
         displayMessage("Here you go!");
         displayMessage("Taking the modules in this order will ensure a prerequisite worry free uni life!");
@@ -56,7 +56,7 @@ public class ModuleServiceController {
 
         if (userInput.equals("Y")) {
             displayMessage("Hold on, this may take a while......");
-            student.getSchedule().addRecommendedScheduleListToSchedule(scheduleToAdd);
+            student.addRecommendedSchedule(scheduleToAdd);
             student.getSchedule().printMainModuleList();
 
         } else {
@@ -0,0 +1,322 @@
+package seedu.duke.controllers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves recorded NUSMods responses from a directory on the local machine, so that tests and load tests do not
+ * depend on api.nusmods.com. The directory is laid out like the API: modules/CODE.json and moduleList.json.
+ *
+ * <p>The stub can make itself behave like a busy server: every response can be delayed by a fixed latency plus a
+ * random jitter, a share of requests can fail with 503, and requests beyond a rate are held until their turn, as a
+ * server at capacity would. A missing file is answered with 404 and a non-JSON body, as NUSMods answers an unknown
+ * module code. Responses are gzip-compressed for clients that accept it, as NUSMods does.
+ *
+ * <p>Every response carries an ETag and a Last-Modified date, and conditional requests for data that is unchanged
+ * are answered with 304. A file changed on disk is served afresh, with new validators, from the next request.
+ */
+public class NusModsStubServer {
+    private static final byte[] NOT_FOUND_BODY =
+            "<?xml version=\"1.0\"?><Error><Code>NoSuchKey</Code></Error>".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Path fixtureDirectory;
+    private final Map<String, Fixture> responses = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong nextSlotNanos = new AtomicLong();
+
+    private volatile Random random = new Random();
+    private volatile long latencyNanos;
+    private volatile long jitterNanos;
+    private volatile double errorRate;
+    private volatile long nanosBetweenRequests;
+
+    /**
+     * Constructs a stub listening on a free port of the loopback interface.
+     *
+     * @param fixtureDirectory The directory of recorded responses.
+     * @throws IOException If no port could be bound.
+     */
+    public NusModsStubServer(Path fixtureDirectory) throws IOException {
+        this(fixtureDirectory, 0);
+    }
+
+    /**
+     * Constructs a stub listening on the loopback interface.
+     *
+     * @param fixtureDirectory The directory of recorded responses.
+     * @param port             The port to listen on, or 0 to pick a free port.
+     * @throws IOException If the port could not be bound.
+     */
+    public NusModsStubServer(Path fixtureDirectory, int port) throws IOException {
+        this.fixtureDirectory = fixtureDirectory.toAbsolutePath().normalize();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Delays every response.
+     *
+     * @param latency The delay added to every response.
+     * @param jitter  The most that is added on top of the latency, chosen uniformly at random for each response.
+     */
+    public void setLatency(Duration latency, Duration jitter) {
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+    }
+
+    /**
+     * Makes a share of requests fail with 503 Service Unavailable.
+     *
+     * @param errorRate The chance of each request failing, from 0 to 1.
+     * @throws IllegalArgumentException If the rate is outside 0 to 1.
+     */
+    public void setErrorRate(double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1");
+        }
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Limits how many requests are answered each second. Requests beyond the limit wait for their turn.
+     *
+     * @param maxRequestsPerSecond The limit, or 0 for no limit.
+     */
+    public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+        this.nanosBetweenRequests = maxRequestsPerSecond <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / maxRequestsPerSecond;
+    }
+
+    /**
+     * Seeds the choice of jitter and failures, so that a run can be repeated.
+     *
+     * @param seed The seed.
+     */
+    public void setSeed(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Retrieves the URI to give NusModsDataSource so that it reads from this stub.
+     *
+     * @return The base URI of the stub, ending with a slash.
+     */
+    public URI getBaseUri() {
+        return URI.create("http://localhost:" + getPort() + "/");
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            waitForTurn();
+            delay();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+            return;
+        }
+
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            errorCount.incrementAndGet();
+            respond(exchange, 503, new byte[0]);
+            return;
+        }
+        Fixture fixture = readFixture(exchange.getRequestURI().getPath());
+        if (fixture == null) {
+            respond(exchange, 404, NOT_FOUND_BODY);
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", fixture.etag);
+        exchange.getResponseHeaders().set("Last-Modified", fixture.lastModified);
+        if (isNotModified(exchange, fixture)) {
+            notModifiedCount.incrementAndGet();
+            respond(exchange, 304, new byte[0]);
+        } else if (acceptsGzip(exchange)) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            respond(exchange, 200, fixture.getCompressedBody());
+        } else {
+            respond(exchange, 200, fixture.body);
+        }
+    }
+
+    /**
+     * Checks the validators of a conditional request. As in HTTP, If-None-Match is used when both are sent.
+     */
+    private static boolean isNotModified(HttpExchange exchange, Fixture fixture) {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String etag : ifNoneMatch.split(",")) {
+                if (etag.trim().equals(fixture.etag) || etag.trim().equals("*")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        if (ifModifiedSince == null) {
+            return false;
+        }
+        try {
+            Instant since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return !fixture.modifiedAt.isAfter(since);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static byte[] compress(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not compress a response in memory", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Claims the next free slot under the rate limit and sleeps until it comes.
+     */
+    private void waitForTurn() throws InterruptedException {
+        long interval = nanosBetweenRequests;
+        if (interval == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long previousSlot = nextSlotNanos.getAndAccumulate(now, (next, time) -> Math.max(next, time) + interval);
+        long wait = Math.max(previousSlot, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private void delay() throws InterruptedException {
+        long delay = latencyNanos;
+        if (jitterNanos > 0) {
+            delay += (long) (random.nextDouble() * jitterNanos);
+        }
+        if (delay > 0) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+    }
+
+    /**
+     * Reads the recorded response for a path, keeping it in memory until the file changes.
+     *
+     * @return The response, or null if nothing is recorded for the path or the path leads out of the directory.
+     */
+    private Fixture readFixture(String path) throws IOException {
+        Path file = fixtureDirectory.resolve(path.startsWith("/") ? path.substring(1) : path).normalize();
+        if (!file.startsWith(fixtureDirectory) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        FileTime modifiedTime = Files.getLastModifiedTime(file);
+        Fixture cached = responses.get(path);
+        if (cached != null && cached.fileTime.equals(modifiedTime)) {
+            return cached;
+        }
+        Fixture fixture = new Fixture(Files.readAllBytes(file), modifiedTime);
+        responses.put(path, fixture);
+        return fixture;
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", status < 400 ? "application/json" : "application/xml");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * A recorded response with its validators, which are derived from the contents and time of its file.
+     */
+    private static class Fixture {
+        private final byte[] body;
+        private final FileTime fileTime;
+        private final Instant modifiedAt;
+        private final String etag;
+        private final String lastModified;
+        private volatile byte[] compressedBody;
+
+        Fixture(byte[] body, FileTime fileTime) {
+            this.body = body;
+            this.fileTime = fileTime;
+            // HTTP dates have whole seconds, so the time is compared at that precision
+            this.modifiedAt = fileTime.toInstant().truncatedTo(ChronoUnit.SECONDS);
+            CRC32 checksum = new CRC32();
+            checksum.update(body);
+            this.etag = "\"" + Long.toHexString(checksum.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+            this.lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(modifiedAt.atZone(ZoneOffset.UTC));
+        }
+
+        byte[] getCompressedBody() {
+            byte[] compressed = compressedBody;
+            if (compressed == null) {
+                compressed = compress(body);
+                compressedBody = compressed;
+            }
+            return compressed;
+        }
+    }
+}
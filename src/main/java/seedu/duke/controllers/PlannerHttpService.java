@@ -0,0 +1,559 @@
+package seedu.duke.controllers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import seedu.duke.exceptions.BatchAddException;
+import seedu.duke.exceptions.FailPrereqException;
+import seedu.duke.exceptions.ModuleDataUnavailableException;
+import seedu.duke.exceptions.MissingModuleException;
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.schema.CommandManager;
+import seedu.duke.models.schema.ModulePlacement;
+import seedu.duke.models.schema.Student;
+import seedu.duke.models.schema.StudentSnapshot;
+import seedu.duke.models.schema.UserCommands;
+import seedu.duke.utils.Parser;
+import seedu.duke.utils.StripedLock;
+import seedu.duke.utils.ThreadOutputRouter;
+import seedu.duke.utils.metrics.MetricsRegistry;
+import seedu.duke.views.MetricsView;
+import seedu.duke.views.RenderBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static seedu.duke.controllers.ModuleMethodsController.TOTAL_CREDITS_TO_GRADUATE;
+import static seedu.duke.controllers.ModuleMethodsController.computeSemestersLeft;
+import static seedu.duke.controllers.ModuleServiceController.validateMajorInput;
+import static seedu.duke.models.logic.Api.getModulePrereqBasedOnCourse;
+import static seedu.duke.models.logic.ScheduleGenerator.getRecommendedSchedule;
+
+/**
+ * Serves the planner commands as JSON over HTTP on the local machine, so one JVM can plan for many students.
+ * Each student's Student and Schedule live in a session created by POST /session; module data fetched through Api
+ * is shared by every session.
+ *
+ * <p>Endpoints take their arguments as query parameters:
+ * <pre>
+ * POST /session?name=&amp;major=&amp;year=     creates a session and returns its id
+ * POST /add?session=&amp;module=&amp;sem=
+ * POST /delete?session=&amp;module=
+ * POST /move?session=&amp;module=&amp;sem=
+ * POST /undo?session=
+ * POST /redo?session=
+ * POST /complete?session=&amp;module=
+ * GET  /schedule?session=
+ * GET  /left?session=
+ * GET  /pace?session=[&amp;year=]
+ * GET  /prereq?session=&amp;module=
+ * GET  /recommend?session=
+ * GET  /search?keyword=
+ * GET  /metrics                           the metrics of the planner, in the Prometheus text format
+ * </pre>
+ * Every response other than /metrics carries "messages", the lines the planner printed while handling the request.
+ *
+ * <p>Changes to a student (add, delete, move, undo, redo, complete) hold the lock of that student's session, taken
+ * from a fixed set of striped locks, so different students are changed in parallel. Reads use the snapshot
+ * published by Student, which holds the schedule as of the same change, and never wait for a change in progress.
+ *
+ * <p>A session not used for the idle timeout is dropped, and its id is then answered as unknown, so a service left
+ * running does not keep every student it has ever planned for.
+ */
+public class PlannerHttpService {
+    public static final Duration DEFAULT_SESSION_IDLE_TIMEOUT = Duration.ofHours(2);
+    private static final int DEFAULT_PORT = 8080;
+    private static final int LOCK_STRIPES = 64;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final long idleTimeoutNanos;
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+    private final StripedLock sessionLocks = new StripedLock(LOCK_STRIPES);
+    private final Parser parser = new Parser();
+    private final CommandManager commandManager = new CommandManager();
+
+    /**
+     * Constructs a service listening on the loopback interface.
+     *
+     * @param port The port to listen on, or 0 to pick a free port.
+     * @throws IOException If the port could not be bound.
+     */
+    public PlannerHttpService(int port) throws IOException {
+        this(port, DEFAULT_SESSION_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Constructs a service listening on the loopback interface.
+     *
+     * @param port        The port to listen on, or 0 to pick a free port.
+     * @param idleTimeout How long a session is kept after its last request.
+     * @throws IOException If the port could not be bound.
+     */
+    public PlannerHttpService(int port, Duration idleTimeout) throws IOException {
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.executor = newPerRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.createContext("/metrics", this::handleMetrics);
+        MetricsRegistry.global().gauge("nusdegs_sessions", "Students with a session in the service.",
+                () -> sessions.size());
+    }
+
+    /**
+     * Entry point for service mode. Usage: --serve [PORT]
+     *
+     * @param args The command line arguments, including --serve.
+     */
+    public static void runFromArguments(String[] args) {
+        try {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+            PlannerHttpService service = new PlannerHttpService(port);
+            service.start();
+            System.out.println("NUSDegs service listening on http://localhost:" + service.getPort());
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: --serve [PORT]");
+        } catch (IOException e) {
+            System.err.println("Unable to start service: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs each request on its own thread: a virtual thread when the runtime supports them, otherwise a thread
+     * from an unbounded cached pool.
+     */
+    private static ExecutorService newPerRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        RenderBuffer text = RenderBuffer.get();
+        MetricsView.appendPrometheus(text, MetricsRegistry.global());
+        byte[] response = text.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        ThreadOutputRouter router = ThreadOutputRouter.install();
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        router.capture(printed);
+
+        JSONObject body = new JSONObject();
+        int status;
+        Error fatal = null;
+        try {
+            status = dispatch(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                    parseQuery(exchange.getRequestURI().getRawQuery()), body);
+        } catch (ModuleDataUnavailableException e) {
+            body.put("error", e.getMessage());
+            status = 503;
+        } catch (RuntimeException | StackOverflowError e) {
+            body.put("error", String.valueOf(e.getMessage()));
+            status = 500;
+        } catch (Error e) {
+            // Answered first so the client is not left waiting, then passed on since the JVM may be unusable
+            body.put("error", String.valueOf(e.getMessage()));
+            status = 500;
+            fatal = e;
+        } finally {
+            System.out.flush();
+            router.release();
+        }
+
+        body.put("messages", toLines(printed.toString(StandardCharsets.UTF_8)));
+        byte[] response = body.toJSONString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+        recordRequest(exchange.getRequestURI().getPath(), status, System.nanoTime() - start);
+        if (fatal != null) {
+            throw fatal;
+        }
+    }
+
+    private void recordRequest(String path, int status, long nanos) {
+        // Unknown paths share one series, so stray requests cannot grow the registry without bound
+        String command = path.startsWith("/") ? path.substring(1) : path;
+        if (!command.equals("session") && !command.equals("search")
+                && !commandManager.getListOfCommands().contains(command)) {
+            command = "unknown";
+        }
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.timer("nusdegs_http_request_duration_seconds", "Time taken to answer a request to the service.",
+                "command", command).record(nanos);
+        if (status >= 400) {
+            metrics.counter("nusdegs_http_errors_total", "Requests to the service answered with an error.",
+                    "command", command).increment();
+        }
+    }
+
+    int dispatch(String method, String path, Map<String, String> query, JSONObject body) {
+        String command = path.startsWith("/") ? path.substring(1) : path;
+        if (command.equals("session")) {
+            return requirePost(method, body) ? createSession(query, body) : 405;
+        }
+        if (command.equals("search")) {
+            return search(query, body);
+        }
+        if (!commandManager.getListOfCommands().contains(command)) {
+            body.put("error", "Unknown command " + command);
+            return 404;
+        }
+
+        String sessionId = query.getOrDefault("session", "");
+        Student student = findSession(sessionId);
+        if (student == null) {
+            body.put("error", "Unknown session");
+            return 404;
+        }
+
+        switch (command) {
+        case UserCommands.ADD_MODULE_COMMAND:
+        case UserCommands.DELETE_MODULE_COMMAND:
+        case UserCommands.MOVE_MODULE_COMMAND:
+        case UserCommands.UNDO_COMMAND:
+        case UserCommands.REDO_COMMAND:
+        case UserCommands.COMPLETE_MODULE_COMMAND:
+            if (!requirePost(method, body)) {
+                return 405;
+            }
+            ReentrantLock lock = sessionLocks.lockFor(sessionId);
+            lock.lock();
+            try {
+                return change(command, student, query, body);
+            } finally {
+                lock.unlock();
+            }
+        case UserCommands.VIEW_SCHEDULE_COMMAND:
+            putSchedule(student, body);
+            return 200;
+        case UserCommands.LEFT_COMMAND:
+            body.put("modulesLeft", student.getSnapshot().getModuleCodesLeft());
+            return 200;
+        case UserCommands.PACE_COMMAND:
+            return pace(student.getSnapshot(), query, body);
+        case UserCommands.PREREQUISITE_COMMAND:
+            return prereq(student.getSnapshot(), query, body);
+        case UserCommands.RECOMMEND_COMMAND:
+            body.put("recommended", new ArrayList<>(getRecommendedSchedule(student.getSnapshot().getMajor())));
+            return 200;
+        default:
+            body.put("error", "Command " + command + " is not available in service mode");
+            return 404;
+        }
+    }
+
+    private int change(String command, Student student, Map<String, String> query, JSONObject body) {
+        switch (command) {
+        case UserCommands.ADD_MODULE_COMMAND:
+            return add(student, query, body);
+        case UserCommands.DELETE_MODULE_COMMAND:
+            return delete(student, query, body);
+        case UserCommands.MOVE_MODULE_COMMAND:
+            return move(student, query, body);
+        case UserCommands.UNDO_COMMAND:
+        case UserCommands.REDO_COMMAND:
+            return undoOrRedo(command, student, body);
+        default:
+            return complete(student, query, body);
+        }
+    }
+
+    private int createSession(Map<String, String> query, JSONObject body) {
+        String name = query.getOrDefault("name", "");
+        String major = query.getOrDefault("major", "");
+        String year = query.getOrDefault("year", "").toUpperCase();
+        if (!parser.checkNameInput(name, commandManager.getListOfCommands()) || !validateMajorInput(major)
+                || !Parser.isValidAcademicYear(year)) {
+            body.put("error", "Invalid name, major or year");
+            return 400;
+        }
+        Student student = new Student();
+        student.setName(name);
+        student.setFirstMajor(major);
+        student.setYear(year);
+
+        expireIdleSessions();
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, new Session(student));
+        body.put("session", sessionId);
+        return 201;
+    }
+
+    /**
+     * Looks up a session and marks it as used.
+     *
+     * @return The session's student, or null if there is no such session or it has been idle too long.
+     */
+    private Student findSession(String sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (now - session.lastUsedNanos > idleTimeoutNanos) {
+            sessions.remove(sessionId, session);
+            return null;
+        }
+        session.lastUsedNanos = now;
+        return session.student;
+    }
+
+    /**
+     * Drops every session idle for longer than the timeout. Runs when sessions are created, at most once per
+     * quarter of the timeout, so the sweep costs nothing on most requests.
+     */
+    private void expireIdleSessions() {
+        long now = System.nanoTime();
+        long lastSweep = lastSweepNanos.get();
+        if (now - lastSweep < idleTimeoutNanos / 4 || !lastSweepNanos.compareAndSet(lastSweep, now)) {
+            return;
+        }
+        sessions.values().removeIf(session -> now - session.lastUsedNanos > idleTimeoutNanos);
+    }
+
+    private int add(Student student, Map<String, String> query, JSONObject body) {
+        if (query.containsKey("modules")) {
+            return addBatch(student, query.get("modules"), body);
+        }
+        String module = query.getOrDefault("module", "").toUpperCase();
+        int targetSem;
+        try {
+            targetSem = Integer.parseInt(query.getOrDefault("sem", ""));
+        } catch (NumberFormatException e) {
+            body.put("error", "Please select an integer from 1 to 8 for semester selection");
+            return 400;
+        }
+        try {
+            student.addModuleSchedule(module, targetSem);
+        } catch (InvalidObjectException | IllegalArgumentException e) {
+            body.put("error", e.getMessage());
+            return 400;
+        } catch (FailPrereqException e) {
+            body.put("error", e.getMessage());
+            body.put("prerequisites", getModulePrereqBasedOnCourse(module, student.getMajor()));
+            return 409;
+        }
+        putSchedule(student, body);
+        return 200;
+    }
+
+    /**
+     * Adds a batch of modules given as CODE:SEM pairs separated by commas, such as CS1010:1,CS2040C:2.
+     */
+    private int addBatch(Student student, String modules, JSONObject body) {
+        List<ModulePlacement> batch = new ArrayList<>();
+        for (String pair : modules.split(",")) {
+            String[] fields = pair.trim().split(":");
+            try {
+                batch.add(new ModulePlacement(fields[0].toUpperCase(), Integer.parseInt(fields[1])));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                body.put("error", "Give modules as CODE:SEM pairs separated by commas");
+                return 400;
+            }
+        }
+        try {
+            student.addModulesSchedule(batch);
+        } catch (BatchAddException e) {
+            body.put("error", e.getMessage());
+            body.put("violations", new ArrayList<>(e.getViolations()));
+            return 409;
+        }
+        putSchedule(student, body);
+        return 200;
+    }
+
+    private int delete(Student student, Map<String, String> query, JSONObject body) {
+        String module = query.getOrDefault("module", "").toUpperCase();
+        try {
+            student.deleteModuleSchedule(module);
+        } catch (IllegalArgumentException | MissingModuleException e) {
+            body.put("error", e.getMessage());
+            return 400;
+        } catch (FailPrereqException e) {
+            body.put("error", e.getMessage());
+            return 409;
+        }
+        putSchedule(student, body);
+        return 200;
+    }
+
+    private int move(Student student, Map<String, String> query, JSONObject body) {
+        String module = query.getOrDefault("module", "").toUpperCase();
+        int targetSem;
+        try {
+            targetSem = Integer.parseInt(query.getOrDefault("sem", ""));
+        } catch (NumberFormatException e) {
+            body.put("error", "Please select an integer from 1 to 8 for semester selection");
+            return 400;
+        }
+        try {
+            student.moveModuleSchedule(module, targetSem);
+        } catch (IllegalArgumentException e) {
+            body.put("error", e.getMessage());
+            return 400;
+        } catch (FailPrereqException e) {
+            body.put("error", e.getMessage());
+            return 409;
+        }
+        putSchedule(student, body);
+        return 200;
+    }
+
+    private int undoOrRedo(String command, Student student, JSONObject body) {
+        boolean isChanged = command.equals(UserCommands.UNDO_COMMAND) ? student.undo() : student.redo();
+        if (!isChanged) {
+            body.put("error", "There is nothing to " + command);
+            return 409;
+        }
+        putSchedule(student, body);
+        return 200;
+    }
+
+    private int complete(Student student, Map<String, String> query, JSONObject body) {
+        String module = query.getOrDefault("module", "").toUpperCase();
+        try {
+            if (!student.getModulesPlanned().exists(module)) {
+                body.put("error", module + " is not in your schedule");
+                return 400;
+            }
+        } catch (InvalidObjectException e) {
+            body.put("error", e.getMessage());
+            return 400;
+        }
+        student.completeModuleSchedule(module);
+        body.put("completedCredits", student.getSnapshot().getCompletedModuleCredits());
+        return 200;
+    }
+
+    private int pace(StudentSnapshot student, Map<String, String> query, JSONObject body) {
+        int creditsLeft = TOTAL_CREDITS_TO_GRADUATE - student.getCompletedModuleCredits();
+        body.put("creditsLeft", creditsLeft);
+        String year = query.get("year");
+        if (year == null) {
+            return 200;
+        }
+        if (!Parser.isValidAcademicYear(year)) {
+            body.put("error", "Invalid year");
+            return 400;
+        }
+        int semestersLeft = computeSemestersLeft(year);
+        body.put("semestersLeft", semestersLeft);
+        body.put("creditsPerSemester", Math.round((float) creditsLeft / semestersLeft));
+        return 200;
+    }
+
+    private int prereq(StudentSnapshot student, Map<String, String> query, JSONObject body) {
+        String module = query.getOrDefault("module", "").toUpperCase();
+        if (!Api.doesModuleExist(module)) {
+            body.put("error", "Invalid module " + module);
+            return 400;
+        }
+        List<String> prereqs = getModulePrereqBasedOnCourse(module, student.getMajor());
+        body.put("prerequisites", prereqs == null ? new ArrayList<String>() : new ArrayList<>(prereqs));
+        return 200;
+    }
+
+    private int search(Map<String, String> query, JSONObject body) {
+        String keyword = query.getOrDefault("keyword", "");
+        if (keyword.trim().isEmpty()) {
+            body.put("error", "Empty keyword");
+            return 400;
+        }
+        body.put("modules", Api.getModuleCatalogue().search(keyword));
+        return 200;
+    }
+
+    private static void putSchedule(Student student, JSONObject body) {
+        body.put("schedule", student.getSnapshot().getSchedule().getModulesBySemester());
+    }
+
+    private static boolean requirePost(String method, JSONObject body) {
+        if (method.equals("POST")) {
+            return true;
+        }
+        body.put("error", "Use POST for this command");
+        return false;
+    }
+
+    private static JSONArray toLines(String printed) {
+        JSONArray lines = new JSONArray();
+        for (String line : printed.split("\\R")) {
+            if (!line.trim().isEmpty()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    /**
+     * A student planning through the service, and when they last made a request.
+     */
+    private static class Session {
+        private final Student student;
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private Session(Student student) {
+            this.student = student;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.duke.exceptions;
+
+import java.util.List;
+
+/**
+ * This class represents an exception that is thrown when a batch of modules cannot be added to a schedule.
+ * It lists every module that could not be added and why, and none of the batch is added.
+ */
+public class BatchAddException extends Exception {
+    private final List<String> violations;
+
+    public BatchAddException(List<String> violations) {
+        super("Unable to add the modules, as " + violations.size()
+                + (violations.size() == 1 ? " of them has a problem" : " of them have problems"));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+}
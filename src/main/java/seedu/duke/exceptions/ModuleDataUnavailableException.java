@@ -0,0 +1,15 @@
+package seedu.duke.exceptions;
+
+/**
+ * This class represents an exception that is thrown when module data cannot be fetched, because NUSMods could not
+ * be reached or kept failing, and no saved copy of the data was at hand.
+ */
+public class ModuleDataUnavailableException extends RuntimeException {
+    public ModuleDataUnavailableException(Throwable cause) {
+        super("Module data is unavailable right now (" + describe(cause) + "). Please try again later.", cause);
+    }
+
+    private static String describe(Throwable cause) {
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.duke.models.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Works with academic years written as NUSMods writes them, such as 2023-2024.
+ */
+public class AcademicYear {
+    private static final Pattern ACADEMIC_YEAR = Pattern.compile("(\\d{4})-(\\d{4})");
+
+    /**
+     * Checks that an academic year is written as two consecutive years joined by a dash.
+     *
+     * @param academicYear The academic year.
+     * @return true if the academic year is well formed.
+     */
+    public static boolean isValid(String academicYear) {
+        if (academicYear == null) {
+            return false;
+        }
+        Matcher matcher = ACADEMIC_YEAR.matcher(academicYear);
+        return matcher.matches() && Integer.parseInt(matcher.group(2)) == Integer.parseInt(matcher.group(1)) + 1;
+    }
+
+    /**
+     * Retrieves the academic year a number of years before or after another.
+     *
+     * @param academicYear The academic year to count from.
+     * @param years        The number of years to move, negative for earlier years.
+     * @return The academic year reached.
+     * @throws IllegalArgumentException If the academic year is malformed.
+     */
+    public static String shift(String academicYear, int years) {
+        int start = startOf(academicYear) + years;
+        return start + "-" + (start + 1);
+    }
+
+    /**
+     * Compares two academic years.
+     *
+     * @return A negative number, zero or a positive number as the first year is earlier than, the same as or later
+     *     than the second.
+     * @throws IllegalArgumentException If either academic year is malformed.
+     */
+    public static int compare(String first, String second) {
+        return Integer.compare(startOf(first), startOf(second));
+    }
+
+    /**
+     * Lists the academic years from one year to another, both included.
+     *
+     * @param earliest The first academic year.
+     * @param latest   The last academic year.
+     * @return The academic years, earliest first.
+     * @throws IllegalArgumentException If either academic year is malformed.
+     */
+    public static List<String> range(String earliest, String latest) {
+        List<String> years = new ArrayList<>();
+        for (int start = startOf(earliest); start <= startOf(latest); start++) {
+            years.add(start + "-" + (start + 1));
+        }
+        return years;
+    }
+
+    /**
+     * Works out the academic year a student started in from the year of study they are in now.
+     *
+     * @param currentAcademicYear The academic year now.
+     * @param yearOfStudy         The student's year of study, from 1.
+     * @return The academic year of the student's first semester.
+     */
+    public static String intakeYear(String currentAcademicYear, int yearOfStudy) {
+        return shift(currentAcademicYear, 1 - yearOfStudy);
+    }
+
+    private static int startOf(String academicYear) {
+        if (!isValid(academicYear)) {
+            throw new IllegalArgumentException("Invalid academic year: " + academicYear);
+        }
+        return Integer.parseInt(academicYear.substring(0, 4));
+    }
+}
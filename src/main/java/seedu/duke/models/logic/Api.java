@@ -1,33 +1,136 @@
 package seedu.duke.models.logic;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.InvalidObjectException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import seedu.duke.exceptions.InvalidModuleException;
+import seedu.duke.exceptions.ModuleDataUnavailableException;
 import seedu.duke.models.schema.Major;
 import seedu.duke.models.schema.ModuleList;
 
-import static seedu.duke.models.logic.DataRepository.getRequirements;
+import static seedu.duke.models.logic.DataRepository.getDegreeRequirements;
 
 import seedu.duke.utils.Parser;
 import seedu.duke.utils.errors.UserError;
 import seedu.duke.views.ModuleInfoView;
+import seedu.duke.views.Renderer;
 import seedu.duke.utils.UnknownCommandException;
+import seedu.duke.utils.metrics.Counter;
+import seedu.duke.utils.metrics.Histogram;
+import seedu.duke.utils.metrics.MetricsRegistry;
 
 
 public class Api {
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    // A copy of NUSMods, such as one saved by the load test's --record, answered from when NUSMods is unreachable
+    public static final Path SNAPSHOT_DIRECTORY = Paths.get("data", "nusmods");
+    public static final int ACADEMIC_YEARS_KEPT = 5;
+
+    // Shared by every planner in the JVM, so batch scripts running in parallel fetch each module at most once
+    private static final Map<String, CacheEntry<JSONObject>> moduleInfoCache = new ConcurrentHashMap<>();
+    private static volatile CacheEntry<ModuleCatalogue> moduleListCache;
+    private static volatile ModuleDataSource dataSource =
+            new ResilientDataSource(new NusModsDataSource(), new DirectoryDataSource(SNAPSHOT_DIRECTORY));
+    // Catalogue entries of earlier years, for students who took modules under the prerequisites of the time
+    private static final YearCatalogue yearCatalogue = new YearCatalogue(AcademicYear.range(
+            AcademicYear.shift(NusModsDataSource.DEFAULT_ACADEMIC_YEAR, 1 - ACADEMIC_YEARS_KEPT),
+            NusModsDataSource.DEFAULT_ACADEMIC_YEAR));
+    private static final Map<String, ModuleDataSource> yearDataSources = new ConcurrentHashMap<>();
+    private static volatile long maxAgeNanos = DEFAULT_MAX_AGE.toNanos();
+    // Entries being revalidated, so that a stale entry looked up by many threads is revalidated only once
+    private static final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService refresher = Executors.newFixedThreadPool(2, task -> {
+        Thread thread = new Thread(task, "nusdegs-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final MetricsRegistry metrics = MetricsRegistry.global();
+    private static final Counter moduleCacheHits = metrics.counter("nusdegs_cache_hits_total",
+            "Lookups of module data answered from the cache.", "cache", "module");
+    private static final Counter moduleCacheMisses = metrics.counter("nusdegs_cache_misses_total",
+            "Lookups of module data that had to be fetched.", "cache", "module");
+    private static final Counter moduleListCacheHits = metrics.counter("nusdegs_cache_hits_total",
+            "Lookups of module data answered from the cache.", "cache", "moduleList");
+    private static final Counter moduleListCacheMisses = metrics.counter("nusdegs_cache_misses_total",
+            "Lookups of module data that had to be fetched.", "cache", "moduleList");
+    private static final Histogram moduleParseTime = metrics.timer("nusdegs_json_parse_duration_seconds",
+            "Time taken to read and parse fetched module data.", "document", "module");
+    private static final Histogram moduleListParseTime = metrics.timer("nusdegs_json_parse_duration_seconds",
+            "Time taken to read and parse fetched module data.", "document", "moduleList");
+    // Requests made by each thread, so that the planner can tell how many requests a command needed
+    private static final ThreadLocal<long[]> upstreamRequestsOfThread = ThreadLocal.withInitial(() -> new long[1]);
+
+    static {
+        metrics.gauge("nusdegs_module_cache_entries", "Modules held in the module cache.",
+                () -> moduleInfoCache.size());
+        metrics.gauge("nusdegs_upstream_circuit_open",
+                "1 while requests for module data are refused after repeated failures, 0 otherwise.",
+                () -> dataSource instanceof ResilientDataSource
+                        && ((ResilientDataSource) dataSource).getCircuitState() == CircuitBreaker.State.OPEN ? 1 : 0);
+    }
+
+    /**
+     * Changes where module data is fetched from. Data cached from the previous source is dropped. Data for other
+     * academic years is fetched from the source's forAcademicYear.
+     *
+     * @param source The new source of module data.
+     */
+    public static void setDataSource(ModuleDataSource source) {
+        dataSource = source;
+        moduleInfoCache.clear();
+        moduleListCache = null;
+        yearCatalogue.clear();
+        yearDataSources.clear();
+    }
+
+    public static ModuleDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Changes how long fetched module data is used before it is revalidated with the data source. Data older than
+     * this is still answered at once, while it is revalidated in the background; data that is unchanged costs the
+     * source a 304 and is not parsed again.
+     *
+     * @param maxAge How long data stays current.
+     */
+    public static void setMaxAge(Duration maxAge) {
+        maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * Retrieves how many requests the current thread has made to the module data source since it started.
+     *
+     * @return The number of requests.
+     */
+    public static long getUpstreamRequestsOfThread() {
+        return upstreamRequestsOfThread.get()[0];
+    }
+
+    private static void countUpstreamRequest(String document) {
+        upstreamRequestsOfThread.get()[0]++;
+        metrics.counter("nusdegs_upstream_requests_total", "Requests made to the module data source.",
+                "document", document).increment();
+    }
 
     /**
      * Retrieves the prerequisite tree for a module specified by its code.
@@ -36,8 +139,22 @@ public class Api {
      * @return A JSON object representing the prerequisite tree for the module. The prerequisite tree can be in one of
      *
      */
-    private static JSONObject getModulePrereqTree(String moduleCode) {
-        JSONObject fullModuleInfo = getFullModuleInfo(moduleCode);
+    static JSONObject getModulePrereqTree(String moduleCode) {
+        return getPrereqTree(getFullModuleInfo(moduleCode));
+    }
+
+    /**
+     * Retrieves the prerequisite tree of a module as it stood in an academic year.
+     *
+     * @param moduleCode   The code of the module.
+     * @param academicYear The academic year, such as 2022-2023.
+     * @return The prerequisite tree, in the same forms getModulePrereqTree returns, or null if there is none.
+     */
+    static JSONObject getModulePrereqTree(String moduleCode, String academicYear) {
+        return getPrereqTree(getModuleInfo(moduleCode, academicYear));
+    }
+
+    private static JSONObject getPrereqTree(JSONObject fullModuleInfo) {
         if (fullModuleInfo == null) {
             return null;
         }
@@ -58,114 +175,244 @@ public class Api {
     }
 
     /**
-     * Checks if a given module code is exempted from certain requirements.
+     * Retrieves detailed module information from the module data source based on the module code.
+     * Successful responses are cached for the lifetime of the JVM.
+     *
+     * @author rohitcube
+     * @param moduleCode The module code to retrieve information for.
+     * @return A JSONObject containing module information.
+     * @throws ModuleDataUnavailableException If the module data source could not be reached, and the module was
+     *     neither cached nor saved in a snapshot.
      *
-     * @param moduleCode The module code to check.
-     * @return True if the module is exempted, false otherwise.
      */
-    private static boolean isModuleException(String moduleCode) {
-        ArrayList<String> exemptedModules = new ArrayList<>();
-        exemptedModules.add("CS1231");
-        exemptedModules.add("CS1231S");
-        exemptedModules.add("MA1508E");
-        exemptedModules.add("EE4204");
-        exemptedModules.add("MA1511");
-        exemptedModules.add("MA1512");
-        exemptedModules.add("MA1521");
-        exemptedModules.add("MA1522");
+    public static JSONObject getFullModuleInfo(String moduleCode) throws RuntimeException {
+        if (moduleCode != null) {
+            CacheEntry<JSONObject> cachedModuleInfo = moduleInfoCache.get(moduleCode);
+            if (cachedModuleInfo != null) {
+                moduleCacheHits.increment();
+                if (cachedModuleInfo.isStale()) {
+                    revalidateModuleInfo(moduleCode, cachedModuleInfo);
+                }
+                return cachedModuleInfo.value;
+            }
+        }
+        moduleCacheMisses.increment();
+        try {
+            // Regex pattern to match only letters and numbers
+            String regexPattern = "^[a-zA-Z0-9]+$";
 
-        return exemptedModules.contains(moduleCode);
+            if(!moduleCode.matches(regexPattern)){
+                throw new InvalidModuleException();
+            }
+            countUpstreamRequest("module");
+            JSONObject moduleInfo;
+            try (ModuleResponse response = dataSource.openModuleInfo(moduleCode, null, null)) {
+                moduleInfo = readModuleInfo(response);
+                if (!moduleInfo.isEmpty()) {
+                    moduleInfoCache.put(moduleCode, new CacheEntry<>(moduleInfo, response));
+                }
+            }
+            return moduleInfo;
+        } catch (ParseException e) {
+            //to be replaced with more robust error class in the future
+            System.out.println("Invalid Module Name");
+        } catch (IOException e) {
+            throw new ModuleDataUnavailableException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModuleDataUnavailableException(e);
+        } catch (NullPointerException e) {
+            //System.out.println("Invalid Module Name");
+        }catch (InvalidModuleException e) {
+            System.out.println("Invalid Module Code :" + e.getMessage());
+        }
+        return null;
     }
 
     /**
-     * Retrieves a list of exempted prerequisites for a given module code.
+     * Retrieves the catalogue entry of a module as it stood in an academic year: its code, title, units and
+     * prerequisites. The current year is read through getFullModuleInfo. Earlier years are fetched once and kept in
+     * a YearCatalogue, where a year whose entry is unchanged shares the entry of the year next to it. Years after
+     * the current one use the current catalogue, and years before the earliest kept use the earliest.
      *
-     * @param moduleCode The module code to retrieve exempted prerequisites for.
-     * @return An ArrayList of exempted prerequisite module codes.
+     * <p>If the module cannot be found for an earlier year, because it was not offered then or that year could not
+     * be fetched, the current entry is used instead.
+     *
+     * @param moduleCode   The code of the module.
+     * @param academicYear The academic year, such as 2022-2023.
+     * @return The entry of the module, or null if the module does not exist.
+     * @throws IllegalArgumentException If the academic year is malformed.
+     * @throws ModuleDataUnavailableException If the current entry was needed and could not be fetched.
      */
-    private static ArrayList<String> getExemptedPrerequisite(String moduleCode) {
-        HashMap<String, ArrayList<String>> map = new HashMap<>();
-        ArrayList<String> list1 = new ArrayList<>();
-        list1.add("MA1511");
-        list1.add("MA1512");
-        map.put("CS1231", list1);
-
-        ArrayList<String> list2 = new ArrayList<>();
-        list2.add("MA1511");
-        list2.add("MA1512");
-        map.put("MA1508E", list2);
-
-        ArrayList<String> list3 = new ArrayList<>();
-        list3.add("ST2334");
-        map.put("EE4204", list3);
-
-        ArrayList<String> emptyList = new ArrayList<>();
-
-        map.put("MA1511", emptyList);
-
-        map.put("CS1231S",emptyList);
-
-        map.put("MA1512", emptyList);
-
-        map.put("MA1521", emptyList);
+    public static JSONObject getModuleInfo(String moduleCode, String academicYear) {
+        String year = yearCatalogue.resolve(academicYear);
+        if (year.equals(yearCatalogue.getLatestYear())) {
+            JSONObject moduleInfo = getFullModuleInfo(moduleCode);
+            // Kept so that entries of earlier years equal to the current one can share it
+            if (moduleInfo != null && !moduleInfo.isEmpty() && yearCatalogue.get(year, moduleCode) == null) {
+                yearCatalogue.put(year, moduleCode, moduleInfo);
+            }
+            return moduleInfo;
+        }
 
-        map.put("MA1522", emptyList);
+        JSONObject entry = yearCatalogue.get(year, moduleCode);
+        if (entry != null) {
+            return entry;
+        }
+        JSONObject moduleInfo = fetchModuleInfo(moduleCode, year);
+        if (moduleInfo == null || moduleInfo.isEmpty()) {
+            return getModuleInfo(moduleCode, yearCatalogue.getLatestYear());
+        }
+        return yearCatalogue.put(year, moduleCode, moduleInfo);
+    }
 
-        return map.get(moduleCode);
+    /**
+     * Fetches the details of a module in an earlier academic year.
+     *
+     * @return The details, or null if the source has no data for that year or could not give it.
+     */
+    private static JSONObject fetchModuleInfo(String moduleCode, String academicYear) {
+        if (moduleCode == null || !moduleCode.matches("^[a-zA-Z0-9]+$")) {
+            return null;
+        }
+        ModuleDataSource source = dataSource;
+        ModuleDataSource yearSource = yearDataSources.computeIfAbsent(academicYear, source::forAcademicYear);
+        if (yearSource == null) {
+            return null;
+        }
+        countUpstreamRequest("module");
+        try (ModuleResponse response = yearSource.openModuleInfo(moduleCode, null, null)) {
+            JSONObject moduleInfo = readModuleInfo(response);
+            return dataSource == source ? moduleInfo : null;
+        } catch (IOException | ParseException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
     }
 
-    private static String sendHttpRequestAndGetResponseBody(String url) throws ParseException,
-            IOException, InterruptedException, URISyntaxException {
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(new URI(url))
-                .GET()
-                .build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        return response.body();
+    /**
+     * Lists the modules whose details are cached, which are those looked up or preloaded since the data source was
+     * last changed.
+     *
+     * @return The codes of the modules.
+     */
+    public static List<String> getCachedModuleCodes() {
+        return new ArrayList<>(moduleInfoCache.keySet());
+    }
 
+    /**
+     * Counts the distinct catalogue entries kept for earlier academic years and the current one.
+     *
+     * @return The number of entries stored.
+     */
+    public static int countYearCatalogueEntries() {
+        return yearCatalogue.countStoredEntries();
     }
 
     /**
-     * Retrieves detailed module information from an external API based on the module code.
+     * Seeds the module cache with details that are already at hand, such as a saved copy of the catalogue, so that
+     * those modules are never requested from the NUSMods API.
      *
-     * @author rohitcube
-     * @param moduleCode The module code to retrieve information for.
-     * @return A JSONObject containing module information.
+     * @param moduleInfos The details of each module, by module code.
+     */
+    public static void preloadModuleInfo(Map<String, JSONObject> moduleInfos) {
+        for (Map.Entry<String, JSONObject> moduleInfo : moduleInfos.entrySet()) {
+            moduleInfoCache.put(moduleInfo.getKey(), CacheEntry.pinned(moduleInfo.getValue()));
+        }
+    }
+
+    /**
+     * Seeds the cached list of all modules, so that searches never download it.
      *
+     * @param moduleList The list of modules, in the form listAllModules returns.
      */
-    public static JSONObject getFullModuleInfo(String moduleCode) throws RuntimeException {
+    public static void preloadModuleList(JSONArray moduleList) {
+        moduleListCache = CacheEntry.pinned(ModuleCatalogue.fromJsonArray(moduleList));
+    }
+
+    private static JSONObject readModuleInfo(ModuleResponse response) throws IOException, ParseException {
+        if (response.isNotModified()) {
+            throw new IOException("Module data source answered an unconditional request with 304");
+        }
+        Reader in = new InputStreamReader(response.getBody(), StandardCharsets.UTF_8);
+        long parseStart = System.nanoTime();
         try {
-            // Regex pattern to match only letters and numbers
-            String regexPattern = "^[a-zA-Z0-9]+$";
+            return ModuleDataReader.readModuleInfo(in);
+        } finally {
+            moduleParseTime.record(System.nanoTime() - parseStart);
+        }
+    }
 
-            if(!moduleCode.matches(regexPattern)){
-                throw new InvalidModuleException();
+    private static ModuleCatalogue readModuleList(ModuleResponse response) throws IOException, ParseException {
+        if (response.isNotModified()) {
+            throw new IOException("Module data source answered an unconditional request with 304");
+        }
+        Reader in = new InputStreamReader(response.getBody(), StandardCharsets.UTF_8);
+        long parseStart = System.nanoTime();
+        try {
+            return ModuleDataReader.readModuleList(in);
+        } finally {
+            moduleListParseTime.record(System.nanoTime() - parseStart);
+        }
+    }
+
+    private static void revalidateModuleInfo(String moduleCode, CacheEntry<JSONObject> stale) {
+        ModuleDataSource source = dataSource;
+        revalidateInBackground("module:" + moduleCode, () -> {
+            countUpstreamRequest("module");
+            try (ModuleResponse response = source.openModuleInfo(moduleCode, stale.etag, stale.lastModified)) {
+                CacheEntry<JSONObject> current = response.isNotModified()
+                        ? stale.revalidated(response)
+                        : new CacheEntry<>(readModuleInfo(response), response);
+                // Data from a source that has since been replaced must not reach the cache
+                if (dataSource == source && !current.value.isEmpty()) {
+                    moduleInfoCache.put(moduleCode, current);
+                }
+                return response.isNotModified();
             }
-            String url = "https://api.nusmods.com/v2/2023-2024/modules/" + moduleCode + ".json";
+        });
+    }
 
-            String responseBody = sendHttpRequestAndGetResponseBody(url);
-            if (responseBody.isEmpty()) {
-                return new JSONObject();
+    private static void revalidateModuleList(CacheEntry<ModuleCatalogue> stale) {
+        ModuleDataSource source = dataSource;
+        revalidateInBackground("moduleList", () -> {
+            countUpstreamRequest("moduleList");
+            try (ModuleResponse response = source.openModuleList(stale.etag, stale.lastModified)) {
+                CacheEntry<ModuleCatalogue> current = response.isNotModified()
+                        ? stale.revalidated(response)
+                        : new CacheEntry<>(readModuleList(response), response);
+                if (dataSource == source) {
+                    moduleListCache = current;
+                }
+                return response.isNotModified();
             }
-            JSONParser parser = new JSONParser();
-            return (JSONObject) parser.parse(responseBody);
-        } catch (ParseException e) {
-            //to be replaced with more robust error class in the future
-            System.out.println("Invalid Module Name");
-        } catch (IOException | InterruptedException e) {
-            System.out.println("Invalid Module Name");
-            throw new RuntimeException("java.net.ConnectException", e);
-        } catch (URISyntaxException e) {
-            //to be replaced with more robust error class in the future
-            System.out.println("Sorry, there was an error with" +
-                    " the provided URL: " + e.getMessage());
-        } catch (NullPointerException e) {
-            //System.out.println("Invalid Module Name");
-        }catch (InvalidModuleException e) {
-            System.out.println("Invalid Module Code :" + e.getMessage());
+        });
+    }
+
+    /**
+     * Runs a revalidation on a background thread, unless one for the same entry is already running. If it fails,
+     * the stale entry is kept and revalidated again the next time it is looked up.
+     */
+    private static void revalidateInBackground(String key, Revalidation revalidation) {
+        if (!refreshesInFlight.add(key)) {
+            return;
         }
-        return null;
+        refresher.execute(() -> {
+            String result = "failed";
+            try {
+                result = revalidation.run() ? "unchanged" : "changed";
+            } catch (IOException | ParseException | RuntimeException e) {
+                // The stale copy stays in use
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                refreshesInFlight.remove(key);
+                metrics.counter("nusdegs_revalidations_total", "Revalidations of stale module data, by outcome.",
+                        "result", result).increment();
+            }
+        });
     }
 
     /**
@@ -227,15 +474,15 @@ public class Api {
      * @param major              The major or program for which prerequisites are being flattened.
      * @param prerequisites      An ArrayList to store the flattened prerequisites.
      * @param modulePrereqArray  An ArrayList containing the module prerequisites to be processed.
-     * @param courseRequirements An ArrayList containing course requirements.
+     * @param courseRequirements The set of module codes required by the major.
      * @param currRequisite      The type of the current prerequisite (e.g., "and" or "or").
      *
      */
-    private static void flattenPrereq(
+    static void flattenPrereq(
             String major,
             ArrayList<String> prerequisites,
             ArrayList<Objects> modulePrereqArray,
-            ArrayList<String> courseRequirements,
+            Set<String> courseRequirements,
             String currRequisite) {
         try {
             for (Object module : modulePrereqArray) {
@@ -289,11 +536,13 @@ public class Api {
             Major.valueOf(major.toUpperCase());
         } catch (IllegalArgumentException e) {
             System.out.println("Invalid Major Provided");
+            return null;
         }
 
         //Modules that has prerequisites incorrectly identified by NUSMods
-        if (isModuleException(moduleCode)) {
-            return getExemptedPrerequisite(moduleCode);
+        List<String> overriddenPrereqs = PrereqOverrides.getDefault().getPrerequisites(moduleCode, major);
+        if (overriddenPrereqs != null) {
+            return new ArrayList<>(overriddenPrereqs);
         }
 
         JSONObject modulePrereqTree = getModulePrereqTree(moduleCode);
@@ -308,7 +557,7 @@ public class Api {
 
         ArrayList<Objects> initial = (ArrayList<Objects>) modulePrereqTree.get(key);
 
-        flattenPrereq(major, prerequisites, initial, getRequirements(major), key);
+        flattenPrereq(major, prerequisites, initial, getDegreeRequirements(major).getModuleCodeSet(), key);
 
         return prerequisites;
 
@@ -335,13 +584,27 @@ public class Api {
      */
     public static boolean satisfiesAllPrereq(String moduleCode, ModuleList completedModules)
             throws IllegalArgumentException {
+        return satisfiesAllPrereq(moduleCode, completedModules, NusModsDataSource.DEFAULT_ACADEMIC_YEAR);
+    }
+
+    /**
+     * Checks if a student satisfies all prerequisites for a given module, as they stood in the academic year the
+     * student takes it.
+     *
+     * @param moduleCode       The code of the module for which prerequisites need to be checked.
+     * @param completedModules The list of completed modules by the student.
+     * @param academicYear     The academic year the module is taken in, such as 2022-2023.
+     * @return `true` if the student satisfies all prerequisites for the module, `false` otherwise.
+     * @throws IllegalArgumentException If the module code is invalid.
+     */
+    public static boolean satisfiesAllPrereq(String moduleCode, ModuleList completedModules, String academicYear)
+            throws IllegalArgumentException {
 
         if (!doesModuleExist(moduleCode)) {
             throw new IllegalArgumentException("Invalid module code");
         }
 
-        JSONObject modulePrereqTree = getModulePrereqTree(moduleCode);
-
+        JSONObject modulePrereqTree = getEffectivePrereqTree(moduleCode, academicYear);
         if (modulePrereqTree == null) {
             return true;
         }
@@ -349,18 +612,58 @@ public class Api {
         String key = (String) modulePrereqTree.keySet().toArray()[0];
         ArrayList<Objects> initial = (ArrayList<Objects>) modulePrereqTree.get(key);
 
-        //Modules that has prerequisites incorrectly identified by NUSMods
-        if (isModuleException(moduleCode)) {
-            JSONObject exceptionPrereqTree = new JSONObject();
-            ArrayList<String> requirementList = getExemptedPrerequisite(moduleCode);
-            exceptionPrereqTree.put("and", requirementList);
+        return checkPrereq(initial, key, completedModules);
+
+    }
 
-            key = (String) exceptionPrereqTree.keySet().toArray()[0];
-            initial = (ArrayList<Objects>) exceptionPrereqTree.get(key);
+    /**
+     * Retrieves the prerequisite tree satisfiesAllPrereq checks a module against, with the corrections of
+     * PrereqOverrides applied.
+     */
+    static JSONObject getEffectivePrereqTree(String moduleCode, String academicYear) {
+        //Modules that has prerequisites incorrectly identified by NUSMods
+        String year = yearCatalogue.resolve(academicYear);
+        JSONObject modulePrereqTree = PrereqOverrides.forAcademicYear(year).getPrereqTree(moduleCode);
+        if (modulePrereqTree == null) {
+            modulePrereqTree = getModulePrereqTree(moduleCode, year);
         }
+        return modulePrereqTree;
+    }
 
-        return checkPrereq(initial, key, completedModules);
+    /**
+     * Lists every module named anywhere in the prerequisites of a module, as satisfiesAllPrereq reads them. Only
+     * these modules can change whether the module's prerequisites are satisfied.
+     *
+     * @param moduleCode   The code of the module.
+     * @param academicYear The academic year the module is taken in, such as 2022-2023.
+     * @return The codes of the modules named, which is empty if the module has no prerequisites.
+     * @throws IllegalArgumentException If the module code is invalid.
+     */
+    public static Set<String> getPrereqModuleCodes(String moduleCode, String academicYear)
+            throws IllegalArgumentException {
+        if (!doesModuleExist(moduleCode)) {
+            throw new IllegalArgumentException("Invalid module code");
+        }
+        Set<String> moduleCodes = new HashSet<>();
+        JSONObject modulePrereqTree = getEffectivePrereqTree(moduleCode, academicYear);
+        if (modulePrereqTree != null) {
+            collectPrereqModuleCodes(modulePrereqTree, moduleCodes);
+        }
+        return moduleCodes;
+    }
 
+    private static void collectPrereqModuleCodes(Object prereqBranch, Set<String> moduleCodes) {
+        if (prereqBranch instanceof String) {
+            moduleCodes.add(((String) prereqBranch).replace(":D", "").replace("%", ""));
+        } else if (prereqBranch instanceof List) {
+            for (Object branch : (List<?>) prereqBranch) {
+                collectPrereqModuleCodes(branch, moduleCodes);
+            }
+        } else if (prereqBranch instanceof Map) {
+            for (Object branch : ((Map<?, ?>) prereqBranch).values()) {
+                collectPrereqModuleCodes(branch, moduleCodes);
+            }
+        }
     }
 
     /**
@@ -371,7 +674,7 @@ public class Api {
      * @param completedModules  The list of completed modules by the student.
      * @return `true` if the student satisfies all prerequisites, `false` otherwise.
      */
-    private static boolean checkPrereq(
+    static boolean checkPrereq(
             ArrayList<Objects> modulePrereqArray,
             String currRequisite,
             ModuleList completedModules) {
@@ -443,25 +746,35 @@ public class Api {
     }
 
     /**
-     * Retrieves a list of modules from an external API and returns it as a JSONArray.
-     *
-     * @author rohitcube
-     * @return A JSONArray containing module information.
-     * @throws RuntimeException If there is an issue with the HTTP request or JSON parsing.
+     * Retrieves the code and title of every module from the module data source. The list is read as it is
+     * downloaded, keeping only those two fields, and is shared by every later call.
      *
+     * @return The catalogue of modules, or null if the list could not be parsed.
+     * @throws ModuleDataUnavailableException If the module data source could not be reached, and no copy of the
+     *     list was cached or saved in a snapshot.
      */
-    public static JSONArray listAllModules() {
+    public static ModuleCatalogue getModuleCatalogue() {
+        CacheEntry<ModuleCatalogue> cachedCatalogue = moduleListCache;
+        if (cachedCatalogue != null) {
+            moduleListCacheHits.increment();
+            if (cachedCatalogue.isStale()) {
+                revalidateModuleList(cachedCatalogue);
+            }
+            return cachedCatalogue.value;
+        }
+        moduleListCacheMisses.increment();
         try {
-            String url = "https://api.nusmods.com/v2/2023-2024/moduleList.json";
-            String responseBody = sendHttpRequestAndGetResponseBody(url);
-            JSONParser parser = new JSONParser();
-            return (JSONArray) parser.parse(responseBody);
-        } catch (URISyntaxException e) {
-            System.out.println("Sorry, there was an error with" +
-                    " the provided URL: " + e.getMessage());
-            throw new RuntimeException(e);
-        } catch (IOException | InterruptedException e) {
-            throw new RuntimeException(e);
+            countUpstreamRequest("moduleList");
+            try (ModuleResponse response = dataSource.openModuleList(null, null)) {
+                ModuleCatalogue catalogue = readModuleList(response);
+                moduleListCache = new CacheEntry<>(catalogue, response);
+                return catalogue;
+            }
+        } catch (IOException e) {
+            throw new ModuleDataUnavailableException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModuleDataUnavailableException(e);
         } catch (ParseException e) {
             //to be replaced with more robust error class in the future
             System.out.println("Sorry, the JSON object could not be parsed");
@@ -469,6 +782,20 @@ public class Api {
         return null;
     }
 
+    /**
+     * Retrieves a list of modules from the module data source and returns it as a JSONArray. Each call builds a
+     * new array from getModuleCatalogue, so code that only reads the list should use the catalogue instead.
+     *
+     * @author rohitcube
+     * @return A JSONArray of modules, each with a "moduleCode" and a "title".
+     * @throws RuntimeException If there is an issue with the HTTP request.
+     *
+     */
+    public static JSONArray listAllModules() {
+        ModuleCatalogue catalogue = getModuleCatalogue();
+        return catalogue == null ? null : catalogue.toJsonArray();
+    }
+
     /**
      * Searches for modules containing a specified keyword in their title within a given module list.
      *
@@ -519,27 +846,83 @@ public class Api {
                 System.out.println(workload);
             }
         } else if (command.equals("all")) {
-            JSONArray allModules = listAllModules();
+            ModuleCatalogue allModules = getModuleCatalogue();
             assert allModules != null;
-            ModuleInfoView.printJsonArray(allModules);
+            ModuleInfoView.printCatalogue(allModules);
         } else {
             System.out.println("man");
             UserError.invalidCommandforInfoCommand();
         }
     }
 
-    public static void searchCommand(String userInput) {
+    /**
+     * Searches for modules whose titles contain the keywords after the search command, and shows them.
+     *
+     * @param userInput The user input string containing the search command and keywords.
+     * @param renderer  How to show the modules found.
+     */
+    public static void searchCommand(String userInput, Renderer renderer) {
         if (!Parser.isValidKeywordInput(userInput)) {
             UserError.emptyKeywordforSearchCommand();
             return;
         }
         String keywords = userInput.substring(userInput.indexOf("search") + 6);
-        JSONArray modulesToPrint = Api.search(keywords, Api.listAllModules());
+        JSONArray modulesToPrint = Api.getModuleCatalogue().search(keywords);
         if (modulesToPrint.isEmpty()) {
             UserError.emptyArrayforSearchCommand();
             return;
         }
-        ModuleInfoView.searchHeader();
-        ModuleInfoView.printJsonArray(modulesToPrint);
+        try {
+            renderer.renderSearchHits(modulesToPrint);
+        } catch (IOException e) {
+            System.out.println("Unable to show the search results: " + e.getMessage());
+        }
+    }
+
+    private interface Revalidation {
+        /**
+         * Revalidates an entry and stores the result.
+         *
+         * @return true if the entry was unchanged.
+         */
+        boolean run() throws IOException, InterruptedException, ParseException;
+    }
+
+    /**
+     * A cached copy of module data, with the validators to revalidate it and when it was last known current.
+     */
+    private static class CacheEntry<T> {
+        private final T value;
+        private final String etag;
+        private final String lastModified;
+        private final long validatedAt;
+        private final boolean isPinned;
+
+        private CacheEntry(T value, String etag, String lastModified, long validatedAt, boolean isPinned) {
+            this.value = value;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.validatedAt = validatedAt;
+            this.isPinned = isPinned;
+        }
+
+        CacheEntry(T value, ModuleResponse response) {
+            this(value, response.getEtag(), response.getLastModified(), System.nanoTime(), false);
+        }
+
+        /**
+         * Constructs an entry for data that did not come from the data source, which is never revalidated.
+         */
+        static <T> CacheEntry<T> pinned(T value) {
+            return new CacheEntry<>(value, null, null, 0, true);
+        }
+
+        boolean isStale() {
+            return !isPinned && System.nanoTime() - validatedAt > maxAgeNanos;
+        }
+
+        CacheEntry<T> revalidated(ModuleResponse response) {
+            return new CacheEntry<>(value, response.getEtag(), response.getLastModified(), System.nanoTime(), false);
+        }
     }
 }
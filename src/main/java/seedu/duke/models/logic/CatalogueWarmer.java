@@ -0,0 +1,135 @@
+package seedu.duke.models.logic;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.duke.utils.ThreadOutputRouter;
+import seedu.duke.utils.metrics.MetricsRegistry;
+
+import static seedu.duke.models.logic.DataRepository.getRequirements;
+
+/**
+ * Fetches the module data a student of a major is about to need while they are still answering the questions at
+ * start-up: the details of every module their degree requires, the recommended schedule built from those modules'
+ * prerequisites, and the list of all modules. The work runs on background threads, so that the first command is
+ * answered from the caches instead of waiting on NUSMods. Failures are only counted; the command that needs the
+ * data fetches it again.
+ */
+public class CatalogueWarmer {
+    private static final int THREADS = 4;
+    private static final ExecutorService warmers = Executors.newFixedThreadPool(THREADS, task -> {
+        Thread thread = new Thread(task, "nusdegs-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile CatalogueWarmer latest;
+
+    static {
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.gauge("nusdegs_warmup_tasks", "Pieces of module data the latest warm-up set out to fetch.",
+                () -> latest == null ? 0 : latest.getTotalTasks());
+        metrics.gauge("nusdegs_warmup_tasks_completed", "Pieces of module data the latest warm-up has finished with.",
+                () -> latest == null ? 0 : latest.getCompletedTasks());
+    }
+
+    private final int totalTasks;
+    private final AtomicInteger completedTasks = new AtomicInteger();
+    private final AtomicInteger failedTasks = new AtomicInteger();
+    private final CompletableFuture<Void> done;
+
+    private CatalogueWarmer(String major) {
+        List<String> requirements = getRequirements(major);
+        totalTasks = requirements.size() + 2;
+
+        List<CompletableFuture<Void>> moduleTasks = new ArrayList<>();
+        for (String moduleCode : requirements) {
+            moduleTasks.add(CompletableFuture.runAsync(() -> runTask(() -> Api.getFullModuleInfo(moduleCode)),
+                    warmers));
+        }
+        // The schedule reads every required module, so it is built once they are all cached
+        CompletableFuture<Void> schedule = CompletableFuture.allOf(moduleTasks.toArray(new CompletableFuture<?>[0]))
+                .thenRunAsync(() -> runTask(() -> ScheduleGenerator.getRecommendedSchedule(major)), warmers);
+        CompletableFuture<Void> moduleList = CompletableFuture.runAsync(() -> runTask(Api::getModuleCatalogue),
+                warmers);
+        done = CompletableFuture.allOf(schedule, moduleList);
+    }
+
+    /**
+     * Starts warming the caches for a student of a major.
+     *
+     * @param major The student's major.
+     * @return The warm-up, for following its progress.
+     * @throws IllegalArgumentException If the major is unknown.
+     */
+    public static CatalogueWarmer start(String major) {
+        CatalogueWarmer warmer = new CatalogueWarmer(major);
+        latest = warmer;
+        return warmer;
+    }
+
+    /**
+     * Runs one piece of the warm-up with its output discarded, since it must not print over the prompts.
+     */
+    private void runTask(Runnable task) {
+        ThreadOutputRouter router = ThreadOutputRouter.install();
+        router.capture(OutputStream.nullOutputStream());
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            failedTasks.incrementAndGet();
+        } finally {
+            router.release();
+            completedTasks.incrementAndGet();
+        }
+    }
+
+    public int getTotalTasks() {
+        return totalTasks;
+    }
+
+    /**
+     * Counts the pieces of the warm-up that have finished, whether or not they succeeded.
+     *
+     * @return The number of finished pieces.
+     */
+    public int getCompletedTasks() {
+        return completedTasks.get();
+    }
+
+    public int getFailedTasks() {
+        return failedTasks.get();
+    }
+
+    public boolean isDone() {
+        return done.isDone();
+    }
+
+    /**
+     * Waits for the warm-up to finish.
+     *
+     * @param timeout The longest time to wait.
+     * @return true if the warm-up finished in time.
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public boolean await(Duration timeout) throws InterruptedException {
+        try {
+            done.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            // Tasks catch their own failures, so the warm-up itself cannot fail
+            return true;
+        }
+    }
+}
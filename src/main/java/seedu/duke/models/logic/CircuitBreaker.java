@@ -0,0 +1,94 @@
+package seedu.duke.models.logic;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops requests to a failing service for a while, so that callers fail at once instead of each waiting for the
+ * service to time out. After a number of failures in a row the breaker opens and refuses every request. Once the
+ * open time has passed it lets a single trial request through: if that succeeds the breaker closes, and if it fails
+ * the breaker opens again.
+ */
+public class CircuitBreaker {
+    /**
+     * The states of a breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean isTrialInFlight;
+
+    /**
+     * Constructs a closed breaker.
+     *
+     * @param failureThreshold The number of failures in a row that opens the breaker.
+     * @param openTime         How long the breaker stays open before letting a trial request through.
+     */
+    public CircuitBreaker(int failureThreshold, Duration openTime) {
+        this(failureThreshold, openTime, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openTime, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be at least 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openTime.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Asks to send a request. A caller that is allowed must report the outcome with recordSuccess or
+     * recordFailure.
+     *
+     * @return true if the request may be sent.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+        case CLOSED:
+            return true;
+        case OPEN:
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            isTrialInFlight = true;
+            return true;
+        case HALF_OPEN:
+            if (isTrialInFlight) {
+                return false;
+            }
+            isTrialInFlight = true;
+            return true;
+        default:
+            throw new IllegalStateException("Unknown state " + state);
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        isTrialInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        isTrialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -1,15 +1,31 @@
 package seedu.duke.models.logic;
 
 
+import seedu.duke.models.schema.ChoiceGroup;
+import seedu.duke.models.schema.DegreeRequirements;
 import seedu.duke.models.schema.Major;
+import seedu.duke.models.schema.RequiredModule;
+import seedu.duke.models.schema.RequirementBucket;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Scanner;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DataRepository {
+    private static final String REQUIREMENTS_RESOURCE = "/seedu/duke/models/data/%sRequirements";
+    private static final String TOP_LEVEL = "-";
+    private static final String ANY_MODULE = "*";
+
+    private static final Map<String, DegreeRequirements> requirementsCache = new ConcurrentHashMap<>();
 
     /**
      * Retrieves a list of modules requirements for a specified major.
@@ -17,85 +33,168 @@ public class DataRepository {
      * @author ryanlohyr
      * @param major The major for which to retrieve requirements.
      * @return An ArrayList of module codes.
-     * @throws RuntimeException If the specified major requirements file is not found.
+     * @throws IllegalArgumentException If there are no requirements packaged for the specified major.
      */
     public static ArrayList<String> getRequirements(String major) {
-        try {
-            String fileName = String.format("src/main/java/seedu/duke/models/data/%sRequirementsModuleCodes", major);
-            File f = new File(fileName);
-            if (!f.exists()) {
-                String[] courseArray = determineRequirements(major);
+        return new ArrayList<>(getDegreeRequirements(major).getModuleCodes());
+    }
 
-                return new ArrayList<>(Arrays.asList(courseArray));
-            }
-            return processCourseFile(f);
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException(e);
+    /**
+     * Retrieves the parsed requirements of a major. The requirements file is read from the classpath the first
+     * time a major is requested and the result is shared by every later call.
+     *
+     * @param major The major for which to retrieve requirements.
+     * @return The requirements of the major.
+     * @throws IllegalArgumentException If there are no requirements packaged for the specified major.
+     */
+    public static DegreeRequirements getDegreeRequirements(String major) {
+        if (major == null) {
+            throw new IllegalArgumentException("Major has not been provided yet.");
         }
+        return requirementsCache.computeIfAbsent(major.toUpperCase(), DataRepository::loadRequirements);
     }
 
     /**
-     * Processes a course file, extracts relevant information, and returns a list of course codes.
+     * Checks if a module is listed in the requirements of a major.
      *
-     * @param f The file to be processed.
-     * @return An ArrayList of course codes extracted from the file.
-     * @throws FileNotFoundException If the specified file is not found.
+     * @param major      The major to check against.
+     * @param moduleCode The module code to check.
+     * @return true if the module is required by the major.
      */
-    private static ArrayList<String> processCourseFile(File f) throws FileNotFoundException {
-        ArrayList<String> currentArray = new ArrayList<>();
-        Scanner s = new Scanner(f);
-        while (s.hasNext()) {
-            String currentLine = s.nextLine();
-
-            String[] words = currentLine.split(" ");
+    public static boolean isRequiredModule(String major, String moduleCode) {
+        return getDegreeRequirements(major).isRequired(moduleCode);
+    }
 
-            if (!currentLine.isEmpty() && !currentLine.startsWith("*")) { // not empty line, not title
-                currentArray.add(words[0]);
-            }
+    private static DegreeRequirements loadRequirements(String major) {
+        String resourceName = String.format(REQUIREMENTS_RESOURCE, major);
+        InputStream in = DataRepository.class.getResourceAsStream(resourceName);
+        if (in == null) {
+            throw new IllegalArgumentException("Invalid Major Provided");
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return parseRequirements(major, reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return currentArray;
     }
 
     /**
-     * Determines the course requirements based on the specified major. Function is used if file is not found
+     * Parses a requirements file. See the comment at the top of the packaged files for the line format.
      *
-     * @param major A string representing the major (e.g., "CEG" for Computer Engineering, "CS" for Computer Science).
-     * @return An array of strings containing the course requirements for the specified major.
+     * @param major  The major the file belongs to.
+     * @param reader The contents of the file.
+     * @return The requirements described by the file.
+     * @throws IOException If the file could not be read.
+     * @throws IllegalStateException If a line is malformed or refers to an unknown bucket.
      */
-    private static String[] determineRequirements(String major) {
-        String[] courseArray;
-
-        String[] csCourseArray = {
-            "CS1101S", "ES2660", "GEC1000", "GEA1000", "GESS1000",
-            "GEN2000", "IS1108", "CS1231S", "CS2030S", "CS2040S",
-            "CS2100", "CS2101", "CS2103T", "CS2106", "CS2109S",
-            "CS3230", "MA1521", "MA1522", "ST2334", "CP3880"
-        };
-        String[] cegCourseArray = {
-            "CG1111A", "MA1511", "MA1512", "CS1010", "GESS1000",
-            "GEC1000", "GEN2000", "ES2631", "GEA1000", "DTK1234",
-            "EG1311", "IE2141", "EE2211", "EG2501", "CDE2000",
-            "PF1101", "CG4002", "MA1508E", "EG2401A", "CP3880",
-            "CG2111A", "CS1231", "CG2023", "CG2027", "CG2028",
-            "CG2271", "ST2334", "CS2040C", "CS2113", "EE2026", "EE4204"
-        };
-
-        if(major.equals("CEG")){
-            courseArray = cegCourseArray;
-        }else{
-            courseArray = csCourseArray;
+    static DegreeRequirements parseRequirements(String major, BufferedReader reader) throws IOException {
+        String title = major;
+        // bucket id -> {parent id, units, title}, in file order
+        Map<String, String[]> bucketLines = new LinkedHashMap<>();
+        List<RequiredModule> modules = new ArrayList<>();
+        List<ChoiceGroup> choiceGroups = new ArrayList<>();
+        Map<String, List<String>> electivePrefixes = new LinkedHashMap<>();
+
+        String currentLine;
+        while ((currentLine = reader.readLine()) != null) {
+            currentLine = currentLine.trim();
+            if (currentLine.isEmpty() || currentLine.startsWith("#")) {
+                continue;
+            }
+            String[] fields = currentLine.split("\\|");
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+            switch (fields[0]) {
+            case "title":
+                title = fields[1];
+                break;
+            case "bucket":
+                checkFieldCount(fields, 5, currentLine);
+                bucketLines.put(fields[1], new String[]{fields[2], fields[3], fields[4]});
+                break;
+            case "module":
+                checkFieldCount(fields, 5, currentLine);
+                checkBucketDeclared(bucketLines, fields[2], currentLine);
+                String[] codes = fields[1].split("/");
+                List<String> alternatives = new ArrayList<>(Arrays.asList(codes).subList(1, codes.length));
+                modules.add(new RequiredModule(codes[0], alternatives, fields[2],
+                        Integer.parseInt(fields[3]), fields[4]));
+                break;
+            case "choose":
+                checkFieldCount(fields, 6, currentLine);
+                checkBucketDeclared(bucketLines, fields[1], currentLine);
+                choiceGroups.add(new ChoiceGroup(fields[1], Integer.parseInt(fields[2]), Integer.parseInt(fields[3]),
+                        Arrays.asList(fields[4].split("/")), fields[5]));
+                break;
+            case "elective":
+                checkFieldCount(fields, 3, currentLine);
+                checkBucketDeclared(bucketLines, fields[1], currentLine);
+                List<String> prefixes = electivePrefixes.computeIfAbsent(fields[1], id -> new ArrayList<>());
+                for (String prefix : fields[2].split(",")) {
+                    prefixes.add(prefix.trim().equals(ANY_MODULE) ? "" : prefix.trim());
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown line in requirements: " + currentLine);
+            }
+        }
+
+        List<RequirementBucket> buckets = new ArrayList<>();
+        for (Map.Entry<String, String[]> entry : bucketLines.entrySet()) {
+            if (entry.getValue()[0].equals(TOP_LEVEL)) {
+                buckets.add(buildBucket(entry.getKey(), bucketLines, modules, choiceGroups, electivePrefixes));
+            }
+        }
+        return new DegreeRequirements(major, title, buckets, modules, choiceGroups);
+    }
+
+    private static RequirementBucket buildBucket(String id, Map<String, String[]> bucketLines,
+                                                 List<RequiredModule> modules, List<ChoiceGroup> choiceGroups,
+                                                 Map<String, List<String>> electivePrefixes) {
+        List<RequirementBucket> subBuckets = new ArrayList<>();
+        for (Map.Entry<String, String[]> entry : bucketLines.entrySet()) {
+            if (entry.getValue()[0].equals(id)) {
+                subBuckets.add(buildBucket(entry.getKey(), bucketLines, modules, choiceGroups, electivePrefixes));
+            }
+        }
+        List<RequiredModule> bucketModules = new ArrayList<>();
+        for (RequiredModule module : modules) {
+            if (module.getBucketId().equals(id)) {
+                bucketModules.add(module);
+            }
+        }
+        List<ChoiceGroup> bucketChoiceGroups = new ArrayList<>();
+        for (ChoiceGroup choiceGroup : choiceGroups) {
+            if (choiceGroup.getBucketId().equals(id)) {
+                bucketChoiceGroups.add(choiceGroup);
+            }
+        }
+        String[] bucketLine = bucketLines.get(id);
+        return new RequirementBucket(id, bucketLine[2], Integer.parseInt(bucketLine[1]), subBuckets, bucketModules,
+                bucketChoiceGroups, electivePrefixes.getOrDefault(id, new ArrayList<>()));
+    }
+
+    private static void checkBucketDeclared(Map<String, String[]> bucketLines, String id, String line) {
+        if (!bucketLines.containsKey(id)) {
+            throw new IllegalStateException("Unknown bucket in requirements: " + line);
+        }
+    }
+
+    private static void checkFieldCount(String[] fields, int expected, String line) {
+        if (fields.length != expected) {
+            throw new IllegalStateException("Malformed line in requirements: " + line);
         }
-        return courseArray;
     }
 
     /**
-     * Returns the file path for the requirements of a specified major.
+     * Returns the classpath resource holding the requirements of a specified major.
      *
-     * @param major The major for which to retrieve the requirements file path.
-     * @return The file path to the major's requirements file.
+     * @param major The major for which to retrieve the requirements resource.
+     * @return The classpath resource name of the major's requirements file.
      */
     public static String getFullRequirements(Major major) {
-        return String.format("src/main/java/seedu/duke/models/data/%sRequirements", major.toString());
+        return String.format(REQUIREMENTS_RESOURCE, major.toString());
     }
 
 }
@@ -0,0 +1,308 @@
+package seedu.duke.models.logic;
+
+import seedu.duke.models.schema.ChoiceGroup;
+import seedu.duke.models.schema.DegreeRequirements;
+import seedu.duke.models.schema.RequiredModule;
+import seedu.duke.models.schema.RequirementBucket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The `DegreeAudit` class evaluates a student's plan against the requirements of their major.
+ * Every module added, completed or removed updates the cached unit totals of the bucket it counts towards and of
+ * all enclosing buckets, so progress and the modules left can be read without re-scanning the plan.
+ */
+public class DegreeAudit {
+    private static final int NO_BUCKET = -1;
+
+    private final DegreeRequirements requirements;
+    private final List<RequirementBucket> buckets;
+    private final Map<String, Integer> bucketIndexes;
+    private final int[] parentIndexes;
+    private final int[] plannedCredits;
+    private final int[] completedCredits;
+
+    private final Map<String, AuditEntry> entries;
+    private final Map<RequiredModule, String> requirementsFulfilled;
+    private final Map<ChoiceGroup, Integer> choicesTaken;
+    private final Set<String> moduleCodesLeft;
+
+    /**
+     * Constructs an audit of an empty plan.
+     *
+     * @param requirements The requirements of the student's major.
+     */
+    public DegreeAudit(DegreeRequirements requirements) {
+        this.requirements = requirements;
+        this.buckets = requirements.getAllBuckets();
+        this.bucketIndexes = new HashMap<>();
+        this.parentIndexes = new int[buckets.size()];
+        this.plannedCredits = new int[buckets.size()];
+        this.completedCredits = new int[buckets.size()];
+
+        for (int i = 0; i < buckets.size(); i++) {
+            bucketIndexes.put(buckets.get(i).getId(), i);
+            parentIndexes[i] = NO_BUCKET;
+        }
+        for (int i = 0; i < buckets.size(); i++) {
+            for (RequirementBucket subBucket : buckets.get(i).getSubBuckets()) {
+                parentIndexes[bucketIndexes.get(subBucket.getId())] = i;
+            }
+        }
+
+        // Kept in the order modules were planned, so that a freed requirement goes to the earliest module fitting it
+        this.entries = new LinkedHashMap<>();
+        this.requirementsFulfilled = new HashMap<>();
+        this.choicesTaken = new HashMap<>();
+        this.moduleCodesLeft = new LinkedHashSet<>(requirements.getModuleCodes());
+    }
+
+    public DegreeRequirements getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Adds a module to the audited plan and counts its units towards the first bucket it fits in.
+     * Required modules and their alternatives fill their own requirement, then "choose N of" groups are filled,
+     * and any other module overflows into the first elective bucket that accepts it and still has room.
+     *
+     * @param moduleCode    The code of the module planned.
+     * @param moduleCredits The number of units the module is worth.
+     */
+    public void planModule(String moduleCode, int moduleCredits) {
+        if (entries.containsKey(moduleCode)) {
+            return;
+        }
+        AuditEntry entry = new AuditEntry(moduleCredits);
+
+        RequiredModule requiredModule = requirements.getRequirementFulfilledBy(moduleCode);
+        ChoiceGroup choiceGroup = requirements.getChoiceGroupFor(moduleCode);
+        if (requiredModule != null && !requirementsFulfilled.containsKey(requiredModule)) {
+            requirementsFulfilled.put(requiredModule, moduleCode);
+            entry.requiredModule = requiredModule;
+            entry.bucketIndex = bucketIndexes.get(requiredModule.getBucketId());
+        } else if (choiceGroup != null
+                && choicesTaken.getOrDefault(choiceGroup, 0) < choiceGroup.getNumberToChoose()) {
+            choicesTaken.merge(choiceGroup, 1, Integer::sum);
+            entry.choiceGroup = choiceGroup;
+            entry.bucketIndex = bucketIndexes.get(choiceGroup.getBucketId());
+        } else {
+            entry.bucketIndex = findElectiveBucket(moduleCode);
+        }
+
+        entries.put(moduleCode, entry);
+        addCredits(plannedCredits, entry.bucketIndex, moduleCredits);
+    }
+
+    /**
+     * Marks a planned module as completed. Completing a module that has not been planned plans it first.
+     *
+     * @param moduleCode    The code of the module completed.
+     * @param moduleCredits The number of units the module is worth, used only if it has not been planned.
+     */
+    public void completeModule(String moduleCode, int moduleCredits) {
+        planModule(moduleCode, moduleCredits);
+        AuditEntry entry = entries.get(moduleCode);
+        if (entry.isCompleted) {
+            return;
+        }
+        entry.isCompleted = true;
+        addCredits(completedCredits, entry.bucketIndex, entry.moduleCredits);
+        if (entry.requiredModule != null) {
+            moduleCodesLeft.remove(entry.requiredModule.getModuleCode());
+        }
+    }
+
+    /**
+     * Removes a module from the audited plan, freeing the requirement or bucket space it used. A requirement or
+     * choice it fulfilled is handed to another planned module that fits it, if there is one, so the audit does not
+     * depend on the order modules were planned in.
+     *
+     * @param moduleCode The code of the module removed.
+     */
+    public void removeModule(String moduleCode) {
+        AuditEntry entry = entries.remove(moduleCode);
+        if (entry == null) {
+            return;
+        }
+        addCredits(plannedCredits, entry.bucketIndex, -entry.moduleCredits);
+        if (entry.isCompleted) {
+            addCredits(completedCredits, entry.bucketIndex, -entry.moduleCredits);
+        }
+        if (entry.requiredModule != null) {
+            requirementsFulfilled.remove(entry.requiredModule);
+            if (entry.isCompleted) {
+                restoreModuleLeft(entry.requiredModule.getModuleCode());
+            }
+            reassignRequirement(entry.requiredModule);
+        }
+        if (entry.choiceGroup != null) {
+            choicesTaken.merge(entry.choiceGroup, -1, Integer::sum);
+            reassignChoice(entry.choiceGroup);
+        }
+    }
+
+    /**
+     * Hands a requirement no module fulfils to a planned module that fulfils it but was counted as a choice or an
+     * elective, moving its units to the requirement's bucket.
+     */
+    private void reassignRequirement(RequiredModule requiredModule) {
+        for (Map.Entry<String, AuditEntry> planned : entries.entrySet()) {
+            AuditEntry entry = planned.getValue();
+            if (entry.requiredModule != null || !requiredModule.isSatisfiedBy(planned.getKey())) {
+                continue;
+            }
+            ChoiceGroup freedChoice = entry.choiceGroup;
+            requirementsFulfilled.put(requiredModule, planned.getKey());
+            entry.requiredModule = requiredModule;
+            entry.choiceGroup = null;
+            moveCredits(entry, bucketIndexes.get(requiredModule.getBucketId()));
+            if (entry.isCompleted) {
+                moduleCodesLeft.remove(requiredModule.getModuleCode());
+            }
+            if (freedChoice != null) {
+                choicesTaken.merge(freedChoice, -1, Integer::sum);
+                reassignChoice(freedChoice);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Hands a choice no module fills to a planned module listed in the group that was counted as an elective,
+     * moving its units to the group's bucket.
+     */
+    private void reassignChoice(ChoiceGroup choiceGroup) {
+        for (Map.Entry<String, AuditEntry> planned : entries.entrySet()) {
+            AuditEntry entry = planned.getValue();
+            if (entry.requiredModule != null || entry.choiceGroup != null
+                    || requirements.getChoiceGroupFor(planned.getKey()) != choiceGroup) {
+                continue;
+            }
+            choicesTaken.merge(choiceGroup, 1, Integer::sum);
+            entry.choiceGroup = choiceGroup;
+            moveCredits(entry, bucketIndexes.get(choiceGroup.getBucketId()));
+            return;
+        }
+    }
+
+    private void moveCredits(AuditEntry entry, int bucketIndex) {
+        addCredits(plannedCredits, entry.bucketIndex, -entry.moduleCredits);
+        addCredits(plannedCredits, bucketIndex, entry.moduleCredits);
+        if (entry.isCompleted) {
+            addCredits(completedCredits, entry.bucketIndex, -entry.moduleCredits);
+            addCredits(completedCredits, bucketIndex, entry.moduleCredits);
+        }
+        entry.bucketIndex = bucketIndex;
+    }
+
+    /**
+     * Retrieves the required modules that have not been completed, in planning order.
+     *
+     * @return An unmodifiable view of the module codes left.
+     */
+    public Set<String> getModuleCodesLeft() {
+        return Collections.unmodifiableSet(moduleCodesLeft);
+    }
+
+    public int getPlannedCredits(String bucketId) {
+        return plannedCredits[bucketIndexes.get(bucketId)];
+    }
+
+    public int getCompletedCredits(String bucketId) {
+        return completedCredits[bucketIndexes.get(bucketId)];
+    }
+
+    /**
+     * Checks if a planned module has been completed.
+     *
+     * @param moduleCode The module code to check.
+     * @return true if the module is in the plan and has been completed.
+     */
+    public boolean isCompleted(String moduleCode) {
+        AuditEntry entry = entries.get(moduleCode);
+        return entry != null && entry.isCompleted;
+    }
+
+    /**
+     * Checks if a module is in the audited plan.
+     *
+     * @param moduleCode The module code to check.
+     * @return true if the module has been planned.
+     */
+    public boolean isPlanned(String moduleCode) {
+        return entries.containsKey(moduleCode);
+    }
+
+    /**
+     * Finds the module fulfilling a required module, which may be one of its alternatives.
+     *
+     * @param requiredModule The requirement to check.
+     * @return The code of the planned module fulfilling it, or null if it is unfulfilled.
+     */
+    public String getModuleFulfilling(RequiredModule requiredModule) {
+        return requirementsFulfilled.get(requiredModule);
+    }
+
+    /**
+     * Retrieves the planned modules counted towards a choice group.
+     *
+     * @param choiceGroup The choice group to check.
+     * @return The number of listed modules planned.
+     */
+    public int getChoicesTaken(ChoiceGroup choiceGroup) {
+        return choicesTaken.getOrDefault(choiceGroup, 0);
+    }
+
+    private int findElectiveBucket(String moduleCode) {
+        List<Integer> accepting = new ArrayList<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            if (buckets.get(i).acceptsElective(moduleCode)) {
+                accepting.add(i);
+            }
+        }
+        for (int bucketIndex : accepting) {
+            if (plannedCredits[bucketIndex] < buckets.get(bucketIndex).getRequiredCredits()) {
+                return bucketIndex;
+            }
+        }
+        return accepting.isEmpty() ? NO_BUCKET : accepting.get(accepting.size() - 1);
+    }
+
+    private void restoreModuleLeft(String moduleCode) {
+        // Rebuild to keep planning order; this only happens when a completed requirement is removed
+        List<String> remaining = new ArrayList<>();
+        for (String code : requirements.getModuleCodes()) {
+            if (code.equals(moduleCode) || moduleCodesLeft.contains(code)) {
+                remaining.add(code);
+            }
+        }
+        moduleCodesLeft.clear();
+        moduleCodesLeft.addAll(remaining);
+    }
+
+    private void addCredits(int[] totals, int bucketIndex, int credits) {
+        for (int i = bucketIndex; i != NO_BUCKET; i = parentIndexes[i]) {
+            totals[i] += credits;
+        }
+    }
+
+    private static class AuditEntry {
+        private final int moduleCredits;
+        private int bucketIndex = NO_BUCKET;
+        private boolean isCompleted;
+        private RequiredModule requiredModule;
+        private ChoiceGroup choiceGroup;
+
+        AuditEntry(int moduleCredits) {
+            this.moduleCredits = moduleCredits;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package seedu.duke.models.logic;
+
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.storage.PlanStore;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * The `DemandForecast` class counts, for every module, how many students plan to take it in each semester of their
+ * degree, across every plan in a plan store. Modules already completed are not counted, as they need no seat.
+ * <p>
+ * The store is read once. Its records are handed out in batches to a fork-join pool, where each batch is split
+ * until small enough to count directly. Each module code is interned to a small integer id, so a count is a
+ * single int array indexed by id and semester; the arrays of the split tasks are summed as they are joined.
+ * Only a few batches are counted at a time: once too many are in flight, the reader waits for the oldest and adds
+ * its counts to the total, so the batches read are let go of as the store is read instead of being held to the end.
+ */
+public class DemandForecast {
+    static final int BATCH_SIZE = 4096;
+    static final int RECORDS_PER_TASK = 512;
+    static final int BATCHES_IN_FLIGHT_PER_THREAD = 2;
+
+    private static final int SEMESTERS = Schedule.getMaximumSemesters();
+
+    private final List<String> moduleCodes;
+    private final Map<String, Integer> moduleIds;
+    private final int[] demand;
+    private final int planCount;
+
+    private DemandForecast(List<String> moduleCodes, int[] demand, int planCount) {
+        this.moduleCodes = moduleCodes;
+        this.moduleIds = new HashMap<>();
+        for (int id = 0; id < moduleCodes.size(); id++) {
+            moduleIds.put(moduleCodes.get(id), id);
+        }
+        this.demand = demand;
+        this.planCount = planCount;
+    }
+
+    /**
+     * Counts the demand for every module planned in a store.
+     *
+     * @param store       The store holding the plans.
+     * @param parallelism The number of threads to count on.
+     * @return The demand of every module.
+     * @throws IOException If the plans could not be read.
+     * @throws IllegalArgumentException If a stored plan is malformed.
+     */
+    public static DemandForecast compute(PlanStore store, int parallelism) throws IOException {
+        ModuleIds moduleIds = new ModuleIds();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            BatchSubmitter submitter = new BatchSubmitter(pool, moduleIds, parallelism * BATCHES_IN_FLIGHT_PER_THREAD);
+            store.forEachRecordLine(submitter);
+            submitter.submitBatch();
+            int[] demand = submitter.joinAll();
+            return new DemandForecast(moduleIds.getModuleCodes(), demand, submitter.planCount);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IOException("Demand forecast failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Retrieves the modules planned by at least one student.
+     *
+     * @return The module codes, sorted.
+     */
+    public List<String> getModuleCodes() {
+        List<String> sortedCodes = new ArrayList<>(moduleCodes);
+        Collections.sort(sortedCodes);
+        return sortedCodes;
+    }
+
+    /**
+     * Retrieves the number of students planning to take a module in each semester.
+     *
+     * @param moduleCode The module code.
+     * @return An array holding the number of students for semesters 1 to 8, in order.
+     */
+    public int[] getDemand(String moduleCode) {
+        int[] semesterDemand = new int[SEMESTERS];
+        Integer id = moduleIds.get(moduleCode);
+        if (id != null && (id + 1) * SEMESTERS <= demand.length) {
+            System.arraycopy(demand, id * SEMESTERS, semesterDemand, 0, SEMESTERS);
+        }
+        return semesterDemand;
+    }
+
+    /**
+     * Retrieves the number of students planning to take a module in any semester.
+     *
+     * @param moduleCode The module code.
+     * @return The number of students.
+     */
+    public int getTotalDemand(String moduleCode) {
+        int total = 0;
+        for (int semesterDemand : getDemand(moduleCode)) {
+            total += semesterDemand;
+        }
+        return total;
+    }
+
+    public int getPlanCount() {
+        return planCount;
+    }
+
+    private static int[] sum(int[] first, int[] second) {
+        int[] larger = first.length >= second.length ? first : second;
+        int[] smaller = larger == first ? second : first;
+        for (int i = 0; i < smaller.length; i++) {
+            larger[i] += smaller[i];
+        }
+        return larger;
+    }
+
+    /**
+     * Collects plan records into batches as the store is read, submitting each full batch to be counted and adding
+     * up the counts of the oldest batches whenever too many are in flight.
+     */
+    private static class BatchSubmitter implements Consumer<String> {
+        private final ForkJoinPool pool;
+        private final ModuleIds moduleIds;
+        private final int maxInFlight;
+        private final Deque<ForkJoinTask<int[]>> inFlight = new ArrayDeque<>();
+        private List<String> batch = new ArrayList<>(BATCH_SIZE);
+        private int[] demand = new int[0];
+        private int planCount;
+
+        BatchSubmitter(ForkJoinPool pool, ModuleIds moduleIds, int maxInFlight) {
+            this.pool = pool;
+            this.moduleIds = moduleIds;
+            this.maxInFlight = Math.max(1, maxInFlight);
+        }
+
+        @Override
+        public void accept(String line) {
+            batch.add(line);
+            planCount++;
+            if (batch.size() == BATCH_SIZE) {
+                submitBatch();
+            }
+        }
+
+        void submitBatch() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            inFlight.addLast(pool.submit(new CountTask(batch, 0, batch.size(), moduleIds)));
+            batch = new ArrayList<>(BATCH_SIZE);
+            while (inFlight.size() > maxInFlight) {
+                joinOldest();
+            }
+        }
+
+        /**
+         * Waits for every batch still in flight.
+         *
+         * @return The demand counted across every batch.
+         */
+        int[] joinAll() {
+            while (!inFlight.isEmpty()) {
+                joinOldest();
+            }
+            return demand;
+        }
+
+        private void joinOldest() {
+            // Dropping the task once joined lets go of its batch of lines
+            demand = sum(demand, inFlight.removeFirst().join());
+        }
+    }
+
+    /**
+     * Counts the demand in a range of plan records, splitting the range in two until it is small enough.
+     */
+    private static class CountTask extends RecursiveTask<int[]> {
+        private final List<String> lines;
+        private final int start;
+        private final int end;
+        private final ModuleIds moduleIds;
+
+        CountTask(List<String> lines, int start, int end, ModuleIds moduleIds) {
+            this.lines = lines;
+            this.start = start;
+            this.end = end;
+            this.moduleIds = moduleIds;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (end - start > RECORDS_PER_TASK) {
+                int middle = (start + end) >>> 1;
+                CountTask left = new CountTask(lines, start, middle, moduleIds);
+                left.fork();
+                int[] right = new CountTask(lines, middle, end, moduleIds).compute();
+                return sum(left.join(), right);
+            }
+            int[] counts = new int[moduleIds.size() * SEMESTERS];
+            for (int i = start; i < end; i++) {
+                counts = countRecord(lines.get(i), counts);
+            }
+            return counts;
+        }
+
+        /**
+         * Counts the modules of one record, reading the module list of the PlanRecord line format in place:
+         * "name|major|year|CODE:SEMESTER:UNITS:c,CODE:SEMESTER:UNITS:p".
+         */
+        private int[] countRecord(String line, int[] counts) {
+            int modulesStart = line.indexOf('|', line.indexOf('|', line.indexOf('|') + 1) + 1) + 1;
+            if (modulesStart == 0) {
+                throw new IllegalArgumentException("Malformed plan record: " + line);
+            }
+            int position = modulesStart;
+            while (position < line.length()) {
+                int moduleEnd = line.indexOf(',', position);
+                if (moduleEnd == -1) {
+                    moduleEnd = line.length();
+                }
+                int codeEnd = line.indexOf(':', position);
+                int semesterEnd = codeEnd == -1 ? -1 : line.indexOf(':', codeEnd + 1);
+                int creditsEnd = semesterEnd == -1 ? -1 : line.indexOf(':', semesterEnd + 1);
+                if (creditsEnd == -1 || creditsEnd >= moduleEnd) {
+                    throw new IllegalArgumentException("Malformed plan record: " + line);
+                }
+                boolean isCompleted = line.charAt(creditsEnd + 1) == 'c';
+                if (!isCompleted) {
+                    int semester = parseSemester(line, codeEnd + 1, semesterEnd);
+                    int id = moduleIds.idOf(line.substring(position, codeEnd));
+                    int index = id * SEMESTERS + semester - 1;
+                    if (index >= counts.length) {
+                        // Grow by whole rows, so every id below the length has all its semesters
+                        int[] grown = new int[Math.max((id + 1) * SEMESTERS, counts.length * 2)];
+                        System.arraycopy(counts, 0, grown, 0, counts.length);
+                        counts = grown;
+                    }
+                    counts[index]++;
+                }
+                position = moduleEnd + 1;
+            }
+            return counts;
+        }
+
+        private static int parseSemester(String line, int start, int end) {
+            int semester = 0;
+            for (int i = start; i < end; i++) {
+                int digit = line.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new IllegalArgumentException("Malformed plan record: " + line);
+                }
+                semester = semester * 10 + digit;
+            }
+            if (semester < 1 || semester > SEMESTERS) {
+                throw new IllegalArgumentException("Malformed plan record: " + line);
+            }
+            return semester;
+        }
+    }
+
+    /**
+     * Interns module codes to consecutive integer ids, shared by every counting task.
+     */
+    private static class ModuleIds {
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final List<String> moduleCodes = new ArrayList<>();
+
+        int idOf(String moduleCode) {
+            Integer id = ids.get(moduleCode);
+            if (id != null) {
+                return id;
+            }
+            synchronized (this) {
+                return ids.computeIfAbsent(moduleCode, code -> {
+                    moduleCodes.add(code);
+                    return moduleCodes.size() - 1;
+                });
+            }
+        }
+
+        synchronized int size() {
+            return moduleCodes.size();
+        }
+
+        synchronized List<String> getModuleCodes() {
+            return new ArrayList<>(moduleCodes);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.duke.models.logic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads module data from a directory laid out like NUSMods, such as one saved by RecordingDataSource: module
+ * details from modules/CODE.json and the module list from moduleList.json. Such a directory only holds the modules
+ * that were saved, so a module missing from it is not taken to be unknown; reading it throws NoSuchFileException.
+ */
+public class DirectoryDataSource implements ModuleDataSource {
+    private final Path directory;
+
+    /**
+     * Constructs a source reading from a directory.
+     *
+     * @param directory The directory that modules/ and moduleList.json are found in.
+     */
+    public DirectoryDataSource(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieves a source reading another academic year, saved in a directory of that name inside this one.
+     *
+     * @param academicYear The academic year, such as 2022-2023.
+     * @return The source for that year.
+     */
+    @Override
+    public ModuleDataSource forAcademicYear(String academicYear) {
+        if (!AcademicYear.isValid(academicYear)) {
+            return null;
+        }
+        return new DirectoryDataSource(directory.resolve(academicYear));
+    }
+
+    @Override
+    public String fetchModuleInfo(String moduleCode) throws IOException {
+        return Files.readString(moduleInfoFile(moduleCode), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String fetchModuleList() throws IOException {
+        return Files.readString(moduleListFile(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openModuleInfo(String moduleCode) throws IOException {
+        return Files.newInputStream(moduleInfoFile(moduleCode));
+    }
+
+    @Override
+    public InputStream openModuleList() throws IOException {
+        return Files.newInputStream(moduleListFile());
+    }
+
+    private Path moduleInfoFile(String moduleCode) {
+        return directory.resolve("modules").resolve(moduleCode + ".json");
+    }
+
+    private Path moduleListFile() {
+        return directory.resolve("moduleList.json");
+    }
+}
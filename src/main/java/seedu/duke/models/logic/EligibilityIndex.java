@@ -0,0 +1,295 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the modules a student can take from an inverted index of prerequisites. The prerequisite tree of each
+ * module is compiled once into nodes that count the requirements they still need: a module named in the tree needs
+ * itself, an "and" needs all of its branches and an "or" one of them. Each module named in any tree points to the
+ * nodes naming it. Taking a module satisfies those nodes, and a node that needs nothing more satisfies its parent in
+ * turn, so a module becomes eligible the moment the root of its tree does. Working out what a student can take then
+ * costs time in proportion to the places their modules are named, instead of a prerequisite check per module.
+ *
+ * <p>Trees are read as satisfiesAllPrereq reads them, with the corrections of PrereqOverrides, so a module found
+ * eligible here can be added. An index is kept for each academic year, since prerequisites change between years.
+ */
+public class EligibilityIndex {
+    private static final int NO_PARENT = -1;
+    private static final int INITIAL_NODES = 256;
+
+    private static final Map<String, EligibilityIndex> indexes = new ConcurrentHashMap<>();
+    private static volatile ModuleDataSource indexesSource;
+
+    private final String academicYear;
+    // node -> requirements it needs before it is satisfied
+    private int[] required = new int[INITIAL_NODES];
+    // node -> node it counts towards, or NO_PARENT for the root of a module's tree
+    private int[] parents = new int[INITIAL_NODES];
+    // node -> module whose tree it is the root of, or null
+    private String[] rootModules = new String[INITIAL_NODES];
+    private int nodeCount;
+    // module named in a tree -> nodes naming it
+    private final Map<String, List<Integer>> nodesNaming = new HashMap<>();
+    private final Set<String> indexedModules = new HashSet<>();
+    private final Set<String> modulesWithoutPrereqs = new LinkedHashSet<>();
+
+    EligibilityIndex(String academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    /**
+     * Retrieves the shared index of an academic year, creating it the first time it is asked for. Indexes are
+     * dropped when the module data source changes.
+     *
+     * @param academicYear The academic year, such as 2023-2024.
+     * @return The index of that year.
+     */
+    public static EligibilityIndex forAcademicYear(String academicYear) {
+        ModuleDataSource source = Api.getDataSource();
+        if (indexesSource != source) {
+            indexes.clear();
+            indexesSource = source;
+        }
+        return indexes.computeIfAbsent(academicYear, EligibilityIndex::new);
+    }
+
+    /**
+     * Adds modules to the index, reading the prerequisites of those not yet indexed. Modules that do not exist are
+     * left out.
+     *
+     * @param moduleCodes The codes of the modules.
+     * @throws seedu.duke.exceptions.ModuleDataUnavailableException If the details of a module could not be fetched.
+     */
+    public void addModules(Collection<String> moduleCodes) {
+        for (String moduleCode : moduleCodes) {
+            synchronized (this) {
+                if (indexedModules.contains(moduleCode)) {
+                    continue;
+                }
+            }
+            JSONObject prereqTree = null;
+            JSONObject moduleInfo = Api.getModuleInfo(moduleCode, academicYear);
+            boolean exists = moduleInfo != null && !moduleInfo.isEmpty();
+            if (exists) {
+                prereqTree = Api.getEffectivePrereqTree(moduleCode, academicYear);
+            }
+            synchronized (this) {
+                if (indexedModules.add(moduleCode) && exists) {
+                    addModule(moduleCode, prereqTree);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles the prerequisite tree of a module into the index.
+     *
+     * @param moduleCode The code of the module.
+     * @param prereqTree The tree, in the forms getModulePrereqTree returns, or null if the module has none.
+     */
+    synchronized void addModule(String moduleCode, JSONObject prereqTree) {
+        indexedModules.add(moduleCode);
+        if (prereqTree == null || prereqTree.isEmpty()) {
+            modulesWithoutPrereqs.add(moduleCode);
+            return;
+        }
+        String key = (String) prereqTree.keySet().iterator().next();
+        int root = compileBranch(key, prereqTree.get(key), NO_PARENT);
+        if (root == NO_PARENT) {
+            modulesWithoutPrereqs.add(moduleCode);
+        } else {
+            rootModules[root] = moduleCode;
+        }
+    }
+
+    /**
+     * Compiles a branch of a tree the way Api.checkPrereq reads it: an "or" is decided by its modules up to and
+     * including its first nested branch, "nOf" is read as needing every module it lists, and any other key as "and".
+     *
+     * @return The node of the branch, or NO_PARENT if it needs nothing.
+     */
+    private int compileBranch(String key, Object branches, int parent) {
+        List<?> items = branches instanceof List ? (List<?>) branches : List.of();
+        if (key.equals("nOf")) {
+            key = "and";
+            items = items.size() > 1 && items.get(1) instanceof List ? (List<?>) items.get(1) : List.of();
+        }
+        boolean isOr = key.equals("or");
+        int node = newNode(parent);
+        int children = 0;
+        for (Object item : items) {
+            if (item instanceof String) {
+                int leaf = newNode(node);
+                required[leaf] = 1;
+                String moduleCode = ((String) item).replace(":D", "").replace("%", "");
+                nodesNaming.computeIfAbsent(moduleCode, code -> new ArrayList<>()).add(leaf);
+                children++;
+            } else if (item instanceof JSONObject && !((JSONObject) item).isEmpty()) {
+                JSONObject branch = (JSONObject) item;
+                String branchKey = (String) branch.keySet().iterator().next();
+                if (compileBranch(branchKey, branch.get(branchKey), node) != NO_PARENT) {
+                    children++;
+                }
+                if (isOr) {
+                    break;
+                }
+            }
+        }
+        if (!isOr && children == 0) {
+            // Nothing was created under it, so it is the last node and can be taken back
+            nodeCount--;
+            return NO_PARENT;
+        }
+        required[node] = isOr ? 1 : children;
+        return node;
+    }
+
+    private int newNode(int parent) {
+        if (nodeCount == required.length) {
+            required = Arrays.copyOf(required, nodeCount * 2);
+            parents = Arrays.copyOf(parents, nodeCount * 2);
+            rootModules = Arrays.copyOf(rootModules, nodeCount * 2);
+        }
+        required[nodeCount] = 0;
+        parents[nodeCount] = parent;
+        rootModules[nodeCount] = null;
+        return nodeCount++;
+    }
+
+    /**
+     * Starts working out what a student can take, from a student who has taken nothing.
+     *
+     * @return A tracker of the modules taken and the modules they make eligible.
+     */
+    public synchronized Tracker newTracker() {
+        return new Tracker(Arrays.copyOf(required, nodeCount));
+    }
+
+    /**
+     * Lists the indexed modules a student can take once they have taken some modules, leaving out those taken.
+     *
+     * @param taken The codes of the modules taken.
+     * @return The codes of the eligible modules.
+     */
+    public Set<String> getEligibleModules(Collection<String> taken) {
+        Tracker tracker = newTracker();
+        for (String moduleCode : taken) {
+            tracker.take(moduleCode);
+        }
+        return tracker.getEligibleModules();
+    }
+
+    /**
+     * Lists the modules a student could add to a semester: those among the candidates whose prerequisites, as they
+     * stand in the year of that semester, are satisfied by the modules planned before it. Modules planned in any
+     * semester are left out.
+     *
+     * @param modulesBySemester The codes of the modules planned in each semester, in semester order.
+     * @param semester          The semester, from 1 to 8.
+     * @param academicYear      The academic year of that semester, such as 2023-2024.
+     * @param candidates        The codes of the modules to consider.
+     * @return The codes of the eligible candidates, in the order given.
+     * @throws seedu.duke.exceptions.ModuleDataUnavailableException If the details of a candidate not yet indexed
+     *     could not be fetched.
+     */
+    public static List<String> findEligibleModules(List<List<String>> modulesBySemester, int semester,
+                                                   String academicYear, Collection<String> candidates) {
+        EligibilityIndex index = forAcademicYear(academicYear);
+        index.addModules(candidates);
+        Tracker tracker = index.newTracker();
+        Set<String> planned = new HashSet<>();
+        for (int i = 0; i < modulesBySemester.size(); i++) {
+            for (String moduleCode : modulesBySemester.get(i)) {
+                if (i < semester - 1) {
+                    tracker.take(moduleCode);
+                }
+                planned.add(moduleCode);
+            }
+        }
+        Set<String> eligible = tracker.getEligibleModules();
+        List<String> eligibleCandidates = new ArrayList<>();
+        for (String moduleCode : new LinkedHashSet<>(candidates)) {
+            if (eligible.contains(moduleCode) && !planned.contains(moduleCode)) {
+                eligibleCandidates.add(moduleCode);
+            }
+        }
+        return eligibleCandidates;
+    }
+
+    public synchronized int countIndexedModules() {
+        return indexedModules.size();
+    }
+
+    /**
+     * The requirements still needed by each node for one student, updated as they take modules.
+     */
+    public class Tracker {
+        private final int[] remaining;
+        private final Set<String> taken = new HashSet<>();
+        private final Set<String> eligible;
+
+        private Tracker(int[] remaining) {
+            this.remaining = remaining;
+            this.eligible = new LinkedHashSet<>(modulesWithoutPrereqs);
+        }
+
+        /**
+         * Takes a module, satisfying every node that names it.
+         *
+         * @param moduleCode The code of the module taken.
+         * @return The modules that became eligible by taking it.
+         */
+        public List<String> take(String moduleCode) {
+            List<String> newlyEligible = new ArrayList<>();
+            if (!taken.add(moduleCode)) {
+                return newlyEligible;
+            }
+            synchronized (EligibilityIndex.this) {
+                for (int leaf : nodesNaming.getOrDefault(moduleCode, List.of())) {
+                    if (leaf < remaining.length) {
+                        satisfy(leaf, newlyEligible);
+                    }
+                }
+            }
+            eligible.addAll(newlyEligible);
+            return newlyEligible;
+        }
+
+        private void satisfy(int node, List<String> newlyEligible) {
+            while (node != NO_PARENT) {
+                remaining[node]--;
+                // Only the step to zero counts; an "or" already satisfied goes below zero and stops here
+                if (remaining[node] != 0) {
+                    return;
+                }
+                if (rootModules[node] != null) {
+                    newlyEligible.add(rootModules[node]);
+                    return;
+                }
+                node = parents[node];
+            }
+        }
+
+        /**
+         * Lists the modules whose prerequisites are satisfied by the modules taken, leaving out those taken.
+         *
+         * @return The codes of the eligible modules, in the order they became eligible.
+         */
+        public Set<String> getEligibleModules() {
+            Set<String> modules = new LinkedHashSet<>(eligible);
+            modules.removeAll(taken);
+            return modules;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * The `JsonReader` class reads JSON text from a reader one token at a time, the counterpart of JsonWriter. Only a
+ * small buffer of the text is held at once, and values the caller does not want are skipped without being built,
+ * so a document of any size is read in little memory.
+ */
+public class JsonReader {
+    /**
+     * The kinds of token, as returned by peek.
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder text = new StringBuilder();
+    private int position;
+    private int limit;
+    private long charsBeforeBuffer;
+
+    private int[] scopes = new int[16];
+    private int depth = 1;
+    private Token peeked;
+
+    public JsonReader(Reader in) {
+        this.in = in;
+        scopes[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Looks at the next token without consuming it.
+     *
+     * @return The kind of the next token.
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the text is not valid JSON.
+     */
+    public Token peek() throws IOException, ParseException {
+        if (peeked != null) {
+            return peeked;
+        }
+        int c;
+        switch (scopes[depth - 1]) {
+        case EMPTY_DOCUMENT:
+            scopes[depth - 1] = NONEMPTY_DOCUMENT;
+            if (nextNonWhitespace() == -1) {
+                peeked = Token.END_DOCUMENT;
+                return peeked;
+            }
+            position--;
+            break;
+        case NONEMPTY_DOCUMENT:
+            if (nextNonWhitespace() != -1) {
+                throw syntaxError("text after the end of the document");
+            }
+            peeked = Token.END_DOCUMENT;
+            return peeked;
+        case EMPTY_ARRAY:
+        case NONEMPTY_ARRAY:
+            c = nextNonWhitespace();
+            if (c == ']') {
+                peeked = Token.END_ARRAY;
+                return peeked;
+            }
+            if (scopes[depth - 1] == NONEMPTY_ARRAY) {
+                if (c != ',') {
+                    throw syntaxError("expected , or ]");
+                }
+            } else {
+                position--;
+            }
+            scopes[depth - 1] = NONEMPTY_ARRAY;
+            break;
+        case EMPTY_OBJECT:
+        case NONEMPTY_OBJECT:
+            c = nextNonWhitespace();
+            if (c == '}') {
+                peeked = Token.END_OBJECT;
+                return peeked;
+            }
+            if (scopes[depth - 1] == NONEMPTY_OBJECT) {
+                if (c != ',') {
+                    throw syntaxError("expected , or }");
+                }
+                c = nextNonWhitespace();
+            }
+            if (c != '"') {
+                throw syntaxError("expected a name");
+            }
+            scopes[depth - 1] = DANGLING_NAME;
+            peeked = Token.NAME;
+            return peeked;
+        case DANGLING_NAME:
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("expected :");
+            }
+            scopes[depth - 1] = NONEMPTY_OBJECT;
+            break;
+        default:
+            throw new IllegalStateException("Unknown scope " + scopes[depth - 1]);
+        }
+        peeked = peekValue();
+        return peeked;
+    }
+
+    private Token peekValue() throws IOException, ParseException {
+        int c = nextNonWhitespace();
+        switch (c) {
+        case '{':
+            return Token.BEGIN_OBJECT;
+        case '[':
+            return Token.BEGIN_ARRAY;
+        case '"':
+            return Token.STRING;
+        case 't':
+        case 'f':
+            position--;
+            return Token.BOOLEAN;
+        case 'n':
+            position--;
+            return Token.NULL;
+        default:
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                position--;
+                return Token.NUMBER;
+            }
+            throw syntaxError(c == -1 ? "unexpected end of text" : "unexpected character");
+        }
+    }
+
+    public void beginObject() throws IOException, ParseException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException, ParseException {
+        expect(Token.END_OBJECT);
+        depth--;
+    }
+
+    public void beginArray() throws IOException, ParseException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException, ParseException {
+        expect(Token.END_ARRAY);
+        depth--;
+    }
+
+    /**
+     * Checks if the object or array being read has another member.
+     *
+     * @return true if the next token is not the end of the object or array.
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the text is not valid JSON.
+     */
+    public boolean hasNext() throws IOException, ParseException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException, ParseException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * Reads a string, or a number as the text it is written with.
+     *
+     * @return The string.
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the next value is not a string or a number.
+     */
+    public String nextString() throws IOException, ParseException {
+        Token token = peek();
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return readLiteral();
+        }
+        expect(Token.STRING);
+        return readString();
+    }
+
+    /**
+     * Reads a number, in the form JSONParser gives it: a Long if it is whole and a Double otherwise.
+     *
+     * @return The number.
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the next value is not a number.
+     */
+    public Number nextNumber() throws IOException, ParseException {
+        expect(Token.NUMBER);
+        String literal = readLiteral();
+        try {
+            if (literal.indexOf('.') < 0 && literal.indexOf('e') < 0 && literal.indexOf('E') < 0) {
+                return Long.valueOf(literal);
+            }
+            return Double.valueOf(literal);
+        } catch (NumberFormatException e) {
+            throw syntaxError("malformed number " + literal);
+        }
+    }
+
+    public boolean nextBoolean() throws IOException, ParseException {
+        expect(Token.BOOLEAN);
+        String literal = readLiteral();
+        if (literal.equals("true")) {
+            return true;
+        } else if (literal.equals("false")) {
+            return false;
+        }
+        throw syntaxError("malformed literal " + literal);
+    }
+
+    public void nextNull() throws IOException, ParseException {
+        expect(Token.NULL);
+        if (!readLiteral().equals("null")) {
+            throw syntaxError("malformed literal");
+        }
+    }
+
+    /**
+     * Skips the next value, including everything inside it if it is an object or array, without building it.
+     *
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the text is not valid JSON.
+     */
+    public void skipValue() throws IOException, ParseException {
+        int skipDepth = 0;
+        do {
+            Token token = peek();
+            switch (token) {
+            case BEGIN_OBJECT:
+                beginObject();
+                skipDepth++;
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                skipDepth++;
+                break;
+            case END_OBJECT:
+                endObject();
+                skipDepth--;
+                break;
+            case END_ARRAY:
+                endArray();
+                skipDepth--;
+                break;
+            case NAME:
+            case STRING:
+                peeked = null;
+                skipString();
+                break;
+            case END_DOCUMENT:
+                throw syntaxError("unexpected end of text");
+            default:
+                peeked = null;
+                skipLiteral();
+                break;
+            }
+        } while (skipDepth > 0);
+    }
+
+    /**
+     * Reads the next value whole, in the form JSONParser gives it: a JSONObject, JSONArray, String, Long, Double,
+     * Boolean or null.
+     *
+     * @return The value.
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the text is not valid JSON.
+     */
+    public Object readValue() throws IOException, ParseException {
+        switch (peek()) {
+        case BEGIN_OBJECT:
+            JSONObject object = new JSONObject();
+            beginObject();
+            while (hasNext()) {
+                String name = nextName();
+                object.put(name, readValue());
+            }
+            endObject();
+            return object;
+        case BEGIN_ARRAY:
+            JSONArray array = new JSONArray();
+            beginArray();
+            while (hasNext()) {
+                array.add(readValue());
+            }
+            endArray();
+            return array;
+        case STRING:
+            return nextString();
+        case NUMBER:
+            return nextNumber();
+        case BOOLEAN:
+            return nextBoolean();
+        case NULL:
+            nextNull();
+            return null;
+        default:
+            throw syntaxError("expected a value");
+        }
+    }
+
+    private void expect(Token expected) throws IOException, ParseException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError("expected " + expected + " but found " + token);
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    private int nextChar() throws IOException {
+        if (position == limit) {
+            // The buffer is filled from index 1, so a character just read can always be given back with position--
+            if (limit > 0) {
+                charsBeforeBuffer += limit - 1;
+            }
+            int read = in.read(buffer, 1, buffer.length - 1);
+            position = 1;
+            limit = read <= 0 ? 1 : read + 1;
+            if (read <= 0) {
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c;
+        do {
+            c = nextChar();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+        return c;
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote has been read, decoding escapes.
+     */
+    private String readString() throws IOException, ParseException {
+        text.setLength(0);
+        while (true) {
+            int runStart = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == '"' || c == '\\') {
+                    break;
+                }
+                position++;
+            }
+            text.append(buffer, runStart, position - runStart);
+            int c = nextChar();
+            if (c == '"') {
+                return text.toString();
+            } else if (c == '\\') {
+                text.append(readEscape());
+            } else if (c == -1) {
+                throw syntaxError("unterminated string");
+            } else {
+                // The run reached the end of the buffer; this character starts the next run
+                position--;
+            }
+        }
+    }
+
+    private void skipString() throws IOException, ParseException {
+        while (true) {
+            int c = nextChar();
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                readEscape();
+            } else if (c == -1) {
+                throw syntaxError("unterminated string");
+            }
+        }
+    }
+
+    private char readEscape() throws IOException, ParseException {
+        int c = nextChar();
+        switch (c) {
+        case 'u':
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(nextChar(), 16);
+                if (digit < 0) {
+                    throw syntaxError("malformed unicode escape");
+                }
+                value = value * 16 + digit;
+            }
+            return (char) value;
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        case '"':
+        case '\\':
+        case '/':
+            return (char) c;
+        default:
+            throw syntaxError("malformed escape");
+        }
+    }
+
+    /**
+     * Reads a number or a literal such as true, up to the character that ends it.
+     */
+    private String readLiteral() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = nextChar();
+            if (c == -1) {
+                break;
+            }
+            if (isDelimiter(c)) {
+                position--;
+                break;
+            }
+            text.append((char) c);
+        }
+        return text.toString();
+    }
+
+    private void skipLiteral() throws IOException {
+        while (true) {
+            int c = nextChar();
+            if (c == -1) {
+                return;
+            }
+            if (isDelimiter(c)) {
+                position--;
+                return;
+            }
+        }
+    }
+
+    private static boolean isDelimiter(int c) {
+        return c == ',' || c == ']' || c == '}' || c == ':' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private ParseException syntaxError(String message) {
+        return new ParseException((int) (charsBeforeBuffer + position - 1), ParseException.ERROR_UNEXPECTED_CHAR,
+                message);
+    }
+}
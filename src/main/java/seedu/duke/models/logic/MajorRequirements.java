@@ -1,65 +1,111 @@
 package seedu.duke.models.logic;
 
+import seedu.duke.models.schema.ChoiceGroup;
+import seedu.duke.models.schema.DegreeRequirements;
+import seedu.duke.models.schema.RequiredModule;
+import seedu.duke.models.schema.RequirementBucket;
 import seedu.duke.views.CommandLineView;
 
 
 public class MajorRequirements {
+    private static final int TITLE_WIDTH = 76;
+    private static final String DOUBLE_LINE =
+            "#===========================================================================================#";
+    private static final String SINGLE_LINE =
+            "+-------------------------------------------------------------------------------------------+";
 
+    /**
+     * Prints the requirements of a major as listed in its requirements file.
+     *
+     * @param major The major whose requirements are printed.
+     */
     public static void printRequiredModules(String major) {
-        if (!major.equals("CEG")) {
+        DegreeRequirements requirements;
+        try {
+            requirements = DataRepository.getDegreeRequirements(major);
+        } catch (IllegalArgumentException e) {
             CommandLineView.displayMessage("Sorry this major has not be included in our app yet.");
             return;
         }
-        CommandLineView.displayMessage(
-                "#===========================================================================================#\n" +
-                "║\tModular Requirements for CEG                                                \tUnits\t║\n" +
-                "#===========================================================================================#\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "│\tCommon Curriculum Requirements                                              \t60\t\t│\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "\tGES1000 (Singapore Studies)                                                 \t4\n" +
-                "\tGEC1000 (Cultures and Connections)                                          \t4\n" +
-                "\tGEN2000 (Communities and Engagement)                                        \t4\n" +
-                "\tES2631 Critique & Communication of Thinking & Design (Critique & Expression)\t4\n" +
-                "\tCS1010 Programming Methodology (Digital Literacy)                           \t4\n" +
-                "\tGEA1000 Quantitative Reasoning with Data (Data Literacy)                    \t4\n" +
-                "\tDTK1234 Design Thinking (Design Thinking)                                   \t4\n" +
-                "\tEG1311 Design and Make (Maker Space)                                        \t4\n" +
-                "\tIE2141 Systems Thinking and Dynamics (Systems Thinking)                     \t4\n" +
-                "\tEE2211 Introduction to Machine Learning (Artificial Intelligence)           \t4\n" +
-                "\tCDE2501 Liveable Cities (Sustainable Futures)                               \t4\n" +
-                "\tCDE2000 (Creating Narratives)                                               \t4\n" +
-                "\tPF1101 Fundamentals of Project Management (Project Management)              \t4\n" +
-                "\tCG4002 Computer Engineering Capstone Project 1 (Integrated Project)         \t8\n" +
-                "\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "│\tProgramme Requirements                                                      \t60\t\t│\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                " ~~\tEngineering Core                                                            \t20\t ~~\n" +
-                "\n" +
-                "\tMA1511 Engineering Calculus                                                 \t2\n" +
-                "\tMA1512 Differential Equations for Engineering                               \t2\n" +
-                "\tMA1508E Linear Algebra for Engineering                                      \t4\n" +
-                "\tEG2401A Engineering Professionalism                                         \t2\n" +
-                "\tCP3880 Advanced Technology Attachment Programme                             \t12\n" +
-                "\n" +
-                " ~~\tCEG Major                                                                   \t40\t ~~\n" +
-                "\n" +
-                "\tCG1111A Engineering Principles and Practice I                               \t4\n" +
-                "\tCG2111A Engineering Principles and Practice II                              \t4\n" +
-                "\tCS1231 Discrete Structures                                                  \t4\n" +
-                "\tCG2023 Signals & Systems                                                    \t4\n" +
-                "\tCG2027 Transistor-level Digital Circuit                                     \t2\n" +
-                "\tCG2028 Computer Organization                                                \t2\n" +
-                "\tCG2271 Real-time Operating System                                           \t4\n" +
-                "\tCS2040C Data Structures and Algorithms                                      \t4\n" +
-                "\tCS2113 Software Engineering & Object-Oriented Programming                   \t4\n" +
-                "\tEE2026 Digital Design                                                       \t4\n" +
-                "\tEE4204 Computer Networks                                                    \t4\n" +
-                "\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "│\tUnrestricted Electives                                                      \t40\t\t│\n" +
-                "+-------------------------------------------------------------------------------------------+");
+        CommandLineView.displayMessage(renderRequirements(requirements, null));
+    }
+
+    /**
+     * Prints the requirements of a student's major together with the units completed in each bucket and the
+     * status of each listed module.
+     *
+     * @param audit The audit of the student's plan.
+     */
+    public static void printRequiredModules(DegreeAudit audit) {
+        CommandLineView.displayMessage(renderRequirements(audit.getRequirements(), audit));
+    }
+
+    private static String renderRequirements(DegreeRequirements requirements, DegreeAudit audit) {
+        StringBuilder output = new StringBuilder();
+        output.append(DOUBLE_LINE).append("\n");
+        output.append("║\t").append(pad(requirements.getTitle())).append("\tUnits\t║\n");
+        output.append(DOUBLE_LINE);
+        for (RequirementBucket bucket : requirements.getBuckets()) {
+            output.append("\n");
+            output.append(SINGLE_LINE).append("\n");
+            output.append("│\t").append(pad(bucket.getTitle())).append("\t")
+                    .append(formatUnits(bucket, audit)).append("\t\t│\n");
+            output.append(SINGLE_LINE);
+            renderBucketContents(output, bucket, audit);
+            for (RequirementBucket subBucket : bucket.getSubBuckets()) {
+                output.append("\n ~~\t").append(pad(subBucket.getTitle())).append("\t")
+                        .append(formatUnits(subBucket, audit)).append("\t ~~\n");
+                renderBucketContents(output, subBucket, audit);
+            }
+        }
+        return output.toString();
+    }
+
+    private static void renderBucketContents(StringBuilder output, RequirementBucket bucket, DegreeAudit audit) {
+        if (bucket.getModules().isEmpty() && bucket.getChoiceGroups().isEmpty()
+                && bucket.getElectivePrefixes().isEmpty()) {
+            return;
+        }
+        output.append("\n");
+        for (RequiredModule module : bucket.getModules()) {
+            output.append("\t").append(pad(module.getModuleCode() + " " + module.getTitle()))
+                    .append("\t").append(module.getModuleCredits());
+            if (audit != null) {
+                String takenAs = audit.getModuleFulfilling(module);
+                if (takenAs != null) {
+                    output.append("\t").append(audit.isCompleted(takenAs) ? "completed" : "planned");
+                    if (!takenAs.equals(module.getModuleCode())) {
+                        output.append(" as ").append(takenAs);
+                    }
+                }
+            }
+            output.append("\n");
+        }
+        for (ChoiceGroup choiceGroup : bucket.getChoiceGroups()) {
+            String line = "Choose " + choiceGroup.getNumberToChoose() + " of "
+                    + String.join(" / ", choiceGroup.getModuleCodes()) + " (" + choiceGroup.getTitle() + ")";
+            output.append("\t").append(pad(line)).append("\t").append(choiceGroup.getModuleCredits());
+            if (audit != null) {
+                output.append("\t").append(audit.getChoicesTaken(choiceGroup)).append(" planned");
+            }
+            output.append("\n");
+        }
+        if (!bucket.getElectivePrefixes().isEmpty()) {
+            String accepted = bucket.acceptsElective("") ? "Any module"
+                    : String.join(", ", bucket.getElectivePrefixes()) + " modules";
+            output.append("\tElectives: ").append(accepted).append("\n");
+        }
+    }
+
+    private static String formatUnits(RequirementBucket bucket, DegreeAudit audit) {
+        if (audit == null) {
+            return String.valueOf(bucket.getRequiredCredits());
+        }
+        return audit.getCompletedCredits(bucket.getId()) + "/" + bucket.getRequiredCredits();
+    }
+
+    private static String pad(String text) {
+        return String.format("%-" + TITLE_WIDTH + "s", text);
     }
 
 }
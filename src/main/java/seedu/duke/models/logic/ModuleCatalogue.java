@@ -0,0 +1,89 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+/**
+ * Holds the code and title of every module offered in an academic year. Only the fields the planner reads are
+ * kept, in two arrays, so the whole list takes a fraction of the memory of the JSON objects it is read from.
+ */
+public class ModuleCatalogue {
+    private final String[] moduleCodes;
+    private final String[] titles;
+    private final int size;
+
+    ModuleCatalogue(String[] moduleCodes, String[] titles, int size) {
+        this.moduleCodes = moduleCodes;
+        this.titles = titles;
+        this.size = size;
+    }
+
+    /**
+     * Builds a catalogue from a module list in the form NUSMods serves it.
+     *
+     * @param moduleList The modules, each with a "moduleCode" and a "title".
+     * @return The catalogue.
+     */
+    public static ModuleCatalogue fromJsonArray(JSONArray moduleList) {
+        String[] moduleCodes = new String[moduleList.size()];
+        String[] titles = new String[moduleList.size()];
+        for (int i = 0; i < moduleList.size(); i++) {
+            JSONObject module = (JSONObject) moduleList.get(i);
+            moduleCodes[i] = (String) module.get("moduleCode");
+            titles[i] = (String) module.get("title");
+        }
+        return new ModuleCatalogue(moduleCodes, titles, moduleList.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getModuleCode(int index) {
+        return moduleCodes[index];
+    }
+
+    public String getTitle(int index) {
+        return titles[index];
+    }
+
+    /**
+     * Searches for modules whose titles contain a keyword, as Api.search does.
+     *
+     * @param keyword The keyword, matched with its case.
+     * @return The modules found, each as a JSONObject with a "moduleCode" and a "title", or none if the keyword
+     *     is empty.
+     */
+    public JSONArray search(String keyword) {
+        JSONArray modulesContainingKeyword = new JSONArray();
+        if (keyword.isEmpty()) {
+            return modulesContainingKeyword;
+        }
+        for (int i = 0; i < size; i++) {
+            if (titles[i] != null && titles[i].contains(keyword)) {
+                modulesContainingKeyword.add(toJsonObject(i));
+            }
+        }
+        return modulesContainingKeyword;
+    }
+
+    /**
+     * Builds the module list in the form NUSMods serves it, with the fields the catalogue keeps.
+     *
+     * @return The modules, each as a JSONObject with a "moduleCode" and a "title".
+     */
+    public JSONArray toJsonArray() {
+        JSONArray moduleList = new JSONArray();
+        for (int i = 0; i < size; i++) {
+            moduleList.add(toJsonObject(i));
+        }
+        return moduleList;
+    }
+
+    private JSONObject toJsonObject(int index) {
+        JSONObject module = new JSONObject();
+        module.put("moduleCode", moduleCodes[index]);
+        module.put("title", titles[index]);
+        return module;
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Reads module data from NUSMods as it arrives, keeping only the fields the planner uses. Everything else, such as
+ * the requirements a module fulfils and the venue and weeks of each lesson, is skipped without being built.
+ */
+public class ModuleDataReader {
+    private static final Set<String> MODULE_FIELDS =
+            Set.of("moduleCode", "title", "description", "moduleCredit", "prereqTree", "workload");
+    private static final Set<String> LESSON_FIELDS = Set.of("classNo", "lessonType", "day", "startTime", "endTime");
+    private static final int INITIAL_CATALOGUE_SIZE = 1024;
+
+    /**
+     * Reads the details of one module.
+     *
+     * @param in The JSON text of the module's details.
+     * @return The fields of the module the planner uses, or an empty object if the text is empty.
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the text is not a JSON object.
+     */
+    public static JSONObject readModuleInfo(Reader in) throws IOException, ParseException {
+        JsonReader reader = new JsonReader(in);
+        JSONObject moduleInfo = new JSONObject();
+        if (reader.peek() == JsonReader.Token.END_DOCUMENT) {
+            return moduleInfo;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (MODULE_FIELDS.contains(name)) {
+                moduleInfo.put(name, reader.readValue());
+            } else if (name.equals("semesterData") && reader.peek() == JsonReader.Token.BEGIN_ARRAY) {
+                moduleInfo.put(name, readSemesterData(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        reader.peek();
+        return moduleInfo;
+    }
+
+    /**
+     * Reads the semesters of a module, keeping the lessons of each with only what TimetableOptimizer reads.
+     */
+    private static JSONArray readSemesterData(JsonReader reader) throws IOException, ParseException {
+        JSONArray semesters = new JSONArray();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            JSONObject semester = new JSONObject();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("semester")) {
+                    semester.put(name, reader.readValue());
+                } else if (name.equals("timetable") && reader.peek() == JsonReader.Token.BEGIN_ARRAY) {
+                    semester.put(name, readLessons(reader));
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            semesters.add(semester);
+        }
+        reader.endArray();
+        return semesters;
+    }
+
+    private static JSONArray readLessons(JsonReader reader) throws IOException, ParseException {
+        JSONArray lessons = new JSONArray();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            JSONObject lesson = new JSONObject();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (LESSON_FIELDS.contains(name)) {
+                    lesson.put(name, reader.readValue());
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            lessons.add(lesson);
+        }
+        reader.endArray();
+        return lessons;
+    }
+
+    /**
+     * Reads the list of every module into a catalogue of their codes and titles.
+     *
+     * @param in The JSON text of the module list.
+     * @return The catalogue.
+     * @throws IOException If the text could not be read.
+     * @throws ParseException If the text is not a JSON array of objects.
+     */
+    public static ModuleCatalogue readModuleList(Reader in) throws IOException, ParseException {
+        JsonReader reader = new JsonReader(in);
+        String[] moduleCodes = new String[INITIAL_CATALOGUE_SIZE];
+        String[] titles = new String[INITIAL_CATALOGUE_SIZE];
+        int size = 0;
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (size == moduleCodes.length) {
+                moduleCodes = Arrays.copyOf(moduleCodes, size * 2);
+                titles = Arrays.copyOf(titles, size * 2);
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("moduleCode") && reader.peek() == JsonReader.Token.STRING) {
+                    moduleCodes[size] = reader.nextString();
+                } else if (name.equals("title") && reader.peek() == JsonReader.Token.STRING) {
+                    titles[size] = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            size++;
+        }
+        reader.endArray();
+        reader.peek();
+        return new ModuleCatalogue(Arrays.copyOf(moduleCodes, size), Arrays.copyOf(titles, size), size);
+    }
+}
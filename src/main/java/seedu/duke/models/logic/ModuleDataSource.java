@@ -0,0 +1,99 @@
+package seedu.duke.models.logic;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A source of the module data that Api parses and caches. The text returned is the JSON that NUSMods serves for
+ * the same request, so sources can be swapped without Api noticing: NUSMods itself by default, or a local stand-in
+ * for tests and load tests.
+ *
+ * <p>Api reads module data through the open methods, which a source can override to hand over the text as it
+ * arrives instead of collecting it into a string first.
+ */
+public interface ModuleDataSource {
+    /**
+     * Fetches the details of one module.
+     *
+     * @param moduleCode The code of the module, made only of letters and digits.
+     * @return The JSON text of the module's details. For a module that does not exist this is whatever the source
+     *     answers, which is not a JSON object.
+     * @throws IOException If the source could not be reached or failed to answer.
+     * @throws InterruptedException If the thread was interrupted while waiting for the answer.
+     */
+    String fetchModuleInfo(String moduleCode) throws IOException, InterruptedException;
+
+    /**
+     * Fetches the list of every module offered in the academic year, with their titles and semesters.
+     *
+     * @return The JSON text of the list.
+     * @throws IOException If the source could not be reached or failed to answer.
+     * @throws InterruptedException If the thread was interrupted while waiting for the answer.
+     */
+    String fetchModuleList() throws IOException, InterruptedException;
+
+    /**
+     * Opens the details of one module as a stream of UTF-8 JSON text, as fetchModuleInfo answers them.
+     *
+     * @param moduleCode The code of the module, made only of letters and digits.
+     * @return The stream, which the caller closes.
+     * @throws IOException If the source could not be reached or failed to answer.
+     * @throws InterruptedException If the thread was interrupted while waiting for the answer.
+     */
+    default InputStream openModuleInfo(String moduleCode) throws IOException, InterruptedException {
+        return new ByteArrayInputStream(fetchModuleInfo(moduleCode).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens the list of every module as a stream of UTF-8 JSON text, as fetchModuleList answers it.
+     *
+     * @return The stream, which the caller closes.
+     * @throws IOException If the source could not be reached or failed to answer.
+     * @throws InterruptedException If the thread was interrupted while waiting for the answer.
+     */
+    default InputStream openModuleList() throws IOException, InterruptedException {
+        return new ByteArrayInputStream(fetchModuleList().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens the details of one module unless they are unchanged since the caller's copy. A source that does not
+     * support conditional requests always answers with the data.
+     *
+     * @param moduleCode   The code of the module, made only of letters and digits.
+     * @param etag         The ETag of the caller's copy, or null if it has none.
+     * @param lastModified The Last-Modified date of the caller's copy, or null if it has none.
+     * @return The answer, which the caller closes.
+     * @throws IOException If the source could not be reached or failed to answer.
+     * @throws InterruptedException If the thread was interrupted while waiting for the answer.
+     */
+    default ModuleResponse openModuleInfo(String moduleCode, String etag, String lastModified)
+            throws IOException, InterruptedException {
+        return ModuleResponse.of(openModuleInfo(moduleCode), null, null);
+    }
+
+    /**
+     * Opens the list of every module unless it is unchanged since the caller's copy. A source that does not
+     * support conditional requests always answers with the data.
+     *
+     * @param etag         The ETag of the caller's copy, or null if it has none.
+     * @param lastModified The Last-Modified date of the caller's copy, or null if it has none.
+     * @return The answer, which the caller closes.
+     * @throws IOException If the source could not be reached or failed to answer.
+     * @throws InterruptedException If the thread was interrupted while waiting for the answer.
+     */
+    default ModuleResponse openModuleList(String etag, String lastModified) throws IOException, InterruptedException {
+        return ModuleResponse.of(openModuleList(), null, null);
+    }
+
+    /**
+     * Retrieves a source of the same kind that answers for another academic year, such as NUSMods for that year.
+     *
+     * @param academicYear The academic year, such as 2022-2023.
+     * @return The source for that year, or null if this source only answers for one year.
+     */
+    default ModuleDataSource forAcademicYear(String academicYear) {
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.duke.models.logic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An answer from a module data source to a conditional request: either the data, or word that the copy the caller
+ * already has is still current. Either way it carries the validators the source gave, an ETag and a Last-Modified
+ * date, for the caller to send with its next request.
+ */
+public class ModuleResponse implements Closeable {
+    private final InputStream body;
+    private final String etag;
+    private final String lastModified;
+
+    private ModuleResponse(InputStream body, String etag, String lastModified) {
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Constructs an answer carrying data.
+     *
+     * @param body         The UTF-8 JSON text of the data.
+     * @param etag         The ETag of the data, or null if the source gave none.
+     * @param lastModified The Last-Modified date of the data, or null if the source gave none.
+     * @return The answer.
+     */
+    public static ModuleResponse of(InputStream body, String etag, String lastModified) {
+        return new ModuleResponse(body, etag, lastModified);
+    }
+
+    /**
+     * Constructs an answer saying that the caller's copy is current.
+     *
+     * @param etag         The ETag of the data, or null if the source gave none.
+     * @param lastModified The Last-Modified date of the data, or null if the source gave none.
+     * @return The answer.
+     */
+    public static ModuleResponse notModified(String etag, String lastModified) {
+        return new ModuleResponse(null, etag, lastModified);
+    }
+
+    public boolean isNotModified() {
+        return body == null;
+    }
+
+    public InputStream getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (body != null) {
+            body.close();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.duke.models.logic;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import seedu.duke.utils.metrics.Counter;
+import seedu.duke.utils.metrics.Histogram;
+import seedu.duke.utils.metrics.MetricsRegistry;
+
+/**
+ * Fetches module data over HTTP from NUSMods, or from any server laid out like it, such as NusModsStubServer.
+ * Module details are read from modules/CODE.json and the module list from moduleList.json under the base URI.
+ * Responses are asked for gzip-compressed and are handed over as they arrive, so they are never held whole. Data
+ * the caller already has is revalidated with If-None-Match and If-Modified-Since, so unchanged data costs a 304.
+ * Every request has a timeout, so a server that stops answering fails the request instead of holding it forever.
+ */
+public class NusModsDataSource implements ModuleDataSource {
+    public static final String DEFAULT_ACADEMIC_YEAR = "2023-2024";
+    public static final URI DEFAULT_BASE_URI = URI.create("https://api.nusmods.com/v2/" + DEFAULT_ACADEMIC_YEAR + "/");
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Counter bytesDownloaded = MetricsRegistry.global().counter("nusdegs_upstream_bytes_total",
+            "Bytes of module data downloaded, as sent over the network.");
+    private static final Counter failedRequests = MetricsRegistry.global().counter(
+            "nusdegs_upstream_failures_total", "Requests for module data that failed.");
+    private static final Histogram requestTime = MetricsRegistry.global().timer(
+            "nusdegs_upstream_request_duration_seconds", "Time taken to download module data, until it has been read.");
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration timeout;
+
+    /**
+     * Constructs a source reading from NUSMods for the 2023-2024 academic year.
+     */
+    public NusModsDataSource() {
+        this(DEFAULT_BASE_URI);
+    }
+
+    /**
+     * Constructs a source reading from a server laid out like NUSMods.
+     *
+     * @param baseUri The URI that modules/ and moduleList.json are found under, ending with a slash.
+     */
+    public NusModsDataSource(URI baseUri) {
+        this(baseUri, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Constructs a source reading from a server laid out like NUSMods.
+     *
+     * @param baseUri The URI that modules/ and moduleList.json are found under, ending with a slash.
+     * @param timeout How long to wait to connect, and then for the server to start answering.
+     */
+    public NusModsDataSource(URI baseUri, Duration timeout) {
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * Retrieves a source reading another academic year from the same server, if the base URI ends with the
+     * academic year as NUSMods's does, such as https://api.nusmods.com/v2/2023-2024/.
+     *
+     * @param academicYear The academic year, such as 2022-2023.
+     * @return The source for that year, or null if the base URI names no academic year.
+     */
+    @Override
+    public ModuleDataSource forAcademicYear(String academicYear) {
+        String path = baseUri.getPath();
+        String[] segments = path == null ? new String[0] : path.split("/");
+        if (!path.endsWith("/") || segments.length == 0 || !AcademicYear.isValid(segments[segments.length - 1])
+                || !AcademicYear.isValid(academicYear)) {
+            return null;
+        }
+        return new NusModsDataSource(baseUri.resolve("../" + academicYear + "/"), timeout);
+    }
+
+    @Override
+    public String fetchModuleInfo(String moduleCode) throws IOException, InterruptedException {
+        return readAll(openModuleInfo(moduleCode));
+    }
+
+    @Override
+    public String fetchModuleList() throws IOException, InterruptedException {
+        return readAll(openModuleList());
+    }
+
+    @Override
+    public InputStream openModuleInfo(String moduleCode) throws IOException, InterruptedException {
+        return openModuleInfo(moduleCode, null, null).getBody();
+    }
+
+    @Override
+    public InputStream openModuleList() throws IOException, InterruptedException {
+        return openModuleList(null, null).getBody();
+    }
+
+    @Override
+    public ModuleResponse openModuleInfo(String moduleCode, String etag, String lastModified)
+            throws IOException, InterruptedException {
+        return open(baseUri.resolve("modules/" + moduleCode + ".json"), etag, lastModified);
+    }
+
+    @Override
+    public ModuleResponse openModuleList(String etag, String lastModified) throws IOException, InterruptedException {
+        return open(baseUri.resolve("moduleList.json"), etag, lastModified);
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Sends a GET request, conditional on the validators given. The body of a missing resource is returned like
+     * any other, since NUSMods answers an unknown module code with a 404 page; errors of the server itself are
+     * thrown.
+     */
+    private ModuleResponse open(URI uri, String etag, String lastModified) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder().uri(uri).timeout(timeout)
+                .header("Accept-Encoding", "gzip").GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            request.header("If-Modified-Since", lastModified);
+        }
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            failedRequests.increment();
+            requestTime.record(System.nanoTime() - start);
+            throw e;
+        }
+        InputStream body = new MeteredInputStream(response.body(), start);
+        if (response.statusCode() == 429 || response.statusCode() >= 500) {
+            body.close();
+            failedRequests.increment();
+            throw new IOException("NUSMods answered with status " + response.statusCode());
+        }
+        String newEtag = response.headers().firstValue("ETag").orElse(null);
+        String newLastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (response.statusCode() == 304) {
+            body.close();
+            // A 304 may leave out validators that have not changed, so the ones sent are kept unless replaced
+            return ModuleResponse.notModified(newEtag != null ? newEtag : etag,
+                    newLastModified != null ? newLastModified : lastModified);
+        }
+        if (response.statusCode() != 200) {
+            // Error pages such as the 404 for an unknown module must not be revalidated as if they were data
+            newEtag = null;
+            newLastModified = null;
+        }
+        if (response.headers().firstValue("Content-Encoding").orElse("").equalsIgnoreCase("gzip")) {
+            body = new GZIPInputStream(body);
+        }
+        return ModuleResponse.of(body, newEtag, newLastModified);
+    }
+
+    /**
+     * Counts the bytes of a response as they are read, and records how long the response took once it is closed.
+     */
+    private static class MeteredInputStream extends FilterInputStream {
+        private final long start;
+        private boolean isClosed;
+
+        MeteredInputStream(InputStream in, long start) {
+            super(in);
+            this.start = start;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                bytesDownloaded.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                bytesDownloaded.add(count);
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!isClosed) {
+                isClosed = true;
+                requestTime.record(System.nanoTime() - start);
+            }
+            super.close();
+        }
+    }
+}
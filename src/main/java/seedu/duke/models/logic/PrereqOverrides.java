@@ -0,0 +1,227 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the prerequisites that are used in place of the ones NUSMods gives, for modules whose prerequisites NUSMods
+ * gets wrong. The corrections are read once from the packaged PrereqOverrides file, and from a file of the same name
+ * in the data directory if there is one, and cannot be changed afterwards.
+ */
+public class PrereqOverrides {
+    private static final String OVERRIDES_RESOURCE = "/seedu/duke/models/data/PrereqOverrides";
+    private static final Path LOCAL_OVERRIDES = Paths.get("data", "PrereqOverrides");
+    private static final String ANY = "*";
+    private static final String NONE = "-";
+
+    private static volatile PrereqOverrides defaultOverrides;
+    private static final Map<String, PrereqOverrides> overridesByYear = new ConcurrentHashMap<>();
+
+    private final String academicYear;
+    private final String version;
+    private final Map<String, List<String>> forEveryMajor;
+    private final Map<String, Map<String, List<String>>> forMajor;
+    private final Map<String, JSONObject> prereqTrees;
+
+    private PrereqOverrides(String academicYear, String version, Map<String, List<String>> forEveryMajor,
+                            Map<String, Map<String, List<String>>> forMajor) {
+        this.academicYear = academicYear;
+        this.version = version;
+        this.forEveryMajor = forEveryMajor;
+        this.forMajor = forMajor;
+
+        Map<String, JSONObject> trees = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : forEveryMajor.entrySet()) {
+            JSONArray requirements = new JSONArray();
+            requirements.addAll(entry.getValue());
+            JSONObject tree = new JSONObject();
+            tree.put("and", requirements);
+            trees.put(entry.getKey(), tree);
+        }
+        this.prereqTrees = Collections.unmodifiableMap(trees);
+    }
+
+    /**
+     * Retrieves the overrides for the academic year the planner reads from NUSMods. They are read the first time
+     * they are asked for and shared by every later call.
+     *
+     * @return The overrides.
+     * @throws IllegalStateException If a line of an overrides file is malformed.
+     */
+    public static PrereqOverrides getDefault() {
+        PrereqOverrides overrides = defaultOverrides;
+        if (overrides == null) {
+            synchronized (PrereqOverrides.class) {
+                overrides = defaultOverrides;
+                if (overrides == null) {
+                    overrides = load(NusModsDataSource.DEFAULT_ACADEMIC_YEAR, LOCAL_OVERRIDES);
+                    defaultOverrides = overrides;
+                }
+            }
+        }
+        return overrides;
+    }
+
+    /**
+     * Retrieves the overrides for an academic year, read the first time they are asked for.
+     *
+     * @param academicYear The academic year, such as 2022-2023.
+     * @return The overrides.
+     * @throws IllegalStateException If a line of an overrides file is malformed.
+     */
+    public static PrereqOverrides forAcademicYear(String academicYear) {
+        if (academicYear.equals(NusModsDataSource.DEFAULT_ACADEMIC_YEAR)) {
+            return getDefault();
+        }
+        return overridesByYear.computeIfAbsent(academicYear, year -> load(year, LOCAL_OVERRIDES));
+    }
+
+    private static PrereqOverrides load(String academicYear, Path localFile) {
+        InputStream in = PrereqOverrides.class.getResourceAsStream(OVERRIDES_RESOURCE);
+        if (in == null) {
+            throw new IllegalStateException("Missing " + OVERRIDES_RESOURCE);
+        }
+        try (BufferedReader packaged = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            if (!Files.isRegularFile(localFile)) {
+                return parse(academicYear, packaged);
+            }
+            try (BufferedReader local = Files.newBufferedReader(localFile, StandardCharsets.UTF_8)) {
+                return parse(academicYear, packaged, local);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses overrides files, keeping the lines that apply to an academic year. See the comment at the top of the
+     * packaged file for the line format. Where two lines are equally specific, the later one wins.
+     *
+     * @param academicYear The academic year, such as 2023-2024.
+     * @param files        The contents of each file, in the order they are read.
+     * @return The overrides.
+     * @throws IOException If a file could not be read.
+     * @throws IllegalStateException If a line is malformed.
+     */
+    static PrereqOverrides parse(String academicYear, BufferedReader... files) throws IOException {
+        String version = "";
+        // major, or * -> module -> prerequisites; modules overridden for this year in particular are kept apart
+        Map<String, Map<String, List<String>>> anyYear = new HashMap<>();
+        Map<String, Map<String, List<String>>> thisYear = new HashMap<>();
+
+        for (BufferedReader reader : files) {
+            String currentLine;
+            while ((currentLine = reader.readLine()) != null) {
+                currentLine = currentLine.trim();
+                if (currentLine.isEmpty() || currentLine.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = currentLine.split("\\|");
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = fields[i].trim();
+                }
+                switch (fields[0]) {
+                case "version":
+                    checkFieldCount(fields, 2, currentLine);
+                    version = fields[1];
+                    break;
+                case "override":
+                    checkFieldCount(fields, 5, currentLine);
+                    if (!fields[1].equals(ANY) && !fields[1].equals(academicYear)) {
+                        break;
+                    }
+                    Map<String, Map<String, List<String>>> target = fields[1].equals(ANY) ? anyYear : thisYear;
+                    target.computeIfAbsent(fields[2].toUpperCase(), major -> new HashMap<>())
+                            .put(fields[3].toUpperCase(), parsePrerequisites(fields[4]));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown line in prerequisite overrides: " + currentLine);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Map<String, List<String>>> entry : thisYear.entrySet()) {
+            anyYear.computeIfAbsent(entry.getKey(), major -> new HashMap<>()).putAll(entry.getValue());
+        }
+        Map<String, List<String>> forEveryMajor = anyYear.remove(ANY);
+        Map<String, Map<String, List<String>>> forMajor = new HashMap<>();
+        for (Map.Entry<String, Map<String, List<String>>> entry : anyYear.entrySet()) {
+            forMajor.put(entry.getKey(), Collections.unmodifiableMap(entry.getValue()));
+        }
+        return new PrereqOverrides(academicYear, version,
+                forEveryMajor == null ? Collections.emptyMap() : Collections.unmodifiableMap(forEveryMajor),
+                Collections.unmodifiableMap(forMajor));
+    }
+
+    private static List<String> parsePrerequisites(String field) {
+        if (field.equals(NONE)) {
+            return Collections.emptyList();
+        }
+        List<String> prerequisites = new ArrayList<>();
+        for (String code : field.split(",")) {
+            prerequisites.add(code.trim().toUpperCase());
+        }
+        return Collections.unmodifiableList(prerequisites);
+    }
+
+    private static void checkFieldCount(String[] fields, int expected, String line) {
+        if (fields.length != expected) {
+            throw new IllegalStateException("Malformed line in prerequisite overrides: " + line);
+        }
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieves the prerequisites of a module for a major, if they are overridden.
+     *
+     * @param moduleCode The module code.
+     * @param major      The major, or null to consider only overrides for every major.
+     * @return The prerequisites, all of which are needed, or null if the module is not overridden.
+     */
+    public List<String> getPrerequisites(String moduleCode, String major) {
+        if (major != null && !forMajor.isEmpty()) {
+            Map<String, List<String>> majorOverrides = forMajor.get(major.toUpperCase());
+            if (majorOverrides != null) {
+                List<String> prerequisites = majorOverrides.get(moduleCode);
+                if (prerequisites != null) {
+                    return prerequisites;
+                }
+            }
+        }
+        return forEveryMajor.get(moduleCode);
+    }
+
+    /**
+     * Retrieves the prerequisites of a module for every major as a prerequisite tree, in the form
+     * Api.checkPrereq reads. The tree is built once when the overrides are read and must not be changed.
+     *
+     * @param moduleCode The module code.
+     * @return The tree, or null if the module is not overridden for every major.
+     */
+    JSONObject getPrereqTree(String moduleCode) {
+        return prereqTrees.get(moduleCode);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.duke.models.logic;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Passes requests on to another source and saves every module and module list it answers in a directory laid
+ * out like NUSMods, ready to be served by NusModsStubServer.
+ */
+public class RecordingDataSource implements ModuleDataSource {
+    private final ModuleDataSource source;
+    private final Path directory;
+
+    /**
+     * Constructs a recording source.
+     *
+     * @param source    The source to pass requests on to.
+     * @param directory The directory to save responses in.
+     */
+    public RecordingDataSource(ModuleDataSource source, Path directory) {
+        this.source = source;
+        this.directory = directory;
+    }
+
+    @Override
+    public String fetchModuleInfo(String moduleCode) throws IOException, InterruptedException {
+        String body = source.fetchModuleInfo(moduleCode);
+        // Unknown modules are not saved, so the stub answers them with 404 as NUSMods does
+        if (body.startsWith("{")) {
+            save(directory.resolve("modules").resolve(moduleCode + ".json"), body);
+        }
+        return body;
+    }
+
+    @Override
+    public String fetchModuleList() throws IOException, InterruptedException {
+        String body = source.fetchModuleList();
+        save(directory.resolve("moduleList.json"), body);
+        return body;
+    }
+
+    private static synchronized void save(Path file, String body) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, body, StandardCharsets.UTF_8);
+    }
+}
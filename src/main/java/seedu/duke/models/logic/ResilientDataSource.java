@@ -0,0 +1,240 @@
+package seedu.duke.models.logic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import seedu.duke.utils.metrics.Counter;
+import seedu.duke.utils.metrics.MetricsRegistry;
+
+/**
+ * Passes requests on to another source, such as NUSMods, and shields callers from its failures. A request that
+ * fails is retried a few times after a random, growing delay, so that many callers retrying at once do not hit the
+ * source together. Retries stop once the request's deadline would pass. Failures in a row open a circuit breaker,
+ * after which requests fail at once instead of waiting on a source that is down.
+ *
+ * <p>A request that still fails is answered from a fallback source, such as a saved copy of the data, if one was
+ * given. Revalidations of data the caller already holds are not, since the caller's own copy is the better answer.
+ */
+public class ResilientDataSource implements ModuleDataSource {
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(12);
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final Duration DEFAULT_OPEN_TIME = Duration.ofSeconds(30);
+
+    private static final int MAX_BACKOFF_SHIFT = 30;
+
+    private static final MetricsRegistry metrics = MetricsRegistry.global();
+    private static final Counter retries = metrics.counter("nusdegs_upstream_retries_total",
+            "Requests for module data sent again after a failure.");
+    private static final Counter rejectedRequests = metrics.counter("nusdegs_upstream_rejected_total",
+            "Requests for module data refused at once because the circuit breaker was open.");
+    private static final Counter fallbackAnswers = metrics.counter("nusdegs_fallback_answers_total",
+            "Requests for module data answered from the fallback source.", "result", "served");
+    private static final Counter fallbackMisses = metrics.counter("nusdegs_fallback_answers_total",
+            "Requests for module data answered from the fallback source.", "result", "missing");
+
+    private final ModuleDataSource source;
+    private final ModuleDataSource fallback;
+    private final CircuitBreaker circuitBreaker;
+    private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private volatile long baseDelayNanos = DEFAULT_BASE_DELAY.toNanos();
+    private volatile long maxDelayNanos = DEFAULT_MAX_DELAY.toNanos();
+    private volatile long deadlineNanos = DEFAULT_DEADLINE.toNanos();
+
+    /**
+     * Constructs a source with the default retries and circuit breaker.
+     *
+     * @param source   The source to pass requests on to.
+     * @param fallback The source to answer from when the first fails, or null if there is none.
+     */
+    public ResilientDataSource(ModuleDataSource source, ModuleDataSource fallback) {
+        this(source, fallback, new CircuitBreaker(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_TIME));
+    }
+
+    /**
+     * Constructs a source with the default retries.
+     *
+     * @param source         The source to pass requests on to.
+     * @param fallback       The source to answer from when the first fails, or null if there is none.
+     * @param circuitBreaker The breaker guarding the first source.
+     */
+    public ResilientDataSource(ModuleDataSource source, ModuleDataSource fallback, CircuitBreaker circuitBreaker) {
+        this.source = source;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Changes how failed requests are retried. The delay before the nth retry is picked at random between zero and
+     * baseDelay * 2^(n-1), but never more than maxDelay.
+     *
+     * @param maxAttempts The most times a request is sent, counting the first.
+     * @param baseDelay   The longest delay before the first retry.
+     * @param maxDelay    The longest delay before any retry.
+     */
+    public void setRetries(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("A request must be sent at least once");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    /**
+     * Changes how long a request may take, counting its retries. No retry is started that would begin after the
+     * deadline; a request already sent is bounded by the timeout of the source itself.
+     *
+     * @param deadline How long a request may take.
+     */
+    public void setDeadline(Duration deadline) {
+        this.deadlineNanos = deadline.toNanos();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Retrieves a source for another academic year with the same retries, sharing this source's circuit breaker,
+     * since every year is served by the same server.
+     *
+     * @param academicYear The academic year, such as 2022-2023.
+     * @return The source for that year, or null if the source passed requests on to only answers for one year.
+     */
+    @Override
+    public ModuleDataSource forAcademicYear(String academicYear) {
+        ModuleDataSource yearSource = source.forAcademicYear(academicYear);
+        if (yearSource == null) {
+            return null;
+        }
+        ModuleDataSource yearFallback = fallback == null ? null : fallback.forAcademicYear(academicYear);
+        ResilientDataSource resilient = new ResilientDataSource(yearSource, yearFallback, circuitBreaker);
+        resilient.maxAttempts = maxAttempts;
+        resilient.baseDelayNanos = baseDelayNanos;
+        resilient.maxDelayNanos = maxDelayNanos;
+        resilient.deadlineNanos = deadlineNanos;
+        return resilient;
+    }
+
+    @Override
+    public String fetchModuleInfo(String moduleCode) throws IOException, InterruptedException {
+        return readAll(openModuleInfo(moduleCode));
+    }
+
+    @Override
+    public String fetchModuleList() throws IOException, InterruptedException {
+        return readAll(openModuleList());
+    }
+
+    @Override
+    public InputStream openModuleInfo(String moduleCode) throws IOException, InterruptedException {
+        return send(() -> source.openModuleInfo(moduleCode),
+                fallback == null ? null : () -> fallback.openModuleInfo(moduleCode));
+    }
+
+    @Override
+    public InputStream openModuleList() throws IOException, InterruptedException {
+        return send(source::openModuleList, fallback == null ? null : fallback::openModuleList);
+    }
+
+    @Override
+    public ModuleResponse openModuleInfo(String moduleCode, String etag, String lastModified)
+            throws IOException, InterruptedException {
+        boolean hasCopy = etag != null || lastModified != null;
+        return send(() -> source.openModuleInfo(moduleCode, etag, lastModified),
+                fallback == null || hasCopy ? null : () -> fallback.openModuleInfo(moduleCode, null, null));
+    }
+
+    @Override
+    public ModuleResponse openModuleList(String etag, String lastModified) throws IOException, InterruptedException {
+        boolean hasCopy = etag != null || lastModified != null;
+        return send(() -> source.openModuleList(etag, lastModified),
+                fallback == null || hasCopy ? null : () -> fallback.openModuleList(null, null));
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Sends a request to the source, retrying it while the circuit breaker and the deadline allow, and then asks
+     * the fallback. If every try fails, the last failure of the source is thrown with those of the fallback
+     * attached.
+     */
+    private <T> T send(Request<T> request, Request<T> fallbackRequest) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + deadlineNanos;
+        IOException failure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                rejectedRequests.increment();
+                failure = new CircuitOpenException();
+                break;
+            }
+            try {
+                T response = request.send();
+                circuitBreaker.recordSuccess();
+                return response;
+            } catch (IOException e) {
+                circuitBreaker.recordFailure();
+                failure = e;
+            } catch (InterruptedException | RuntimeException e) {
+                circuitBreaker.recordFailure();
+                throw e;
+            }
+            long delay = backoff(attempt);
+            if (attempt == maxAttempts || System.nanoTime() + delay >= deadline) {
+                break;
+            }
+            retries.increment();
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+
+        if (fallbackRequest != null) {
+            try {
+                T response = fallbackRequest.send();
+                fallbackAnswers.increment();
+                return response;
+            } catch (IOException e) {
+                fallbackMisses.increment();
+                failure.addSuppressed(e);
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Picks the delay before a retry, with "full jitter": anywhere from zero up to the exponential backoff.
+     */
+    private long backoff(int attempt) {
+        long ceiling = baseDelayNanos << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+        if (ceiling < 0 || ceiling > maxDelayNanos) {
+            ceiling = maxDelayNanos;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Thrown instead of sending a request while the circuit breaker is open.
+     */
+    public static class CircuitOpenException extends IOException {
+        public CircuitOpenException() {
+            super("requests to NUSMods are paused after repeated failures");
+        }
+    }
+
+    /**
+     * A request to one of the sources.
+     */
+    private interface Request<T> {
+        T send() throws IOException, InterruptedException;
+    }
+}
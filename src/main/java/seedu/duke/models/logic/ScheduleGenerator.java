@@ -3,12 +3,57 @@ package seedu.duke.models.logic;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static seedu.duke.models.logic.Api.getModulePrereqBasedOnCourse;
 import static seedu.duke.models.logic.DataRepository.getRequirements;
 
 public class ScheduleGenerator {
+    // Recommended schedules by course, kept until module data is read from another source
+    private static final Map<String, CompletableFuture<ArrayList<String>>> recommendedSchedules =
+            new ConcurrentHashMap<>();
+    private static volatile ModuleDataSource recommendedSchedulesSource;
+
+    /**
+     * Retrieves the recommended schedule for a course, generating it the first time it is asked for. Callers
+     * asking while it is being generated wait for it instead of generating it again. The schedule is generated
+     * outside the map, so looking up other courses is never held up by it; if generating fails, the callers waiting
+     * get the same exception and the next call tries again.
+     *
+     * @param course The course for which to retrieve a recommended schedule.
+     * @return A copy of the recommended schedule, in order of completion.
+     */
+    public static ArrayList<String> getRecommendedSchedule(String course) {
+        ModuleDataSource source = Api.getDataSource();
+        if (recommendedSchedulesSource != source) {
+            recommendedSchedules.clear();
+            recommendedSchedulesSource = source;
+        }
+        CompletableFuture<ArrayList<String>> generated = new CompletableFuture<>();
+        CompletableFuture<ArrayList<String>> schedule = recommendedSchedules.putIfAbsent(course, generated);
+        if (schedule == null) {
+            schedule = generated;
+            try {
+                generated.complete(generateRecommendedSchedule(course));
+            } catch (RuntimeException | Error e) {
+                recommendedSchedules.remove(course, generated);
+                generated.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return new ArrayList<>(schedule.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
 
     /**
      * Generates a recommended schedule for a given course based on its requirements and prerequisites.
@@ -0,0 +1,84 @@
+package seedu.duke.models.logic;
+
+/**
+ * The goals a student can ask the timetable optimizer to meet, in order of importance. Each objective scores a
+ * week of lessons, given as one hour mask per day, and a lower score is better.
+ */
+public enum TimetableObjective {
+    /** Fewest days with any lesson. */
+    FEWEST_DAYS("days", true),
+    /** Fewest days with a lesson before 9am. */
+    NO_MORNING_CLASSES("morning", true),
+    /** Fewest free hours between the first and last lesson of each day. */
+    FEWEST_GAPS("gaps", false);
+
+    private static final long MORNING_HOURS = (1L << 9) - 1;
+
+    private final String keyword;
+    private final boolean isMonotone;
+
+    TimetableObjective(String keyword, boolean isMonotone) {
+        this.keyword = keyword;
+        this.isMonotone = isMonotone;
+    }
+
+    /**
+     * Finds the objective named by a keyword, as typed by the user.
+     *
+     * @param keyword The keyword, e.g. "days".
+     * @return The objective.
+     * @throws IllegalArgumentException If no objective has the keyword.
+     */
+    public static TimetableObjective fromKeyword(String keyword) {
+        for (TimetableObjective objective : values()) {
+            if (objective.keyword.equalsIgnoreCase(keyword)) {
+                return objective;
+            }
+        }
+        throw new IllegalArgumentException("Unknown timetable objective: " + keyword);
+    }
+
+    /**
+     * Scores a week of lessons.
+     *
+     * @param days One hour mask per day, with bit h set when the hour from h:00 is taken.
+     * @return The score, where lower is better.
+     */
+    public int score(long[] days) {
+        int score = 0;
+        for (long day : days) {
+            switch (this) {
+            case FEWEST_DAYS:
+                score += day != 0 ? 1 : 0;
+                break;
+            case NO_MORNING_CLASSES:
+                score += (day & MORNING_HOURS) != 0 ? 1 : 0;
+                break;
+            case FEWEST_GAPS:
+                if (day != 0) {
+                    int span = Long.SIZE - Long.numberOfLeadingZeros(day) - Long.numberOfTrailingZeros(day);
+                    score += span - Long.bitCount(day);
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Scores part of a week so that the score of any completed week is at least as high. Objectives whose score
+     * can drop as lessons are added give no such bound and score 0.
+     *
+     * @param days One hour mask per day of the lessons chosen so far.
+     * @return The lowest score the completed week can have.
+     */
+    public int lowerBound(long[] days) {
+        return isMonotone ? score(days) : 0;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+}
@@ -0,0 +1,391 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import seedu.duke.models.schema.ClassOption;
+import seedu.duke.models.schema.Event;
+import seedu.duke.models.schema.Lab;
+import seedu.duke.models.schema.Lecture;
+import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.models.schema.Tutorial;
+import seedu.duke.models.schema.WeekGrid;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The `TimetableOptimizer` class picks one class of every lesson type of every module in a semester, such as one
+ * lecture group and one tutorial group of CS2113, so that no two lessons clash and the week is as good as possible
+ * for the objectives chosen.
+ * <p>
+ * The search assigns one lesson type at a time, always choosing the lesson type with the fewest classes left that
+ * fit around the lessons already chosen, and backs up as soon as some lesson type has none left. The hours taken
+ * are one mask per day, so checking a class against the week is a few bitwise operations. A partial week that
+ * already scores no better than the best week found is not extended. The search stops when the time budget runs
+ * out, returning the best week found so far.
+ */
+public class TimetableOptimizer {
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+    static final int NODES_BETWEEN_CLOCK_CHECKS = 1024;
+
+    private static final int DAYS = WeekGrid.DAYS_IN_WEEK;
+    private static final int SCORE_RANGE = 256;
+
+    private final List<TimetableObjective> objectives;
+    private final long timeBudgetNanos;
+    private final List<List<ClassOption>> lessonGroups = new ArrayList<>();
+    private final Map<String, Integer> moduleCredits = new LinkedHashMap<>();
+
+    private long[][] optionMasks;
+    private long[] week;
+    private boolean[] isAssigned;
+    private int[] choices;
+    private int[] bestChoices;
+    private int[] bestScores;
+    private long deadline;
+    private long nodes;
+    private boolean isOutOfTime;
+
+    /**
+     * Constructs an optimizer with no modules.
+     *
+     * @param objectives The objectives to meet, most important first.
+     * @param timeBudget How long the search may take.
+     */
+    public TimetableOptimizer(List<TimetableObjective> objectives, Duration timeBudget) {
+        this.objectives = new ArrayList<>(new LinkedHashSet<>(objectives));
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
+
+    /**
+     * Adds a module, reading its classes for a semester from the module information of the NUSMods API.
+     *
+     * @param moduleCode The code of the module.
+     * @param semester   The semester of the academic year, 1 or 2.
+     * @return false if the module has no lessons in the semester, in which case it is left out.
+     */
+    public boolean addModule(String moduleCode, int semester) {
+        JSONObject moduleInfo = Api.getFullModuleInfo(moduleCode);
+        return moduleInfo != null && addModule(moduleCode, moduleInfo, semester);
+    }
+
+    /**
+     * Adds a module given its module information in the form returned by the NUSMods API.
+     *
+     * @param moduleCode The code of the module.
+     * @param moduleInfo The module information, with the lessons of each semester under "semesterData".
+     * @param semester   The semester of the academic year, 1 or 2.
+     * @return false if the module has no lessons in the semester, in which case it is left out.
+     */
+    public boolean addModule(String moduleCode, JSONObject moduleInfo, int semester) {
+        JSONArray lessons = findLessons(moduleInfo, semester);
+        if (lessons == null || lessons.isEmpty()) {
+            return false;
+        }
+        // Lesson type -> class number -> sessions, in the order NUSMods lists them
+        Map<String, Map<String, List<Event>>> classesByType = new LinkedHashMap<>();
+        for (Object lessonObject : lessons) {
+            JSONObject lesson = (JSONObject) lessonObject;
+            Event session = toSession(lesson);
+            if (session == null) {
+                continue;
+            }
+            classesByType.computeIfAbsent((String) lesson.get("lessonType"), type -> new LinkedHashMap<>())
+                    .computeIfAbsent((String) lesson.get("classNo"), classNo -> new ArrayList<>())
+                    .add(session);
+        }
+        if (classesByType.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, Map<String, List<Event>>> type : classesByType.entrySet()) {
+            List<ClassOption> options = new ArrayList<>();
+            for (Map.Entry<String, List<Event>> classNo : type.getValue().entrySet()) {
+                options.add(new ClassOption(moduleCode, type.getKey(), classNo.getKey(), classNo.getValue()));
+            }
+            addLessonGroup(options);
+        }
+        Object credits = moduleInfo.get("moduleCredit");
+        moduleCredits.put(moduleCode, credits == null ? 0 : Integer.parseInt(credits.toString()));
+        return true;
+    }
+
+    /**
+     * Adds a lesson type of a module, one of whose classes must be chosen.
+     *
+     * @param options The classes of the lesson type.
+     */
+    public void addLessonGroup(List<ClassOption> options) {
+        // Classes meeting at the same hours are interchangeable, so only the first is searched
+        Set<WeekGrid> seen = new LinkedHashSet<>();
+        List<ClassOption> distinct = new ArrayList<>();
+        for (ClassOption option : options) {
+            if (seen.add(option.getWeekGrid())) {
+                distinct.add(option);
+            }
+        }
+        lessonGroups.add(distinct);
+        for (ClassOption option : distinct) {
+            moduleCredits.putIfAbsent(option.getModuleCode(), 0);
+        }
+    }
+
+    private static JSONArray findLessons(JSONObject moduleInfo, int semester) {
+        JSONArray semesterData = (JSONArray) moduleInfo.get("semesterData");
+        if (semesterData == null) {
+            return null;
+        }
+        for (Object semesterObject : semesterData) {
+            JSONObject semesterInfo = (JSONObject) semesterObject;
+            Object semesterNumber = semesterInfo.get("semester");
+            if (semesterNumber != null && Integer.parseInt(semesterNumber.toString()) == semester) {
+                return (JSONArray) semesterInfo.get("timetable");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a lesson from NUSMods to a session on the hourly grid, widening it to whole hours.
+     *
+     * @param lesson The lesson, with "day", "startTime" and "endTime" such as "0830".
+     * @return The session, or null if the lesson is not on a day of the week.
+     */
+    private static Event toSession(JSONObject lesson) {
+        String day = (String) lesson.get("day");
+        String lessonType = (String) lesson.get("lessonType");
+        if (day == null || lessonType == null || lesson.get("classNo") == null) {
+            return null;
+        }
+        int start = Integer.parseInt((String) lesson.get("startTime"));
+        int end = Integer.parseInt((String) lesson.get("endTime"));
+        int startHour = start / 100;
+        int endHour = (end + 99) / 100;
+        Event session;
+        if (lessonType.contains("Lecture")) {
+            session = new Lecture(day, startHour, endHour - startHour);
+        } else if (lessonType.contains("Laboratory")) {
+            session = new Lab(day, startHour, endHour - startHour);
+        } else {
+            session = new Tutorial(day, startHour, endHour - startHour);
+        }
+        return session.getDay() < 0 ? null : session;
+    }
+
+    /**
+     * Searches for the best clash-free week within the time budget.
+     *
+     * @return The best week found, or null if no clash-free week was found.
+     */
+    public Solution solve() {
+        int groupCount = lessonGroups.size();
+        optionMasks = new long[groupCount][];
+        for (int group = 0; group < groupCount; group++) {
+            List<ClassOption> options = lessonGroups.get(group);
+            optionMasks[group] = new long[options.size() * DAYS];
+            for (int option = 0; option < options.size(); option++) {
+                WeekGrid grid = options.get(option).getWeekGrid();
+                for (int day = 0; day < DAYS; day++) {
+                    optionMasks[group][option * DAYS + day] = grid.getDayMask(day);
+                }
+            }
+        }
+        week = new long[DAYS];
+        isAssigned = new boolean[groupCount];
+        choices = new int[groupCount];
+        bestChoices = null;
+        bestScores = null;
+        nodes = 0;
+        isOutOfTime = false;
+        deadline = System.nanoTime() + timeBudgetNanos;
+
+        search(0);
+
+        if (bestChoices == null) {
+            return null;
+        }
+        List<ClassOption> chosen = new ArrayList<>();
+        for (int group = 0; group < groupCount; group++) {
+            chosen.add(lessonGroups.get(group).get(bestChoices[group]));
+        }
+        return new Solution(chosen, bestScores, !isOutOfTime, moduleCredits);
+    }
+
+    private void search(int assignedCount) {
+        if (isOutOfTime || (++nodes % NODES_BETWEEN_CLOCK_CHECKS == 0 && System.nanoTime() > deadline)) {
+            isOutOfTime = true;
+            return;
+        }
+        if (assignedCount == lessonGroups.size()) {
+            int[] scores = score(false);
+            if (bestScores == null || compare(scores, bestScores) < 0) {
+                bestScores = scores;
+                bestChoices = choices.clone();
+            }
+            return;
+        }
+        if (bestScores != null && compare(score(true), bestScores) >= 0) {
+            return;
+        }
+
+        // Most constrained first: the lesson type with the fewest classes that still fit
+        int group = -1;
+        int fewestFits = Integer.MAX_VALUE;
+        for (int candidate = 0; candidate < isAssigned.length; candidate++) {
+            if (isAssigned[candidate]) {
+                continue;
+            }
+            int fits = countFits(candidate);
+            if (fits == 0) {
+                return;
+            }
+            if (fits < fewestFits) {
+                fewestFits = fits;
+                group = candidate;
+            }
+        }
+
+        int[] order = orderFits(group, fewestFits);
+        isAssigned[group] = true;
+        long[] masks = optionMasks[group];
+        for (int option : order) {
+            for (int day = 0; day < DAYS; day++) {
+                week[day] |= masks[option * DAYS + day];
+            }
+            choices[group] = option;
+            search(assignedCount + 1);
+            for (int day = 0; day < DAYS; day++) {
+                week[day] &= ~masks[option * DAYS + day];
+            }
+            if (isOutOfTime) {
+                break;
+            }
+        }
+        isAssigned[group] = false;
+    }
+
+    private boolean fits(long[] masks, int option) {
+        for (int day = 0; day < DAYS; day++) {
+            if ((week[day] & masks[option * DAYS + day]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int countFits(int group) {
+        long[] masks = optionMasks[group];
+        int count = 0;
+        for (int option = 0; option * DAYS < masks.length; option++) {
+            if (fits(masks, option)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lists the classes of a lesson type that fit, with the classes that leave the best week first, so that good
+     * weeks are found early and more of the search can be cut off.
+     */
+    private int[] orderFits(int group, int fitCount) {
+        long[] masks = optionMasks[group];
+        long[] keyed = new long[fitCount];
+        int next = 0;
+        long[] trial = new long[DAYS];
+        for (int option = 0; option * DAYS < masks.length; option++) {
+            if (!fits(masks, option)) {
+                continue;
+            }
+            for (int day = 0; day < DAYS; day++) {
+                trial[day] = week[day] | masks[option * DAYS + day];
+            }
+            long key = 0;
+            for (TimetableObjective objective : objectives) {
+                key = key * SCORE_RANGE + Math.min(objective.score(trial), SCORE_RANGE - 1);
+            }
+            keyed[next++] = key << Integer.SIZE | option;
+        }
+        Arrays.sort(keyed);
+        int[] order = new int[fitCount];
+        for (int i = 0; i < fitCount; i++) {
+            order[i] = (int) keyed[i];
+        }
+        return order;
+    }
+
+    private int[] score(boolean isPartial) {
+        int[] scores = new int[objectives.size()];
+        for (int i = 0; i < scores.length; i++) {
+            TimetableObjective objective = objectives.get(i);
+            scores[i] = isPartial ? objective.lowerBound(week) : objective.score(week);
+        }
+        return scores;
+    }
+
+    private static int compare(int[] first, int[] second) {
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] != second[i]) {
+                return Integer.compare(first[i], second[i]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The `Solution` class is a clash-free week found by the optimizer, with its score for each objective.
+     */
+    public static class Solution {
+        private final List<ClassOption> classes;
+        private final int[] scores;
+        private final boolean isOptimal;
+        private final Map<String, Integer> moduleCredits;
+
+        private Solution(List<ClassOption> classes, int[] scores, boolean isOptimal,
+                         Map<String, Integer> moduleCredits) {
+            this.classes = Collections.unmodifiableList(classes);
+            this.scores = scores;
+            this.isOptimal = isOptimal;
+            this.moduleCredits = moduleCredits;
+        }
+
+        public List<ClassOption> getClasses() {
+            return classes;
+        }
+
+        public int[] getScores() {
+            return scores.clone();
+        }
+
+        /**
+         * Checks if the search finished within the time budget, so that no better week exists.
+         *
+         * @return true if the week is the best possible.
+         */
+        public boolean isOptimal() {
+            return isOptimal;
+        }
+
+        /**
+         * Builds the modules of the week with the lessons of the chosen classes, ready to be shown.
+         *
+         * @return The modules, in the order they were added.
+         */
+        public ArrayList<ModuleWeekly> toModules() {
+            Map<String, ModuleWeekly> modules = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> module : moduleCredits.entrySet()) {
+                modules.put(module.getKey(), new ModuleWeekly(module.getKey(), module.getValue()));
+            }
+            for (ClassOption option : classes) {
+                modules.get(option.getModuleCode()).addClass(option);
+            }
+            return new ArrayList<>(modules.values());
+        }
+    }
+}
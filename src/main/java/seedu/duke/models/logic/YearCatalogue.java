@@ -0,0 +1,140 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the catalogue entry of each module, its title, units and prerequisites, as it stood in each of a run of
+ * academic years. Most modules are the same from one year to the next, so an entry equal to the one of the nearest
+ * year already held is not stored again: the years share it. Keeping five years costs little more than keeping
+ * one, and the entry of any module in any year is found by two lookups, whatever the number of years.
+ */
+public class YearCatalogue {
+    private static final Set<String> ENTRY_FIELDS = Set.of("moduleCode", "title", "moduleCredit", "prereqTree");
+
+    private final List<String> academicYears;
+    private final Map<String, Integer> yearIndexes = new HashMap<>();
+    // module code -> entry in each year, by the index of the year; years with the same entry hold the same object
+    private final Map<String, JSONObject[]> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty catalogue.
+     *
+     * @param academicYears The academic years it covers, earliest first and with none missing in between.
+     */
+    public YearCatalogue(List<String> academicYears) {
+        if (academicYears.isEmpty()) {
+            throw new IllegalArgumentException("A catalogue must cover at least one academic year");
+        }
+        this.academicYears = List.copyOf(academicYears);
+        for (int i = 0; i < academicYears.size(); i++) {
+            yearIndexes.put(academicYears.get(i), i);
+        }
+    }
+
+    public String getEarliestYear() {
+        return academicYears.get(0);
+    }
+
+    public String getLatestYear() {
+        return academicYears.get(academicYears.size() - 1);
+    }
+
+    /**
+     * Finds the academic year covered that stands in for another. Years after the latest are planned with the
+     * latest catalogue, since NUSMods has not published theirs yet, and years before the earliest with the earliest.
+     *
+     * @param academicYear The academic year.
+     * @return The covered year nearest to it.
+     * @throws IllegalArgumentException If the academic year is malformed.
+     */
+    public String resolve(String academicYear) {
+        if (AcademicYear.compare(academicYear, getLatestYear()) > 0) {
+            return getLatestYear();
+        }
+        if (AcademicYear.compare(academicYear, getEarliestYear()) < 0) {
+            return getEarliestYear();
+        }
+        return academicYear;
+    }
+
+    /**
+     * Retrieves the entry of a module in a year.
+     *
+     * @param academicYear The academic year, one of those covered.
+     * @param moduleCode   The code of the module.
+     * @return The entry, or null if it is not held.
+     */
+    public JSONObject get(String academicYear, String moduleCode) {
+        JSONObject[] moduleEntries = entries.get(moduleCode);
+        return moduleEntries == null ? null : moduleEntries[yearIndexes.get(academicYear)];
+    }
+
+    /**
+     * Stores the entry of a module in a year, keeping only the fields of the details given that a catalogue entry
+     * has. If the entry is equal to the one held for the nearest earlier or later year, that one is shared instead.
+     *
+     * @param academicYear The academic year, one of those covered.
+     * @param moduleCode   The code of the module.
+     * @param moduleInfo   The details of the module in that year.
+     * @return The entry now held for the module in that year.
+     */
+    public JSONObject put(String academicYear, String moduleCode, JSONObject moduleInfo) {
+        int index = yearIndexes.get(academicYear);
+        JSONObject entry = new JSONObject();
+        for (String field : ENTRY_FIELDS) {
+            if (moduleInfo.get(field) != null) {
+                entry.put(field, moduleInfo.get(field));
+            }
+        }
+
+        JSONObject[] moduleEntries = entries.computeIfAbsent(moduleCode, code -> new JSONObject[academicYears.size()]);
+        synchronized (moduleEntries) {
+            for (int i = index - 1; i >= 0; i--) {
+                if (moduleEntries[i] != null) {
+                    entry = moduleEntries[i].equals(entry) ? moduleEntries[i] : entry;
+                    break;
+                }
+            }
+            for (int i = index + 1; i < moduleEntries.length; i++) {
+                if (moduleEntries[i] != null) {
+                    entry = moduleEntries[i].equals(entry) ? moduleEntries[i] : entry;
+                    break;
+                }
+            }
+            moduleEntries[index] = entry;
+        }
+        return entry;
+    }
+
+    /**
+     * Counts the distinct entries held, which is what the catalogue costs in memory. A module unchanged across
+     * every year held counts once.
+     *
+     * @return The number of distinct entries.
+     */
+    public int countStoredEntries() {
+        int count = 0;
+        for (JSONObject[] moduleEntries : entries.values()) {
+            synchronized (moduleEntries) {
+                JSONObject previous = null;
+                for (JSONObject entry : moduleEntries) {
+                    if (entry != null && entry != previous) {
+                        count++;
+                        previous = entry;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
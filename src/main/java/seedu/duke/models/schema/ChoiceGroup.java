@@ -0,0 +1,53 @@
+package seedu.duke.models.schema;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A "choose N of" requirement, where any numberToChoose of the listed modules count towards a bucket.
+ */
+public class ChoiceGroup {
+    private final String bucketId;
+    private final int numberToChoose;
+    private final int moduleCredits;
+    private final List<String> moduleCodes;
+    private final String title;
+
+    /**
+     * Constructs a choice group.
+     *
+     * @param bucketId       The id of the requirement bucket the chosen modules count towards.
+     * @param numberToChoose The number of listed modules that must be taken.
+     * @param moduleCredits  The number of units each listed module is worth.
+     * @param moduleCodes    The modules to choose from.
+     * @param title          The title shown when printing requirements.
+     */
+    public ChoiceGroup(String bucketId, int numberToChoose, int moduleCredits,
+                       List<String> moduleCodes, String title) {
+        this.bucketId = bucketId;
+        this.numberToChoose = numberToChoose;
+        this.moduleCredits = moduleCredits;
+        this.moduleCodes = Collections.unmodifiableList(moduleCodes);
+        this.title = title;
+    }
+
+    public String getBucketId() {
+        return bucketId;
+    }
+
+    public int getNumberToChoose() {
+        return numberToChoose;
+    }
+
+    public int getModuleCredits() {
+        return moduleCredits;
+    }
+
+    public List<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
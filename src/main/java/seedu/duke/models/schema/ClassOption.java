@@ -0,0 +1,62 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The `ClassOption` class represents one class a student can choose for a lesson type of a module, such as
+ * tutorial group 03 of CS2113, with every session of that class in the week.
+ */
+public class ClassOption {
+    private final String moduleCode;
+    private final String lessonType;
+    private final String classNo;
+    private final List<Event> sessions;
+    private final WeekGrid weekGrid;
+
+    /**
+     * Constructs a class option.
+     *
+     * @param moduleCode The code of the module.
+     * @param lessonType The lesson type, e.g. "Tutorial".
+     * @param classNo    The class number, e.g. "03".
+     * @param sessions   The sessions of the class in a week.
+     * @throws IllegalArgumentException If a session is not on a day of the week or does not fit within the day.
+     */
+    public ClassOption(String moduleCode, String lessonType, String classNo, List<Event> sessions) {
+        this.moduleCode = moduleCode;
+        this.lessonType = lessonType;
+        this.classNo = classNo;
+        this.sessions = new ArrayList<>(sessions);
+        this.weekGrid = new WeekGrid();
+        for (Event session : sessions) {
+            weekGrid.add(session);
+        }
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getLessonType() {
+        return lessonType;
+    }
+
+    public String getClassNo() {
+        return classNo;
+    }
+
+    public List<Event> getSessions() {
+        return Collections.unmodifiableList(sessions);
+    }
+
+    /**
+     * Retrieves the hours of the week taken by this class.
+     *
+     * @return The week grid of the sessions, which must not be changed.
+     */
+    public WeekGrid getWeekGrid() {
+        return weekGrid;
+    }
+}
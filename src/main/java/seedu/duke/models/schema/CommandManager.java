@@ -30,8 +30,17 @@ public class CommandManager {
         commandsAndDescription.put("help", "Shows the list of commands.");
         commandsAndDescription.put("add", "Adds module to the recommended schedule planner.");
         commandsAndDescription.put("delete", "Deletes module from the schedule planner.");
+        commandsAndDescription.put("move", "Moves a module to another semester of the schedule planner.");
+        commandsAndDescription.put("undo", "Undoes the last change to the schedule planner.");
+        commandsAndDescription.put("redo", "Makes the last change undone again.");
+        commandsAndDescription.put("branch", "Lists your plans, or starts a new plan from the current schedule.");
+        commandsAndDescription.put("switch", "Switches the schedule planner to another plan.");
+        commandsAndDescription.put("diff", "Shows how another plan differs from the current schedule.");
+        commandsAndDescription.put("eligible", "Lists the modules you can take in a semester, by bucket or keyword.");
         commandsAndDescription.put("schedule", "Shows schedule planner");
         commandsAndDescription.put("search", "search for modules to take based on keyword");
+        commandsAndDescription.put("timetable", "Picks clash-free lesson slots for a semester's modules.");
+        commandsAndDescription.put("stats", "Shows how long commands took and how much module data was fetched.");
     }
 
     /**
@@ -0,0 +1,200 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The `DegreeRequirements` class is an immutable, indexed view of the requirements of one major.
+ * Instances are built once per major by DataRepository and shared by every caller.
+ */
+public class DegreeRequirements {
+    private final String major;
+    private final String title;
+    private final List<RequirementBucket> buckets;
+    private final List<RequiredModule> modules;
+    private final List<String> moduleCodes;
+    private final Set<String> moduleCodeSet;
+    private final Map<String, RequiredModule> modulesByCode;
+    private final List<ChoiceGroup> choiceGroups;
+    private final Map<String, ChoiceGroup> choiceGroupsByCode;
+    private final List<RequirementBucket> allBuckets;
+
+    /**
+     * Constructs the requirements of a major.
+     *
+     * @param major   The major these requirements belong to.
+     * @param title   The heading shown when printing requirements.
+     * @param buckets The top level requirement buckets, in display order.
+     * @param modules Every required module, in planning order.
+     * @param choiceGroups Every "choose N of" group.
+     */
+    public DegreeRequirements(String major, String title, List<RequirementBucket> buckets,
+                              List<RequiredModule> modules, List<ChoiceGroup> choiceGroups) {
+        this.major = major;
+        this.title = title;
+        this.buckets = Collections.unmodifiableList(buckets);
+        this.modules = Collections.unmodifiableList(modules);
+
+        List<String> codes = new ArrayList<>();
+        Map<String, RequiredModule> byCode = new HashMap<>();
+        for (RequiredModule module : modules) {
+            codes.add(module.getModuleCode());
+            byCode.put(module.getModuleCode(), module);
+            for (String alternative : module.getAlternatives()) {
+                byCode.putIfAbsent(alternative, module);
+            }
+        }
+        this.moduleCodes = Collections.unmodifiableList(codes);
+        this.moduleCodeSet = Collections.unmodifiableSet(new HashSet<>(codes));
+        this.modulesByCode = Collections.unmodifiableMap(byCode);
+
+        Map<String, ChoiceGroup> groupsByCode = new HashMap<>();
+        for (ChoiceGroup choiceGroup : choiceGroups) {
+            for (String code : choiceGroup.getModuleCodes()) {
+                groupsByCode.putIfAbsent(code, choiceGroup);
+            }
+        }
+        this.choiceGroups = Collections.unmodifiableList(choiceGroups);
+        this.choiceGroupsByCode = Collections.unmodifiableMap(groupsByCode);
+
+        List<RequirementBucket> flattened = new ArrayList<>();
+        for (RequirementBucket bucket : buckets) {
+            addBucketAndDescendants(bucket, flattened);
+        }
+        this.allBuckets = Collections.unmodifiableList(flattened);
+    }
+
+    private static void addBucketAndDescendants(RequirementBucket bucket, List<RequirementBucket> flattened) {
+        flattened.add(bucket);
+        for (RequirementBucket subBucket : bucket.getSubBuckets()) {
+            addBucketAndDescendants(subBucket, flattened);
+        }
+    }
+
+    public String getMajor() {
+        return major;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<RequirementBucket> getBuckets() {
+        return buckets;
+    }
+
+    public List<RequiredModule> getModules() {
+        return modules;
+    }
+
+    /**
+     * Retrieves the codes of every required module in planning order. Alternatives are not included.
+     *
+     * @return An unmodifiable list of module codes.
+     */
+    public List<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    /**
+     * Retrieves the codes of every required module for constant time membership tests.
+     *
+     * @return An unmodifiable set of module codes.
+     */
+    public Set<String> getModuleCodeSet() {
+        return moduleCodeSet;
+    }
+
+    /**
+     * Checks if a module code is listed in the requirements. Alternatives are not counted.
+     *
+     * @param moduleCode The module code to check.
+     * @return true if the module is required.
+     */
+    public boolean isRequired(String moduleCode) {
+        return moduleCodeSet.contains(moduleCode);
+    }
+
+    /**
+     * Finds the requirement a module fulfils, counting alternatives.
+     *
+     * @param moduleCode The module code taken.
+     * @return The requirement fulfilled, or null if the module does not count towards any listed requirement.
+     */
+    public RequiredModule getRequirementFulfilledBy(String moduleCode) {
+        return modulesByCode.get(moduleCode);
+    }
+
+    public List<ChoiceGroup> getChoiceGroups() {
+        return choiceGroups;
+    }
+
+    /**
+     * Finds the choice group a module may be chosen from.
+     *
+     * @param moduleCode The module code taken.
+     * @return The choice group listing the module, or null if there is none.
+     */
+    public ChoiceGroup getChoiceGroupFor(String moduleCode) {
+        return choiceGroupsByCode.get(moduleCode);
+    }
+
+    /**
+     * Retrieves every bucket, with each bucket listed before the buckets nested in it.
+     *
+     * @return An unmodifiable list of buckets.
+     */
+    public List<RequirementBucket> getAllBuckets() {
+        return allBuckets;
+    }
+
+    /**
+     * Finds a bucket by its id, ignoring case.
+     *
+     * @param bucketId The id of the bucket, such as MAJOR.
+     * @return The bucket, or null if there is none with that id.
+     */
+    public RequirementBucket getBucket(String bucketId) {
+        for (RequirementBucket bucket : allBuckets) {
+            if (bucket.getId().equalsIgnoreCase(bucketId)) {
+                return bucket;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a module can count towards a bucket or one of the buckets nested in it, as a listed module, an
+     * alternative to one, a choice or an elective.
+     *
+     * @param bucket     The bucket.
+     * @param moduleCode The module code to check.
+     * @return true if the module can count towards the bucket.
+     */
+    public boolean canCountTowards(RequirementBucket bucket, String moduleCode) {
+        for (RequiredModule module : bucket.getModules()) {
+            if (module.isSatisfiedBy(moduleCode)) {
+                return true;
+            }
+        }
+        for (ChoiceGroup choiceGroup : bucket.getChoiceGroups()) {
+            if (choiceGroup.getModuleCodes().contains(moduleCode)) {
+                return true;
+            }
+        }
+        if (bucket.acceptsElective(moduleCode)) {
+            return true;
+        }
+        for (RequirementBucket subBucket : bucket.getSubBuckets()) {
+            if (canCountTowards(subBucket, moduleCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
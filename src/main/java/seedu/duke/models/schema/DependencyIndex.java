@@ -0,0 +1,54 @@
+package seedu.duke.models.schema;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Links each module planned in a schedule to the modules named in its prerequisites, both ways. Moving a module
+ * can only break the prerequisites of the modules that name it, so a move looks those up here instead of checking
+ * every later module of the schedule.
+ */
+class DependencyIndex {
+    // planned module -> modules named in its prerequisites, in the year it is taken
+    private final Map<String, Set<String>> prerequisites = new HashMap<>();
+    // module named in prerequisites -> planned modules naming it
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+
+    /**
+     * Records the modules named in the prerequisites of a planned module, replacing those recorded before.
+     *
+     * @param moduleCode        The code of the planned module.
+     * @param prereqModuleCodes The codes of the modules named in its prerequisites.
+     */
+    void put(String moduleCode, Set<String> prereqModuleCodes) {
+        remove(moduleCode);
+        prerequisites.put(moduleCode, prereqModuleCodes);
+        for (String prereq : prereqModuleCodes) {
+            dependents.computeIfAbsent(prereq, code -> new HashSet<>()).add(moduleCode);
+        }
+    }
+
+    void remove(String moduleCode) {
+        Set<String> prereqModuleCodes = prerequisites.remove(moduleCode);
+        if (prereqModuleCodes == null) {
+            return;
+        }
+        for (String prereq : prereqModuleCodes) {
+            Set<String> prereqDependents = dependents.get(prereq);
+            prereqDependents.remove(moduleCode);
+            if (prereqDependents.isEmpty()) {
+                dependents.remove(prereq);
+            }
+        }
+    }
+
+    Set<String> getPrerequisites(String moduleCode) {
+        return prerequisites.getOrDefault(moduleCode, Set.of());
+    }
+
+    Set<String> getDependents(String moduleCode) {
+        return dependents.getOrDefault(moduleCode, Set.of());
+    }
+}
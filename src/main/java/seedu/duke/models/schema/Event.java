@@ -33,6 +33,20 @@ public class Event {
         return duration;
     }
 
+    public String getDayName() {
+        return day;
+    }
+
+    /**
+     * Retrieves the hours of the day taken by this event, with bit h set for the hour from h:00 to (h+1):00.
+     *
+     * @return The mask of the hours taken.
+     * @throws IllegalArgumentException If the event does not fit within the day.
+     */
+    public long getHourMask() {
+        return WeekGrid.hourMask(startTime, duration);
+    }
+
     public int getDay() {
         switch (day) {
         case "Monday":
@@ -42,6 +42,22 @@ public class Module {
         }
     }
 
+    /**
+     * Represents a module whose details are already known, such as one restored from a saved plan.
+     * No request is made to the NUSMods API.
+     *
+     * @param moduleCode    The code of the module.
+     * @param moduleCredits The number of units the module is worth.
+     */
+    public Module(String moduleCode, int moduleCredits) {
+        if (moduleCode.isEmpty()) {
+            throw new NullPointerException();
+        }
+        this.moduleCode = moduleCode;
+        this.moduleCredits = moduleCredits;
+        this.isCompleted = false;
+    }
+
     /**
      * Marks this module as completed.
      */
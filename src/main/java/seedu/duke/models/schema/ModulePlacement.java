@@ -0,0 +1,33 @@
+package seedu.duke.models.schema;
+
+/**
+ * A module to be placed in a semester of a schedule, as one entry of a batch given to Schedule.addModules.
+ */
+public class ModulePlacement {
+    private final String moduleCode;
+    private final int semester;
+
+    /**
+     * Constructs a placement.
+     *
+     * @param moduleCode The code of the module.
+     * @param semester   The semester to place it in, from 1 to 8.
+     */
+    public ModulePlacement(String moduleCode, int semester) {
+        this.moduleCode = moduleCode;
+        this.semester = semester;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public int getSemester() {
+        return semester;
+    }
+
+    @Override
+    public String toString() {
+        return moduleCode + " in semester " + semester;
+    }
+}
@@ -11,11 +11,22 @@ public class ModuleWeekly extends Module {
     private int labDuration;
     private int tutorialDuration;
     private ArrayList<Event> lessons = new ArrayList<Event>();
+    private WeekGrid weekGrid = new WeekGrid();
 
     public ModuleWeekly(String moduleCode) throws NullPointerException, RuntimeException {
         super(moduleCode); // Call the constructor of the superclass (Module)
     }
 
+    /**
+     * Represents a module whose details are already known, without a request to the NUSMods API.
+     *
+     * @param moduleCode    The code of the module.
+     * @param moduleCredits The number of units the module is worth.
+     */
+    public ModuleWeekly(String moduleCode, int moduleCredits) {
+        super(moduleCode, moduleCredits);
+    }
+
     public ModuleWeekly(String moduleCode, int lectureTime, int tutorialTime,
                         int labTime, int lectureDuration, int labDuration, int tutorialDuration)
             throws NullPointerException, RuntimeException {
@@ -79,15 +90,31 @@ public class ModuleWeekly extends Module {
     }
 
     public void addLecture(String day, int time, int duration) {
-        lessons.add(new Lecture(day, time, duration));
+        addLesson(new Lecture(day, time, duration));
     }
 
     public void addTutorial(String day, int time, int duration) {
-        lessons.add(new Tutorial(day, time, duration));
+        addLesson(new Tutorial(day, time, duration));
     }
 
     public void addLab(String day, int time, int duration) {
-        lessons.add(new Lab(day, time, duration));
+        addLesson(new Lab(day, time, duration));
+    }
+
+    /**
+     * Adds every session of a class chosen for this module.
+     *
+     * @param option The class.
+     */
+    public void addClass(ClassOption option) {
+        for (Event session : option.getSessions()) {
+            addLesson(session);
+        }
+    }
+
+    private void addLesson(Event lesson) {
+        weekGrid.add(lesson);
+        lessons.add(lesson);
     }
 
     //functions to alter lessons
@@ -95,5 +122,14 @@ public class ModuleWeekly extends Module {
     public ArrayList<Event> getWeeklySchedule() {
         return lessons;
     }
+
+    /**
+     * Retrieves the hours of the week taken by this module's lessons.
+     *
+     * @return The week grid of the lessons, which must not be changed.
+     */
+    public WeekGrid getWeekGrid() {
+        return weekGrid;
+    }
 }
 
@@ -0,0 +1,64 @@
+package seedu.duke.models.schema;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single module line in a major's degree requirements, together with any modules that may be taken
+ * in its place.
+ */
+public class RequiredModule {
+    private final String moduleCode;
+    private final List<String> alternatives;
+    private final String bucketId;
+    private final int moduleCredits;
+    private final String title;
+
+    /**
+     * Constructs a required module.
+     *
+     * @param moduleCode    The module code listed by the requirements.
+     * @param alternatives  Module codes that may be taken instead of moduleCode.
+     * @param bucketId      The id of the requirement bucket this module counts towards.
+     * @param moduleCredits The number of units the module is worth.
+     * @param title         The title shown when printing requirements.
+     */
+    public RequiredModule(String moduleCode, List<String> alternatives, String bucketId,
+                          int moduleCredits, String title) {
+        this.moduleCode = moduleCode;
+        this.alternatives = Collections.unmodifiableList(alternatives);
+        this.bucketId = bucketId;
+        this.moduleCredits = moduleCredits;
+        this.title = title;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public List<String> getAlternatives() {
+        return alternatives;
+    }
+
+    public String getBucketId() {
+        return bucketId;
+    }
+
+    public int getModuleCredits() {
+        return moduleCredits;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Checks if taking the given module fulfils this requirement.
+     *
+     * @param code The module code taken.
+     * @return true if code is this module or one of its alternatives.
+     */
+    public boolean isSatisfiedBy(String code) {
+        return moduleCode.equals(code) || alternatives.contains(code);
+    }
+}
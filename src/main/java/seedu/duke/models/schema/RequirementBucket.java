@@ -0,0 +1,85 @@
+package seedu.duke.models.schema;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A group of degree requirements with a unit target, e.g. "Common Curriculum Requirements - 60".
+ * Buckets may contain nested buckets, the modules and choice groups listed directly under them, and may accept
+ * electives whose module code starts with one of the bucket's elective prefixes.
+ */
+public class RequirementBucket {
+    private final String id;
+    private final String title;
+    private final int requiredCredits;
+    private final List<RequirementBucket> subBuckets;
+    private final List<RequiredModule> modules;
+    private final List<ChoiceGroup> choiceGroups;
+    private final List<String> electivePrefixes;
+
+    /**
+     * Constructs a requirement bucket.
+     *
+     * @param id              The id used to refer to this bucket in the requirements file.
+     * @param title           The title shown when printing requirements.
+     * @param requiredCredits The number of units needed to clear this bucket.
+     * @param subBuckets      Buckets nested directly under this one.
+     * @param modules         Modules listed directly under this bucket.
+     * @param choiceGroups    "Choose N of" groups listed directly under this bucket.
+     * @param electivePrefixes Module code prefixes accepted as electives. An empty prefix accepts any module.
+     */
+    public RequirementBucket(String id, String title, int requiredCredits, List<RequirementBucket> subBuckets,
+                             List<RequiredModule> modules, List<ChoiceGroup> choiceGroups,
+                             List<String> electivePrefixes) {
+        this.id = id;
+        this.title = title;
+        this.requiredCredits = requiredCredits;
+        this.subBuckets = Collections.unmodifiableList(subBuckets);
+        this.modules = Collections.unmodifiableList(modules);
+        this.choiceGroups = Collections.unmodifiableList(choiceGroups);
+        this.electivePrefixes = Collections.unmodifiableList(electivePrefixes);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getRequiredCredits() {
+        return requiredCredits;
+    }
+
+    public List<RequirementBucket> getSubBuckets() {
+        return subBuckets;
+    }
+
+    public List<RequiredModule> getModules() {
+        return modules;
+    }
+
+    public List<ChoiceGroup> getChoiceGroups() {
+        return choiceGroups;
+    }
+
+    public List<String> getElectivePrefixes() {
+        return electivePrefixes;
+    }
+
+    /**
+     * Checks if a module may be counted towards this bucket as an elective.
+     *
+     * @param moduleCode The module code to check.
+     * @return true if the module code starts with one of the elective prefixes.
+     */
+    public boolean acceptsElective(String moduleCode) {
+        for (String prefix : electivePrefixes) {
+            if (moduleCode.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,12 +1,21 @@
 package seedu.duke.models.schema;
 
+import seedu.duke.exceptions.BatchAddException;
 import seedu.duke.exceptions.FailPrereqException;
+import seedu.duke.models.logic.AcademicYear;
+import seedu.duke.models.logic.NusModsDataSource;
+import seedu.duke.views.ModuleInfoView;
 
 import java.io.InvalidObjectException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static seedu.duke.models.logic.Api.doesModuleExist;
+import static seedu.duke.models.logic.Api.getPrereqModuleCodes;
 import static seedu.duke.models.logic.Api.satisfiesAllPrereq;
 
 /**
@@ -17,6 +26,10 @@ public class Schedule extends ModuleList {
 
     private static final int MAXIMUM_SEMESTERS = 8;
     protected int[] modulesPerSem;
+    private volatile ScheduleSnapshot snapshot;
+    private String intakeYear;
+    // Built by the first move and kept while only moves change the schedule; other changes drop it
+    private DependencyIndex dependencies;
 
     /**
      * Constructs a new `Schedule` with the provided modules and distribution across semesters.
@@ -27,6 +40,7 @@ public class Schedule extends ModuleList {
     public Schedule(String modules, int[] modulesPerSem) {
         super(modules);
         this.modulesPerSem = modulesPerSem;
+        publishSnapshot();
     }
 
     /**
@@ -35,6 +49,7 @@ public class Schedule extends ModuleList {
     public Schedule() {
         super();
         this.modulesPerSem = new int[]{0, 0, 0, 0, 0, 0, 0, 0};
+        publishSnapshot();
     }
 
     /**
@@ -46,6 +61,81 @@ public class Schedule extends ModuleList {
         return MAXIMUM_SEMESTERS;
     }
 
+    /**
+     * Sets the academic year of the first semester, so that prerequisites are checked as they stood in the year
+     * each module is taken. Without it, every semester is checked against the current year's prerequisites.
+     *
+     * @param intakeYear The academic year of semester 1, such as 2022-2023, or null.
+     * @throws IllegalArgumentException If the academic year is malformed.
+     */
+    public void setIntakeYear(String intakeYear) {
+        if (intakeYear != null && !AcademicYear.isValid(intakeYear)) {
+            throw new IllegalArgumentException("Invalid academic year: " + intakeYear);
+        }
+        this.intakeYear = intakeYear;
+        dependencies = null;
+    }
+
+    public String getIntakeYear() {
+        return intakeYear;
+    }
+
+    /**
+     * Retrieves the academic year a semester of the schedule falls in, two semesters to a year.
+     *
+     * @param semester The semester, from 1 to 8.
+     * @return The academic year, such as 2023-2024.
+     */
+    public String getAcademicYear(int semester) {
+        if (intakeYear == null) {
+            return NusModsDataSource.DEFAULT_ACADEMIC_YEAR;
+        }
+        return AcademicYear.shift(intakeYear, (semester - 1) / 2);
+    }
+
+    /**
+     * Retrieves the module codes planned for each semester.
+     *
+     * @return A list with one list of module codes per semester, in semester order.
+     */
+    public List<List<String>> getModulesBySemester() {
+        List<List<String>> modulesBySemester = new ArrayList<>();
+        int moduleCounter = 0;
+        for (int semesterModuleCount : modulesPerSem) {
+            List<String> semesterModules = new ArrayList<>();
+            for (int j = 0; j < semesterModuleCount; j++) {
+                semesterModules.add(getMainModuleList().get(moduleCounter).getModuleCode());
+                moduleCounter++;
+            }
+            modulesBySemester.add(semesterModules);
+        }
+        return modulesBySemester;
+    }
+
+    /**
+     * Retrieves the latest published copy of this schedule. Safe to call from any thread while another thread
+     * changes the schedule; the copy reflects the schedule as of the last completed change.
+     *
+     * @return The latest snapshot of this schedule.
+     */
+    public ScheduleSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publishes a copy of the schedule for lock-free readers. Called at the end of every change. The copy shares
+     * the semesters the change left alone with the previous copy.
+     */
+    protected void publishSnapshot() {
+        List<List<Module>> semesters = new ArrayList<>();
+        int moduleCounter = 0;
+        for (int semesterModuleCount : modulesPerSem) {
+            semesters.add(getMainModuleList().subList(moduleCounter, moduleCounter + semesterModuleCount));
+            moduleCounter += semesterModuleCount;
+        }
+        snapshot = new ScheduleSnapshot(snapshot, semesters);
+    }
+
     public void addRecommendedScheduleListToSchedule(ArrayList<String> scheduleToAdd) {
         final int modsToAddPerSem = 5;
         int currentIndexOfMod = 0;
@@ -62,7 +152,7 @@ public class Schedule extends ModuleList {
             //Sub list as we only want modules before the current target semester
             List<String> completedModulesArray = getModuleCodes().subList(0, (indexToAdd));
             ModuleList completedModules = new ModuleList(String.join(" ", completedModulesArray));
-            if(!satisfiesAllPrereq(module,completedModules)){
+            if(!satisfiesAllPrereq(module, completedModules, getAcademicYear(currentSem))){
                 currentSem += 1;
                 currentIndexOfMod = 0;
             }
@@ -121,12 +211,14 @@ public class Schedule extends ModuleList {
         }
 
         try {
-            if (satisfiesAllPrereq(module, completedModules)) {
+            if (satisfiesAllPrereq(module, completedModules, getAcademicYear(targetSem))) {
                 //module initialization will be here
 
                 this.getMainModuleList().add(indexToAdd, new Module(module));
                 modulesPerSem[targetSem - 1] += 1;
                 changeNumberOfModules(1);
+                dependencies = null;
+                publishSnapshot();
                 return;
             }
         } catch (IllegalArgumentException e) {
@@ -135,6 +227,82 @@ public class Schedule extends ModuleList {
         throw new FailPrereqException("Unable to add module as prerequisites not satisfied for: " + module);
     }
 
+    /**
+     * Adds a batch of modules to the schedule, all or none. The batch is sorted by semester and checked in a single
+     * pass over the semesters, in which the modules of each semester, already planned or in the batch, count as
+     * taken for the semesters after it. Modules of the same semester are not prerequisites of each other, as in
+     * addModule. If any module cannot be added, none is and every problem found is reported.
+     *
+     * @param batch The modules to add, with their semesters.
+     * @return The modules added, in the order they were placed at the start of their semesters.
+     * @throws BatchAddException If any module of the batch cannot be added, listing why for each.
+     */
+    public List<Module> addModules(List<ModulePlacement> batch) throws BatchAddException {
+        List<String> violations = new ArrayList<>();
+        List<ModulePlacement> sorted = new ArrayList<>(batch);
+        sorted.sort(Comparator.comparingInt(ModulePlacement::getSemester));
+
+        Map<String, Module> modules = new HashMap<>();
+        List<ModulePlacement> valid = new ArrayList<>();
+        for (ModulePlacement placement : sorted) {
+            String module = placement.getModuleCode();
+            if (placement.getSemester() < 1 || placement.getSemester() > MAXIMUM_SEMESTERS) {
+                violations.add(placement + ": please select an integer from 1 to 8 for semester selection");
+            } else if (getIndex(module) != -1) {
+                violations.add(placement + ": module already exists in the schedule");
+            } else if (modules.containsKey(module)) {
+                violations.add(placement + ": module appears more than once in the batch");
+            } else if (!doesModuleExist(module)) {
+                violations.add(placement + ": please select a valid module");
+            } else {
+                modules.put(module, new Module(module));
+                valid.add(placement);
+            }
+        }
+
+        // Modules of the semesters before the one being checked, grown one semester at a time
+        ModuleList taken = new ModuleList();
+        List<List<String>> modulesBySemester = getModulesBySemester();
+        int next = 0;
+        for (int semester = 1; semester <= MAXIMUM_SEMESTERS; semester++) {
+            int semesterStart = next;
+            while (next < valid.size() && valid.get(next).getSemester() == semester) {
+                String module = valid.get(next).getModuleCode();
+                if (!satisfiesAllPrereq(module, taken, getAcademicYear(semester))) {
+                    violations.add(valid.get(next) + ": prerequisites not satisfied");
+                }
+                next++;
+            }
+            for (String module : modulesBySemester.get(semester - 1)) {
+                taken.addModule(new Module(module, 0));
+            }
+            for (int i = semesterStart; i < next; i++) {
+                taken.addModule(modules.get(valid.get(i).getModuleCode()));
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new BatchAddException(violations);
+        }
+
+        // Each module goes to the start of its semester, so a semester's modules are placed last to first
+        List<Module> added = new ArrayList<>();
+        for (int i = valid.size() - 1; i >= 0; i--) {
+            ModulePlacement placement = valid.get(i);
+            int indexToAdd = 0;
+            for (int semester = 1; semester < placement.getSemester(); semester++) {
+                indexToAdd += modulesPerSem[semester - 1];
+            }
+            Module module = modules.get(placement.getModuleCode());
+            getMainModuleList().add(indexToAdd, module);
+            modulesPerSem[placement.getSemester() - 1] += 1;
+            added.add(module);
+        }
+        changeNumberOfModules(added.size());
+        dependencies = null;
+        publishSnapshot();
+        return added;
+    }
+
     /**
      * Deletes a module from the schedule by its module code.
      *
@@ -181,8 +349,10 @@ public class Schedule extends ModuleList {
         }
 
         try {
-            for (String moduleAhead : modulesAheadArray){
-                if (!satisfiesAllPrereq(moduleAhead, completedModules)) {
+            for (int i = 0; i < modulesAheadArray.size(); i++) {
+                String moduleAhead = modulesAheadArray.get(i);
+                String academicYear = getAcademicYear(getSemesterOfIndex(nextSemStartingIndex + i));
+                if (!satisfiesAllPrereq(moduleAhead, completedModules, academicYear)) {
                     throw new FailPrereqException("Unable to delete module. This module is a prerequisite for "
                             + moduleAhead);
                 }
@@ -193,9 +363,134 @@ public class Schedule extends ModuleList {
             throw new IllegalArgumentException("Invalid Module in Schedule");
         }
 
-        getMainModuleList().remove(module);
+        getMainModuleList().remove(targetIndex);
         modulesPerSem[targetSem - 1] -= 1;
         changeNumberOfModules(-1);
+        dependencies = null;
+        publishSnapshot();
+    }
+
+    /**
+     * Moves a planned module to the start of another semester, or leaves the schedule unchanged if the move is not
+     * allowed. Only the prerequisites the move can break are checked: those of the module itself, as they stood in
+     * the academic year of its new semester, and, when it moves later, those of the modules that name it as a
+     * prerequisite and are taken after its old semester but no later than its new one.
+     *
+     * @param module    The code of the module to move.
+     * @param targetSem The semester (an integer from 1 to 8) to move the module to.
+     * @return true if the module changed semester, or false if it was already planned for that semester.
+     * @throws IllegalArgumentException If the semester is out of range or the module is not in the schedule.
+     * @throws FailPrereqException If the module's prerequisites would not be satisfied in the new semester, or the
+     *     module is a prerequisite of a module it would no longer be taken before.
+     */
+    public boolean moveModule(String module, int targetSem) throws IllegalArgumentException, FailPrereqException {
+        if (targetSem < 1 || targetSem > MAXIMUM_SEMESTERS) {
+            throw new IllegalArgumentException("Please select an integer from 1 to 8 for semester selection");
+        }
+        int currentIndex = getIndex(module);
+        if (currentIndex == -1) {
+            throw new IllegalArgumentException("Module is not in schedule");
+        }
+        int currentSem = getSemesterOfIndex(currentIndex);
+        if (currentSem == targetSem) {
+            return false;
+        }
+
+        DependencyIndex index = getDependencyIndex();
+        String academicYear = getAcademicYear(targetSem);
+        Set<String> prereqs = getPrereqModuleCodes(module, academicYear);
+        if (!satisfiesAllPrereq(module, getModulesTakenBefore(prereqs, targetSem, module), academicYear)) {
+            throw new FailPrereqException("Unable to move module as prerequisites not satisfied for: " + module);
+        }
+
+        // Moving earlier only adds to what the modules after it have taken
+        if (targetSem > currentSem) {
+            for (String dependent : index.getDependents(module)) {
+                int dependentSem = getSemesterOfIndex(getIndex(dependent));
+                if (dependentSem <= currentSem || dependentSem > targetSem) {
+                    continue;
+                }
+                ModuleList taken = getModulesTakenBefore(index.getPrerequisites(dependent), dependentSem, module);
+                if (!satisfiesAllPrereq(dependent, taken, getAcademicYear(dependentSem))) {
+                    throw new FailPrereqException("Unable to move module. This module is a prerequisite for "
+                            + dependent);
+                }
+            }
+        }
+
+        placeModule(currentIndex, currentSem, targetSem);
+        index.put(module, prereqs);
+        publishSnapshot();
+        return true;
+    }
+
+    /**
+     * Moves a planned module to the start of a semester, which may be its own, without checking prerequisites or
+     * contacting the NUSMods API. Used to restore saved plans and earlier versions of the schedule.
+     *
+     * @param module    The code of the module to move.
+     * @param targetSem The semester (an integer from 1 to 8) to move the module to.
+     * @throws IllegalArgumentException If the semester is out of range or the module is not in the schedule.
+     */
+    public void moveModuleWithoutCheckingPrereq(String module, int targetSem) throws IllegalArgumentException {
+        if (targetSem < 1 || targetSem > MAXIMUM_SEMESTERS) {
+            throw new IllegalArgumentException("Please select an integer from 1 to 8 for semester selection");
+        }
+        int currentIndex = getIndex(module);
+        if (currentIndex == -1) {
+            throw new IllegalArgumentException("Module is not in schedule");
+        }
+        placeModule(currentIndex, getSemesterOfIndex(currentIndex), targetSem);
+        dependencies = null;
+        publishSnapshot();
+    }
+
+    private void placeModule(int currentIndex, int currentSem, int targetSem) {
+        Module moved = getMainModuleList().remove(currentIndex);
+        modulesPerSem[currentSem - 1] -= 1;
+        int indexToAdd = 0;
+        for (int i = 1; i < targetSem; i++) {
+            indexToAdd += this.modulesPerSem[i - 1];
+        }
+        getMainModuleList().add(indexToAdd, moved);
+        modulesPerSem[targetSem - 1] += 1;
+    }
+
+    /**
+     * Retrieves the dependency index of the schedule, building it from the prerequisites of every planned module,
+     * each in the academic year it is taken, if a change has dropped it.
+     */
+    private DependencyIndex getDependencyIndex() {
+        if (dependencies == null) {
+            DependencyIndex index = new DependencyIndex();
+            List<List<String>> modulesBySemester = getModulesBySemester();
+            for (int semester = 1; semester <= modulesBySemester.size(); semester++) {
+                for (String module : modulesBySemester.get(semester - 1)) {
+                    index.put(module, getPrereqModuleCodes(module, getAcademicYear(semester)));
+                }
+            }
+            dependencies = index;
+        }
+        return dependencies;
+    }
+
+    /**
+     * Collects the modules among some prerequisites that are planned before a semester. Prerequisites are checked
+     * against these alone, since no other module can satisfy them.
+     *
+     * @param prereqs  The codes of the modules named in the prerequisites.
+     * @param semester The semester the prerequisites must be taken before.
+     * @param excluded The code of a module to leave out, as it is being moved.
+     */
+    private ModuleList getModulesTakenBefore(Set<String> prereqs, int semester, String excluded) {
+        ModuleList taken = new ModuleList();
+        for (String prereq : prereqs) {
+            int index = getIndex(prereq);
+            if (index != -1 && !prereq.equals(excluded) && getSemesterOfIndex(index) < semester) {
+                taken.addModule(new Module(prereq, 0));
+            }
+        }
+        return taken;
     }
 
     /**
@@ -233,23 +528,79 @@ public class Schedule extends ModuleList {
         this.getMainModuleList().add(indexToAdd, new Module(module));
         modulesPerSem[targetSem - 1] += 1;
         changeNumberOfModules(1);
+        dependencies = null;
+        publishSnapshot();
     }
 
 
+    /**
+     * Adds an already validated module to the start of a semester, as addModule would, without checking
+     * prerequisites or contacting the NUSMods API. Used to restore saved plans.
+     *
+     * @param module    The module to add.
+     * @param targetSem The target semester (an integer from 1 to 8) in which to add the module.
+     * @throws IllegalArgumentException If the semester is out of range or the module is already in the schedule.
+     */
+    public void restoreModule(Module module, int targetSem) throws IllegalArgumentException {
+        if (targetSem < 1 || targetSem > MAXIMUM_SEMESTERS) {
+            throw new IllegalArgumentException("Please select an integer from 1 to 8 for semester selection");
+        }
+        if (getIndex(module.getModuleCode()) != -1) {
+            throw new IllegalArgumentException("Module already exists in the schedule");
+        }
+
+        int indexToAdd = 0;
+        for (int i = 1; i < targetSem; i++) {
+            indexToAdd += this.modulesPerSem[i - 1];
+        }
+        this.getMainModuleList().add(indexToAdd, module);
+        modulesPerSem[targetSem - 1] += 1;
+        changeNumberOfModules(1);
+        dependencies = null;
+        publishSnapshot();
+    }
+
+    /**
+     * Removes a module without checking whether later modules depend on it. Used to restore saved plans.
+     *
+     * @param moduleCode The code of the module to remove.
+     * @throws IllegalArgumentException If the module is not in the schedule.
+     */
+    public void removeModuleWithoutCheckingPrereq(String moduleCode) throws IllegalArgumentException {
+        int targetIndex = getIndex(moduleCode);
+        if (targetIndex == -1) {
+            throw new IllegalArgumentException("Module is not in schedule");
+        }
+        int targetSem = getSemesterOfIndex(targetIndex);
+        getMainModuleList().remove(targetIndex);
+        modulesPerSem[targetSem - 1] -= 1;
+        changeNumberOfModules(-1);
+        dependencies = null;
+        publishSnapshot();
+    }
+
+    /**
+     * Finds the semester holding the module at an index of the main module list.
+     *
+     * @param index The index of the module.
+     * @return The semester, from 1 to 8.
+     */
+    public int getSemesterOfIndex(int index) {
+        int targetSem = 1;
+        int moduleCount = modulesPerSem[0];
+        while ((moduleCount - 1) < index) {
+            moduleCount += modulesPerSem[targetSem];
+            targetSem += 1;
+        }
+        return targetSem;
+    }
+
     /**
      * Prints the student's course schedule, displaying modules organized by semesters.
      */
 
     @Override
     public void printMainModuleList() {
-        int moduleCounter = 0;
-        for (int i = 0; i < modulesPerSem.length; i++) {
-            System.out.print("Sem " + (i + 1) + ": ");
-            for (int j = 0; j < modulesPerSem[i]; j++) {
-                System.out.print(getMainModuleList().get(moduleCounter).getModuleCode() + " ");
-                moduleCounter++;
-            }
-            System.out.println();
-        }
+        ModuleInfoView.printSemesters(getSnapshot().getModulesBySemester());
     }
 }
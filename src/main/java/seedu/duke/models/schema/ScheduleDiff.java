@@ -0,0 +1,111 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The differences between two versions of a schedule: the modules only one of them plans, and the modules they plan
+ * in different semesters. Only the semesters the versions do not share are read, so versions that differ by a few
+ * changes are compared in time proportional to those changes.
+ */
+public class ScheduleDiff {
+    private final List<Integer> changedSemesters = new ArrayList<>();
+    private final List<ModulePlacement> added = new ArrayList<>();
+    private final List<ModulePlacement> removed = new ArrayList<>();
+    private final List<ModulePlacement> moved = new ArrayList<>();
+    private final Map<String, Integer> semestersBefore = new HashMap<>();
+
+    /**
+     * Compares two versions of a schedule.
+     *
+     * @param from The version compared from.
+     * @param to   The version compared to.
+     */
+    ScheduleDiff(ScheduleSnapshot from, ScheduleSnapshot to) {
+        int semesters = from.getModulesBySemester().size();
+        Map<String, Integer> fromSemesters = new HashMap<>();
+        Map<String, Integer> toSemesters = new HashMap<>();
+        for (int semester = 1; semester <= semesters; semester++) {
+            if (from.isSameSemester(to, semester)) {
+                continue;
+            }
+            changedSemesters.add(semester);
+            for (String moduleCode : from.getModulesBySemester().get(semester - 1)) {
+                fromSemesters.put(moduleCode, semester);
+            }
+            for (String moduleCode : to.getModulesBySemester().get(semester - 1)) {
+                toSemesters.put(moduleCode, semester);
+            }
+        }
+
+        for (int semester : changedSemesters) {
+            for (String moduleCode : to.getModulesBySemester().get(semester - 1)) {
+                Integer semesterBefore = fromSemesters.get(moduleCode);
+                if (semesterBefore == null) {
+                    added.add(new ModulePlacement(moduleCode, semester));
+                } else if (semesterBefore != semester) {
+                    moved.add(new ModulePlacement(moduleCode, semester));
+                    semestersBefore.put(moduleCode, semesterBefore);
+                }
+            }
+            for (String moduleCode : from.getModulesBySemester().get(semester - 1)) {
+                if (!toSemesters.containsKey(moduleCode)) {
+                    removed.add(new ModulePlacement(moduleCode, semester));
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the semesters whose modules or their order differ between the versions.
+     *
+     * @return The semesters, in order.
+     */
+    public List<Integer> getChangedSemesters() {
+        return changedSemesters;
+    }
+
+    public List<ModulePlacement> getAdded() {
+        return added;
+    }
+
+    public List<ModulePlacement> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Retrieves the modules planned in both versions but in different semesters.
+     *
+     * @return The modules, each with its semester in the version compared to.
+     */
+    public List<ModulePlacement> getMoved() {
+        return moved;
+    }
+
+    public boolean isEmpty() {
+        return changedSemesters.isEmpty();
+    }
+
+    /**
+     * Describes the differences, one module per line, such as "+ CS2113 in semester 3" for a module added,
+     * "- CS1010 in semester 1" for one removed and "~ CS2040C from semester 2 to semester 4" for one moved.
+     *
+     * @return The lines, in semester order.
+     */
+    public List<String> toLines() {
+        List<String> lines = new ArrayList<>();
+        for (ModulePlacement placement : added) {
+            lines.add("+ " + placement);
+        }
+        for (ModulePlacement placement : removed) {
+            lines.add("- " + placement);
+        }
+        for (ModulePlacement placement : moved) {
+            lines.add("~ " + placement.getModuleCode() + " from semester "
+                    + semestersBefore.get(placement.getModuleCode()) + " to semester " + placement.getSemester());
+        }
+        return lines;
+    }
+}
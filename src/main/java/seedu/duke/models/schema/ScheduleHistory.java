@@ -0,0 +1,151 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the versions a schedule has been through, for undoing and redoing changes and for trying out other plans on
+ * named branches. Versions are the schedule's own snapshots, which share the semesters they have in common, and each
+ * branch is a chain of versions back to the one it was started from, so a branch costs no more than the changes made
+ * on it.
+ */
+public class ScheduleHistory {
+    public static final String MAIN_BRANCH = "main";
+
+    private final Map<String, Branch> branches = new LinkedHashMap<>();
+    private String currentBranch = MAIN_BRANCH;
+
+    /**
+     * Constructs a history holding a single version on the main branch.
+     *
+     * @param initial The version the schedule starts from.
+     */
+    public ScheduleHistory(ScheduleSnapshot initial) {
+        branches.put(MAIN_BRANCH, new Branch(new Version(initial, null)));
+    }
+
+    /**
+     * Adds a version after the latest one of the current branch, discarding the versions that were undone on it.
+     * A version the same as the latest, such as one published by a change that did not touch the schedule, is not
+     * added.
+     *
+     * @param snapshot The new version of the schedule.
+     */
+    public void commit(ScheduleSnapshot snapshot) {
+        Branch branch = branches.get(currentBranch);
+        if (branch.head.snapshot.isSameSchedule(snapshot)) {
+            return;
+        }
+        branch.head = new Version(snapshot, branch.head);
+        branch.undone.clear();
+    }
+
+    /**
+     * Steps the current branch back to the version before its latest.
+     *
+     * @return The version stepped back to, or null if there is none.
+     */
+    public ScheduleSnapshot undo() {
+        Branch branch = branches.get(currentBranch);
+        if (branch.head.parent == null) {
+            return null;
+        }
+        branch.undone.push(branch.head);
+        branch.head = branch.head.parent;
+        return branch.head.snapshot;
+    }
+
+    /**
+     * Steps the current branch forward to the version last undone.
+     *
+     * @return The version stepped forward to, or null if there is none.
+     */
+    public ScheduleSnapshot redo() {
+        Branch branch = branches.get(currentBranch);
+        if (branch.undone.isEmpty()) {
+            return null;
+        }
+        branch.head = branch.undone.pop();
+        return branch.head.snapshot;
+    }
+
+    /**
+     * Starts a branch from the latest version of the current branch and makes it the current branch. The versions
+     * before it are shared with the branch it was started from, and can be undone on either.
+     *
+     * @param name The name of the new branch.
+     * @throws IllegalArgumentException If a branch of that name already exists.
+     */
+    public void createBranch(String name) throws IllegalArgumentException {
+        if (branches.containsKey(name)) {
+            throw new IllegalArgumentException("There is already a plan called " + name);
+        }
+        branches.put(name, new Branch(branches.get(currentBranch).head));
+        currentBranch = name;
+    }
+
+    /**
+     * Makes another branch the current branch.
+     *
+     * @param name The name of the branch.
+     * @return The latest version of that branch, which the schedule should be brought to.
+     * @throws IllegalArgumentException If there is no branch of that name.
+     */
+    public ScheduleSnapshot switchBranch(String name) throws IllegalArgumentException {
+        ScheduleSnapshot head = getLatestVersion(name);
+        currentBranch = name;
+        return head;
+    }
+
+    /**
+     * Retrieves the latest version of a branch.
+     *
+     * @param name The name of the branch.
+     * @return The latest version.
+     * @throws IllegalArgumentException If there is no branch of that name.
+     */
+    public ScheduleSnapshot getLatestVersion(String name) throws IllegalArgumentException {
+        Branch branch = branches.get(name);
+        if (branch == null) {
+            throw new IllegalArgumentException("There is no plan called " + name);
+        }
+        return branch.head.snapshot;
+    }
+
+    public String getCurrentBranch() {
+        return currentBranch;
+    }
+
+    public List<String> getBranchNames() {
+        return new ArrayList<>(branches.keySet());
+    }
+
+    /**
+     * A version of the schedule and the one it was made from.
+     */
+    private static class Version {
+        private final ScheduleSnapshot snapshot;
+        private final Version parent;
+
+        private Version(ScheduleSnapshot snapshot, Version parent) {
+            this.snapshot = snapshot;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * The latest version of a branch, and the versions undone on it that can be redone.
+     */
+    private static class Branch {
+        private Version head;
+        private final Deque<Version> undone = new ArrayDeque<>();
+
+        private Branch(Version head) {
+            this.head = head;
+        }
+    }
+}
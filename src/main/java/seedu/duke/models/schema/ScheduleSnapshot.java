@@ -0,0 +1,127 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable copy of a schedule, published after every change so that it can be read from any thread without
+ * locking. Each snapshot is also a version of the schedule: a semester a change did not touch is shared with the
+ * snapshot before it instead of being copied, so keeping many versions costs memory in proportion to the changes
+ * made, and comparing two versions skips the semesters they share.
+ */
+public class ScheduleSnapshot {
+    private final List<List<Module>> modules;
+    private final List<List<String>> modulesBySemester;
+    private final int numberOfModules;
+
+    /**
+     * Constructs a snapshot, sharing every semester that is unchanged since the previous snapshot.
+     *
+     * @param previous The previous snapshot of the same schedule, or null if there is none.
+     * @param semesters The modules planned for each semester, in semester order.
+     */
+    ScheduleSnapshot(ScheduleSnapshot previous, List<List<Module>> semesters) {
+        List<List<Module>> modulesCopy = new ArrayList<>();
+        List<List<String>> codesCopy = new ArrayList<>();
+        int count = 0;
+        for (int i = 0; i < semesters.size(); i++) {
+            List<Module> semesterModules = semesters.get(i);
+            count += semesterModules.size();
+            if (previous != null && i < previous.modules.size()
+                    && isSameModules(previous.modules.get(i), semesterModules)) {
+                modulesCopy.add(previous.modules.get(i));
+                codesCopy.add(previous.modulesBySemester.get(i));
+                continue;
+            }
+            List<String> semesterCodes = new ArrayList<>();
+            for (Module module : semesterModules) {
+                semesterCodes.add(module.getModuleCode());
+            }
+            modulesCopy.add(Collections.unmodifiableList(new ArrayList<>(semesterModules)));
+            codesCopy.add(Collections.unmodifiableList(semesterCodes));
+        }
+        this.modules = Collections.unmodifiableList(modulesCopy);
+        this.modulesBySemester = Collections.unmodifiableList(codesCopy);
+        this.numberOfModules = count;
+    }
+
+    private static boolean isSameModules(List<Module> a, List<Module> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).getModuleCode().equals(b.get(i).getModuleCode())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<List<String>> getModulesBySemester() {
+        return modulesBySemester;
+    }
+
+    /**
+     * Retrieves the modules planned for a semester, with the units each is worth and whether it is completed.
+     * Completing a module is not a change to the schedule, so it is shared by every version planning the module.
+     *
+     * @param semester The semester, from 1 to 8.
+     * @return The modules, in the order they are shown.
+     */
+    public List<Module> getModules(int semester) {
+        return modules.get(semester - 1);
+    }
+
+    public int getNumberOfModules() {
+        return numberOfModules;
+    }
+
+    public boolean contains(String moduleCode) {
+        for (List<String> semesterModules : modulesBySemester) {
+            if (semesterModules.contains(moduleCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a semester is the same in this snapshot and another, without comparing the modules if the two
+     * share it.
+     *
+     * @param other    Another snapshot of the same schedule.
+     * @param semester The semester, from 1 to 8.
+     * @return true if the semester holds the same modules in the same order.
+     */
+    public boolean isSameSemester(ScheduleSnapshot other, int semester) {
+        List<String> ours = modulesBySemester.get(semester - 1);
+        List<String> theirs = other.modulesBySemester.get(semester - 1);
+        return ours == theirs || ours.equals(theirs);
+    }
+
+    /**
+     * Checks if another snapshot plans the same modules in every semester, in the same order.
+     *
+     * @param other Another snapshot of the same schedule.
+     * @return true if the two are the same version of the schedule.
+     */
+    public boolean isSameSchedule(ScheduleSnapshot other) {
+        for (int semester = 1; semester <= modulesBySemester.size(); semester++) {
+            if (!isSameSemester(other, semester)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists how another version of the schedule differs from this one.
+     *
+     * @param other Another snapshot of the same schedule.
+     * @return The modules added, removed and moved to get from this version to the other.
+     */
+    public ScheduleDiff diff(ScheduleSnapshot other) {
+        return new ScheduleDiff(this, other);
+    }
+}
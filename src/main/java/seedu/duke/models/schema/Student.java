@@ -1,25 +1,43 @@
 package seedu.duke.models.schema;
 
+import seedu.duke.exceptions.BatchAddException;
 import seedu.duke.exceptions.FailPrereqException;
 import seedu.duke.exceptions.MissingModuleException;
+import seedu.duke.models.logic.AcademicYear;
+import seedu.duke.models.logic.DegreeAudit;
+import seedu.duke.models.logic.NusModsDataSource;
+import seedu.duke.storage.JournalEntry;
+import seedu.duke.storage.PlanJournal;
 
 import java.io.InvalidObjectException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import static seedu.duke.models.logic.DataRepository.getDegreeRequirements;
 import static seedu.duke.models.logic.DataRepository.getRequirements;
 
 /**
  * The Student class represents a student with a name, major, and module schedule.
  */
 public class Student {
+    private static final Pattern YEAR_AND_SEMESTER = Pattern.compile("Y(\\d)/S\\d");
+
 
     private String name;
-    private String major;
+    // Read without locking by service requests that have not been given the snapshot
+    private volatile String major;
     private Schedule schedule;
     private String year;
     private int completedModuleCredits;
     private ModuleList modulesPlanned;
     private ArrayList<String> majorModuleCodes;
+    private DegreeAudit degreeAudit;
+    private volatile StudentSnapshot snapshot;
+    private PlanJournal journal;
+    private ScheduleHistory history;
+    private boolean isSwitchingVersion;
 
     /**
      * Constructs a student with a name, major, and module schedule.
@@ -34,6 +52,8 @@ public class Student {
         this.schedule = schedule;
         this.year = null;
         this.modulesPlanned = new ModuleList();
+        this.history = new ScheduleHistory(this.schedule.getSnapshot());
+        publishSnapshot();
     }
 
     /**
@@ -45,6 +65,8 @@ public class Student {
         this.schedule = new Schedule();
         this.year = null;
         this.modulesPlanned = new ModuleList();
+        this.history = new ScheduleHistory(this.schedule.getSnapshot());
+        publishSnapshot();
     }
 
     /**
@@ -54,6 +76,9 @@ public class Student {
      */
     public void setSchedule(Schedule schedule) {
         this.schedule = schedule;
+        this.history = new ScheduleHistory(schedule.getSnapshot());
+        updateIntakeYear();
+        publishSnapshot();
     }
 
     /**
@@ -104,7 +129,222 @@ public class Student {
 
     public void addModuleSchedule(String moduleCode, int targetSem) throws InvalidObjectException, FailPrereqException {
         this.schedule.addModule(moduleCode,targetSem);
-        this.modulesPlanned.addModule(new Module(moduleCode));
+        Module module = new Module(moduleCode);
+        this.modulesPlanned.addModule(module);
+        if (degreeAudit != null) {
+            degreeAudit.planModule(moduleCode, module.getModuleCredits());
+        }
+        publishSnapshot();
+        record(JournalEntry.add(moduleCode, targetSem, module.getModuleCredits()));
+    }
+
+    /**
+     * Adds a batch of modules to the schedule, all or none, and plans every module that was added.
+     *
+     * @param batch The modules to add, with their semesters.
+     * @throws BatchAddException If any module of the batch cannot be added, listing why for each.
+     */
+    public void addModulesSchedule(List<ModulePlacement> batch) throws BatchAddException {
+        List<Module> added = schedule.addModules(batch);
+        for (Module module : added) {
+            Module plannedModule = new Module(module.getModuleCode(), module.getModuleCredits());
+            modulesPlanned.addModule(plannedModule);
+            if (degreeAudit != null) {
+                degreeAudit.planModule(module.getModuleCode(), plannedModule.getModuleCredits());
+            }
+        }
+        publishSnapshot();
+        for (Module module : added) {
+            int semester = schedule.getSemesterOfIndex(schedule.getIndex(module.getModuleCode()));
+            record(JournalEntry.add(module.getModuleCode(), semester, module.getModuleCredits()));
+        }
+    }
+
+    /**
+     * Adds a recommended list of modules to the schedule and plans every module that was added.
+     *
+     * @param scheduleToAdd The recommended modules, in the order they should be taken.
+     */
+    public void addRecommendedSchedule(ArrayList<String> scheduleToAdd) {
+        this.schedule.addRecommendedScheduleListToSchedule(scheduleToAdd);
+        List<List<String>> modulesBySemester = schedule.getModulesBySemester();
+        for (int semester = 1; semester <= modulesBySemester.size(); semester++) {
+            List<String> semesterModules = modulesBySemester.get(semester - 1);
+            // Journaled in reverse, since each replayed module is placed at the start of its semester
+            for (int i = semesterModules.size() - 1; i >= 0; i--) {
+                String moduleCode = semesterModules.get(i);
+                if (modulesPlanned.getIndex(moduleCode) != -1) {
+                    continue;
+                }
+                Module module = schedule.getMainModuleList().get(schedule.getIndex(moduleCode));
+                Module plannedModule = new Module(moduleCode, module.getModuleCredits());
+                modulesPlanned.addModule(plannedModule);
+                if (degreeAudit != null) {
+                    degreeAudit.planModule(moduleCode, plannedModule.getModuleCredits());
+                }
+                record(JournalEntry.add(moduleCode, semester, plannedModule.getModuleCredits()));
+            }
+        }
+        publishSnapshot();
+    }
+
+    /**
+     * Adds a module from a saved plan to the start of a semester. The module was validated when it was first
+     * added, so prerequisites are not checked and the NUSMods API is not contacted.
+     *
+     * @param moduleCode    The code of the module.
+     * @param targetSem     The semester (an integer from 1 to 8) holding the module.
+     * @param moduleCredits The number of units the module is worth.
+     */
+    public void restoreModule(String moduleCode, int targetSem, int moduleCredits) {
+        this.schedule.restoreModule(new Module(moduleCode, moduleCredits), targetSem);
+        this.modulesPlanned.addModule(new Module(moduleCode, moduleCredits));
+        if (degreeAudit != null) {
+            degreeAudit.planModule(moduleCode, moduleCredits);
+        }
+        publishSnapshot();
+    }
+
+    /**
+     * Removes a module from a saved plan. The deletion was validated when it was first made, so later modules
+     * are not checked.
+     *
+     * @param moduleCode The code of the module removed.
+     * @throws IllegalArgumentException If the module is not in the schedule.
+     */
+    public void restoreDeletion(String moduleCode) throws IllegalArgumentException {
+        this.schedule.removeModuleWithoutCheckingPrereq(moduleCode);
+        forgetPlannedModule(moduleCode);
+        publishSnapshot();
+    }
+
+    /**
+     * Moves a planned module to the start of another semester, checking only the prerequisites the move can break.
+     *
+     * @param moduleCode The code of the module to move.
+     * @param targetSem  The semester (an integer from 1 to 8) to move the module to.
+     * @throws IllegalArgumentException If the semester is out of range or the module is not in the schedule.
+     * @throws FailPrereqException If the move would leave any prerequisites unsatisfied.
+     */
+    public void moveModuleSchedule(String moduleCode, int targetSem) throws FailPrereqException {
+        if (this.schedule.moveModule(moduleCode, targetSem)) {
+            publishSnapshot();
+            record(JournalEntry.move(moduleCode, targetSem));
+        }
+    }
+
+    /**
+     * Moves a module of a saved plan to the start of another semester. The move was validated when it was first
+     * made, so prerequisites are not checked.
+     *
+     * @param moduleCode The code of the module moved.
+     * @param targetSem  The semester (an integer from 1 to 8) it was moved to.
+     * @throws IllegalArgumentException If the module is not in the schedule.
+     */
+    public void restoreMove(String moduleCode, int targetSem) throws IllegalArgumentException {
+        this.schedule.moveModuleWithoutCheckingPrereq(moduleCode, targetSem);
+        publishSnapshot();
+    }
+
+    /**
+     * Undoes the last change to the schedule on the current plan.
+     *
+     * @return true if a change was undone, or false if there was none.
+     */
+    public boolean undo() {
+        ScheduleSnapshot version = history.undo();
+        if (version == null) {
+            return false;
+        }
+        switchToVersion(version);
+        return true;
+    }
+
+    /**
+     * Makes the last change undone on the current plan again.
+     *
+     * @return true if a change was redone, or false if there was none.
+     */
+    public boolean redo() {
+        ScheduleSnapshot version = history.redo();
+        if (version == null) {
+            return false;
+        }
+        switchToVersion(version);
+        return true;
+    }
+
+    /**
+     * Starts another plan from the schedule as it is, and makes it the plan later changes are made to.
+     *
+     * @param name The name of the new plan.
+     * @throws IllegalArgumentException If a plan of that name already exists.
+     */
+    public void createPlan(String name) throws IllegalArgumentException {
+        history.createBranch(name);
+    }
+
+    /**
+     * Brings the schedule to the latest version of another plan.
+     *
+     * @param name The name of the plan.
+     * @throws IllegalArgumentException If there is no plan of that name.
+     */
+    public void switchPlan(String name) throws IllegalArgumentException {
+        switchToVersion(history.switchBranch(name));
+    }
+
+    /**
+     * Compares the schedule with the latest version of a plan.
+     *
+     * @param name The name of the plan.
+     * @return What would change if the schedule were brought to that plan.
+     * @throws IllegalArgumentException If there is no plan of that name.
+     */
+    public ScheduleDiff diffPlan(String name) throws IllegalArgumentException {
+        return schedule.getSnapshot().diff(history.getLatestVersion(name));
+    }
+
+    public ScheduleHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Brings the schedule to an earlier version. Every version was validated when it was made, so prerequisites are
+     * not checked and the NUSMods API is not contacted. Only the semesters that differ are changed: modules the
+     * version does not plan are removed, and then each differing semester is refilled with the version's modules,
+     * each placed at its start from last to first. A module brought back that was completed is completed again.
+     * Every step is journaled as the change it is, and the student's snapshot is published once at the end, so
+     * readers never see a version half restored.
+     */
+    private void switchToVersion(ScheduleSnapshot version) {
+        ScheduleDiff diff = schedule.getSnapshot().diff(version);
+        isSwitchingVersion = true;
+        try {
+            for (ModulePlacement placement : diff.getRemoved()) {
+                restoreDeletion(placement.getModuleCode());
+                record(JournalEntry.delete(placement.getModuleCode()));
+            }
+            for (int semester : diff.getChangedSemesters()) {
+                List<Module> semesterModules = version.getModules(semester);
+                for (int i = semesterModules.size() - 1; i >= 0; i--) {
+                    Module module = semesterModules.get(i);
+                    if (schedule.getIndex(module.getModuleCode()) == -1) {
+                        restoreModule(module.getModuleCode(), semester, module.getModuleCredits());
+                        record(JournalEntry.add(module.getModuleCode(), semester, module.getModuleCredits()));
+                        if (module.getCompletionStatus()) {
+                            completeModuleSchedule(module.getModuleCode());
+                        }
+                    } else {
+                        restoreMove(module.getModuleCode(), semester);
+                        record(JournalEntry.move(module.getModuleCode(), semester));
+                    }
+                }
+            }
+        } finally {
+            isSwitchingVersion = false;
+            publishSnapshot();
+        }
     }
 
     /**
@@ -119,6 +359,16 @@ public class Student {
             if (module.getModuleCode().equals(moduleCode)) {
                 this.completedModuleCredits += module.getModuleCredits();
                 module.markModuleAsCompleted();
+                // The schedule's copy is marked too, so every version of the schedule planning it knows it is done
+                int scheduleIndex = schedule.getIndex(moduleCode);
+                if (scheduleIndex != -1) {
+                    schedule.getMainModuleList().get(scheduleIndex).markModuleAsCompleted();
+                }
+                if (degreeAudit != null) {
+                    degreeAudit.completeModule(moduleCode, module.getModuleCredits());
+                }
+                publishSnapshot();
+                record(JournalEntry.complete(moduleCode));
                 return;
             }
         }
@@ -139,14 +389,27 @@ public class Student {
      */
     public void deleteModuleSchedule(String moduleCode) throws FailPrereqException, MissingModuleException {
         this.schedule.deleteModule(moduleCode);
-        Module module;
-        try {
-            module = modulesPlanned.getModule(moduleCode);
-        } catch (InvalidObjectException e) {
+        if (modulesPlanned.getIndex(moduleCode) == -1) {
             throw new MissingModuleException(moduleCode + " is not in Modules Planner.");
         }
-        this.completedModuleCredits -= module.getModuleCredits();
+        forgetPlannedModule(moduleCode);
+        publishSnapshot();
+        record(JournalEntry.delete(moduleCode));
+    }
+
+    private void forgetPlannedModule(String moduleCode) {
+        int index = modulesPlanned.getIndex(moduleCode);
+        if (index == -1) {
+            return;
+        }
+        Module module = modulesPlanned.getMainModuleList().get(index);
+        if (module.getCompletionStatus()) {
+            this.completedModuleCredits -= module.getModuleCredits();
+        }
         modulesPlanned.deleteModule(module);
+        if (degreeAudit != null) {
+            degreeAudit.removeModule(moduleCode);
+        }
     }
 
 
@@ -156,9 +419,26 @@ public class Student {
 
     public void setYear(String year) {
         this.year = year;
+        updateIntakeYear();
+        publishSnapshot();
+        record(JournalEntry.year(year));
     }
 
 
+    /**
+     * Tells the schedule which academic year the student started in, worked out from their year of study, so that
+     * each semester is checked against the prerequisites of its own year.
+     */
+    private void updateIntakeYear() {
+        if (schedule == null) {
+            return;
+        }
+        Matcher matcher = YEAR_AND_SEMESTER.matcher(year == null ? "" : year);
+        schedule.setIntakeYear(matcher.matches()
+                ? AcademicYear.intakeYear(NusModsDataSource.DEFAULT_ACADEMIC_YEAR, Integer.parseInt(matcher.group(1)))
+                : null);
+    }
+
     /**
      * Sets the name of the student.
      *
@@ -166,6 +446,7 @@ public class Student {
      */
     public void setName(String name) {
         this.name = name;
+        publishSnapshot();
     }
 
     /**
@@ -174,26 +455,89 @@ public class Student {
      * @param major The new major to set.
      */
     public void setMajor(String major) {
-        this.major = major;
         majorModuleCodes = getRequirements(major);
+        this.major = major;
+        degreeAudit = new DegreeAudit(getDegreeRequirements(major));
+        for (Module module : modulesPlanned.getMainModuleList()) {
+            degreeAudit.planModule(module.getModuleCode(), module.getModuleCredits());
+            if (module.getCompletionStatus()) {
+                degreeAudit.completeModule(module.getModuleCode(), module.getModuleCredits());
+            }
+        }
+        publishSnapshot();
+        record(JournalEntry.major(major));
     }
 
+    /**
+     * Retrieves the required modules of the student's major that have not been completed.
+     *
+     * @return An ArrayList of module codes, in planning order.
+     */
     public ArrayList<String> getModuleCodesLeft () {
-        ArrayList<String> moduleCodesLeft = new ArrayList<String>();
-        ArrayList<String> completedModuleCodes = modulesPlanned.getModulesCompleted();
+        return new ArrayList<>(degreeAudit.getModuleCodesLeft());
+    }
 
-        for (String moduleCode: majorModuleCodes) {
-            if (!completedModuleCodes.contains(moduleCode)) {
-                moduleCodesLeft.add(moduleCode);
-            }
-        }
-        return moduleCodesLeft;
+    /**
+     * Retrieves the audit of the student's plan against their major's requirements.
+     *
+     * @return The degree audit, or null if no major has been set.
+     */
+    public DegreeAudit getDegreeAudit() {
+        return degreeAudit;
     }
 
     public ArrayList<String> getMajorModuleCodes() {
         return majorModuleCodes;
     }
 
+    /**
+     * Retrieves the latest published copy of the student's progress. Safe to call from any thread while another
+     * thread changes the student; the copy reflects the student as of the last completed change.
+     *
+     * @return The latest snapshot of the student.
+     */
+    public StudentSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Saves every later change to the student's plan in a journal. Changes made before the journal is attached,
+     * such as those replayed while restoring a plan, are not recorded.
+     *
+     * @param journal The journal to record changes in.
+     */
+    public void setJournal(PlanJournal journal) {
+        this.journal = journal;
+        this.history = new ScheduleHistory(schedule.getSnapshot());
+    }
+
+    public PlanJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Keeps a change: the schedule's new version in the history, unless the change is itself a step through the
+     * history, and the entry in the journal.
+     */
+    private void record(JournalEntry entry) {
+        if (!isSwitchingVersion) {
+            history.commit(schedule.getSnapshot());
+        }
+        if (journal != null) {
+            journal.record(entry, this);
+        }
+    }
+
+    private void publishSnapshot() {
+        if (isSwitchingVersion) {
+            return;
+        }
+        ArrayList<String> moduleCodesLeft = degreeAudit == null
+                ? new ArrayList<>() : new ArrayList<>(degreeAudit.getModuleCodesLeft());
+        snapshot = new StudentSnapshot(name, major, year, completedModuleCredits, moduleCodesLeft,
+                schedule.getSnapshot());
+    }
+
     public ModuleList getModulesPlanned() {
         return modulesPlanned;
     }
@@ -0,0 +1,62 @@
+package seedu.duke.models.schema;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable copy of a student's progress, published after every change so that it can be read from any thread
+ * without locking. It holds the {@link ScheduleSnapshot} of the student's schedule taken at the same change, so a
+ * reader always sees a schedule and the modules left that agree with each other.
+ */
+public class StudentSnapshot {
+    private final String name;
+    private final String major;
+    private final String year;
+    private final int completedModuleCredits;
+    private final List<String> moduleCodesLeft;
+    private final ScheduleSnapshot schedule;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param name                   The name of the student.
+     * @param major                  The major of the student.
+     * @param year                   The current year and semester of the student.
+     * @param completedModuleCredits The number of units completed.
+     * @param moduleCodesLeft        The required modules not yet completed.
+     * @param schedule               The snapshot of the student's schedule at the same change.
+     */
+    public StudentSnapshot(String name, String major, String year, int completedModuleCredits,
+                           List<String> moduleCodesLeft, ScheduleSnapshot schedule) {
+        this.name = name;
+        this.major = major;
+        this.year = year;
+        this.completedModuleCredits = completedModuleCredits;
+        this.moduleCodesLeft = Collections.unmodifiableList(moduleCodesLeft);
+        this.schedule = schedule;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMajor() {
+        return major;
+    }
+
+    public String getYear() {
+        return year;
+    }
+
+    public int getCompletedModuleCredits() {
+        return completedModuleCredits;
+    }
+
+    public List<String> getModuleCodesLeft() {
+        return moduleCodesLeft;
+    }
+
+    public ScheduleSnapshot getSchedule() {
+        return schedule;
+    }
+}
@@ -9,11 +9,20 @@ public interface UserCommands {
     String SET_MAJOR_COMMAND = "major";
     String ADD_MODULE_COMMAND = "add";
     String DELETE_MODULE_COMMAND = "delete";
+    String MOVE_MODULE_COMMAND = "move";
+    String UNDO_COMMAND = "undo";
+    String REDO_COMMAND = "redo";
+    String BRANCH_COMMAND = "branch";
+    String SWITCH_COMMAND = "switch";
+    String DIFF_COMMAND = "diff";
+    String ELIGIBLE_COMMAND = "eligible";
     String VIEW_SCHEDULE_COMMAND = "schedule";
     String COMPLETE_MODULE_COMMAND = "complete";
     String REQUIRED_MODULES_COMMAND = "required";
     String INFO_COMMAND = "info";
     String SEARCH_MODULE_COMMAND = "search";
     String HELP_COMMAND = "help";
+    String TIMETABLE_COMMAND = "timetable";
+    String STATS_COMMAND = "stats";
 }
 
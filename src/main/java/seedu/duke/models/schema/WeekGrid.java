@@ -0,0 +1,206 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The `WeekGrid` class marks the hours of a week taken by lessons, as one long per day in which bit h is set when
+ * the hour from h:00 to (h+1):00 is taken. Clashes, free hours and contact hours are found with bitwise operations,
+ * so comparing two timetables takes a handful of instructions per day.
+ */
+public class WeekGrid {
+    public static final int DAYS_IN_WEEK = 7;
+    public static final int HOURS_IN_DAY = 24;
+
+    private final long[] days;
+
+    /**
+     * Constructs an empty week.
+     */
+    public WeekGrid() {
+        this.days = new long[DAYS_IN_WEEK];
+    }
+
+    private WeekGrid(long[] days) {
+        this.days = days;
+    }
+
+    /**
+     * Builds the mask of the hours taken by a lesson within its day.
+     *
+     * @param startTime The starting hour, from 0 to 23.
+     * @param duration  The number of hours.
+     * @return The mask with one bit set for each hour of the lesson.
+     * @throws IllegalArgumentException If the lesson does not fit within the day.
+     */
+    public static long hourMask(int startTime, int duration) {
+        if (startTime < 0 || duration < 0 || startTime + duration > HOURS_IN_DAY) {
+            throw new IllegalArgumentException("Lesson must start and end within the day");
+        }
+        return ((1L << duration) - 1) << startTime;
+    }
+
+    /**
+     * Marks the hours of a lesson as taken.
+     *
+     * @param event The lesson.
+     * @throws IllegalArgumentException If the lesson's day is not a day of the week or it does not fit in the day.
+     */
+    public void add(Event event) {
+        int day = event.getDay();
+        if (day < 0) {
+            throw new IllegalArgumentException("Lesson must be on a day of the week");
+        }
+        days[day] |= event.getHourMask();
+    }
+
+    /**
+     * Marks every hour taken in another week as taken in this week.
+     *
+     * @param other The other week.
+     */
+    public void addAll(WeekGrid other) {
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            days[day] |= other.days[day];
+        }
+    }
+
+    /**
+     * Checks if a lesson would take an hour already taken in this week.
+     *
+     * @param event The lesson.
+     * @return true if the lesson clashes.
+     */
+    public boolean clashesWith(Event event) {
+        int day = event.getDay();
+        return day >= 0 && (days[day] & event.getHourMask()) != 0;
+    }
+
+    /**
+     * Checks if any hour is taken in both this week and another.
+     *
+     * @param other The other week.
+     * @return true if the weeks clash.
+     */
+    public boolean clashesWith(WeekGrid other) {
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            if ((days[day] & other.days[day]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the hours taken in both this week and another.
+     *
+     * @param other The other week.
+     * @return A new week marking the clashing hours.
+     */
+    public WeekGrid getClashes(WeekGrid other) {
+        long[] clashes = new long[DAYS_IN_WEEK];
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            clashes[day] = days[day] & other.days[day];
+        }
+        return new WeekGrid(clashes);
+    }
+
+    public long getDayMask(int day) {
+        return days[day];
+    }
+
+    public boolean isEmpty() {
+        for (long day : days) {
+            if (day != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the hours taken in the week.
+     *
+     * @return The number of contact hours.
+     */
+    public int getContactHours() {
+        int hours = 0;
+        for (long day : days) {
+            hours += Long.bitCount(day);
+        }
+        return hours;
+    }
+
+    /**
+     * Counts the days with at least one hour taken.
+     *
+     * @return The number of days on campus.
+     */
+    public int getDaysOnCampus() {
+        int count = 0;
+        for (long day : days) {
+            if (day != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if any hour before a given hour is taken, on any day.
+     *
+     * @param hour The hour, e.g. 9 to check for lessons starting before 9am.
+     * @return true if a lesson takes an hour before the given hour.
+     */
+    public boolean hasLessonsBefore(int hour) {
+        long earlyHours = hourMask(0, hour);
+        for (long day : days) {
+            if ((day & earlyHours) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the free periods of a day within opening hours, such as 8am to 8pm.
+     *
+     * @param day       The day, from 0 (Monday) to 6 (Sunday).
+     * @param fromHour  The first hour to consider.
+     * @param untilHour The hour at which to stop considering.
+     * @return The free periods, each as {start hour, end hour}, in order.
+     */
+    public List<int[]> getFreeSlots(int day, int fromHour, int untilHour) {
+        long free = ~days[day] & hourMask(fromHour, untilHour - fromHour);
+        List<int[]> slots = new ArrayList<>();
+        while (free != 0) {
+            int start = Long.numberOfTrailingZeros(free);
+            // Adding the lowest bit of a run carries past its end, leaving the bits above the run
+            long run = free & ~(free + Long.lowestOneBit(free));
+            int end = Long.SIZE - Long.numberOfLeadingZeros(run);
+            slots.add(new int[]{start, end});
+            free &= ~run;
+        }
+        return slots;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof WeekGrid && Arrays.equals(days, ((WeekGrid) other).days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(days);
+    }
+
+    /**
+     * Copies this week.
+     *
+     * @return A new week with the same hours taken.
+     */
+    public WeekGrid copy() {
+        return new WeekGrid(days.clone());
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.duke.storage;
+
+/**
+ * The `JournalEntry` class represents one validated change to a student's plan, stored as a single line of the
+ * plan journal. Entries carry everything needed to replay the change, so restoring a plan needs no NUSMods lookups
+ * and no prerequisite checks.
+ */
+public class JournalEntry {
+    public static final String ADD = "ADD";
+    public static final String DELETE = "DELETE";
+    public static final String MOVE = "MOVE";
+    public static final String COMPLETE = "COMPLETE";
+    public static final String MAJOR = "MAJOR";
+    public static final String YEAR = "YEAR";
+
+    private static final String SEPARATOR = " ";
+
+    private final long sequenceNumber;
+    private final String type;
+    private final String value;
+    private final int semester;
+    private final int moduleCredits;
+
+    private JournalEntry(long sequenceNumber, String type, String value, int semester, int moduleCredits) {
+        this.sequenceNumber = sequenceNumber;
+        this.type = type;
+        this.value = value;
+        this.semester = semester;
+        this.moduleCredits = moduleCredits;
+    }
+
+    public static JournalEntry add(String moduleCode, int semester, int moduleCredits) {
+        return new JournalEntry(0, ADD, moduleCode, semester, moduleCredits);
+    }
+
+    public static JournalEntry delete(String moduleCode) {
+        return new JournalEntry(0, DELETE, moduleCode, 0, 0);
+    }
+
+    public static JournalEntry move(String moduleCode, int semester) {
+        return new JournalEntry(0, MOVE, moduleCode, semester, 0);
+    }
+
+    public static JournalEntry complete(String moduleCode) {
+        return new JournalEntry(0, COMPLETE, moduleCode, 0, 0);
+    }
+
+    public static JournalEntry major(String major) {
+        return new JournalEntry(0, MAJOR, major, 0, 0);
+    }
+
+    public static JournalEntry year(String year) {
+        return new JournalEntry(0, YEAR, year, 0, 0);
+    }
+
+    /**
+     * Returns a copy of this entry numbered for its position in the journal.
+     *
+     * @param sequenceNumber The position of the entry, starting from 1.
+     * @return The numbered entry.
+     */
+    JournalEntry withSequenceNumber(long sequenceNumber) {
+        return new JournalEntry(sequenceNumber, type, value, semester, moduleCredits);
+    }
+
+    /**
+     * Formats this entry as a journal line, e.g. "12 ADD CS2113 3 4".
+     *
+     * @return The line, without a line separator.
+     */
+    public String toLine() {
+        String line = sequenceNumber + SEPARATOR + type + SEPARATOR + value;
+        if (type.equals(ADD)) {
+            line += SEPARATOR + semester + SEPARATOR + moduleCredits;
+        } else if (type.equals(MOVE)) {
+            line += SEPARATOR + semester;
+        }
+        return line;
+    }
+
+    /**
+     * Parses a journal line written by toLine.
+     *
+     * @param line The line to parse.
+     * @return The entry described by the line.
+     * @throws IllegalArgumentException If the line is malformed, such as a line cut short by a crash.
+     */
+    public static JournalEntry parse(String line) throws IllegalArgumentException {
+        String[] fields = line.trim().split(SEPARATOR);
+        try {
+            long sequenceNumber = Long.parseLong(fields[0]);
+            String type = fields[1];
+            switch (type) {
+            case ADD:
+                if (fields.length != 5) {
+                    break;
+                }
+                return new JournalEntry(sequenceNumber, type, fields[2], Integer.parseInt(fields[3]),
+                        Integer.parseInt(fields[4]));
+            case MOVE:
+                if (fields.length != 4) {
+                    break;
+                }
+                return new JournalEntry(sequenceNumber, type, fields[2], Integer.parseInt(fields[3]), 0);
+            case DELETE:
+            case COMPLETE:
+            case MAJOR:
+            case YEAR:
+                if (fields.length != 3) {
+                    break;
+                }
+                return new JournalEntry(sequenceNumber, type, fields[2], 0, 0);
+            default:
+                break;
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed journal entry: " + line);
+        }
+        throw new IllegalArgumentException("Malformed journal entry: " + line);
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public int getSemester() {
+        return semester;
+    }
+
+    public int getModuleCredits() {
+        return moduleCredits;
+    }
+}
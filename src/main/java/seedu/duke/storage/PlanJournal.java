@@ -0,0 +1,296 @@
+package seedu.duke.storage;
+
+import seedu.duke.models.schema.Student;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `PlanJournal` class keeps one student's plan on disk as a snapshot followed by an append-only journal of the
+ * validated changes made since. Each change is written and flushed to disk before the command returns, and the
+ * journal is folded into a new snapshot every COMPACTION_THRESHOLD entries so restoring stays fast.
+ * Entries numbered at or below the snapshot's sequence number are skipped on replay, so a crash between writing a
+ * snapshot and clearing the journal loses nothing. Both files name the student they belong to, and a plan saved
+ * under another name is not restored.
+ */
+public class PlanJournal {
+    static final int COMPACTION_THRESHOLD = 50;
+
+    private static final String SNAPSHOT_HEADER = "# NUSDegs plan snapshot";
+    private static final String JOURNAL_HEADER = "# NUSDegs plan journal";
+    private static final String SEQUENCE_FIELD = "sequence|";
+    private static final String NAME_FIELD = "name|";
+    private static final String CORRUPT_EXTENSION = ".corrupt";
+
+    private final String name;
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private FileChannel journalChannel;
+    private long lastSequenceNumber;
+    private int entriesSinceSnapshot;
+
+    /**
+     * Constructs the journal of a student. No files are touched until the plan is restored or written.
+     *
+     * @param name         The name of the student.
+     * @param journalFile  The file holding the journal.
+     * @param snapshotFile The file holding the latest snapshot.
+     */
+    PlanJournal(String name, Path journalFile, Path snapshotFile) {
+        this.name = name.trim();
+        this.journalFile = journalFile;
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Checks if a plan has been saved for this student.
+     *
+     * @return true if a snapshot exists.
+     */
+    public boolean hasPlan() {
+        return Files.exists(snapshotFile);
+    }
+
+    /**
+     * Writes the student's whole plan as a new snapshot and clears the journal. Called when a new plan is started
+     * and whenever the journal grows past COMPACTION_THRESHOLD entries.
+     *
+     * @param student The student whose plan is saved.
+     * @throws IOException If the snapshot could not be written.
+     */
+    public synchronized void writeSnapshot(Student student) throws IOException {
+        Files.createDirectories(snapshotFile.toAbsolutePath().getParent());
+        Path temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+            writer.write(SNAPSHOT_HEADER);
+            writer.newLine();
+            writer.write(SEQUENCE_FIELD + lastSequenceNumber);
+            writer.newLine();
+            writer.write(PlanRecord.fromStudent(student).toLine());
+            writer.newLine();
+        }
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        openJournal().truncate(0);
+        journalChannel.force(true);
+        entriesSinceSnapshot = 0;
+    }
+
+    /**
+     * Appends a validated change to the journal and flushes it to disk, compacting the journal into a new snapshot
+     * once it is long enough. A failure to save is reported without undoing the change in memory.
+     *
+     * @param entry   The change made.
+     * @param student The student after the change, used if a new snapshot is written.
+     */
+    public synchronized void record(JournalEntry entry, Student student) {
+        try {
+            JournalEntry numberedEntry = entry.withSequenceNumber(lastSequenceNumber + 1);
+            byte[] line = (numberedEntry.toLine() + "\n").getBytes(StandardCharsets.UTF_8);
+            FileChannel channel = openJournal();
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            lastSequenceNumber = numberedEntry.getSequenceNumber();
+            entriesSinceSnapshot++;
+            if (entriesSinceSnapshot >= COMPACTION_THRESHOLD) {
+                writeSnapshot(student);
+            }
+        } catch (IOException e) {
+            System.out.println("Your plan could not be saved: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the student's plan from the snapshot and the journal. Modules are restored exactly as recorded,
+     * without checking prerequisites or contacting the NUSMods API, since every entry was validated when it was
+     * made. A partly written last entry, left by a crash, is discarded; any other entry that cannot be read is an
+     * error, since the entries after it would otherwise be lost.
+     *
+     * @return The restored student.
+     * @throws IOException If the files could not be read.
+     * @throws IllegalArgumentException If the snapshot or a whole entry of the journal is malformed, an entry
+     *     cannot be replayed, or either file belongs to another student.
+     */
+    public synchronized Student restore() throws IOException, IllegalArgumentException {
+        Student student = readSnapshot();
+        long snapshotSequenceNumber = lastSequenceNumber;
+        entriesSinceSnapshot = 0;
+        if (!Files.exists(journalFile)) {
+            return student;
+        }
+
+        // Only whole lines count: each entry is flushed together with its line separator, so a line without one
+        // was cut short by a crash
+        byte[] contents = Files.readAllBytes(journalFile);
+        int validLength = 0;
+        int lineNumber = 0;
+        int lineEnd;
+        while ((lineEnd = indexOfNewline(contents, validLength)) != -1) {
+            String line = new String(contents, validLength, lineEnd - validLength, StandardCharsets.UTF_8);
+            lineNumber++;
+            if (line.startsWith(NAME_FIELD)) {
+                checkName(line.substring(NAME_FIELD.length()), journalFile);
+            }
+            if (line.startsWith("#") || line.startsWith(NAME_FIELD)) {
+                validLength = lineEnd + 1;
+                continue;
+            }
+            JournalEntry entry;
+            try {
+                entry = JournalEntry.parse(line);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + " of " + journalFile + " could not be read: "
+                        + e.getMessage());
+            }
+            validLength = lineEnd + 1;
+            if (entry.getSequenceNumber() <= snapshotSequenceNumber) {
+                continue;
+            }
+            replay(student, entry);
+            lastSequenceNumber = entry.getSequenceNumber();
+            entriesSinceSnapshot++;
+        }
+        if (contents.length > validLength) {
+            FileChannel channel = openJournal();
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        return student;
+    }
+
+    /**
+     * Keeps a plan that could not be restored by renaming its snapshot and journal with a ".corrupt" extension, so
+     * that a new plan started in its place does not overwrite it. An earlier corrupt copy is not replaced; the new
+     * one is numbered instead.
+     *
+     * @return The files the plan was moved to.
+     * @throws IOException If a file could not be moved.
+     */
+    public synchronized List<Path> moveAside() throws IOException {
+        close();
+        List<Path> moved = new ArrayList<>();
+        for (Path file : List.of(snapshotFile, journalFile)) {
+            if (!Files.exists(file)) {
+                continue;
+            }
+            Path target = file.resolveSibling(file.getFileName() + CORRUPT_EXTENSION);
+            for (int i = 1; Files.exists(target); i++) {
+                target = file.resolveSibling(file.getFileName() + CORRUPT_EXTENSION + "." + i);
+            }
+            Files.move(file, target);
+            moved.add(target);
+        }
+        lastSequenceNumber = 0;
+        entriesSinceSnapshot = 0;
+        return moved;
+    }
+
+    /**
+     * Closes the journal file. Later changes reopen it.
+     *
+     * @throws IOException If the file could not be closed.
+     */
+    public synchronized void close() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+
+    private Student readSnapshot() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(snapshotFile, StandardCharsets.UTF_8)) {
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                lines.add(line);
+            }
+        }
+        if (lines.size() != 2 || !lines.get(0).startsWith(SEQUENCE_FIELD)) {
+            throw new IllegalArgumentException("Malformed plan snapshot: " + snapshotFile);
+        }
+        try {
+            lastSequenceNumber = Long.parseLong(lines.get(0).substring(SEQUENCE_FIELD.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed plan snapshot: " + lines.get(0));
+        }
+        PlanRecord record = PlanRecord.parse(lines.get(1));
+        checkName(record.getName(), snapshotFile);
+        return record.toStudent();
+    }
+
+    private void checkName(String savedName, Path file) {
+        if (!savedName.trim().equalsIgnoreCase(name)) {
+            throw new IllegalArgumentException(file + " holds the plan of " + savedName.trim() + ", not " + name);
+        }
+    }
+
+    private void replay(Student student, JournalEntry entry) {
+        switch (entry.getType()) {
+        case JournalEntry.ADD:
+            student.restoreModule(entry.getValue(), entry.getSemester(), entry.getModuleCredits());
+            break;
+        case JournalEntry.DELETE:
+            student.restoreDeletion(entry.getValue());
+            break;
+        case JournalEntry.MOVE:
+            student.restoreMove(entry.getValue(), entry.getSemester());
+            break;
+        case JournalEntry.COMPLETE:
+            student.completeModuleSchedule(entry.getValue());
+            break;
+        case JournalEntry.MAJOR:
+            student.setMajor(entry.getValue());
+            break;
+        case JournalEntry.YEAR:
+            student.setYear(entry.getValue());
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static int indexOfNewline(byte[] contents, int from) {
+        for (int i = from; i < contents.length; i++) {
+            if (contents[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journalChannel == null || !journalChannel.isOpen()) {
+            Files.createDirectories(journalFile.toAbsolutePath().getParent());
+            journalChannel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        if (journalChannel.size() == 0) {
+            ByteBuffer header = ByteBuffer.wrap((JOURNAL_HEADER + "\n" + NAME_FIELD + name + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            while (header.hasRemaining()) {
+                journalChannel.write(header, header.position());
+            }
+        }
+        journalChannel.position(journalChannel.size());
+        return journalChannel;
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.duke.storage;
+
+import seedu.duke.models.schema.Module;
+import seedu.duke.models.schema.Student;
+
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `PlanRecord` class is a compact, immutable copy of a student's plan as it is kept on disk: the student's
+ * details and, for each planned module, its semester, units and completion status. Records can be read and
+ * aggregated without building a `Student`, and are turned back into one without contacting the NUSMods API.
+ */
+public class PlanRecord {
+    private static final String FIELD_SEPARATOR = "|";
+    private static final String MODULE_SEPARATOR = ",";
+    private static final String MODULE_FIELD_SEPARATOR = ":";
+    private static final String COMPLETED = "c";
+    private static final String PLANNED = "p";
+
+    private final String name;
+    private final String major;
+    private final String year;
+    private final String[] moduleCodes;
+    private final int[] semesters;
+    private final int[] moduleCredits;
+    private final boolean[] completed;
+
+    private PlanRecord(String name, String major, String year, String[] moduleCodes, int[] semesters,
+                       int[] moduleCredits, boolean[] completed) {
+        this.name = name;
+        this.major = major;
+        this.year = year;
+        this.moduleCodes = moduleCodes;
+        this.semesters = semesters;
+        this.moduleCredits = moduleCredits;
+        this.completed = completed;
+    }
+
+    /**
+     * Copies a student's plan.
+     *
+     * @param student The student to copy.
+     * @return The record of the student's plan, with modules in schedule order.
+     */
+    public static PlanRecord fromStudent(Student student) {
+        List<List<String>> modulesBySemester = student.getSchedule().getModulesBySemester();
+        List<String> modulesCompleted = student.getModulesPlanned().getModulesCompleted();
+        int moduleCount = 0;
+        for (List<String> semesterModules : modulesBySemester) {
+            moduleCount += semesterModules.size();
+        }
+
+        String[] moduleCodes = new String[moduleCount];
+        int[] semesters = new int[moduleCount];
+        int[] moduleCredits = new int[moduleCount];
+        boolean[] completed = new boolean[moduleCount];
+        int i = 0;
+        for (int semester = 1; semester <= modulesBySemester.size(); semester++) {
+            for (String moduleCode : modulesBySemester.get(semester - 1)) {
+                Module module;
+                try {
+                    module = student.getSchedule().getModule(moduleCode);
+                } catch (InvalidObjectException e) {
+                    throw new IllegalStateException("Schedule lists a module it does not hold: " + moduleCode);
+                }
+                moduleCodes[i] = moduleCode;
+                semesters[i] = semester;
+                moduleCredits[i] = module.getModuleCredits();
+                completed[i] = modulesCompleted.contains(moduleCode);
+                i++;
+            }
+        }
+        return new PlanRecord(student.getName(), student.getMajor(), student.getYear(), moduleCodes, semesters,
+                moduleCredits, completed);
+    }
+
+    /**
+     * Builds a student holding this plan. Modules were validated when they were planned, so prerequisites are not
+     * checked and the NUSMods API is not contacted.
+     *
+     * @return The student.
+     */
+    public Student toStudent() {
+        Student student = new Student();
+        student.setName(name);
+        if (major != null) {
+            student.setMajor(major);
+        }
+        student.setYear(year);
+        // Each restored module is placed at the start of its semester, so restore in reverse to keep the order
+        for (int i = moduleCodes.length - 1; i >= 0; i--) {
+            student.restoreModule(moduleCodes[i], semesters[i], moduleCredits[i]);
+        }
+        for (int i = 0; i < moduleCodes.length; i++) {
+            if (completed[i]) {
+                student.completeModuleSchedule(moduleCodes[i]);
+            }
+        }
+        return student;
+    }
+
+    /**
+     * Formats this record as a single line, e.g. "Ryan Loh|CEG|Y2/S1|CS1010:1:4:c,CS1231:1:4:p".
+     *
+     * @return The line, without a line separator.
+     */
+    public String toLine() {
+        StringBuilder line = new StringBuilder();
+        line.append(name).append(FIELD_SEPARATOR)
+                .append(major == null ? "" : major).append(FIELD_SEPARATOR)
+                .append(year == null ? "" : year).append(FIELD_SEPARATOR);
+        for (int i = 0; i < moduleCodes.length; i++) {
+            if (i > 0) {
+                line.append(MODULE_SEPARATOR);
+            }
+            line.append(moduleCodes[i]).append(MODULE_FIELD_SEPARATOR)
+                    .append(semesters[i]).append(MODULE_FIELD_SEPARATOR)
+                    .append(moduleCredits[i]).append(MODULE_FIELD_SEPARATOR)
+                    .append(completed[i] ? COMPLETED : PLANNED);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Parses a line written by toLine.
+     *
+     * @param line The line to parse.
+     * @return The record described by the line.
+     * @throws IllegalArgumentException If the line is malformed.
+     */
+    public static PlanRecord parse(String line) throws IllegalArgumentException {
+        String[] fields = line.split("\\" + FIELD_SEPARATOR, -1);
+        if (fields.length != 4 || fields[0].isEmpty()) {
+            throw new IllegalArgumentException("Malformed plan record: " + line);
+        }
+        String[] modules = fields[3].isEmpty() ? new String[0] : fields[3].split(MODULE_SEPARATOR);
+        String[] moduleCodes = new String[modules.length];
+        int[] semesters = new int[modules.length];
+        int[] moduleCredits = new int[modules.length];
+        boolean[] completed = new boolean[modules.length];
+        try {
+            for (int i = 0; i < modules.length; i++) {
+                String[] moduleFields = modules[i].split(MODULE_FIELD_SEPARATOR);
+                moduleCodes[i] = moduleFields[0];
+                semesters[i] = Integer.parseInt(moduleFields[1]);
+                moduleCredits[i] = Integer.parseInt(moduleFields[2]);
+                completed[i] = moduleFields[3].equals(COMPLETED);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed plan record: " + line);
+        }
+        return new PlanRecord(fields[0], emptyToNull(fields[1]), emptyToNull(fields[2]), moduleCodes, semesters,
+                moduleCredits, completed);
+    }
+
+    private static String emptyToNull(String field) {
+        return field.isEmpty() ? null : field;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMajor() {
+        return major;
+    }
+
+    public String getYear() {
+        return year;
+    }
+
+    public int getNumberOfModules() {
+        return moduleCodes.length;
+    }
+
+    public String getModuleCode(int index) {
+        return moduleCodes[index];
+    }
+
+    public int getSemester(int index) {
+        return semesters[index];
+    }
+
+    public int getModuleCredits(int index) {
+        return moduleCredits[index];
+    }
+
+    public boolean isCompleted(int index) {
+        return completed[index];
+    }
+
+    /**
+     * Sums the units of the completed modules.
+     *
+     * @return The number of units completed.
+     */
+    public int getCompletedCredits() {
+        int total = 0;
+        for (int i = 0; i < moduleCodes.length; i++) {
+            if (completed[i]) {
+                total += moduleCredits[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the module codes planned in a semester, in schedule order.
+     *
+     * @param semester The semester, from 1 to 8.
+     * @return The module codes.
+     */
+    public List<String> getModuleCodes(int semester) {
+        List<String> semesterModules = new ArrayList<>();
+        for (int i = 0; i < moduleCodes.length; i++) {
+            if (semesters[i] == semester) {
+                semesterModules.add(moduleCodes[i]);
+            }
+        }
+        return semesterModules;
+    }
+}
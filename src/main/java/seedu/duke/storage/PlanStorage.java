@@ -0,0 +1,76 @@
+package seedu.duke.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * The `PlanStorage` class locates the saved plans of students in a data directory. Each student's plan is kept in
+ * a snapshot file and a journal file named after the student.
+ */
+public class PlanStorage {
+    private static final String DEFAULT_DIRECTORY = "data";
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private final Path directory;
+
+    /**
+     * Constructs a storage that keeps plans in the "data" directory of the working directory.
+     */
+    public PlanStorage() {
+        this(Paths.get(DEFAULT_DIRECTORY));
+    }
+
+    /**
+     * Constructs a storage that keeps plans in a directory, which is created when the first plan is saved.
+     *
+     * @param directory The directory holding the plans.
+     */
+    public PlanStorage(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Retrieves the journal of a student's plan.
+     *
+     * @param name The name of the student.
+     * @return The journal, which may not have a saved plan yet.
+     */
+    public PlanJournal getJournal(String name) {
+        String fileName = toFileName(name);
+        return new PlanJournal(name, directory.resolve(fileName + JOURNAL_EXTENSION),
+                directory.resolve(fileName + SNAPSHOT_EXTENSION));
+    }
+
+    /**
+     * Checks if a plan has been saved for a student.
+     *
+     * @param name The name of the student.
+     * @return true if the student has a saved plan.
+     */
+    public boolean hasPlan(String name) {
+        return getJournal(name).hasPlan();
+    }
+
+    /**
+     * Names a student's files. Names are matched without regard to case, and no two other names share a file: letters,
+     * digits and hyphens are kept, a space becomes "_" and any other character, such as an apostrophe, becomes "%"
+     * followed by the hex digits of its UTF-8 bytes.
+     */
+    static String toFileName(String name) {
+        StringBuilder fileName = new StringBuilder();
+        for (byte b : name.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-') {
+                fileName.append(c);
+            } else if (c == ' ') {
+                fileName.append('_');
+            } else {
+                fileName.append(String.format("%%%02X", b & 0xff));
+            }
+        }
+        return fileName.toString();
+    }
+}
@@ -0,0 +1,588 @@
+package seedu.duke.storage;
+
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.models.schema.Student;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * The `PlanStore` class keeps the plans of many students in a single append-only file, one record per line.
+ * Saving a student appends a new record and a removal appends a tombstone; the file is rewritten with only the
+ * latest records once most of it is out of date.
+ * <p>
+ * On opening, the file is scanned once to build in-memory indexes: the position of each student's latest record,
+ * the students planning each module in each semester, and the students of each major. Cohort queries such as
+ * module demand per semester and the distribution of units completed are answered from these indexes without
+ * reading or rebuilding any plan.
+ */
+public class PlanStore implements AutoCloseable {
+    private static final String HEADER = "# NUSDegs plan store";
+    private static final String RECORD_PREFIX = "P ";
+    private static final String TOMBSTONE_PREFIX = "D ";
+    private static final int MINIMUM_STALE_RECORDS_TO_COMPACT = 64;
+
+    private final Path file;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private FileChannel channel;
+    private RandomAccessFile reader;
+    private int staleRecords;
+
+    // Primary index: student key -> latest record
+    private final Map<String, IndexedPlan> plans = new HashMap<>();
+    // Secondary indexes: semester -> module code -> student keys, and major -> student keys
+    private final List<Map<String, Set<String>>> studentsBySemesterAndModule = new ArrayList<>();
+    private final Map<String, Set<String>> studentsByMajor = new HashMap<>();
+
+    private PlanStore(Path file) {
+        this.file = file;
+        for (int i = 0; i < Schedule.getMaximumSemesters(); i++) {
+            studentsBySemesterAndModule.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Opens a plan store, creating the file if it does not exist, and indexes the plans in it.
+     *
+     * @param file The file holding the plans.
+     * @return The opened store.
+     * @throws IOException If the file could not be read or created.
+     * @throws IllegalArgumentException If the file holds a malformed record.
+     */
+    public static PlanStore open(Path file) throws IOException, IllegalArgumentException {
+        PlanStore store = new PlanStore(file);
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        if (!Files.exists(file)) {
+            Files.write(file, (HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        store.scan();
+        store.openFile();
+        return store;
+    }
+
+    /**
+     * Saves a student's plan, replacing any earlier plan saved under the same name.
+     *
+     * @param student The student to save.
+     * @throws IOException If the plan could not be written.
+     */
+    public void put(Student student) throws IOException {
+        putAll(Collections.singletonList(student));
+    }
+
+    /**
+     * Saves many students' plans with a single flush to disk.
+     *
+     * @param students The students to save.
+     * @throws IOException If the plans could not be written.
+     */
+    public void putAll(Collection<Student> students) throws IOException {
+        List<PlanRecord> records = new ArrayList<>();
+        for (Student student : students) {
+            records.add(PlanRecord.fromStudent(student));
+        }
+        lock.writeLock().lock();
+        try {
+            for (PlanRecord record : records) {
+                long offset = channel.size();
+                byte[] line = (RECORD_PREFIX + record.toLine() + "\n").getBytes(StandardCharsets.UTF_8);
+                write(line);
+                index(record, offset, line.length);
+            }
+            channel.force(false);
+            compactIfMostlyStale();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a student's plan.
+     *
+     * @param name The name of the student.
+     * @return true if a plan was removed.
+     * @throws IOException If the removal could not be written.
+     */
+    public boolean remove(String name) throws IOException {
+        String key = toKey(name);
+        lock.writeLock().lock();
+        try {
+            if (!plans.containsKey(key)) {
+                return false;
+            }
+            write((TOMBSTONE_PREFIX + key + "\n").getBytes(StandardCharsets.UTF_8));
+            channel.force(false);
+            unindex(key);
+            staleRecords++;
+            compactIfMostlyStale();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads a student's plan.
+     *
+     * @param name The name of the student.
+     * @return The plan, or null if none is saved under the name.
+     * @throws IOException If the plan could not be read.
+     */
+    public PlanRecord get(String name) throws IOException {
+        lock.readLock().lock();
+        try {
+            IndexedPlan plan = plans.get(toKey(name));
+            return plan == null ? null : readRecord(plan);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Passes every saved plan to an action, reading the file once from start to end.
+     *
+     * @param action The action to perform on each plan.
+     * @throws IOException If the plans could not be read.
+     */
+    public void forEach(Consumer<PlanRecord> action) throws IOException {
+        forEachRecordLine(line -> action.accept(PlanRecord.parse(line)));
+    }
+
+    /**
+     * Passes every saved plan, in the line format of PlanRecord, to an action, reading the file once from start to
+     * end. Bulk jobs can hand the lines to other threads to parse.
+     *
+     * @param action The action to perform on each line.
+     * @throws IOException If the plans could not be read.
+     */
+    public void forEachRecordLine(Consumer<String> action) throws IOException {
+        lock.readLock().lock();
+        try {
+            scanLatestRecords(action);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return plans.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the students planning a module in a semester.
+     *
+     * @param moduleCode The module code.
+     * @param semester   The semester, from 1 to 8.
+     * @return The number of students.
+     */
+    public int countStudents(String moduleCode, int semester) {
+        lock.readLock().lock();
+        try {
+            Set<String> students = studentsBySemesterAndModule.get(semester - 1).get(moduleCode);
+            return students == null ? 0 : students.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the names, in lower case, of the students planning a module in a semester.
+     *
+     * @param moduleCode The module code.
+     * @param semester   The semester, from 1 to 8.
+     * @return The students, sorted.
+     */
+    public Set<String> getStudents(String moduleCode, int semester) {
+        lock.readLock().lock();
+        try {
+            Set<String> students = studentsBySemesterAndModule.get(semester - 1).get(moduleCode);
+            return students == null ? new TreeSet<>() : new TreeSet<>(students);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the students planning a module in each semester.
+     *
+     * @param moduleCode The module code.
+     * @return An array holding the number of students for semesters 1 to 8, in order.
+     */
+    public int[] getModuleDemand(String moduleCode) {
+        lock.readLock().lock();
+        try {
+            int[] demand = new int[Schedule.getMaximumSemesters()];
+            for (int i = 0; i < demand.length; i++) {
+                Set<String> students = studentsBySemesterAndModule.get(i).get(moduleCode);
+                demand[i] = students == null ? 0 : students.size();
+            }
+            return demand;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the students planning each module in a semester.
+     *
+     * @param semester The semester, from 1 to 8.
+     * @return The number of students for each module planned, sorted by module code.
+     */
+    public SortedMap<String, Integer> getSemesterDemand(int semester) {
+        lock.readLock().lock();
+        try {
+            SortedMap<String, Integer> demand = new TreeMap<>();
+            for (Map.Entry<String, Set<String>> entry : studentsBySemesterAndModule.get(semester - 1).entrySet()) {
+                demand.put(entry.getKey(), entry.getValue().size());
+            }
+            return demand;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the names, in lower case, of the students of a major.
+     *
+     * @param major The major.
+     * @return The students, sorted.
+     */
+    public Set<String> getStudentsByMajor(String major) {
+        lock.readLock().lock();
+        try {
+            Set<String> students = studentsByMajor.get(major.toUpperCase(Locale.ROOT));
+            return students == null ? new TreeSet<>() : new TreeSet<>(students);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups students by the number of units they have completed.
+     *
+     * @param major      The major of the students to count, or null to count every student.
+     * @param bucketSize The number of units in each group, e.g. 20 to count 0-19, 20-39 and so on.
+     * @return The number of students in each non-empty group, keyed by the lowest number of units in the group.
+     */
+    public SortedMap<Integer, Integer> getCompletionDistribution(String major, int bucketSize) {
+        if (bucketSize < 1) {
+            throw new IllegalArgumentException("Bucket size must be at least 1");
+        }
+        lock.readLock().lock();
+        try {
+            Collection<String> students = major == null ? plans.keySet()
+                    : studentsByMajor.getOrDefault(major.toUpperCase(Locale.ROOT), Collections.emptySet());
+            SortedMap<Integer, Integer> distribution = new TreeMap<>();
+            for (String key : students) {
+                int completedCredits = plans.get(key).completedCredits;
+                distribution.merge(completedCredits / bucketSize * bucketSize, 1, Integer::sum);
+            }
+            return distribution;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the file with only the latest record of each student.
+     *
+     * @throws IOException If the file could not be rewritten.
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+            Map<IndexedPlan, Long> newOffsets = new HashMap<>();
+            try (FileChannel output = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(output, (HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+                for (IndexedPlan plan : plans.values()) {
+                    newOffsets.put(plan, output.position());
+                    writeFully(output, readLine(plan));
+                }
+                output.force(true);
+            }
+            closeFile();
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            openFile();
+            for (Map.Entry<IndexedPlan, Long> entry : newOffsets.entrySet()) {
+                entry.getKey().offset = entry.getValue();
+            }
+            staleRecords = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            closeFile();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void scan() throws IOException {
+        long offset = 0;
+        try (LineReader in = new LineReader(Files.newInputStream(file))) {
+            for (byte[] line = in.readLine(); line != null; line = in.readLine()) {
+                if (line[line.length - 1] != '\n') {
+                    break;
+                }
+                String text = new String(line, StandardCharsets.UTF_8).trim();
+                if (text.startsWith(RECORD_PREFIX)) {
+                    index(PlanRecord.parse(text.substring(RECORD_PREFIX.length())), offset, line.length);
+                } else if (text.startsWith(TOMBSTONE_PREFIX)) {
+                    unindex(text.substring(TOMBSTONE_PREFIX.length()));
+                    staleRecords++;
+                } else if (!text.isEmpty() && !text.startsWith("#")) {
+                    throw new IllegalArgumentException("Malformed plan store line: " + text);
+                }
+                offset += line.length;
+            }
+        }
+        // Each line is flushed together with its line separator, so a line without one was cut short by a crash
+        if (Files.size(file) > offset) {
+            try (FileChannel output = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                output.truncate(offset);
+                output.force(true);
+            }
+        }
+    }
+
+    private void scanLatestRecords(Consumer<String> action) throws IOException {
+        try (LineReader in = new LineReader(Files.newInputStream(file))) {
+            long offset = 0;
+            for (byte[] line = in.readLine(); line != null; line = in.readLine()) {
+                long lineOffset = offset;
+                offset += line.length;
+                String text = new String(line, StandardCharsets.UTF_8).trim();
+                if (!text.startsWith(RECORD_PREFIX)) {
+                    continue;
+                }
+                String recordLine = text.substring(RECORD_PREFIX.length());
+                int nameEnd = recordLine.indexOf('|');
+                IndexedPlan plan = plans.get(toKey(nameEnd == -1 ? recordLine : recordLine.substring(0, nameEnd)));
+                // Older records of a student are skipped
+                if (plan != null && plan.offset == lineOffset) {
+                    action.accept(recordLine);
+                }
+            }
+        }
+    }
+
+    private void index(PlanRecord record, long offset, int length) {
+        String key = toKey(record.getName());
+        if (plans.containsKey(key)) {
+            unindex(key);
+            staleRecords++;
+        }
+        IndexedPlan plan = new IndexedPlan(offset, length, record);
+        plans.put(key, plan);
+        for (int i = 0; i < record.getNumberOfModules(); i++) {
+            studentsBySemesterAndModule.get(record.getSemester(i) - 1)
+                    .computeIfAbsent(record.getModuleCode(i), code -> new HashSet<>()).add(key);
+        }
+        if (plan.major != null) {
+            studentsByMajor.computeIfAbsent(plan.major, major -> new HashSet<>()).add(key);
+        }
+    }
+
+    private void unindex(String key) {
+        IndexedPlan plan = plans.remove(key);
+        if (plan == null) {
+            return;
+        }
+        for (int i = 0; i < plan.moduleCodes.length; i++) {
+            Map<String, Set<String>> semesterIndex = studentsBySemesterAndModule.get(plan.semesters[i] - 1);
+            Set<String> students = semesterIndex.get(plan.moduleCodes[i]);
+            students.remove(key);
+            if (students.isEmpty()) {
+                semesterIndex.remove(plan.moduleCodes[i]);
+            }
+        }
+        if (plan.major != null) {
+            Set<String> students = studentsByMajor.get(plan.major);
+            students.remove(key);
+            if (students.isEmpty()) {
+                studentsByMajor.remove(plan.major);
+            }
+        }
+    }
+
+    private void compactIfMostlyStale() throws IOException {
+        if (staleRecords >= MINIMUM_STALE_RECORDS_TO_COMPACT && staleRecords > plans.size()) {
+            compact();
+        }
+    }
+
+    private PlanRecord readRecord(IndexedPlan plan) throws IOException {
+        String line = new String(readLine(plan), StandardCharsets.UTF_8).trim();
+        return PlanRecord.parse(line.substring(RECORD_PREFIX.length()));
+    }
+
+    private byte[] readLine(IndexedPlan plan) throws IOException {
+        byte[] line = new byte[plan.length];
+        synchronized (reader) {
+            reader.seek(plan.offset);
+            reader.readFully(line);
+        }
+        return line;
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        channel.position(channel.size());
+        writeFully(channel, bytes);
+    }
+
+    private static void writeFully(FileChannel output, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            output.write(buffer);
+        }
+    }
+
+    private void openFile() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        reader = new RandomAccessFile(file.toFile(), "r");
+    }
+
+    private void closeFile() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    private static String toKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads a file line by line as raw bytes, keeping each line's separator so that byte offsets can be tracked.
+     */
+    private static class LineReader implements AutoCloseable {
+        private static final int BUFFER_SIZE = 1 << 16;
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the next line.
+         *
+         * @return The line, ending with its line separator unless it is the last line of the file and has none,
+         *     or null at the end of the file.
+         * @throws IOException If the file could not be read.
+         */
+        byte[] readLine() throws IOException {
+            ByteArrayOutputStream spanningLine = null;
+            while (true) {
+                if (position == limit) {
+                    limit = in.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        return spanningLine == null ? null : spanningLine.toByteArray();
+                    }
+                }
+                int lineEnd = position;
+                while (lineEnd < limit && buffer[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (lineEnd < limit) {
+                    int lineStart = position;
+                    position = lineEnd + 1;
+                    if (spanningLine == null) {
+                        byte[] line = new byte[position - lineStart];
+                        System.arraycopy(buffer, lineStart, line, 0, line.length);
+                        return line;
+                    }
+                    spanningLine.write(buffer, lineStart, position - lineStart);
+                    return spanningLine.toByteArray();
+                }
+                if (spanningLine == null) {
+                    spanningLine = new ByteArrayOutputStream();
+                }
+                spanningLine.write(buffer, position, limit - position);
+                position = limit;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * The indexed summary of a student's latest record: where it is in the file and the fields the indexes and
+     * cohort queries need.
+     */
+    private static class IndexedPlan {
+        private long offset;
+        private final int length;
+        private final String major;
+        private final int completedCredits;
+        private final String[] moduleCodes;
+        private final int[] semesters;
+
+        IndexedPlan(long offset, int length, PlanRecord record) {
+            this.offset = offset;
+            this.length = length;
+            this.major = record.getMajor() == null ? null : record.getMajor().toUpperCase(Locale.ROOT);
+            this.completedCredits = record.getCompletedCredits();
+            this.moduleCodes = new String[record.getNumberOfModules()];
+            this.semesters = new int[record.getNumberOfModules()];
+            for (int i = 0; i < moduleCodes.length; i++) {
+                moduleCodes[i] = record.getModuleCode(i);
+                semesters[i] = record.getSemester(i);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.duke.utils;
 
+import seedu.duke.models.logic.TimetableObjective;
 import seedu.duke.models.schema.Major;
+import seedu.duke.models.schema.Schedule;
 import seedu.duke.models.schema.UserCommands;
 import seedu.duke.utils.errors.UserError;
 
@@ -150,12 +152,15 @@ public class Parser {
             break;
         }
         case UserCommands.ADD_MODULE_COMMAND: {
-            if (arguments.length != 2) {
+            // Either one module and its semester, or several pairs of them to add as a batch
+            if (arguments.length < 2 || arguments.length % 2 != 0) {
                 UserError.invalidAddFormat();
                 return false;
             }
             try {
-                Integer.parseInt(arguments[1]);
+                for (int i = 1; i < arguments.length; i += 2) {
+                    Integer.parseInt(arguments[i]);
+                }
             } catch (NumberFormatException e) {
                 UserError.invalidSemester();
                 return false;
@@ -169,6 +174,78 @@ public class Parser {
             }
             break;
         }
+        case UserCommands.MOVE_MODULE_COMMAND: {
+            if (arguments.length != 2) {
+                UserError.invalidMoveFormat();
+                return false;
+            }
+            try {
+                Integer.parseInt(arguments[1]);
+            } catch (NumberFormatException e) {
+                UserError.invalidSemester();
+                return false;
+            }
+            break;
+        }
+        case UserCommands.UNDO_COMMAND:
+        case UserCommands.REDO_COMMAND: {
+            if (arguments.length > 0) {
+                return false;
+            }
+            break;
+        }
+        case UserCommands.BRANCH_COMMAND: {
+            if (arguments.length > 1) {
+                UserError.invalidPlanFormat(command);
+                return false;
+            }
+            break;
+        }
+        case UserCommands.SWITCH_COMMAND:
+        case UserCommands.DIFF_COMMAND: {
+            if (arguments.length != 1) {
+                UserError.invalidPlanFormat(command);
+                return false;
+            }
+            break;
+        }
+        case UserCommands.ELIGIBLE_COMMAND: {
+            if (arguments.length < 1) {
+                UserError.invalidEligibleFormat();
+                return false;
+            }
+            try {
+                int semester = Integer.parseInt(arguments[0]);
+                if (semester < 1 || semester > Schedule.getMaximumSemesters()) {
+                    UserError.invalidSemester();
+                    return false;
+                }
+            } catch (NumberFormatException e) {
+                UserError.invalidSemester();
+                return false;
+            }
+            break;
+        }
+        case UserCommands.TIMETABLE_COMMAND: {
+            if (arguments.length < 1) {
+                UserError.invalidTimetableFormat();
+                return false;
+            }
+            try {
+                int semester = Integer.parseInt(arguments[0]);
+                if (semester < 1 || semester > Schedule.getMaximumSemesters()) {
+                    UserError.invalidSemester();
+                    return false;
+                }
+                for (int i = 1; i < arguments.length; i++) {
+                    TimetableObjective.fromKeyword(arguments[i]);
+                }
+            } catch (IllegalArgumentException e) {
+                UserError.invalidTimetableFormat();
+                return false;
+            }
+            break;
+        }
         case UserCommands.INFO_COMMAND: {
             if (arguments.length < 1) {
                 UserError.emptyInputforInfoCommand();
@@ -0,0 +1,40 @@
+package seedu.duke.utils;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks shared by many keys. Work on different keys usually takes different locks and runs in
+ * parallel, while memory stays constant however many keys there are.
+ */
+public class StripedLock {
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Constructs a striped lock.
+     *
+     * @param stripeCount The number of locks. Rounded up to a power of two.
+     */
+    public StripedLock(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Retrieves the lock guarding a key. The same key always maps to the same lock.
+     *
+     * @param key The key to lock.
+     * @return The lock for the key.
+     */
+    public ReentrantLock lockFor(Object key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+}
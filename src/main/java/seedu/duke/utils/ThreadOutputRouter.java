@@ -0,0 +1,74 @@
+package seedu.duke.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Routes everything printed to System.out by the current thread to an output of that thread's choosing.
+ * The views print straight to System.out, so this lets several planners run side by side without mixing output.
+ * Threads that have not chosen an output keep printing to the original System.out.
+ */
+public class ThreadOutputRouter extends OutputStream {
+    private static ThreadOutputRouter installedRouter;
+    private static PrintStream installedStream;
+
+    private final PrintStream fallback;
+    private final ThreadLocal<OutputStream> threadOutput = new ThreadLocal<>();
+
+    private ThreadOutputRouter(PrintStream fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Replaces System.out with a stream that routes output per thread. Installing again has no effect unless
+     * System.out has since been replaced by someone else.
+     *
+     * @return The installed router.
+     */
+    public static synchronized ThreadOutputRouter install() {
+        if (installedRouter == null || System.out != installedStream) {
+            installedRouter = new ThreadOutputRouter(System.out);
+            installedStream = new PrintStream(installedRouter, true, StandardCharsets.UTF_8);
+            System.setOut(installedStream);
+        }
+        return installedRouter;
+    }
+
+    /**
+     * Sends output printed by the current thread to the given stream until {@link #release()} is called.
+     *
+     * @param output The stream to write to.
+     */
+    public void capture(OutputStream output) {
+        threadOutput.set(output);
+    }
+
+    /**
+     * Sends output printed by the current thread back to the original System.out.
+     */
+    public void release() {
+        threadOutput.remove();
+    }
+
+    private OutputStream currentOutput() {
+        OutputStream output = threadOutput.get();
+        return output == null ? fallback : output;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        currentOutput().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        currentOutput().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        currentOutput().flush();
+    }
+}
@@ -18,6 +18,10 @@ public class UserError {
         System.out.println(response);
     }
 
+    public static void moduleDataUnavailable(Exception e) {
+        System.out.println(e.getMessage());
+    }
+
     public static void displayInvalidInputCommand(String command){
         String response = String.format("Invalid command %s. Type help to see the available commands",command);
         System.out.println(response);
@@ -30,15 +34,32 @@ public class UserError {
 
     public static void invalidAddFormat() {
         System.out.println("Please add a module using this format: add [module code] [semester]");
+        System.out.println("To add several at once: add [module code] [semester] [module code] [semester] ...");
     }
 
     public static void invalidSemester() {
         System.out.println("Please select an integer from 1 to 8 for semester selection");
     }
+    public static void invalidTimetableFormat() {
+        System.out.println("Please plan a timetable using this format: timetable [semester] [days/morning/gaps...]");
+    }
+
     public static void invalidDeleteFormat() {
         System.out.println("Please delete a module using this format: delete [module code]");
     }
 
+    public static void invalidMoveFormat() {
+        System.out.println("Please move a module using this format: move [module code] [semester]");
+    }
+
+    public static void invalidPlanFormat(String command) {
+        System.out.println("Please name one plan using this format: " + command + " [plan name]");
+    }
+
+    public static void invalidEligibleFormat() {
+        System.out.println("Please list eligible modules using this format: eligible [semester] [bucket or keyword]");
+    }
+
     public static void emptyInputforInfoCommand() {
         System.out.println("Empty input detected. Please enter a valid input after the info command." +
                 " (E.g description, workload, all)");
@@ -0,0 +1,104 @@
+package seedu.duke.utils.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A distribution of recorded values, such as latencies in nanoseconds, from which percentiles can be read.
+ *
+ * <p>Values are counted in buckets laid out as in an HDR histogram: values below 64 have a bucket each, and every
+ * power of two above that is split into 32 buckets of equal width. A percentile is therefore within about 3% of
+ * the true value, whatever its size, while recording stays a single atomic increment and memory stays fixed.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // About 4.9 hours in nanoseconds; larger values are counted in the last bucket
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << 44) - 1;
+    private static final int BUCKET_COUNT = bucketOf(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final double unit;
+
+    /**
+     * Constructs an empty histogram.
+     *
+     * @param unit What one recorded unit is worth when exported, e.g. 1e-9 for nanoseconds exported as seconds.
+     */
+    public Histogram(double unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value The value.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(Math.min(clamped, HIGHEST_TRACKABLE_VALUE)));
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getUnit() {
+        return unit;
+    }
+
+    /**
+     * Retrieves the value that a percentage of recorded values are at or below.
+     *
+     * @param percentile The percentage, from 0 to 100.
+     * @return The highest value of the bucket holding that rank, but no more than the largest value recorded, or 0
+     *     if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.duke.utils.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Holds the counters, histograms and gauges of the planner, by name. A metric may carry one label, such as the
+ * command it measures, and each label value is a separate series of the same metric. Metrics are created the first
+ * time they are asked for, so code records into them without registering anything beforehand.
+ *
+ * <p>Names follow the Prometheus conventions: counters end in _total and histograms of durations end in _seconds.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    private static final double NANOSECONDS = 1e-9;
+
+    /**
+     * The kinds of metric, named as in the Prometheus text format. Histograms are exported as summaries.
+     */
+    public enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        SUMMARY("summary");
+
+        private final String exportedName;
+
+        Type(String exportedName) {
+            this.exportedName = exportedName;
+        }
+
+        public String getExportedName() {
+            return exportedName;
+        }
+    }
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    /**
+     * Retrieves the registry shared by the whole planner.
+     *
+     * @return The registry.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name, String help) {
+        return counter(name, help, null, null);
+    }
+
+    /**
+     * Retrieves a counter, creating it if needed.
+     *
+     * @param name       The name of the metric.
+     * @param help       What the metric counts, used when it is first created.
+     * @param labelName  The name of the label, or null for none.
+     * @param labelValue The value of the label, or null for none.
+     * @return The counter.
+     */
+    public Counter counter(String name, String help, String labelName, String labelValue) {
+        return (Counter) family(name, help, Type.COUNTER, labelName).series(labelValue, key -> new Counter());
+    }
+
+    public Histogram timer(String name, String help) {
+        return timer(name, help, null, null);
+    }
+
+    /**
+     * Retrieves a histogram of durations recorded in nanoseconds and exported in seconds, creating it if needed.
+     *
+     * @param name       The name of the metric, ending in _seconds.
+     * @param help       What the metric times, used when it is first created.
+     * @param labelName  The name of the label, or null for none.
+     * @param labelValue The value of the label, or null for none.
+     * @return The histogram.
+     */
+    public Histogram timer(String name, String help, String labelName, String labelValue) {
+        return (Histogram) family(name, help, Type.SUMMARY, labelName)
+                .series(labelValue, key -> new Histogram(NANOSECONDS));
+    }
+
+    /**
+     * Retrieves a histogram of plain numbers, such as request counts, creating it if needed.
+     *
+     * @param name       The name of the metric.
+     * @param help       What the metric measures, used when it is first created.
+     * @param labelName  The name of the label, or null for none.
+     * @param labelValue The value of the label, or null for none.
+     * @return The histogram.
+     */
+    public Histogram histogram(String name, String help, String labelName, String labelValue) {
+        return (Histogram) family(name, help, Type.SUMMARY, labelName).series(labelValue, key -> new Histogram(1));
+    }
+
+    /**
+     * Registers a gauge, whose value is read whenever metrics are shown. A gauge registered again under the same
+     * name replaces the earlier one.
+     *
+     * @param name  The name of the metric.
+     * @param help  What the metric measures.
+     * @param value Supplies the current value.
+     */
+    public void gauge(String name, String help, DoubleSupplier value) {
+        Family family = family(name, help, Type.GAUGE, null);
+        family.series.put("", value);
+    }
+
+    /**
+     * Lists every metric, sorted by name.
+     *
+     * @return The metrics.
+     */
+    public List<Family> getFamilies() {
+        return new ArrayList<>(families.values());
+    }
+
+    private Family family(String name, String help, Type type, String labelName) {
+        Family family = families.computeIfAbsent(name, key -> new Family(name, help, type, labelName));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already a " + family.type.getExportedName());
+        }
+        return family;
+    }
+
+    /**
+     * A metric and its series, one for each value of its label.
+     */
+    public static class Family {
+        private final String name;
+        private final String help;
+        private final Type type;
+        private final String labelName;
+        private final Map<String, Object> series = new ConcurrentHashMap<>();
+
+        Family(String name, String help, Type type, String labelName) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labelName = labelName;
+        }
+
+        private Object series(String labelValue, Function<String, Object> create) {
+            String key = labelValue == null ? "" : labelValue;
+            Object existing = series.get(key);
+            return existing != null ? existing : series.computeIfAbsent(key, create);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public String getLabelName() {
+            return labelName;
+        }
+
+        /**
+         * Lists the label values of the series, sorted; an empty string stands for the series without a label.
+         *
+         * @return The label values.
+         */
+        public List<String> getLabelValues() {
+            List<String> labelValues = new ArrayList<>(series.keySet());
+            Collections.sort(labelValues);
+            return labelValues;
+        }
+
+        public Counter getCounter(String labelValue) {
+            return (Counter) series.get(labelValue);
+        }
+
+        public Histogram getHistogram(String labelValue) {
+            return (Histogram) series.get(labelValue);
+        }
+
+        public double getGaugeValue(String labelValue) {
+            return ((DoubleSupplier) series.get(labelValue)).getAsDouble();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.duke.views;
+
+import org.json.simple.JSONArray;
+import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.storage.PlanRecord;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `AsciiRenderer` class presents results as the text shown at the console.
+ */
+public class AsciiRenderer implements Renderer {
+    private final Writer out;
+
+    /**
+     * Constructs a renderer that prints to the console.
+     */
+    public AsciiRenderer() {
+        this(null);
+    }
+
+    /**
+     * Constructs a renderer that writes to a writer.
+     *
+     * @param out Where to write, or null to print to the console.
+     */
+    public AsciiRenderer(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void beginSection(String name) throws IOException {
+        emit(RenderBuffer.get().append("==== ").append(name).append(" ====").newLine());
+    }
+
+    @Override
+    public void renderSchedule(List<List<String>> modulesBySemester) throws IOException {
+        RenderBuffer buffer = RenderBuffer.get();
+        ModuleInfoView.appendSemesters(buffer, modulesBySemester);
+        emit(buffer);
+    }
+
+    @Override
+    public void renderSearchHits(JSONArray modules) throws IOException {
+        RenderBuffer buffer = RenderBuffer.get();
+        ModuleInfoView.appendSearchHeader(buffer);
+        ModuleInfoView.appendJsonArray(buffer, modules);
+        emit(buffer);
+    }
+
+    @Override
+    public void renderPrerequisites(String moduleCode, List<String> prerequisites) throws IOException {
+        RenderBuffer buffer = RenderBuffer.get();
+        if (prerequisites.isEmpty()) {
+            buffer.append("Module ").append(moduleCode).append(" has no prerequisites.");
+        } else {
+            buffer.append(prerequisites.toString());
+        }
+        emit(buffer.newLine());
+    }
+
+    @Override
+    public void renderTimetable(List<ModuleWeekly> modules) throws IOException {
+        RenderBuffer buffer = RenderBuffer.get();
+        WeeklyScheduleView.appendWeeklySchedule(buffer, modules);
+        WeeklyScheduleView.appendClashes(buffer, modules);
+        emit(buffer);
+    }
+
+    @Override
+    public void renderPlan(PlanRecord plan) throws IOException {
+        RenderBuffer buffer = RenderBuffer.get();
+        buffer.append(plan.getName()).append(" (").append(plan.getMajor()).append(", ").append(plan.getYear())
+                .append(')').newLine();
+        List<List<String>> modulesBySemester = new ArrayList<>();
+        for (int semester = 1; semester <= Schedule.getMaximumSemesters(); semester++) {
+            modulesBySemester.add(plan.getModuleCodes(semester));
+        }
+        ModuleInfoView.appendSemesters(buffer, modulesBySemester);
+        emit(buffer);
+    }
+
+    @Override
+    public void renderError(String message) throws IOException {
+        emit(RenderBuffer.get().append(message).newLine());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    private void emit(RenderBuffer buffer) throws IOException {
+        if (out == null) {
+            buffer.flush();
+        } else {
+            buffer.flushTo(out);
+        }
+    }
+}
@@ -25,6 +25,11 @@ public class CommandLineView {
         displayHelp();
     }
 
+    public static void displayWarmUp(int completed, int total) {
+        System.out.println(String.format("Module data for your degree is loading in the background (%d of %d ready)",
+                completed, total));
+    }
+
     public static void displayHelp(){
         System.out.println("Type 'help' to see the available commands");
     }
@@ -34,6 +39,10 @@ public class CommandLineView {
         System.out.println("Welcome " + name + "! What major are you? (Only two available: CEG or CS)");
     }
 
+    public static void displayWelcomeBack(String name){
+        System.out.println("Welcome back " + name + "! Your saved plan has been restored.");
+    }
+
     public static void displayGetYear(){
         System.out.println("What Year and Semester are you? Ex: Y1/S2 for year 1 semester 2");
     }
@@ -65,6 +74,10 @@ public class CommandLineView {
         displayMessage("Module Successfully Added");
     }
 
+    public static void displaySuccessfulMoveMessage() {
+        displayMessage("Module Successfully Moved");
+    }
+
     public static void displaySuccessfulDeleteMessage() {
         displayMessage("Module Successfully Deleted");
 
@@ -0,0 +1,92 @@
+package seedu.duke.views;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import seedu.duke.models.schema.Event;
+import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.storage.PlanRecord;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * The `CsvRenderer` class presents results as comma-separated values, one row per item, with the kind of result
+ * in the first field:
+ * <pre>
+ * section,NAME
+ * schedule,SEMESTER,MODULE
+ * search,MODULE,TITLE
+ * prereq,MODULE,PREREQUISITE
+ * timetable,MODULE,LESSON_TYPE,DAY,START_HOUR,END_HOUR
+ * plan,NAME,MAJOR,YEAR,MODULE,SEMESTER,CREDITS,COMPLETED
+ * error,MESSAGE
+ * </pre>
+ */
+public class CsvRenderer implements Renderer {
+    private final CsvWriter csv;
+
+    public CsvRenderer(Writer out) {
+        this.csv = new CsvWriter(out);
+    }
+
+    @Override
+    public void beginSection(String name) throws IOException {
+        csv.field("section").field(name).endRecord();
+    }
+
+    @Override
+    public void renderSchedule(List<List<String>> modulesBySemester) throws IOException {
+        for (int semester = 0; semester < modulesBySemester.size(); semester++) {
+            for (String moduleCode : modulesBySemester.get(semester)) {
+                csv.field("schedule").field(semester + 1).field(moduleCode).endRecord();
+            }
+        }
+    }
+
+    @Override
+    public void renderSearchHits(JSONArray modules) throws IOException {
+        for (Object moduleObject : modules) {
+            JSONObject module = (JSONObject) moduleObject;
+            csv.field("search").field((String) module.get("moduleCode")).field((String) module.get("title"))
+                    .endRecord();
+        }
+    }
+
+    @Override
+    public void renderPrerequisites(String moduleCode, List<String> prerequisites) throws IOException {
+        for (String prerequisite : prerequisites) {
+            csv.field("prereq").field(moduleCode).field(prerequisite).endRecord();
+        }
+    }
+
+    @Override
+    public void renderTimetable(List<ModuleWeekly> modules) throws IOException {
+        for (ModuleWeekly module : modules) {
+            for (Event lesson : module.getWeeklySchedule()) {
+                csv.field("timetable").field(module.getModuleCode()).field(lesson.getEventType())
+                        .field(lesson.getDayName()).field(lesson.getStartTime())
+                        .field(lesson.getStartTime() + lesson.getDuration()).endRecord();
+            }
+        }
+    }
+
+    @Override
+    public void renderPlan(PlanRecord plan) throws IOException {
+        for (int i = 0; i < plan.getNumberOfModules(); i++) {
+            csv.field("plan").field(plan.getName()).field(plan.getMajor()).field(plan.getYear())
+                    .field(plan.getModuleCode(i)).field(plan.getSemester(i)).field(plan.getModuleCredits(i))
+                    .field(plan.isCompleted(i)).endRecord();
+        }
+    }
+
+    @Override
+    public void renderError(String message) throws IOException {
+        csv.field("error").field(message).endRecord();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        csv.flush();
+    }
+}
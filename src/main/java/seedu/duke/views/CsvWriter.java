@@ -0,0 +1,76 @@
+package seedu.duke.views;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The `CsvWriter` class writes comma-separated values straight to a writer, one field at a time. Fields holding a
+ * comma, quote or line break are quoted, with quotes doubled.
+ */
+public class CsvWriter {
+    private final Writer out;
+    private boolean isStartOfRecord = true;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public CsvWriter field(String value) throws IOException {
+        beforeField();
+        if (value == null) {
+            return this;
+        }
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return this;
+        }
+        out.write('"');
+        int runStart = 0;
+        for (int quote = value.indexOf('"'); quote >= 0; quote = value.indexOf('"', quote + 1)) {
+            out.write(value, runStart, quote + 1 - runStart);
+            out.write('"');
+            runStart = quote + 1;
+        }
+        out.write(value, runStart, value.length() - runStart);
+        out.write('"');
+        return this;
+    }
+
+    public CsvWriter field(long value) throws IOException {
+        beforeField();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    public CsvWriter field(boolean value) throws IOException {
+        beforeField();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    public void endRecord() throws IOException {
+        out.write(System.lineSeparator());
+        isStartOfRecord = true;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void beforeField() throws IOException {
+        if (!isStartOfRecord) {
+            out.write(',');
+        }
+        isStartOfRecord = false;
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
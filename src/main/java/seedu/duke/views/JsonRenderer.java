@@ -0,0 +1,125 @@
+package seedu.duke.views;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import seedu.duke.models.schema.Event;
+import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.storage.PlanRecord;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * The `JsonRenderer` class presents each result as one JSON object on its own line, with its kind under "type".
+ * Objects are written field by field from the results, so nothing is built up in memory first.
+ */
+public class JsonRenderer implements Renderer {
+    private final JsonWriter json;
+
+    public JsonRenderer(Writer out) {
+        this.json = new JsonWriter(out);
+    }
+
+    @Override
+    public void beginSection(String name) throws IOException {
+        beginResult("section").name("name").value(name);
+        endResult();
+    }
+
+    @Override
+    public void renderSchedule(List<List<String>> modulesBySemester) throws IOException {
+        beginResult("schedule").name("semesters").beginArray();
+        for (List<String> semester : modulesBySemester) {
+            writeStrings(semester);
+        }
+        json.endArray();
+        endResult();
+    }
+
+    @Override
+    public void renderSearchHits(JSONArray modules) throws IOException {
+        beginResult("search").name("modules").beginArray();
+        for (Object moduleObject : modules) {
+            JSONObject module = (JSONObject) moduleObject;
+            json.beginObject()
+                    .name("moduleCode").value((String) module.get("moduleCode"))
+                    .name("title").value((String) module.get("title"))
+                    .endObject();
+        }
+        json.endArray();
+        endResult();
+    }
+
+    @Override
+    public void renderPrerequisites(String moduleCode, List<String> prerequisites) throws IOException {
+        beginResult("prereq").name("module").value(moduleCode).name("prerequisites");
+        writeStrings(prerequisites);
+        endResult();
+    }
+
+    @Override
+    public void renderTimetable(List<ModuleWeekly> modules) throws IOException {
+        beginResult("timetable").name("lessons").beginArray();
+        for (ModuleWeekly module : modules) {
+            for (Event lesson : module.getWeeklySchedule()) {
+                json.beginObject()
+                        .name("module").value(module.getModuleCode())
+                        .name("lessonType").value(lesson.getEventType())
+                        .name("day").value(lesson.getDayName())
+                        .name("startHour").value(lesson.getStartTime())
+                        .name("endHour").value(lesson.getStartTime() + lesson.getDuration())
+                        .endObject();
+            }
+        }
+        json.endArray();
+        endResult();
+    }
+
+    @Override
+    public void renderPlan(PlanRecord plan) throws IOException {
+        beginResult("plan")
+                .name("name").value(plan.getName())
+                .name("major").value(plan.getMajor())
+                .name("year").value(plan.getYear())
+                .name("modules").beginArray();
+        for (int i = 0; i < plan.getNumberOfModules(); i++) {
+            json.beginObject()
+                    .name("moduleCode").value(plan.getModuleCode(i))
+                    .name("semester").value(plan.getSemester(i))
+                    .name("credits").value(plan.getModuleCredits(i))
+                    .name("completed").value(plan.isCompleted(i))
+                    .endObject();
+        }
+        json.endArray();
+        endResult();
+    }
+
+    @Override
+    public void renderError(String message) throws IOException {
+        beginResult("error").name("message").value(message);
+        endResult();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        json.flush();
+    }
+
+    private JsonWriter beginResult(String type) throws IOException {
+        return json.beginObject().name("type").value(type);
+    }
+
+    private void endResult() throws IOException {
+        json.endObject();
+        json.endLine();
+    }
+
+    private void writeStrings(List<String> values) throws IOException {
+        json.beginArray();
+        for (String value : values) {
+            json.value(value);
+        }
+        json.endArray();
+    }
+}
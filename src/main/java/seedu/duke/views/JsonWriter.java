@@ -0,0 +1,162 @@
+package seedu.duke.views;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * The `JsonWriter` class writes JSON text straight to a writer as values are given, so a document of any size is
+ * written without first being built in memory. Commas are placed automatically; the caller opens and closes
+ * objects and arrays and names each member of an object.
+ */
+public class JsonWriter {
+    private final Writer out;
+    private boolean[] hasElements = new boolean[8];
+    private int depth;
+    private boolean isAfterName;
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the object being written.
+     *
+     * @param name The name.
+     * @return This writer.
+     * @throws IOException If the name could not be written.
+     */
+    public JsonWriter name(String name) throws IOException {
+        beforeValue();
+        writeString(name);
+        out.write(':');
+        isAfterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        out.write("null");
+        return this;
+    }
+
+    /**
+     * Ends a complete top-level value with a line break, so that a stream holds one JSON value per line.
+     *
+     * @throws IOException If the line break could not be written.
+     * @throws IllegalStateException If an object or array is still open.
+     */
+    public void endLine() throws IOException {
+        if (depth != 0) {
+            throw new IllegalStateException("JSON value is not complete");
+        }
+        out.write(System.lineSeparator());
+        hasElements[0] = false;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private JsonWriter open(char bracket) throws IOException {
+        beforeValue();
+        out.write(bracket);
+        depth++;
+        if (depth == hasElements.length) {
+            hasElements = Arrays.copyOf(hasElements, depth * 2);
+        }
+        hasElements[depth] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        if (depth == 0 || isAfterName) {
+            throw new IllegalStateException("Nothing to close with " + bracket);
+        }
+        depth--;
+        out.write(bracket);
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        if (isAfterName) {
+            isAfterName = false;
+            return;
+        }
+        if (hasElements[depth]) {
+            out.write(',');
+        }
+        hasElements[depth] = true;
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int runStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape = escapeOf(c);
+            if (escape == null) {
+                continue;
+            }
+            out.write(value, runStart, i - runStart);
+            out.write(escape);
+            runStart = i + 1;
+        }
+        out.write(value, runStart, value.length() - runStart);
+        out.write('"');
+    }
+
+    private static String escapeOf(char c) {
+        switch (c) {
+        case '"':
+            return "\\\"";
+        case '\\':
+            return "\\\\";
+        case '\n':
+            return "\\n";
+        case '\r':
+            return "\\r";
+        case '\t':
+            return "\\t";
+        default:
+            return c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.duke.views;
+
+import seedu.duke.utils.metrics.Histogram;
+import seedu.duke.utils.metrics.MetricsRegistry;
+import seedu.duke.utils.metrics.MetricsRegistry.Family;
+
+import java.util.List;
+
+/**
+ * The `MetricsView` class shows the metrics of the planner, either as a table for the stats command or in the
+ * Prometheus text format for monitoring tools.
+ */
+public class MetricsView {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double NANOSECONDS = 1e-9;
+
+    /**
+     * Prints every metric as a table: counters and gauges with their values, and histograms with their count,
+     * percentiles and largest value. Durations are shown in milliseconds.
+     *
+     * @param registry The metrics to print.
+     */
+    public static void printStats(MetricsRegistry registry) {
+        RenderBuffer out = RenderBuffer.get();
+        appendStats(out, registry);
+        out.flush();
+    }
+
+    /**
+     * Writes every metric as printStats prints them.
+     *
+     * @param out      The buffer to write into.
+     * @param registry The metrics to write.
+     */
+    public static void appendStats(RenderBuffer out, MetricsRegistry registry) {
+        List<Family> families = registry.getFamilies();
+        int width = 0;
+        for (Family family : families) {
+            for (String labelValue : family.getLabelValues()) {
+                width = Math.max(width, seriesName(family, labelValue).length());
+            }
+        }
+        if (width == 0) {
+            out.append("No metrics recorded yet").newLine();
+            return;
+        }
+
+        out.append("Counters and gauges").newLine();
+        for (Family family : families) {
+            if (family.getType() == MetricsRegistry.Type.SUMMARY) {
+                continue;
+            }
+            for (String labelValue : family.getLabelValues()) {
+                String value = family.getType() == MetricsRegistry.Type.COUNTER
+                        ? String.valueOf(family.getCounter(labelValue).get())
+                        : formatNumber(family.getGaugeValue(labelValue));
+                out.append("  ").appendPadded(seriesName(family, labelValue), width).append(' ').append(value)
+                        .newLine();
+            }
+        }
+
+        out.append("Histograms").appendSpaces(width - "Histograms".length() + 2)
+                .append(String.format(" %8s %10s %10s %10s %10s", "count", "p50", "p90", "p99", "max")).newLine();
+        for (Family family : families) {
+            if (family.getType() != MetricsRegistry.Type.SUMMARY) {
+                continue;
+            }
+            for (String labelValue : family.getLabelValues()) {
+                Histogram histogram = family.getHistogram(labelValue);
+                out.append("  ").appendPadded(seriesName(family, labelValue), width)
+                        .append(String.format(" %8d %10s %10s %10s %10s", histogram.getCount(),
+                                formatValue(histogram, histogram.getPercentile(50)),
+                                formatValue(histogram, histogram.getPercentile(90)),
+                                formatValue(histogram, histogram.getPercentile(99)),
+                                formatValue(histogram, histogram.getMax())))
+                        .newLine();
+            }
+        }
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @param out      The buffer to write into.
+     * @param registry The metrics to write.
+     */
+    public static void appendPrometheus(RenderBuffer out, MetricsRegistry registry) {
+        for (Family family : registry.getFamilies()) {
+            out.append("# HELP ").append(family.getName()).append(' ').append(escapeHelp(family.getHelp()))
+                    .append('\n');
+            out.append("# TYPE ").append(family.getName()).append(' ').append(family.getType().getExportedName())
+                    .append('\n');
+            for (String labelValue : family.getLabelValues()) {
+                switch (family.getType()) {
+                case COUNTER:
+                    appendSample(out, family.getName(), family, labelValue, null,
+                            String.valueOf(family.getCounter(labelValue).get()));
+                    break;
+                case GAUGE:
+                    appendSample(out, family.getName(), family, labelValue, null,
+                            formatNumber(family.getGaugeValue(labelValue)));
+                    break;
+                case SUMMARY:
+                    Histogram histogram = family.getHistogram(labelValue);
+                    for (double quantile : QUANTILES) {
+                        appendSample(out, family.getName(), family, labelValue, String.valueOf(quantile),
+                                formatNumber(histogram.getPercentile(quantile * 100) * histogram.getUnit()));
+                    }
+                    appendSample(out, family.getName() + "_sum", family, labelValue, null,
+                            formatNumber(histogram.getSum() * histogram.getUnit()));
+                    appendSample(out, family.getName() + "_count", family, labelValue, null,
+                            String.valueOf(histogram.getCount()));
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void appendSample(RenderBuffer out, String name, Family family, String labelValue,
+                                     String quantile, String value) {
+        out.append(name);
+        boolean hasLabel = !labelValue.isEmpty() && family.getLabelName() != null;
+        if (hasLabel || quantile != null) {
+            out.append('{');
+            if (hasLabel) {
+                out.append(family.getLabelName()).append("=\"").append(escapeLabel(labelValue)).append('"');
+            }
+            if (quantile != null) {
+                out.append(hasLabel ? "," : "").append("quantile=\"").append(quantile).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String seriesName(Family family, String labelValue) {
+        if (labelValue.isEmpty() || family.getLabelName() == null) {
+            return family.getName();
+        }
+        return family.getName() + "{" + family.getLabelName() + "=\"" + labelValue + "\"}";
+    }
+
+    private static String formatValue(Histogram histogram, long value) {
+        if (histogram.getUnit() == NANOSECONDS) {
+            return String.format("%.2fms", value / 1e6);
+        }
+        return formatNumber(value * histogram.getUnit());
+    }
+
+    private static String formatNumber(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return String.valueOf(value);
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String value) {
+        return value.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
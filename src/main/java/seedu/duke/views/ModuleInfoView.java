@@ -2,32 +2,97 @@ package seedu.duke.views;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import seedu.duke.models.logic.ModuleCatalogue;
 import seedu.duke.models.schema.Module;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class ModuleInfoView {
+    private static final String LINE = "_________________________________________";
+    private static final int maxColumnHeight = 5;
+    private static final int columnWidth = 15;
+    private static final int CATALOGUE_MODULES_PER_WRITE = 256;
 
     public static void print(String output) {
         System.out.println(output);
     }
 
     public static void printLine() {
-        System.out.println("_________________________________________");
+        System.out.println(LINE);
     }
+
     public static void printJsonArray(JSONArray modules) {
+        RenderBuffer out = RenderBuffer.get();
+        appendJsonArray(out, modules);
+        out.flush();
+    }
+
+    /**
+     * Writes the title and code of each module, as printJsonArray prints them.
+     *
+     * @param out     The buffer to write into.
+     * @param modules The modules, each with a "title" and a "moduleCode".
+     */
+    public static void appendJsonArray(RenderBuffer out, JSONArray modules) {
         for (Object module: modules) {
             JSONObject castedModule = (JSONObject) module;
-            print("Title: " + (String)castedModule.get("title"));
-            print("Module Code: " + (String)castedModule.get("moduleCode"));
-            printLine();
+            out.append("Title: ").append((String) castedModule.get("title")).newLine();
+            out.append("Module Code: ").append((String) castedModule.get("moduleCode")).newLine();
+            out.append(LINE).newLine();
+        }
+    }
+
+    /**
+     * Prints the title and code of every module in a catalogue, as printJsonArray prints them. The text is written
+     * out in parts, so a catalogue of any size needs only a bounded buffer.
+     *
+     * @param catalogue The modules.
+     */
+    public static void printCatalogue(ModuleCatalogue catalogue) {
+        RenderBuffer out = RenderBuffer.get();
+        for (int i = 0; i < catalogue.size(); i++) {
+            out.append("Title: ").append(catalogue.getTitle(i)).newLine();
+            out.append("Module Code: ").append(catalogue.getModuleCode(i)).newLine();
+            out.append(LINE).newLine();
+            if (i % CATALOGUE_MODULES_PER_WRITE == CATALOGUE_MODULES_PER_WRITE - 1) {
+                out.flush();
+            }
         }
+        out.flush();
     }
 
     public static void searchHeader() {
-        printLine();
-        print("These are the modules that contain your keyword in the title:");
-        print("");
+        RenderBuffer out = RenderBuffer.get();
+        appendSearchHeader(out);
+        out.flush();
+    }
+
+    public static void appendSearchHeader(RenderBuffer out) {
+        out.append(LINE).newLine();
+        out.append("These are the modules that contain your keyword in the title:").newLine();
+        out.newLine();
+    }
+
+    /**
+     * Prints the modules planned for each semester, one semester per line.
+     *
+     * @param modulesBySemester The module codes of each semester, in semester order.
+     */
+    public static void printSemesters(List<List<String>> modulesBySemester) {
+        RenderBuffer out = RenderBuffer.get();
+        appendSemesters(out, modulesBySemester);
+        out.flush();
+    }
+
+    public static void appendSemesters(RenderBuffer out, List<List<String>> modulesBySemester) {
+        for (int i = 0; i < modulesBySemester.size(); i++) {
+            out.append("Sem ").append(i + 1).append(": ");
+            for (String moduleCode : modulesBySemester.get(i)) {
+                out.append(moduleCode).append(' ');
+            }
+            out.newLine();
+        }
     }
 
     /**
@@ -36,32 +101,38 @@ public class ModuleInfoView {
      * @param modules       An ArrayList of module names to be printed.
      */
     public static void printModuleStringArray(ArrayList<String> modules){
-        int maxColumnHeight = 5;
-
+        RenderBuffer out = RenderBuffer.get();
         for (int i = 0; i < modules.size(); i += maxColumnHeight) {
             for (int j = 0; j < maxColumnHeight && i + j < modules.size(); j++) {
-                String module = (i + j + 1) + ". " + modules.get(i + j);
-                System.out.printf("%-15s", module);
+                appendNumbered(out, i + j + 1, modules.get(i + j));
             }
-            System.out.println();
+            out.newLine();
         }
+        out.flush();
     }
 
     /**
      * Print a list of modules in columns with a specified maximum height.
      * @author ryanlohyr
-     * @param modules       An ArrayList of module names to be printed.
+     * @param modules       An ArrayList of modules to be printed.
      */
     public static void printModuleArray(ArrayList<Module> modules){
-        int maxColumnHeight = 5;
-
+        RenderBuffer out = RenderBuffer.get();
         for (int i = 0; i < modules.size(); i += maxColumnHeight) {
             for (int j = 0; j < maxColumnHeight && i + j < modules.size(); j++) {
-                String module = (i + j + 1) + ". " + modules.get(i + j);
-                System.out.printf("%-15s", module);
+                appendNumbered(out, i + j + 1, modules.get(i + j).getModuleCode());
             }
-            System.out.println();
+            out.newLine();
         }
+        out.flush();
+    }
+
+    /**
+     * Appends "N. NAME" padded to the width of a column, as "%-15s" would.
+     */
+    private static void appendNumbered(RenderBuffer out, int number, String name) {
+        int length = String.valueOf(number).length() + 2 + name.length();
+        out.append(number).append(". ").append(name).appendSpaces(columnWidth - length);
     }
 
 }
@@ -0,0 +1,43 @@
+package seedu.duke.views;
+
+import java.io.Writer;
+
+/**
+ * The formats planner results can be written in.
+ */
+public enum OutputFormat {
+    /** The text shown at the console. */
+    TEXT,
+    /** One JSON object per result, one per line. */
+    JSON,
+    /** Comma-separated values, one row per item, with the kind of result in the first field. */
+    CSV;
+
+    /**
+     * Finds the format with a name, ignoring case.
+     *
+     * @param name The name, e.g. "json".
+     * @return The format.
+     * @throws IllegalArgumentException If there is no format with the name.
+     */
+    public static OutputFormat fromName(String name) {
+        return valueOf(name.toUpperCase());
+    }
+
+    /**
+     * Creates a renderer that writes in this format.
+     *
+     * @param out Where to write.
+     * @return The renderer.
+     */
+    public Renderer createRenderer(Writer out) {
+        switch (this) {
+        case JSON:
+            return new JsonRenderer(out);
+        case CSV:
+            return new CsvRenderer(out);
+        default:
+            return new AsciiRenderer(out);
+        }
+    }
+}
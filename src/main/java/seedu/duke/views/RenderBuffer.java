@@ -0,0 +1,126 @@
+package seedu.duke.views;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+
+/**
+ * The `RenderBuffer` class collects the text of a view so that it reaches the console in one write. Each thread
+ * reuses its own buffer, so rendering a view allocates little beyond the text itself, and padding is copied from
+ * a fixed run of spaces instead of being formatted.
+ */
+public class RenderBuffer {
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String SPACES = " ".repeat(64);
+    private static final int INITIAL_CAPACITY = 4096;
+    private static final int MAXIMUM_KEPT_CAPACITY = 1 << 16;
+    private static final ThreadLocal<RenderBuffer> BUFFERS = ThreadLocal.withInitial(RenderBuffer::new);
+
+    private StringBuilder text = new StringBuilder(INITIAL_CAPACITY);
+
+    private RenderBuffer() {
+    }
+
+    /**
+     * Retrieves the buffer of the current thread, emptied.
+     *
+     * @return The buffer.
+     */
+    public static RenderBuffer get() {
+        RenderBuffer buffer = BUFFERS.get();
+        buffer.text.setLength(0);
+        return buffer;
+    }
+
+    public RenderBuffer append(String value) {
+        text.append(value);
+        return this;
+    }
+
+    public RenderBuffer append(String value, int start, int end) {
+        text.append(value, start, end);
+        return this;
+    }
+
+    public RenderBuffer append(char value) {
+        text.append(value);
+        return this;
+    }
+
+    public RenderBuffer append(int value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a number of spaces.
+     *
+     * @param count The number of spaces; nothing is appended if it is not positive.
+     * @return This buffer.
+     */
+    public RenderBuffer appendSpaces(int count) {
+        while (count > 0) {
+            int run = Math.min(count, SPACES.length());
+            text.append(SPACES, 0, run);
+            count -= run;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a value followed by enough spaces to fill a column, like the format "%-Ns". A value wider than the
+     * column is appended whole.
+     *
+     * @param value The value.
+     * @param width The width of the column.
+     * @return This buffer.
+     */
+    public RenderBuffer appendPadded(String value, int width) {
+        text.append(value);
+        return appendSpaces(width - value.length());
+    }
+
+    public RenderBuffer newLine() {
+        text.append(NEWLINE);
+        return this;
+    }
+
+    /**
+     * Writes the text collected to the console in one call and empties the buffer.
+     */
+    public void flush() {
+        flushTo(System.out);
+    }
+
+    /**
+     * Writes the text collected to a stream in one call and empties the buffer.
+     *
+     * @param out The stream.
+     */
+    public void flushTo(PrintStream out) {
+        out.print(text);
+        out.flush();
+        if (text.capacity() > MAXIMUM_KEPT_CAPACITY) {
+            // Do not hold on to the memory of an unusually large view for the life of the thread
+            text = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            text.setLength(0);
+        }
+    }
+
+    /**
+     * Writes the text collected to a writer and empties the buffer.
+     *
+     * @param out The writer.
+     * @throws IOException If the text could not be written.
+     */
+    public void flushTo(Writer out) throws IOException {
+        out.append(text);
+        text.setLength(0);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.duke.views;
+
+import org.json.simple.JSONArray;
+import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.storage.PlanRecord;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A `Renderer` presents the results of planner commands in one output format, such as console text or JSON, so
+ * that the commands do not depend on how their results are shown. Each result is written as soon as it is given.
+ */
+public interface Renderer {
+
+    /**
+     * Starts the output of one part of a larger run, such as one script of a batch.
+     *
+     * @param name The name of the part.
+     * @throws IOException If the output could not be written.
+     */
+    void beginSection(String name) throws IOException;
+
+    /**
+     * Presents a schedule.
+     *
+     * @param modulesBySemester The module codes planned for each semester, in semester order.
+     * @throws IOException If the output could not be written.
+     */
+    void renderSchedule(List<List<String>> modulesBySemester) throws IOException;
+
+    /**
+     * Presents the modules found by a search.
+     *
+     * @param modules The modules found, each with a "moduleCode" and a "title".
+     * @throws IOException If the output could not be written.
+     */
+    void renderSearchHits(JSONArray modules) throws IOException;
+
+    /**
+     * Presents the prerequisites of a module.
+     *
+     * @param moduleCode    The module.
+     * @param prerequisites The prerequisites, or an empty list if it has none.
+     * @throws IOException If the output could not be written.
+     */
+    void renderPrerequisites(String moduleCode, List<String> prerequisites) throws IOException;
+
+    /**
+     * Presents the lessons of a week.
+     *
+     * @param modules The modules with their lessons.
+     * @throws IOException If the output could not be written.
+     */
+    void renderTimetable(List<ModuleWeekly> modules) throws IOException;
+
+    /**
+     * Presents a saved plan.
+     *
+     * @param plan The plan.
+     * @throws IOException If the output could not be written.
+     */
+    void renderPlan(PlanRecord plan) throws IOException;
+
+    /**
+     * Presents a failure to produce a result.
+     *
+     * @param message What went wrong.
+     * @throws IOException If the output could not be written.
+     */
+    void renderError(String message) throws IOException;
+
+    void flush() throws IOException;
+}
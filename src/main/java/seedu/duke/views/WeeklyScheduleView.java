@@ -2,150 +2,218 @@ package seedu.duke.views;
 
 import seedu.duke.models.schema.Event;
 import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.models.schema.WeekGrid;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * The `WeeklyScheduleView` class draws a week of lessons as a table of hours from 8am to 8pm against the days of
+ * the week. The table is composed in a RenderBuffer and printed in one write.
+ */
 public class WeeklyScheduleView {
     private static final int columnWidth = 11;
+    private static final int firstHour = 8;
+    private static final int hoursShown = 12;
     private static final String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
+    private static final String horizontalLine =
+            "-------------------------------------------------------------------------------------------------";
+    private static final String[] timeLabels = new String[hoursShown];
 
-    public static void print(String output) {
-        System.out.print(output);
-    }
-
-    public static void println(String output) {
-        System.out.println(output);
-    }
-
-    public static void printlnHorizontalLine() {
-        println("-------------------------------------------------------------------------------------------------");
-    }
-
-    public static void printVerticalLine() {
-        System.out.print("|");
-    }
-
-    public static void printlnVerticalLine() {
-        System.out.println("|");
-    }
-
-    public static void printToJustify(int number) {
-        print(String.format("%-" + number + "s", ""));
+    static {
+        for (int timePeriod = 0; timePeriod < hoursShown; timePeriod++) {
+            timeLabels[timePeriod] = getTime(timePeriod);
+        }
     }
 
-    //ideally a function that can be called in Student
+    /**
+     * Prints the lessons of a semester's modules as a weekly table, followed by any clashes between them.
+     *
+     * @param currentSemesterModules The modules of the semester.
+     */
     public static void printWeeklySchedule(ArrayList<ModuleWeekly> currentSemesterModules) {
-        // 8am to 8pm, Monday to Sunday
-        // Convert current semester modules (ArrayList<Module>, ModuleList)
-        // to weeklySchedule, "2D array" of ArrayList of Event (List<List<ArrayList<Event>>>, ArrayList<String>[][])
-        List<List<ArrayList<String>>> weeklyScheduleByTime = initialiseTwoDList();
+        RenderBuffer out = RenderBuffer.get();
+        appendWeeklySchedule(out, currentSemesterModules);
+        appendClashes(out, currentSemesterModules);
+        out.flush();
+    }
 
+    /**
+     * Draws the lessons of a semester's modules as a weekly table. The hours of a lesson outside 8am to 8pm are
+     * left out of the table, and the lesson is listed below it instead so that no lesson goes unseen.
+     *
+     * @param out                    The buffer to draw into.
+     * @param currentSemesterModules The modules of the semester.
+     */
+    public static void appendWeeklySchedule(RenderBuffer out, List<ModuleWeekly> currentSemesterModules) {
+        // One list of lesson names per hour and day, made only for the hours that have a lesson
+        List<List<String>> cells = new ArrayList<>(Collections.nCopies(hoursShown * days.length, null));
+        List<String> lessonsNotShown = new ArrayList<>();
         for (ModuleWeekly module : currentSemesterModules) {
             for (Event event : module.getWeeklySchedule()) {
                 int day = event.getDay();
-                int timePeriod = event.getStartTime() - 8; //8am index 0
-                int eventDurationLeft = event.getDuration();
-                while (eventDurationLeft > 0) {
-                    addToWeeklyScheduleByTime(timePeriod, day,
-                            module.getModuleCode() + " " + event.getEventType(), weeklyScheduleByTime);
-                    //check if java pass by reference
-
-                    timePeriod += 1;
-                    eventDurationLeft -= 1;
+                if (day < 0) {
+                    continue;
+                }
+                String eventName = module.getModuleCode() + " " + event.getEventType();
+                int endTime = event.getStartTime() + event.getDuration();
+                if (event.getStartTime() < firstHour || endTime > firstHour + hoursShown) {
+                    lessonsNotShown.add(eventName + " on " + days[day] + " " + event.getStartTime() + ":00-"
+                            + endTime + ":00");
+                }
+                int startPeriod = Math.max(event.getStartTime() - firstHour, 0);
+                int endPeriod = Math.min(event.getStartTime() + event.getDuration() - firstHour, hoursShown);
+                for (int timePeriod = startPeriod; timePeriod < endPeriod; timePeriod++) {
+                    int cell = timePeriod * days.length + day;
+                    if (cells.get(cell) == null) {
+                        cells.set(cell, new ArrayList<>(1));
+                    }
+                    cells.get(cell).add(eventName);
                 }
             }
         }
 
-        printDayHeader();
-        for (int timePeriod = 0; timePeriod < 12; timePeriod++) { //8-9am index 0, 7-8pm index 11
-            printRow(weeklyScheduleByTime.get(timePeriod), timePeriod, timePeriod == 11);
+        appendDayHeader(out);
+        int[] taskIndexes = new int[days.length];
+        int[] taskOffsets = new int[days.length];
+        for (int timePeriod = 0; timePeriod < hoursShown; timePeriod++) {
+            out.append(horizontalLine).newLine();
+            appendRow(out, timeLabels[timePeriod], cells.subList(timePeriod * days.length,
+                    (timePeriod + 1) * days.length), taskIndexes, taskOffsets);
+        }
+        out.append(horizontalLine).newLine();
+        if (!lessonsNotShown.isEmpty()) {
+            out.append("These lessons run outside 8am to 8pm and are not shown in full above:").newLine();
+            for (String lesson : lessonsNotShown) {
+                out.append("  ").append(lesson).newLine();
+            }
         }
     }
 
-    public static void printDayHeader() {
-        printlnHorizontalLine();
-        printVerticalLine();
-        printToJustify(columnWidth);//printblank
-        for (int i = 0; i < 7; i++) { //7 days
-            printVerticalLine();
-
-            String currentDay = days[i];
-            print(currentDay);
-            printToJustify(columnWidth - currentDay.length());
+    private static void appendDayHeader(RenderBuffer out) {
+        out.append(horizontalLine).newLine();
+        out.append('|').appendSpaces(columnWidth);
+        for (String day : days) {
+            out.append('|').appendPadded(day, columnWidth);
         }
-        printlnVerticalLine();
+        out.append('|').newLine();
     }
 
-    public static void printRow(List<ArrayList<String>> hourSchedule, int timePeriod, boolean lastLine) {
-        //header & 7 days
+    /**
+     * Draws one hour of the table, over as many lines as the longest list of lessons in it needs. Each lesson
+     * name is wrapped at spaces to fit its column.
+     */
+    private static void appendRow(RenderBuffer out, String timeLabel, List<List<String>> hourSchedule,
+                                  int[] taskIndexes, int[] taskOffsets) {
+        Arrays.fill(taskIndexes, 0);
+        Arrays.fill(taskOffsets, 0);
+        boolean isFirstLine = true;
         boolean tasksPrinted = false;
-
-        //save a copy
-        //List<String>[] weeklyTask = new List<String>[8];
-        List<ArrayList<String>> weeklyTask = new ArrayList<>();
-        String header = getTime(timePeriod);
-        fillAndSet(0, new ArrayList<String>(List.of(header)), weeklyTask);
-        //weeklyTask.set(0, new ArrayList<String>(List.of(header))); //????
-        for (int i = 0; i < 7; i++) { //7 days
-            ArrayList<String> task = new ArrayList<String>(hourSchedule.get(i));
-            fillAndSet(i + 1, task, weeklyTask);
-            //weeklyTask.set(i + 1, task);
+        while (!tasksPrinted) {
+            tasksPrinted = true;
+            out.append('|').appendPadded(isFirstLine ? timeLabel : "", columnWidth);
+            for (int day = 0; day < days.length; day++) {
+                out.append('|');
+                List<String> tasks = hourSchedule.get(day);
+                if (tasks == null || taskIndexes[day] >= tasks.size()) {
+                    out.appendSpaces(columnWidth);
+                    continue;
+                }
+                String task = tasks.get(taskIndexes[day]);
+                int from = taskOffsets[day];
+                int lineEnd = findLineEnd(task, from);
+                out.append(task, from, lineEnd).appendSpaces(columnWidth - (lineEnd - from));
+
+                int next = lineEnd;
+                while (next < task.length() && task.charAt(next) == ' ') {
+                    next++;
+                }
+                if (next >= task.length()) {
+                    taskIndexes[day]++;
+                    taskOffsets[day] = 0;
+                } else {
+                    taskOffsets[day] = next;
+                }
+                if (taskIndexes[day] < tasks.size()) {
+                    tasksPrinted = false;
+                }
+            }
+            out.append('|').newLine();
+            isFirstLine = false;
         }
+    }
 
-        printlnHorizontalLine();
-        while (!tasksPrinted) { //line, tasks
-
-            //print row by row
-            for (int i = 0; i <= 7; i++) { //timePeriod + 7 days
-                printVerticalLine();
-                //for (int t = 0; t < weeklyTask[i].size(); t++) { //print limited char
-                //weeklyTask[i] is an ArrayList<String> that contains tasks in that time period
-                if (weeklyTask.get(i).isEmpty()) {
-                    printToJustify(columnWidth);
-                } else {
-                    String currentTask = weeklyTask.get(i).get(0); //get 1st task
-                    if (currentTask.length() < columnWidth) {
-                        print(currentTask);
-                        printToJustify(columnWidth - currentTask.length());
-                        weeklyTask.get(i).remove(0);
-                    } else {
-                        String[] words = currentTask.split(" ");
-                        int columnWidthLeft = columnWidth;
+    /**
+     * Finds where the part of a lesson name that fits on one line of a column ends, leaving at least one space.
+     *
+     * @param task The lesson name.
+     * @param from Where the part to print starts.
+     * @return Where the part ends, breaking after the last whole word that fits, or within a word too long to fit.
+     */
+    private static int findLineEnd(String task, int from) {
+        if (task.length() - from < columnWidth) {
+            return task.length();
+        }
+        int lineEnd = from;
+        int wordStart = from;
+        while (true) {
+            int space = task.indexOf(' ', wordStart);
+            int wordEnd = space < 0 ? task.length() : space;
+            if (wordEnd - from >= columnWidth) {
+                break;
+            }
+            lineEnd = wordEnd;
+            if (space < 0) {
+                break;
+            }
+            wordStart = space + 1;
+        }
+        return lineEnd == from ? from + columnWidth - 1 : lineEnd;
+    }
 
-                        int j = 0;
-                        while (words[j].length() < columnWidthLeft) {
-                            print(words[j]);
-                            //print(String.valueOf(words[j].length())); //troubleshooting
-                            columnWidthLeft -= words[j].length();
-                            words[j] = "";
-                            j += 1;
-                        }
-                        //print(String.valueOf(columnWidthLeft)); //troubleshooting
+    /**
+     * Prints a line for every pair of modules with lessons at the same time, naming the days and hours they clash.
+     *
+     * @param currentSemesterModules The modules shown in the weekly schedule.
+     */
+    public static void printClashes(ArrayList<ModuleWeekly> currentSemesterModules) {
+        RenderBuffer out = RenderBuffer.get();
+        appendClashes(out, currentSemesterModules);
+        out.flush();
+    }
 
-                        printToJustify(columnWidthLeft);
-                        //currentTask should be updated to start from index j
-                        String startingWord = words[j];
-                        int startingIndex = currentTask.indexOf(startingWord);
-                        weeklyTask.get(i).set(0, currentTask.substring(startingIndex)); //update currentTask
-                    }
+    /**
+     * Writes a line for every pair of modules with lessons at the same time, as printClashes prints them.
+     *
+     * @param out                    The buffer to write into.
+     * @param currentSemesterModules The modules shown in the weekly schedule.
+     */
+    public static void appendClashes(RenderBuffer out, List<ModuleWeekly> currentSemesterModules) {
+        for (int i = 0; i < currentSemesterModules.size(); i++) {
+            WeekGrid first = currentSemesterModules.get(i).getWeekGrid();
+            for (int j = i + 1; j < currentSemesterModules.size(); j++) {
+                WeekGrid second = currentSemesterModules.get(j).getWeekGrid();
+                if (!first.clashesWith(second)) {
+                    continue;
                 }
-            }
-            printlnVerticalLine();
-
-            boolean thisTaskPrinted = true;
-            for (int i = 0; i <= 7; i++) { //timePeriod + 7 days
-                if (!weeklyTask.get(i).isEmpty()) {
-                    thisTaskPrinted = false; //not finished
-                    break;
+                WeekGrid clashes = first.getClashes(second);
+                out.append("Clash: ").append(currentSemesterModules.get(i).getModuleCode()).append(" and ")
+                        .append(currentSemesterModules.get(j).getModuleCode()).append(" on ");
+                boolean isFirstClash = true;
+                for (int day = 0; day < WeekGrid.DAYS_IN_WEEK; day++) {
+                    long hours = clashes.getDayMask(day);
+                    while (hours != 0) {
+                        int hour = Long.numberOfTrailingZeros(hours);
+                        out.append(isFirstClash ? "" : ", ").append(days[day]).append(' ').append(hour).append(":00");
+                        isFirstClash = false;
+                        hours &= hours - 1;
+                    }
                 }
+                out.newLine();
             }
-            tasksPrinted = thisTaskPrinted;
         }
-        if (lastLine) {
-            printlnHorizontalLine();
-        }
-
     }
 
     public static String getTime(int timePeriod) {
@@ -171,38 +239,4 @@ public class WeeklyScheduleView {
         }
         return "";
     }
-
-    public static <T> void fillAndSet(int index, T object, List<T> list) {
-        if (index > (list.size() - 1)) {
-            for (int i = list.size(); i < index; i++) {
-                list.add(null);
-            }
-            list.add(object);
-        } else {
-            list.set(index, object);
-        }
-    }
-
-    public static List<List<ArrayList<String>>> initialiseTwoDList() {
-        List<List<ArrayList<String>>> grandparentList = new ArrayList<>();
-        for (int i = 0; i < 12; i++) { //12 time periods
-            List<ArrayList<String>> parentList = new ArrayList<>();
-            for (int j = 0; j < 7; j++) { //7 days
-                ArrayList<String> childList = new ArrayList<String>();
-                fillAndSet(j, childList, parentList);
-                parentList.add(childList);
-            }
-            fillAndSet(i, parentList, grandparentList);
-            grandparentList.add(parentList);
-        }
-        return grandparentList;
-    }
-
-    public static void addToWeeklyScheduleByTime(int indexParent, int indexChild, String eventName,
-                                                 List<List<ArrayList<String>>> listOfList) {
-        //"2D" array
-        List<ArrayList<String>> parentList = listOfList.get(indexParent);
-        ArrayList<String> childList = parentList.get(indexChild);
-        childList.add(eventName);
-    }
 }
@@ -2,13 +2,21 @@ package seedu.duke;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import seedu.duke.controllers.NusModsStubFixture;
 import seedu.duke.models.logic.Api;
+import seedu.duke.models.logic.NusModsDataSource;
+import seedu.duke.models.schema.ModuleList;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import seedu.duke.views.ModuleInfoView;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -97,6 +105,34 @@ public class ApiTest {
         ModuleInfoView.printJsonArray(modulesToPrint);
     }
 
+    @Test
+    void satisfiesAllPrereq_earlierAcademicYear_expectPrereqsOfThatYear() throws Exception {
+        Path fixtures = NusModsStubFixture.writeFixtures();
+        Path years = Files.createTempDirectory("nusmods");
+        copyFixtures(fixtures, years.resolve(NusModsDataSource.DEFAULT_ACADEMIC_YEAR));
+        copyFixtures(fixtures, years.resolve("2021-2022"));
+        Files.writeString(years.resolve("2021-2022/modules/CS2040C.json"), "{\"moduleCode\":\"CS2040C\","
+                + "\"title\":\"Data Structures and Algorithms\",\"moduleCredit\":\"4\",\"prereqTree\":\"CS1010\"}");
+        try (NusModsStubFixture stub = NusModsStubFixture.serve(years)) {
+            Api.setDataSource(new NusModsDataSource(
+                    stub.getBaseUri().resolve(NusModsDataSource.DEFAULT_ACADEMIC_YEAR + "/")));
+            ModuleList completed = new ModuleList("CS1010");
+
+            assertTrue(Api.satisfiesAllPrereq("CS2040C", completed, "2021-2022"));
+            assertFalse(Api.satisfiesAllPrereq("CS2040C", completed, NusModsDataSource.DEFAULT_ACADEMIC_YEAR));
+            // 2022-2023 has no data, so the current prerequisites apply; CS1010 is the same in every year
+            assertFalse(Api.satisfiesAllPrereq("CS2040C", completed, "2022-2023"));
+            assertTrue(Api.satisfiesAllPrereq("CS1010", new ModuleList(), "2021-2022"));
+            assertEquals(3, Api.countYearCatalogueEntries());
+        }
+    }
 
-
+    private static void copyFixtures(Path from, Path to) throws IOException {
+        Files.createDirectories(to.resolve("modules"));
+        try (Stream<Path> files = Files.walk(from)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                Files.copy(file, to.resolve(from.relativize(file).toString()));
+            }
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package seedu.duke.controllers;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.views.OutputFormat;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchControllerTest {
+
+    @Test
+    void run_directoryOfScripts_expectOutputInScriptOrder() throws Exception {
+        Path directory = Files.createTempDirectory("batch");
+        Files.writeString(directory.resolve("a.txt"), "Ryan Loh\nCEG\nY2/S1\npace y2/s1\nBye\n");
+        Files.writeString(directory.resolve("b.txt"), "Janelle\nCS\nY1/S1\npace\n");
+
+        List<Path> scripts = BatchController.listScripts(directory);
+        assertEquals(2, scripts.size());
+
+        StringWriter writer = new StringWriter();
+        new BatchController(2).run(scripts, writer);
+        String output = writer.toString();
+
+        int first = output.indexOf("==== a.txt ====");
+        int second = output.indexOf("==== b.txt ====");
+        assertTrue(first >= 0 && second > first);
+        assertTrue(output.indexOf("Recommended Pace: 32MCs per sem") > first);
+        assertTrue(output.indexOf("You currently have 160 MCs till graduation") > second);
+        assertTrue(!output.contains("Please enter your name"));
+    }
+
+    @Test
+    void run_scriptEndsDuringSetup_expectMessage() throws Exception {
+        Path script = Files.createTempFile("batch", ".txt");
+        Files.writeString(script, "Ryan Loh\n");
+
+        StringWriter writer = new StringWriter();
+        new BatchController(1).run(BatchController.listScripts(script), writer);
+        assertTrue(writer.toString().contains("Script ended before the name, major and year were given."));
+    }
+
+    @Test
+    void run_jsonFormat_expectOnlyRenderedResults() throws Exception {
+        Path script = Files.createTempFile("batch", ".txt");
+        Files.writeString(script, "Janelle\nCS\nY1/S1\nschedule\npace\n");
+
+        StringWriter writer = new StringWriter();
+        new BatchController(1, null, OutputFormat.JSON).run(BatchController.listScripts(script), writer);
+        String[] lines = writer.toString().split(System.lineSeparator());
+
+        assertEquals(3, lines.length);
+        assertEquals("{\"type\":\"section\",\"name\":\"" + script.getFileName() + "\"}", lines[0]);
+        assertEquals("{\"type\":\"schedule\",\"semesters\":[[],[],[],[],[],[],[],[]]}", lines[1]);
+        assertEquals("{\"type\":\"plan\",\"name\":\"Janelle\",\"major\":\"CS\",\"year\":\"Y1/S1\","
+                + "\"modules\":[]}", lines[2]);
+    }
+}
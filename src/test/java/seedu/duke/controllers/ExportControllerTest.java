@@ -0,0 +1,38 @@
+package seedu.duke.controllers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExportControllerTest {
+
+    @Test
+    void runFromArguments_noOutputFile_expectPlansWrittenAndStandardOutputLeftOpen() throws Exception {
+        Path storeFile = Files.createTempDirectory("export").resolve("plans.db");
+        Files.writeString(storeFile, "P Ryan Loh|CEG|Y2/S1|CS1010:1:4:c,CS2040C:3:4:p\n");
+
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream capturedOut = new PrintStream(output, true, StandardCharsets.UTF_8);
+        System.setOut(capturedOut);
+        try {
+            ExportController.runFromArguments(new String[]{"--export", storeFile.toString(), "--format", "csv"});
+            capturedOut.println("after export");
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        // A closed PrintStream swallows writes and reports them as errors
+        assertFalse(capturedOut.checkError());
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("Ryan Loh"));
+        assertTrue(text.endsWith("after export" + System.lineSeparator()));
+    }
+}
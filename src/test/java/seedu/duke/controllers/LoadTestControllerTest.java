@@ -0,0 +1,65 @@
+package seedu.duke.controllers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.views.RenderBuffer;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTestControllerTest {
+    private NusModsStubFixture stub;
+    private Path fixtures;
+
+    @BeforeEach
+    public void startStub() throws Exception {
+        stub = NusModsStubFixture.start();
+        fixtures = stub.getFixtures();
+    }
+
+    @AfterEach
+    public void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    void run_defaultMix_expectEveryCommandTimed() throws Exception {
+        LoadTestController loadTest = new LoadTestController(4, 8, 25, LoadTestController.DEFAULT_MIX, 7);
+        LoadTestController.Result result = loadTest.run(LoadTestController.listModuleCodes(fixtures),
+                List.of("Data", "Programming"));
+
+        assertEquals(200, result.getCommandCount());
+        assertTrue(result.getLatencyPercentile(null, 50) <= result.getLatencyPercentile(null, 99));
+        assertTrue(result.getLatencyPercentile(null, 99) <= result.getLatencyPercentile(null, 100));
+
+        RenderBuffer out = RenderBuffer.get();
+        result.appendReport(out);
+        assertTrue(out.toString().contains("200 commands"));
+        assertTrue(out.toString().contains("prereq"));
+    }
+
+    @Test
+    void run_mixOfWorkingCommands_expectNoFailures() throws Exception {
+        List<String> mix = List.of("3 | prereq {module}", "2 | search {word}", "3 | add {module} {sem}",
+                "# views", "1 | schedule", "1 | left");
+        LoadTestController.Result result = new LoadTestController(2, 4, 10, mix, 3)
+                .run(LoadTestController.listModuleCodes(fixtures), List.of("Data"));
+
+        assertEquals(40, result.getCommandCount());
+        assertEquals(0, result.getFailedCount());
+        assertEquals(0, result.getLatencyPercentile("delete", 50));
+    }
+
+    @Test
+    void constructor_malformedMix_expectException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoadTestController(1, 1, 1, List.of("prereq CS1010"), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoadTestController(1, 1, 1, List.of("0 | left"), 1));
+    }
+}
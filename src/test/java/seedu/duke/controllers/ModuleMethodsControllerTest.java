@@ -12,6 +12,8 @@ import seedu.duke.models.schema.Student;
 import java.io.ByteArrayOutputStream;
 import java.io.InvalidObjectException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -300,5 +302,27 @@ class ModuleMethodsControllerTest {
         assertEquals(expectedOutput, printedOutput);
     }
 
-
+    @Test
+    void showEligibleModules_keywordMatchingManyModules_expectLookupsCappedAndToldPartial() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            Path fixtures = stub.getFixtures();
+            int matching = ModuleMethodsController.MAX_KEYWORD_LOOKUPS + 5;
+            StringBuilder moduleList = new StringBuilder("[");
+            for (int i = 0; i < matching; i++) {
+                String moduleCode = "TP" + (1000 + i);
+                Files.writeString(fixtures.resolve("modules/" + moduleCode + ".json"), "{\"moduleCode\":\""
+                        + moduleCode + "\",\"title\":\"Topics " + i + "\",\"moduleCredit\":\"4\"}");
+                moduleList.append(i == 0 ? "" : ",").append("{\"moduleCode\":\"").append(moduleCode)
+                        .append("\",\"title\":\"Topics ").append(i).append("\",\"semesters\":[1]}");
+            }
+            Files.writeString(fixtures.resolve("moduleList.json"), moduleList.append("]").toString());
+
+            ModuleMethodsController.showEligibleModules(new String[]{"1", "topics"}, student);
+            String printedOutput = outputStream.toString();
+            assertTrue(printedOutput.contains("TP1019 Topics 19"));
+            assertFalse(printedOutput.contains("TP1020"));
+            assertTrue(printedOutput.contains("Only the first " + ModuleMethodsController.MAX_KEYWORD_LOOKUPS
+                    + " modules matching \"topics\""));
+        }
+    }
 }
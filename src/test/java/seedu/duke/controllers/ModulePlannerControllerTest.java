@@ -0,0 +1,37 @@
+package seedu.duke.controllers;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.PlanStorage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModulePlannerControllerTest {
+
+    @Test
+    void runScript_corruptJournal_expectOldPlanKeptAndNewPlanStarted() throws Exception {
+        Path directory = Files.createTempDirectory("plans");
+        PlanStorage storage = new PlanStorage(directory);
+        ModulePlannerController first = new ModulePlannerController(
+                new Scanner("Ryan Loh\nCEG\nY1/S1\nBye\n"), false, storage);
+        first.runScript();
+        first.getStudent().getJournal().close();
+        String snapshot = Files.readString(directory.resolve("ryan_loh.snapshot"));
+        String journal = "1 ADD CS1010 1 4\nnot an entry\n2 ADD CS1231 1 4\n";
+        Files.writeString(directory.resolve("ryan_loh.journal"), journal);
+
+        ModulePlannerController second = new ModulePlannerController(
+                new Scanner("Ryan Loh\nCS\nY2/S1\nBye\n"), false, storage);
+        second.runScript();
+        second.getStudent().getJournal().close();
+
+        assertEquals(snapshot, Files.readString(directory.resolve("ryan_loh.snapshot.corrupt")));
+        assertEquals(journal, Files.readString(directory.resolve("ryan_loh.journal.corrupt")));
+        assertTrue(Files.exists(directory.resolve("ryan_loh.snapshot")));
+        assertEquals("CS", storage.getJournal("Ryan Loh").restore().getMajor());
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.duke.controllers;
+
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.logic.ModuleDataSource;
+import seedu.duke.models.logic.NusModsDataSource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Serves recorded modules from a stub NUSMods server and points Api at it until closed, when the data source and
+ * cache age in use before are put back. Tests open one with try-with-resources, or in @BeforeEach and @AfterEach.
+ */
+public class NusModsStubFixture implements AutoCloseable {
+    private final Path fixtures;
+    private final NusModsStubServer server;
+    private final ModuleDataSource defaultSource;
+
+    private NusModsStubFixture(Path fixtures) throws IOException {
+        this.fixtures = fixtures;
+        this.server = new NusModsStubServer(fixtures);
+        server.start();
+        defaultSource = Api.getDataSource();
+        Api.setDataSource(new NusModsDataSource(server.getBaseUri()));
+    }
+
+    /**
+     * Starts a stub serving the modules recorded by writeFixtures.
+     *
+     * @return The running stub.
+     * @throws IOException If the modules could not be recorded or the stub could not be started.
+     */
+    public static NusModsStubFixture start() throws IOException {
+        return new NusModsStubFixture(writeFixtures());
+    }
+
+    /**
+     * Starts a stub serving the modules recorded in a directory.
+     *
+     * @param fixtures The directory of recorded modules.
+     * @return The running stub.
+     * @throws IOException If the stub could not be started.
+     */
+    public static NusModsStubFixture serve(Path fixtures) throws IOException {
+        return new NusModsStubFixture(fixtures);
+    }
+
+    /**
+     * Records two modules and a module list in a new directory.
+     *
+     * @return The directory.
+     * @throws IOException If the modules could not be written.
+     */
+    public static Path writeFixtures() throws IOException {
+        Path fixtures = Files.createTempDirectory("nusmods");
+        Files.createDirectories(fixtures.resolve("modules"));
+        Files.writeString(fixtures.resolve("modules/CS1010.json"), "{\"moduleCode\":\"CS1010\","
+                + "\"title\":\"Programming Methodology\",\"moduleCredit\":\"4\"}");
+        Files.writeString(fixtures.resolve("modules/CS2040C.json"), "{\"moduleCode\":\"CS2040C\","
+                + "\"title\":\"Data Structures and Algorithms\",\"moduleCredit\":\"4\","
+                + "\"prereqTree\":{\"and\":[\"CS1010:D\",\"CS1231:D\"]}}");
+        Files.writeString(fixtures.resolve("moduleList.json"), "[{\"moduleCode\":\"CS1010\","
+                + "\"title\":\"Programming Methodology\",\"semesters\":[1,2]},{\"moduleCode\":\"CS2040C\","
+                + "\"title\":\"Data Structures and Algorithms\",\"semesters\":[1,2]}]");
+        return fixtures;
+    }
+
+    /**
+     * Records a chain of modules, CS1010 then CS2040C then CS2113, and MA1511, which has no prerequisites.
+     *
+     * @throws IOException If the modules could not be written.
+     */
+    public void writeChainFixtures() throws IOException {
+        Files.writeString(fixtures.resolve("modules/CS2040C.json"), "{\"moduleCode\":\"CS2040C\","
+                + "\"title\":\"Data Structures and Algorithms\",\"moduleCredit\":\"4\",\"prereqTree\":\"CS1010\"}");
+        Files.writeString(fixtures.resolve("modules/CS2113.json"), "{\"moduleCode\":\"CS2113\","
+                + "\"title\":\"Software Engineering\",\"moduleCredit\":\"4\",\"prereqTree\":\"CS2040C\"}");
+        Files.writeString(fixtures.resolve("modules/MA1511.json"), "{\"moduleCode\":\"MA1511\","
+                + "\"title\":\"Engineering Calculus\",\"moduleCredit\":\"2\"}");
+    }
+
+    public NusModsStubServer getServer() {
+        return server;
+    }
+
+    public Path getFixtures() {
+        return fixtures;
+    }
+
+    public URI getBaseUri() {
+        return server.getBaseUri();
+    }
+
+    public long getRequestCount() {
+        return server.getRequestCount();
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+        Api.setMaxAge(Api.DEFAULT_MAX_AGE);
+        Api.setDataSource(defaultSource);
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.duke.controllers;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.exceptions.ModuleDataUnavailableException;
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.logic.CircuitBreaker;
+import seedu.duke.models.logic.DirectoryDataSource;
+import seedu.duke.models.logic.ModuleResponse;
+import seedu.duke.models.logic.NusModsDataSource;
+import seedu.duke.models.logic.ResilientDataSource;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NusModsStubServerTest {
+    private NusModsStubFixture fixture;
+    private NusModsStubServer stub;
+    private Path fixtures;
+
+    @BeforeEach
+    public void startStub() throws IOException {
+        fixture = NusModsStubFixture.start();
+        stub = fixture.getServer();
+        fixtures = fixture.getFixtures();
+    }
+
+    @AfterEach
+    public void stopStub() {
+        fixture.close();
+    }
+
+    @Test
+    void getFullModuleInfo_recordedModule_expectServedByStub() {
+        JSONObject moduleInfo = Api.getFullModuleInfo("CS2040C");
+        assertEquals("Data Structures and Algorithms", moduleInfo.get("title"));
+        assertEquals(1, Api.search("Data", Api.listAllModules()).size());
+
+        // Both the module and the module list are cached after the first request
+        Api.getFullModuleInfo("CS2040C");
+        Api.listAllModules();
+        assertEquals(2, stub.getRequestCount());
+    }
+
+    @Test
+    void getFullModuleInfo_unknownModule_expectNull() {
+        assertNull(Api.getFullModuleInfo("CS9999"));
+    }
+
+    @Test
+    void getFullModuleInfo_everyRequestFails_expectException() {
+        stub.setErrorRate(1);
+        assertThrows(RuntimeException.class, () -> Api.getFullModuleInfo("CS1010"));
+        assertEquals(1, stub.getErrorCount());
+    }
+
+    @Test
+    void getFullModuleInfo_stubDown_expectRetriedThenAnsweredFromSnapshot() {
+        ResilientDataSource source = new ResilientDataSource(new NusModsDataSource(stub.getBaseUri()),
+                new DirectoryDataSource(fixtures), new CircuitBreaker(4, Duration.ofMinutes(1)));
+        source.setRetries(2, Duration.ofMillis(1), Duration.ofMillis(5));
+        Api.setDataSource(source);
+        stub.setErrorRate(1);
+
+        assertEquals("Programming Methodology", Api.getFullModuleInfo("CS1010").get("title"));
+        assertEquals(2, stub.getErrorCount());
+        assertEquals("Data Structures and Algorithms", Api.getFullModuleInfo("CS2040C").get("title"));
+        assertEquals(CircuitBreaker.State.OPEN, source.getCircuitState());
+
+        // With the circuit open NUSMods is not asked at all, and a module missing from the snapshot is unavailable
+        assertThrows(ModuleDataUnavailableException.class, () -> Api.getFullModuleInfo("CS2113"));
+        assertEquals(4, stub.getErrorCount());
+    }
+
+    @Test
+    void fetchModuleInfo_latencyAndRateLimit_expectRequestsSpacedOut() throws Exception {
+        NusModsDataSource source = new NusModsDataSource(stub.getBaseUri());
+        stub.setLatency(Duration.ofMillis(20), Duration.ZERO);
+        long start = System.nanoTime();
+        source.fetchModuleInfo("CS1010");
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(20).toNanos());
+
+        stub.setLatency(Duration.ZERO, Duration.ZERO);
+        stub.setMaxRequestsPerSecond(20);
+        start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            source.fetchModuleInfo("CS1010");
+        }
+        // The first request goes at once and each later one waits 50ms for its turn
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(190).toNanos());
+    }
+
+    @Test
+    void fetchModuleList_gzipAccepted_expectCompressedAndDecoded() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(stub.getBaseUri().resolve("moduleList.json"))
+                .header("Accept-Encoding", "gzip").build();
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(""));
+        assertEquals(0x1f, response.body()[0] & 0xff);
+
+        String moduleList = new NusModsDataSource(stub.getBaseUri()).fetchModuleList();
+        assertTrue(moduleList.startsWith("[{\"moduleCode\":\"CS1010\""));
+        assertEquals(2, Api.getModuleCatalogue().size());
+    }
+
+    @Test
+    void openModuleInfo_unchangedModule_expectNotModified() throws Exception {
+        NusModsDataSource source = new NusModsDataSource(stub.getBaseUri());
+        String etag;
+        String lastModified;
+        try (ModuleResponse response = source.openModuleInfo("CS1010", null, null)) {
+            assertFalse(response.isNotModified());
+            etag = response.getEtag();
+            lastModified = response.getLastModified();
+        }
+        assertNotNull(etag);
+        assertNotNull(lastModified);
+
+        try (ModuleResponse response = source.openModuleInfo("CS1010", etag, null)) {
+            assertTrue(response.isNotModified());
+            assertEquals(etag, response.getEtag());
+        }
+        try (ModuleResponse response = source.openModuleInfo("CS1010", null, lastModified)) {
+            assertTrue(response.isNotModified());
+        }
+        try (ModuleResponse response = source.openModuleInfo("CS1010", "\"other\"", lastModified)) {
+            assertFalse(response.isNotModified());
+        }
+        assertEquals(2, stub.getNotModifiedCount());
+    }
+
+    @Test
+    void getFullModuleInfo_staleModule_expectServedAtOnceAndRevalidated() throws Exception {
+        Api.setMaxAge(Duration.ZERO);
+        assertEquals("Programming Methodology", Api.getFullModuleInfo("CS1010").get("title"));
+
+        // Unchanged: the stale copy is answered and the revalidation costs a 304
+        assertEquals("Programming Methodology", Api.getFullModuleInfo("CS1010").get("title"));
+        waitUntil(() -> stub.getNotModifiedCount() >= 1);
+
+        Path file = fixtures.resolve("modules/CS1010.json");
+        Files.writeString(file, "{\"moduleCode\":\"CS1010\",\"title\":\"Programming Methodology I\"}");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        assertEquals("Programming Methodology", Api.getFullModuleInfo("CS1010").get("title"));
+        waitUntil(() -> "Programming Methodology I".equals(Api.getFullModuleInfo("CS1010").get("title")));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+}
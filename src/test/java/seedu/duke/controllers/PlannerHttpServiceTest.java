@@ -0,0 +1,122 @@
+package seedu.duke.controllers;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlannerHttpServiceTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private PlannerHttpService service;
+
+    @BeforeEach
+    public void startService() throws Exception {
+        service = new PlannerHttpService(0);
+        service.start();
+    }
+
+    @AfterEach
+    public void stopService() {
+        service.stop();
+    }
+
+    private HttpResponse<String> send(String method, String pathAndQuery) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(new URI("http://localhost:" + service.getPort() + pathAndQuery))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JSONObject parse(HttpResponse<String> response) throws Exception {
+        return (JSONObject) new JSONParser().parse(response.body());
+    }
+
+    @Test
+    void createSession_validDetails_expectIsolatedSessions() throws Exception {
+        HttpResponse<String> first = send("POST", "/session?name=Ryan%20Loh&major=CEG&year=Y2/S1");
+        HttpResponse<String> second = send("POST", "/session?name=Janelle&major=CS&year=Y1/S1");
+        assertEquals(201, first.statusCode());
+        String firstSession = (String) parse(first).get("session");
+        String secondSession = (String) parse(second).get("session");
+        assertNotNull(firstSession);
+        assertNotEquals(firstSession, secondSession);
+
+        JSONObject cegLeft = parse(send("GET", "/left?session=" + firstSession));
+        JSONObject csLeft = parse(send("GET", "/left?session=" + secondSession));
+        assertEquals(31, ((List<?>) cegLeft.get("modulesLeft")).size());
+        assertEquals(20, ((List<?>) csLeft.get("modulesLeft")).size());
+    }
+
+    @Test
+    void pace_withYear_expectCreditsPerSemester() throws Exception {
+        String session = (String) parse(send("POST", "/session?name=Ryan%20Loh&major=CEG&year=Y2/S1"))
+                .get("session");
+        JSONObject pace = parse(send("GET", "/pace?session=" + session + "&year=Y2/S1"));
+        assertEquals(160L, ((Number) pace.get("creditsLeft")).longValue());
+        assertEquals(5L, ((Number) pace.get("semestersLeft")).longValue());
+        assertEquals(32L, ((Number) pace.get("creditsPerSemester")).longValue());
+    }
+
+    @Test
+    void request_invalidInput_expectErrorStatus() throws Exception {
+        assertEquals(400, send("POST", "/session?name=Ryan&major=BIZ&year=Y2/S1").statusCode());
+        assertEquals(404, send("GET", "/left?session=missing").statusCode());
+        assertEquals(404, send("GET", "/unknown").statusCode());
+        String session = (String) parse(send("POST", "/session?name=Ryan%20Loh&major=CEG&year=Y2/S1"))
+                .get("session");
+        assertEquals(405, send("GET", "/add?session=" + session + "&module=CS1010&sem=1").statusCode());
+    }
+
+    @Test
+    void metrics_afterRequests_expectPrometheusText() throws Exception {
+        send("POST", "/session?name=Ryan%20Loh&major=CEG&year=Y2/S1");
+        HttpResponse<String> metrics = send("GET", "/metrics");
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.headers().firstValue("Content-Type").orElse("").startsWith("text/plain; version=0.0.4"));
+        assertTrue(metrics.body().contains("# TYPE nusdegs_sessions gauge\n"));
+        assertTrue(metrics.body().contains("nusdegs_http_request_duration_seconds_count{command=\"session\"}"));
+    }
+
+    @Test
+    void request_idleSession_expectSessionDropped() throws Exception {
+        service.stop();
+        service = new PlannerHttpService(0, Duration.ofMillis(300));
+        service.start();
+        String session = (String) parse(send("POST", "/session?name=Ryan%20Loh&major=CEG&year=Y2/S1"))
+                .get("session");
+        assertEquals(200, send("GET", "/left?session=" + session).statusCode());
+
+        Thread.sleep(500);
+        assertEquals(404, send("GET", "/left?session=" + session).statusCode());
+    }
+
+    @Test
+    void request_errorWhileHandling_expectServerErrorSent() throws Exception {
+        service.stop();
+        service = new PlannerHttpService(0) {
+            @Override
+            int dispatch(String method, String path, Map<String, String> query, JSONObject body) {
+                throw new StackOverflowError("prerequisite tree too deep");
+            }
+        };
+        service.start();
+        HttpResponse<String> response = send("GET", "/left?session=any");
+        assertEquals(500, response.statusCode());
+        assertEquals("prerequisite tree too deep", parse(response).get("error"));
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.controllers.NusModsStubFixture;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogueWarmerTest {
+
+    @Test
+    void start_cegMajor_expectRequiredModulesCachedInBackground() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            CatalogueWarmer warmer = CatalogueWarmer.start("CEG");
+            assertTrue(warmer.await(Duration.ofSeconds(30)));
+            assertEquals(warmer.getTotalTasks(), warmer.getCompletedTasks());
+            assertEquals(0, warmer.getFailedTasks());
+
+            long requestsAfterWarmUp = stub.getRequestCount();
+            assertEquals("Programming Methodology", Api.getFullModuleInfo("CS1010").get("title"));
+            assertNotNull(Api.getModuleCatalogue());
+            assertEquals(requestsAfterWarmUp, stub.getRequestCount());
+        }
+    }
+}
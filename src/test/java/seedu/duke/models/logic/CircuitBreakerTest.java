@@ -0,0 +1,58 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+    private long now;
+    private final CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofSeconds(10), () -> now);
+
+    @Test
+    void recordFailure_thresholdReached_expectRequestsRefused() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_openTimePassed_expectSingleTrialThatClosesOnSuccess() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure();
+        }
+        now += Duration.ofSeconds(10).toNanos();
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void recordFailure_trialFails_expectOpenAgain() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure();
+        }
+        now += Duration.ofSeconds(10).toNanos();
+        assertTrue(breaker.tryAcquire());
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now += Duration.ofSeconds(5).toNanos();
+        assertFalse(breaker.tryAcquire());
+    }
+}
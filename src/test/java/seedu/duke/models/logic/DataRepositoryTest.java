@@ -1,10 +1,17 @@
 package seedu.duke.models.logic;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.DegreeRequirements;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 class DataRepositoryTest {
@@ -14,4 +21,39 @@ class DataRepositoryTest {
         int numberOfRequiredCegMods = 31;
         assertEquals(numberOfRequiredCegMods,cegRequirementArray.size());
     }
+
+    @Test
+    void getDegreeRequirements_sameMajor_expectCachedInstance() {
+        DegreeRequirements first = DataRepository.getDegreeRequirements("CS");
+        DegreeRequirements second = DataRepository.getDegreeRequirements("cs");
+        assertSame(first, second);
+        assertTrue(first.isRequired("CS2040S"));
+        assertFalse(first.isRequired("CS2040C"));
+    }
+
+    @Test
+    void getDegreeRequirements_alternativeModule_expectRequirementFulfilled() {
+        DegreeRequirements requirements = DataRepository.getDegreeRequirements("CS");
+        assertEquals("GEA1000", requirements.getRequirementFulfilledBy("ST1131").getModuleCode());
+        assertFalse(requirements.isRequired("ST1131"));
+    }
+
+    @Test
+    void getDegreeRequirements_unknownMajor_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> DataRepository.getDegreeRequirements("BZA"));
+    }
+
+    @Test
+    void parseRequirements_nestedBuckets_expectTree() throws Exception {
+        String file = "title | Test\n"
+                + "bucket | A | - | 8 | Top\n"
+                + "bucket | B | A | 4 | Nested\n"
+                + "module | CS1010/CS1010E | B | 4 | Programming\n";
+        DegreeRequirements requirements =
+                DataRepository.parseRequirements("TEST", new BufferedReader(new StringReader(file)));
+        assertEquals(1, requirements.getBuckets().size());
+        assertEquals("B", requirements.getBuckets().get(0).getSubBuckets().get(0).getId());
+        assertEquals(1, requirements.getBuckets().get(0).getSubBuckets().get(0).getModules().size());
+        assertTrue(requirements.getModules().get(0).isSatisfiedBy("CS1010E"));
+    }
 }
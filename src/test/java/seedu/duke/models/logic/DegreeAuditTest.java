@@ -0,0 +1,85 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.DegreeRequirements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DegreeAuditTest {
+
+    @Test
+    void completeModule_requiredModule_expectBucketTotalsAndModulesLeftUpdated() {
+        DegreeAudit audit = new DegreeAudit(DataRepository.getDegreeRequirements("CS"));
+        int modulesLeft = audit.getModuleCodesLeft().size();
+
+        audit.planModule("CS2040S", 4);
+        assertEquals(4, audit.getPlannedCredits("FOUNDATION"));
+        assertEquals(4, audit.getPlannedCredits("PROGRAMME"));
+        assertEquals(0, audit.getCompletedCredits("PROGRAMME"));
+
+        audit.completeModule("CS2040S", 4);
+        assertEquals(4, audit.getCompletedCredits("PROGRAMME"));
+        assertEquals(modulesLeft - 1, audit.getModuleCodesLeft().size());
+        assertFalse(audit.getModuleCodesLeft().contains("CS2040S"));
+    }
+
+    @Test
+    void completeModule_alternativeModule_expectRequirementFulfilled() {
+        DegreeAudit audit = new DegreeAudit(DataRepository.getDegreeRequirements("CS"));
+        audit.completeModule("ST1131", 4);
+        assertFalse(audit.getModuleCodesLeft().contains("GEA1000"));
+        assertEquals(4, audit.getCompletedCredits("PILLARS"));
+    }
+
+    @Test
+    void planModule_choiceGroupAndElectives_expectOverflowIntoElectiveBuckets() {
+        DegreeAudit audit = new DegreeAudit(DataRepository.getDegreeRequirements("CS"));
+        audit.planModule("CS3203", 4);
+        audit.planModule("CS3216", 4);
+        audit.planModule("MA2001", 4);
+        // first project course fills the choice group, the second counts as a breadth elective
+        assertEquals(8, audit.getPlannedCredits("BREADTH"));
+        assertEquals(4, audit.getPlannedCredits("UE"));
+    }
+
+    @Test
+    void removeModule_completedModule_expectTotalsRestored() {
+        DegreeAudit audit = new DegreeAudit(DataRepository.getDegreeRequirements("CEG"));
+        audit.completeModule("CS1010", 4);
+        audit.removeModule("CS1010");
+        assertEquals(0, audit.getCompletedCredits("COMMON"));
+        assertEquals(0, audit.getPlannedCredits("COMMON"));
+        assertTrue(audit.getModuleCodesLeft().contains("CS1010"));
+        assertEquals(DataRepository.getRequirements("CEG"), new java.util.ArrayList<>(audit.getModuleCodesLeft()));
+    }
+
+    @Test
+    void removeModule_twoAlternativesPlanned_expectRequirementHandedToTheOther() {
+        DegreeAudit audit = new DegreeAudit(DataRepository.getDegreeRequirements("CS"));
+        audit.completeModule("GEA1000", 4);
+        audit.completeModule("ST1131", 4);
+        assertEquals(4, audit.getCompletedCredits("UE"));
+
+        audit.removeModule("GEA1000");
+        assertFalse(audit.getModuleCodesLeft().contains("GEA1000"));
+        assertEquals("ST1131", audit.getModuleFulfilling(
+                DataRepository.getDegreeRequirements("CS").getRequirementFulfilledBy("ST1131")));
+        assertEquals(4, audit.getCompletedCredits("PILLARS"));
+        assertEquals(0, audit.getCompletedCredits("UE"));
+        assertEquals(0, audit.getPlannedCredits("UE"));
+    }
+
+    @Test
+    void removeModule_choiceGroupModule_expectChoiceHandedToElective() {
+        DegreeRequirements requirements = DataRepository.getDegreeRequirements("CS");
+        DegreeAudit audit = new DegreeAudit(requirements);
+        audit.planModule("CS3203", 4);
+        audit.planModule("CS3216", 4);
+
+        audit.removeModule("CS3203");
+        assertEquals(1, audit.getChoicesTaken(requirements.getChoiceGroupFor("CS3216")));
+        assertEquals(4, audit.getPlannedCredits("BREADTH"));
+    }
+}
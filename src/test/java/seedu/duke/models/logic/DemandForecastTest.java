@@ -0,0 +1,64 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.PlanStore;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DemandForecastTest {
+
+    private static Path writeStore(String... records) throws Exception {
+        Path file = Files.createTempDirectory("demand").resolve("plans.db");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String record : records) {
+                writer.write("P " + record + "\n");
+            }
+        }
+        return file;
+    }
+
+    @Test
+    void compute_fewPlans_expectCompletedModulesNotCounted() throws Exception {
+        Path file = writeStore(
+                "Ryan Loh|CEG|Y2/S1|CS1010:1:4:c,CS2040C:3:4:p,CS2113:3:4:p",
+                "Janelle|CS|Y1/S1|CS2040C:3:4:p,CS2113:4:4:p",
+                "Isaiah|CS|Y1/S1|",
+                "Janelle|CS|Y1/S1|CS2040C:2:4:p");
+        try (PlanStore store = PlanStore.open(file)) {
+            DemandForecast forecast = DemandForecast.compute(store, 2);
+            assertEquals(3, forecast.getPlanCount());
+            assertEquals(Arrays.asList("CS2040C", "CS2113"), forecast.getModuleCodes());
+            assertArrayEquals(new int[]{0, 1, 1, 0, 0, 0, 0, 0}, forecast.getDemand("CS2040C"));
+            assertEquals(1, forecast.getTotalDemand("CS2113"));
+            assertArrayEquals(new int[8], forecast.getDemand("CS1010"));
+        }
+    }
+
+    @Test
+    void compute_manyBatches_expectSameAsSequentialCount() throws Exception {
+        int planCount = DemandForecast.BATCH_SIZE * 3 + 17;
+        String[] records = new String[planCount];
+        int[] expected = new int[8];
+        for (int i = 0; i < planCount; i++) {
+            int semester = i % 8 + 1;
+            records[i] = "Student " + i + "|CS|Y1/S1|CS1231S:1:4:c,CS2040S:" + semester + ":4:p,M" + (i % 50)
+                    + ":" + semester + ":4:p";
+            expected[semester - 1]++;
+        }
+        try (PlanStore store = PlanStore.open(writeStore(records))) {
+            DemandForecast forecast = DemandForecast.compute(store, 4);
+            assertEquals(planCount, forecast.getPlanCount());
+            assertArrayEquals(expected, forecast.getDemand("CS2040S"));
+            // CS2040S and M0 to M49; CS1231S is completed in every plan, so it is not counted
+            assertEquals(51, forecast.getModuleCodes().size());
+            assertEquals(planCount / 50 + (planCount % 50 > 7 ? 1 : 0), forecast.getTotalDemand("M7"));
+        }
+    }
+}
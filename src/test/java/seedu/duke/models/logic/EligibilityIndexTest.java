@@ -0,0 +1,90 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Test;
+import seedu.duke.controllers.NusModsStubFixture;
+import seedu.duke.models.schema.ModulePlacement;
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.models.schema.Student;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EligibilityIndexTest {
+    private static JSONObject tree(String json) throws Exception {
+        return (JSONObject) new JSONParser().parse(json);
+    }
+
+    private static EligibilityIndex indexOfTrees() throws Exception {
+        EligibilityIndex index = new EligibilityIndex("2023-2024");
+        index.addModule("CS1010", null);
+        index.addModule("MA1511", null);
+        index.addModule("CS2040C", tree("{\"and\":[\"CS1010:D\"]}"));
+        index.addModule("CS2113", tree("{\"and\":[\"CS2040C\",{\"or\":[\"CS1231\",\"MA1511:D\"]}]}"));
+        index.addModule("CG2023", tree("{\"nOf\":[2,[\"MA1511:D\",\"MA1512:D\"]]}"));
+        index.addModule("EE2026", tree("{\"or\":[\"CS1010%\",{\"and\":[\"MA1512\"]},\"CG1111A\"]}"));
+        return index;
+    }
+
+    @Test
+    void take_modulesInOrder_expectNewlyEligibleModulesOnly() throws Exception {
+        EligibilityIndex.Tracker tracker = indexOfTrees().newTracker();
+        assertEquals(Set.of("CS1010", "MA1511"), tracker.getEligibleModules());
+
+        assertEquals(List.of("CS2040C", "EE2026"), tracker.take("CS1010"));
+        assertEquals(List.of(), tracker.take("MA1511"));
+        assertEquals(List.of("CS2113"), tracker.take("CS2040C"));
+        assertEquals(List.of(), tracker.take("CS1231"));
+        assertEquals(List.of(), tracker.take("CS1010"));
+        assertEquals(List.of("CG2023"), tracker.take("MA1512"));
+        assertEquals(Set.of("CS2113", "EE2026", "CG2023"), tracker.getEligibleModules());
+    }
+
+    @Test
+    void getEligibleModules_orDecidedByFirstBranch_expectSameAsPrereqCheck() throws Exception {
+        EligibilityIndex index = indexOfTrees();
+        // The "or" of EE2026 stops at its first branch, as Api.checkPrereq does, so CG1111A is not enough
+        assertEquals(Set.of("CS1010", "MA1511"), index.getEligibleModules(List.of("CG1111A")));
+        assertTrue(index.getEligibleModules(List.of("MA1512")).contains("EE2026"));
+        assertEquals(Set.of("EE2026", "CS2113"),
+                index.getEligibleModules(List.of("CS1010", "CS2040C", "MA1511")));
+    }
+
+    @Test
+    void newTracker_modulesIndexedLater_expectEarlierTrackersUnaffected() throws Exception {
+        EligibilityIndex index = indexOfTrees();
+        EligibilityIndex.Tracker tracker = index.newTracker();
+        index.addModule("CS3230", tree("{\"and\":[\"CS2040C\"]}"));
+
+        assertEquals(List.of("CS2040C", "EE2026"), tracker.take("CS1010"));
+        assertEquals(List.of(), tracker.take("CS2040C"));
+        assertEquals(Set.of("MA1511", "EE2026"), tracker.getEligibleModules());
+        assertTrue(index.newTracker().take("CS2040C").contains("CS3230"));
+        assertEquals(7, index.countIndexedModules());
+    }
+
+    @Test
+    void findEligibleModules_plannedPrerequisites_expectFrontierAnsweredFromIndex() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            student.addModulesSchedule(List.of(new ModulePlacement("CS1010", 1),
+                    new ModulePlacement("CS2040C", 3)));
+            List<String> candidates = List.of("CS1010", "CS2040C", "CS2113", "MA1511", "CS9999");
+            Schedule schedule = student.getSchedule();
+
+            assertEquals(List.of("MA1511"), EligibilityIndex.findEligibleModules(
+                    schedule.getSnapshot().getModulesBySemester(), 1, schedule.getAcademicYear(1), candidates));
+            long requests = stub.getRequestCount();
+            assertEquals(List.of("MA1511"), EligibilityIndex.findEligibleModules(
+                    schedule.getSnapshot().getModulesBySemester(), 2, schedule.getAcademicYear(2), candidates));
+            assertEquals(List.of("CS2113", "MA1511"), EligibilityIndex.findEligibleModules(
+                    schedule.getSnapshot().getModulesBySemester(), 4, schedule.getAcademicYear(4), candidates));
+            assertEquals(requests, stub.getRequestCount());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonReaderTest {
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    @Test
+    void readValue_nestedDocument_expectSameAsJsonParser() throws Exception {
+        JSONObject value = (JSONObject) reader(" {\"code\": \"CS1010\", \"credit\": 4, \"ratio\": 0.5,"
+                + " \"tags\": [true, false, null], \"text\": \"a\\\"b\\\\c\\u00e9\\n\", \"empty\": {}} ").readValue();
+        assertEquals("CS1010", value.get("code"));
+        assertEquals(4L, value.get("credit"));
+        assertEquals(0.5, value.get("ratio"));
+        JSONArray tags = (JSONArray) value.get("tags");
+        assertEquals(Boolean.TRUE, tags.get(0));
+        assertNull(tags.get(2));
+        assertEquals("a\"b\\cé\n", value.get("text"));
+        assertEquals(new JSONObject(), value.get("empty"));
+    }
+
+    @Test
+    void skipValue_unwantedMembers_expectNextMemberRead() throws Exception {
+        JsonReader reader = reader("{\"skip\": {\"a\": [1, [2, \"]}\"], {}], \"b\": \"x\"}, \"keep\": \"yes\"}");
+        reader.beginObject();
+        assertEquals("skip", reader.nextName());
+        reader.skipValue();
+        assertEquals("keep", reader.nextName());
+        assertEquals("yes", reader.nextString());
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void nextString_longerThanBuffer_expectWholeString() throws Exception {
+        String title = "Engineering ".repeat(2000);
+        assertEquals(title, reader("[\"" + title + "\"]").readValue().toString().substring(2, title.length() + 2));
+    }
+
+    @Test
+    void peek_malformedText_expectParseException() {
+        assertThrows(ParseException.class, () -> reader("{\"a\" 1}").readValue());
+        assertThrows(ParseException.class, () -> reader("[1 2]").readValue());
+        assertThrows(ParseException.class, () -> reader("[\"open").readValue());
+        assertThrows(ParseException.class, () -> reader("<?xml version=\"1.0\"?>").readValue());
+        assertThrows(ParseException.class, () -> {
+            JsonReader reader = reader("[] []");
+            reader.readValue();
+            reader.peek();
+        });
+    }
+}
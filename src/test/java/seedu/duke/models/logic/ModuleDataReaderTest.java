@@ -0,0 +1,59 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleDataReaderTest {
+    @Test
+    void readModuleInfo_fullDetails_expectOnlyFieldsPlannerUses() throws Exception {
+        JSONObject moduleInfo = ModuleDataReader.readModuleInfo(new StringReader("{\"moduleCode\":\"CS2113\","
+                + "\"title\":\"Software Engineering\",\"moduleCredit\":\"4\",\"aliases\":[\"CS2113T\"],"
+                + "\"fulfillRequirements\":[\"CS3203\",\"CS3219\"],\"prereqTree\":{\"and\":[\"CS2040C:D\"]},"
+                + "\"semesterData\":[{\"semester\":1,\"examDate\":\"2023-11-25\",\"timetable\":[{\"classNo\":\"1\","
+                + "\"startTime\":\"1600\",\"endTime\":\"1800\",\"weeks\":[1,2,3],\"venue\":\"LT19\","
+                + "\"day\":\"Friday\",\"lessonType\":\"Lecture\",\"size\":300}]}]}"));
+        assertEquals("Software Engineering", moduleInfo.get("title"));
+        assertEquals("{\"and\":[\"CS2040C:D\"]}", ((JSONObject) moduleInfo.get("prereqTree")).toJSONString());
+        assertFalse(moduleInfo.containsKey("aliases"));
+        assertFalse(moduleInfo.containsKey("fulfillRequirements"));
+
+        JSONObject semester = (JSONObject) ((JSONArray) moduleInfo.get("semesterData")).get(0);
+        assertEquals(1L, semester.get("semester"));
+        assertFalse(semester.containsKey("examDate"));
+        JSONObject lesson = (JSONObject) ((JSONArray) semester.get("timetable")).get(0);
+        assertEquals(5, lesson.size());
+        assertEquals("Friday", lesson.get("day"));
+    }
+
+    @Test
+    void readModuleInfo_emptyOrNotJson_expectEmptyObjectOrException() throws Exception {
+        assertTrue(ModuleDataReader.readModuleInfo(new StringReader("")).isEmpty());
+        assertThrows(ParseException.class, () -> ModuleDataReader.readModuleInfo(
+                new StringReader("<?xml version=\"1.0\"?><Error><Code>NoSuchKey</Code></Error>")));
+    }
+
+    @Test
+    void readModuleList_manyModules_expectCompactCatalogue() throws Exception {
+        StringBuilder moduleList = new StringBuilder("[");
+        for (int i = 0; i < 3000; i++) {
+            moduleList.append(i == 0 ? "" : ",").append("{\"moduleCode\":\"XX").append(i)
+                    .append("\",\"title\":\"Module ").append(i).append("\",\"semesters\":[1,2]}");
+        }
+        moduleList.append("]");
+        ModuleCatalogue catalogue = ModuleDataReader.readModuleList(new StringReader(moduleList.toString()));
+        assertEquals(3000, catalogue.size());
+        assertEquals("XX2999", catalogue.getModuleCode(2999));
+        assertEquals("Module 1234", catalogue.getTitle(1234));
+        assertEquals(111, catalogue.search("Module 12").size());
+        assertEquals(0, catalogue.search("").size());
+    }
+}
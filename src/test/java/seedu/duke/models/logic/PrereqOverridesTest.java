@@ -0,0 +1,63 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrereqOverridesTest {
+    private static BufferedReader file(String contents) {
+        return new BufferedReader(new StringReader(contents));
+    }
+
+    @Test
+    void getDefault_packagedFile_expectCorrectionsForEveryMajor() {
+        PrereqOverrides overrides = PrereqOverrides.getDefault();
+        assertSame(overrides, PrereqOverrides.getDefault());
+        assertEquals(Arrays.asList("MA1511", "MA1512"), overrides.getPrerequisites("CS1231", "CEG"));
+        assertEquals(Collections.emptyList(), overrides.getPrerequisites("MA1521", "CS"));
+        assertNull(overrides.getPrerequisites("CS2113", "CEG"));
+        assertEquals("{\"and\":[\"ST2334\"]}", overrides.getPrereqTree("EE4204").toJSONString());
+    }
+
+    @Test
+    void parse_specificLines_expectWinOverGeneralLines() throws Exception {
+        PrereqOverrides overrides = PrereqOverrides.parse("2023-2024", file(
+                "version | 1\n"
+                + "override | * | * | CS2040C | CS1010\n"
+                + "override | 2023-2024 | * | CS2040C | CS1010E\n"
+                + "override | 2022-2023 | * | CS2040C | CS1010S\n"
+                + "override | * | cs | CS2040C | CS1010X, CS1231\n"));
+        assertEquals(Collections.singletonList("CS1010E"), overrides.getPrerequisites("CS2040C", "CEG"));
+        assertEquals(Collections.singletonList("CS1010E"), overrides.getPrerequisites("CS2040C", null));
+        assertEquals(Arrays.asList("CS1010X", "CS1231"), overrides.getPrerequisites("CS2040C", "CS"));
+        assertEquals("1", overrides.getVersion());
+    }
+
+    @Test
+    void parse_laterFile_expectWinsOverEarlierFile() throws Exception {
+        PrereqOverrides overrides = PrereqOverrides.parse("2023-2024",
+                file("version | 2\noverride | * | * | EE4204 | ST2334\n"),
+                file("version | 2-local\noverride | * | * | EE4204 | -\n"));
+        List<String> prerequisites = overrides.getPrerequisites("EE4204", "CEG");
+        assertEquals(Collections.emptyList(), prerequisites);
+        assertEquals("2-local", overrides.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> prerequisites.add("ST2334"));
+    }
+
+    @Test
+    void parse_malformedLine_expectException() {
+        assertThrows(IllegalStateException.class,
+                () -> PrereqOverrides.parse("2023-2024", file("override | * | CS1231 | MA1511\n")));
+        assertThrows(IllegalStateException.class,
+                () -> PrereqOverrides.parse("2023-2024", file("replace | * | * | CS1231 | MA1511\n")));
+    }
+}
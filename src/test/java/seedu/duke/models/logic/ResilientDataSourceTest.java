@@ -0,0 +1,85 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilientDataSourceTest {
+    /**
+     * Fails a set number of requests before answering every module with its code.
+     */
+    private static class FlakySource implements ModuleDataSource {
+        private int failuresLeft;
+        private int requestCount;
+
+        FlakySource(int failures) {
+            this.failuresLeft = failures;
+        }
+
+        @Override
+        public String fetchModuleInfo(String moduleCode) throws IOException {
+            requestCount++;
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("NUSMods answered with status 503");
+            }
+            return moduleCode;
+        }
+
+        @Override
+        public String fetchModuleList() throws IOException {
+            return fetchModuleInfo("list");
+        }
+    }
+
+    private static ResilientDataSource resilient(ModuleDataSource source, ModuleDataSource fallback) {
+        ResilientDataSource resilient = new ResilientDataSource(source, fallback,
+                new CircuitBreaker(3, Duration.ofMinutes(1)));
+        resilient.setRetries(3, Duration.ofMillis(1), Duration.ofMillis(2));
+        return resilient;
+    }
+
+    @Test
+    void fetchModuleInfo_transientFailures_expectRetriedUntilAnswered() throws Exception {
+        FlakySource source = new FlakySource(2);
+        assertEquals("CS1010", resilient(source, null).fetchModuleInfo("CS1010"));
+        assertEquals(3, source.requestCount);
+    }
+
+    @Test
+    void fetchModuleInfo_sourceDown_expectCircuitOpenAndFallbackAnswers() throws Exception {
+        FlakySource source = new FlakySource(Integer.MAX_VALUE);
+        ResilientDataSource resilient = resilient(source, new FlakySource(0));
+
+        assertEquals("CS1010", resilient.fetchModuleInfo("CS1010"));
+        assertEquals(CircuitBreaker.State.OPEN, resilient.getCircuitState());
+        assertEquals("CS2040C", resilient.fetchModuleInfo("CS2040C"));
+        assertEquals(3, source.requestCount);
+    }
+
+    @Test
+    void openModuleInfo_revalidationWhileDown_expectNoFallback() throws Exception {
+        ResilientDataSource resilient = resilient(new FlakySource(Integer.MAX_VALUE), new FlakySource(0));
+        IOException e = assertThrows(IOException.class,
+                () -> resilient.openModuleInfo("CS1010", "\"etag\"", null));
+        assertEquals(0, e.getSuppressed().length);
+    }
+
+    @Test
+    void fetchModuleInfo_deadlineTooShortForRetry_expectSingleAttempt() {
+        FlakySource source = new FlakySource(Integer.MAX_VALUE);
+        ResilientDataSource resilient = resilient(source, null);
+        resilient.setRetries(3, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        resilient.setDeadline(Duration.ZERO);
+
+        long start = System.nanoTime();
+        assertThrows(IOException.class, () -> resilient.fetchModuleInfo("CS1010"));
+        assertEquals(1, source.requestCount);
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.ClassOption;
+import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.models.schema.Tutorial;
+import seedu.duke.models.schema.WeekGrid;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimetableOptimizerTest {
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject lesson(String classNo, String lessonType, String day, String start, String end) {
+        JSONObject lesson = new JSONObject();
+        lesson.put("classNo", classNo);
+        lesson.put("lessonType", lessonType);
+        lesson.put("day", day);
+        lesson.put("startTime", start);
+        lesson.put("endTime", end);
+        return lesson;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject moduleInfo(int semester, JSONObject... lessons) {
+        JSONArray timetable = new JSONArray();
+        timetable.addAll(Arrays.asList(lessons));
+        JSONObject semesterInfo = new JSONObject();
+        semesterInfo.put("semester", (long) semester);
+        semesterInfo.put("timetable", timetable);
+        JSONArray semesterData = new JSONArray();
+        semesterData.add(semesterInfo);
+        JSONObject moduleInfo = new JSONObject();
+        moduleInfo.put("moduleCredit", "4");
+        moduleInfo.put("semesterData", semesterData);
+        return moduleInfo;
+    }
+
+    private static TimetableOptimizer twoModules(TimetableObjective... objectives) {
+        TimetableOptimizer optimizer = new TimetableOptimizer(Arrays.asList(objectives), Duration.ofSeconds(5));
+        assertTrue(optimizer.addModule("CS2113", moduleInfo(1,
+                lesson("1", "Lecture", "Friday", "1600", "1800"),
+                lesson("01", "Tutorial", "Monday", "0800", "0900"),
+                lesson("02", "Tutorial", "Friday", "0800", "0900"),
+                lesson("03", "Tutorial", "Friday", "1000", "1100")), 1));
+        assertTrue(optimizer.addModule("CS2040C", moduleInfo(1,
+                lesson("1", "Lecture", "Friday", "1000", "1200"),
+                lesson("2", "Lecture", "Wednesday", "1400", "1600"),
+                lesson("01", "Laboratory", "Friday", "1230", "1400"),
+                lesson("01", "Laboratory", "Monday", "1000", "1100"),
+                lesson("02", "Laboratory", "Friday", "1200", "1400")), 1));
+        assertFalse(optimizer.addModule("CS3230", moduleInfo(2,
+                lesson("1", "Lecture", "Monday", "1000", "1200")), 1));
+        return optimizer;
+    }
+
+    private static List<String> describe(TimetableOptimizer.Solution solution) {
+        List<String> chosen = new ArrayList<>();
+        for (ClassOption option : solution.getClasses()) {
+            chosen.add(option.getModuleCode() + " " + option.getLessonType() + " " + option.getClassNo());
+        }
+        return chosen;
+    }
+
+    @Test
+    void solve_fewestDaysFirst_expectClassesPackedIntoOneDay() {
+        TimetableOptimizer.Solution solution = twoModules(TimetableObjective.FEWEST_DAYS,
+                TimetableObjective.NO_MORNING_CLASSES).solve();
+        assertTrue(solution.isOptimal());
+        assertArrayEquals(new int[]{1, 1}, solution.getScores());
+        assertEquals(Arrays.asList("CS2113 Lecture 1", "CS2113 Tutorial 02", "CS2040C Lecture 1",
+                "CS2040C Laboratory 02"), describe(solution));
+
+        List<ModuleWeekly> modules = solution.toModules();
+        assertEquals(2, modules.size());
+        assertEquals(4, modules.get(1).getModuleCredits());
+        assertEquals(2, modules.get(1).getWeeklySchedule().size());
+        assertFalse(modules.get(0).getWeekGrid().clashesWith(modules.get(1).getWeekGrid()));
+    }
+
+    @Test
+    void solve_noMorningClassesFirst_expectMorningAvoidedAtCostOfDays() {
+        TimetableOptimizer.Solution solution = twoModules(TimetableObjective.NO_MORNING_CLASSES,
+                TimetableObjective.FEWEST_DAYS).solve();
+        assertArrayEquals(new int[]{0, 2}, solution.getScores());
+        assertEquals(Arrays.asList("CS2113 Lecture 1", "CS2113 Tutorial 03", "CS2040C Lecture 2",
+                "CS2040C Laboratory 02"), describe(solution));
+    }
+
+    @Test
+    void solve_everyClassClashes_expectNoSolution() {
+        TimetableOptimizer optimizer = new TimetableOptimizer(
+                Arrays.asList(TimetableObjective.FEWEST_GAPS), Duration.ofSeconds(5));
+        optimizer.addLessonGroup(Arrays.asList(
+                new ClassOption("CS1231", "Lecture", "1", Arrays.asList(new Tutorial("Monday", 10, 2)))));
+        optimizer.addLessonGroup(Arrays.asList(
+                new ClassOption("CS2040C", "Lecture", "1", Arrays.asList(new Tutorial("Monday", 11, 1))),
+                new ClassOption("CS2040C", "Lecture", "2", Arrays.asList(new Tutorial("Monday", 10, 1)))));
+        assertNull(optimizer.solve());
+    }
+
+    @Test
+    void solve_heavySemester_expectClashFreeWithinBudget() {
+        String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday"};
+        Random random = new Random(1);
+        TimetableOptimizer optimizer = new TimetableOptimizer(
+                Arrays.asList(TimetableObjective.FEWEST_DAYS, TimetableObjective.FEWEST_GAPS),
+                Duration.ofMillis(500));
+        for (int module = 0; module < 6; module++) {
+            for (int type = 0; type < 3; type++) {
+                List<ClassOption> options = new ArrayList<>();
+                for (int classNo = 0; classNo < 20; classNo++) {
+                    Tutorial session = new Tutorial(days[random.nextInt(5)], 8 + random.nextInt(10), type == 1 ? 1 : 2);
+                    options.add(new ClassOption("M" + module, "Type" + type, String.valueOf(classNo),
+                            Arrays.asList(session)));
+                }
+                optimizer.addLessonGroup(options);
+            }
+        }
+
+        long start = System.nanoTime();
+        TimetableOptimizer.Solution solution = optimizer.solve();
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        WeekGrid week = new WeekGrid();
+        for (ClassOption option : solution.getClasses()) {
+            assertFalse(week.clashesWith(option.getWeekGrid()));
+            week.addAll(option.getWeekGrid());
+        }
+        assertEquals(18, solution.getClasses().size());
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class YearCatalogueTest {
+    private static final List<String> YEARS = AcademicYear.range("2019-2020", "2023-2024");
+
+    private static JSONObject module(String prereqTree) throws Exception {
+        return (JSONObject) new JSONParser().parse("{\"moduleCode\":\"CS2040C\",\"title\":\"Data Structures\","
+                + "\"moduleCredit\":\"4\",\"prereqTree\":" + prereqTree + ",\"semesterData\":[{\"semester\":1}]}");
+    }
+
+    @Test
+    void put_unchangedAcrossYears_expectOneSharedEntry() throws Exception {
+        YearCatalogue catalogue = new YearCatalogue(YEARS);
+        for (String year : YEARS) {
+            catalogue.put(year, "CS2040C", module("\"CS1010\""));
+        }
+        assertEquals(1, catalogue.countStoredEntries());
+        assertSame(catalogue.get("2019-2020", "CS2040C"), catalogue.get("2023-2024", "CS2040C"));
+        assertNull(catalogue.get("2023-2024", "CS2040C").get("semesterData"));
+    }
+
+    @Test
+    void put_prereqsChangedOnce_expectEntryPerChange() throws Exception {
+        YearCatalogue catalogue = new YearCatalogue(YEARS);
+        catalogue.put("2023-2024", "CS2040C", module("{\"and\":[\"CS1010\",\"CS1231\"]}"));
+        catalogue.put("2019-2020", "CS2040C", module("\"CS1010\""));
+        catalogue.put("2021-2022", "CS2040C", module("\"CS1010\""));
+        catalogue.put("2022-2023", "CS2040C", module("{\"and\":[\"CS1010\",\"CS1231\"]}"));
+
+        assertEquals(2, catalogue.countStoredEntries());
+        assertSame(catalogue.get("2019-2020", "CS2040C"), catalogue.get("2021-2022", "CS2040C"));
+        assertSame(catalogue.get("2022-2023", "CS2040C"), catalogue.get("2023-2024", "CS2040C"));
+        assertNotSame(catalogue.get("2021-2022", "CS2040C"), catalogue.get("2022-2023", "CS2040C"));
+        assertNull(catalogue.get("2020-2021", "CS2040C"));
+    }
+
+    @Test
+    void resolve_yearsOutsideCatalogue_expectNearestYearCovered() {
+        YearCatalogue catalogue = new YearCatalogue(YEARS);
+        assertEquals("2023-2024", catalogue.resolve("2026-2027"));
+        assertEquals("2019-2020", catalogue.resolve("2010-2011"));
+        assertEquals("2021-2022", catalogue.resolve("2021-2022"));
+        assertEquals("2021-2022", AcademicYear.intakeYear("2023-2024", 3));
+        assertThrows(IllegalArgumentException.class, () -> catalogue.resolve("2021-2023"));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.duke.models.schema;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleWeeklyTest {
+
+    @Test
+    void getWeekGrid_overlappingLessons_expectClashingHoursOnly() {
+        ModuleWeekly cs1231 = new ModuleWeekly("CS1231", 4);
+        cs1231.addLecture("Monday", 13, 2);
+        cs1231.addTutorial("Tuesday", 9, 1);
+        ModuleWeekly cs2040c = new ModuleWeekly("CS2040C", 4);
+        cs2040c.addLecture("Monday", 14, 2);
+        ModuleWeekly cs2113 = new ModuleWeekly("CS2113", 4);
+        cs2113.addLecture("Monday", 16, 2);
+        cs2113.addLab("Tuesday", 10, 2);
+
+        assertTrue(cs1231.getWeekGrid().clashesWith(cs2040c.getWeekGrid()));
+        WeekGrid clashes = cs1231.getWeekGrid().getClashes(cs2040c.getWeekGrid());
+        assertEquals(WeekGrid.hourMask(14, 1), clashes.getDayMask(0));
+        assertEquals(0, clashes.getDayMask(1));
+        assertFalse(cs1231.getWeekGrid().clashesWith(cs2113.getWeekGrid()));
+        assertEquals(4, cs2113.getWeekGrid().getContactHours());
+    }
+
+    @Test
+    void addLecture_invalidDay_expectException() {
+        ModuleWeekly module = new ModuleWeekly("CS1231", 4);
+        assertThrows(IllegalArgumentException.class, () -> module.addLecture("Funday", 9, 1));
+        assertThrows(IllegalArgumentException.class, () -> module.addLecture("Monday", 23, 2));
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.duke.models.schema;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.controllers.NusModsStubFixture;
+import seedu.duke.storage.PlanJournal;
+import seedu.duke.storage.PlanStorage;
+
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScheduleHistoryTest {
+
+    private static Schedule plannedSchedule() {
+        Schedule schedule = new Schedule();
+        schedule.restoreModule(new Module("CS1010", 4), 1);
+        schedule.restoreModule(new Module("MA1511", 2), 1);
+        schedule.restoreModule(new Module("CS2040C", 4), 2);
+        return schedule;
+    }
+
+    @Test
+    void publishSnapshot_oneSemesterChanged_expectOtherSemestersShared() {
+        Schedule schedule = plannedSchedule();
+        ScheduleSnapshot before = schedule.getSnapshot();
+        schedule.restoreModule(new Module("CS2113", 4), 3);
+        ScheduleSnapshot after = schedule.getSnapshot();
+
+        assertSame(before.getModulesBySemester().get(0), after.getModulesBySemester().get(0));
+        assertSame(before.getModulesBySemester().get(1), after.getModulesBySemester().get(1));
+        assertEquals(List.of("CS2113"), after.getModulesBySemester().get(2));
+        assertEquals(List.of(), before.getModulesBySemester().get(2));
+        assertEquals(4, after.getNumberOfModules());
+    }
+
+    @Test
+    void diff_addedRemovedAndMoved_expectOnlyChangedSemestersListed() {
+        Schedule schedule = plannedSchedule();
+        ScheduleSnapshot before = schedule.getSnapshot();
+        schedule.removeModuleWithoutCheckingPrereq("MA1511");
+        schedule.moveModuleWithoutCheckingPrereq("CS2040C", 4);
+        schedule.restoreModule(new Module("CS2113", 4), 5);
+
+        ScheduleDiff diff = before.diff(schedule.getSnapshot());
+        assertEquals(List.of(1, 2, 4, 5), diff.getChangedSemesters());
+        assertEquals(List.of("+ CS2113 in semester 5", "- MA1511 in semester 1",
+                "~ CS2040C from semester 2 to semester 4"), diff.toLines());
+        assertTrue(before.diff(before).isEmpty());
+    }
+
+    @Test
+    void undoRedo_severalVersions_expectStepsThroughVersions() {
+        Schedule schedule = plannedSchedule();
+        ScheduleHistory history = new ScheduleHistory(schedule.getSnapshot());
+        ScheduleSnapshot first = schedule.getSnapshot();
+        schedule.moveModuleWithoutCheckingPrereq("CS2040C", 3);
+        history.commit(schedule.getSnapshot());
+        ScheduleSnapshot second = schedule.getSnapshot();
+        history.commit(second);
+
+        assertSame(first, history.undo());
+        assertNull(history.undo());
+        assertSame(second, history.redo());
+        assertNull(history.redo());
+
+        history.undo();
+        schedule.removeModuleWithoutCheckingPrereq("CS2040C");
+        history.commit(schedule.getSnapshot());
+        assertNull(history.redo());
+    }
+
+    @Test
+    void createBranch_changesOnEachBranch_expectBranchesKeptApart() {
+        Schedule schedule = plannedSchedule();
+        ScheduleHistory history = new ScheduleHistory(schedule.getSnapshot());
+        ScheduleSnapshot base = schedule.getSnapshot();
+        history.createBranch("planB");
+        schedule.moveModuleWithoutCheckingPrereq("CS2040C", 4);
+        history.commit(schedule.getSnapshot());
+
+        assertEquals("planB", history.getCurrentBranch());
+        assertEquals(List.of(ScheduleHistory.MAIN_BRANCH, "planB"), history.getBranchNames());
+        assertSame(base, history.switchBranch(ScheduleHistory.MAIN_BRANCH));
+        assertEquals(List.of("~ CS2040C from semester 2 to semester 4"),
+                base.diff(history.getLatestVersion("planB")).toLines());
+        assertThrows(IllegalArgumentException.class, () -> history.createBranch("planB"));
+        assertThrows(IllegalArgumentException.class, () -> history.switchBranch("planC"));
+    }
+
+    @Test
+    void undo_afterChanges_expectEarlierVersionsRestoredWithoutFetching() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            PlanStorage storage = new PlanStorage(Files.createTempDirectory("plans"));
+            PlanJournal journal = storage.getJournal("Alice");
+            journal.writeSnapshot(student);
+            student.setJournal(journal);
+            student.addModulesSchedule(List.of(new ModulePlacement("CS1010", 1), new ModulePlacement("MA1511", 1),
+                    new ModulePlacement("CS2040C", 2)));
+            List<List<String>> added = student.getSchedule().getModulesBySemester();
+            student.moveModuleSchedule("MA1511", 3);
+            student.deleteModuleSchedule("CS2040C");
+            long requests = stub.getRequestCount();
+
+            assertTrue(student.undo());
+            assertTrue(student.undo());
+            assertEquals(added, student.getSchedule().getModulesBySemester());
+            assertTrue(student.undo());
+            assertEquals(0, student.getSchedule().getNumberOfModules());
+            assertFalse(student.undo());
+            assertTrue(student.redo());
+            assertEquals(added, student.getSchedule().getModulesBySemester());
+            assertEquals(3, student.getModulesPlanned().getModuleCodes().size());
+            assertEquals(requests, stub.getRequestCount());
+
+            journal.close();
+            Student restored = storage.getJournal("Alice").restore();
+            assertEquals(added, restored.getSchedule().getModulesBySemester());
+        }
+    }
+
+    @Test
+    void undo_deletedCompletedModule_expectCompletionRestored() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            PlanStorage storage = new PlanStorage(Files.createTempDirectory("plans"));
+            PlanJournal journal = storage.getJournal("Alice");
+            journal.writeSnapshot(student);
+            student.setJournal(journal);
+            student.addModulesSchedule(List.of(new ModulePlacement("CS1010", 1), new ModulePlacement("MA1511", 1)));
+            student.completeModuleSchedule("CS1010");
+            student.deleteModuleSchedule("CS1010");
+            assertEquals(0, student.getSnapshot().getCompletedModuleCredits());
+
+            assertTrue(student.undo());
+            assertEquals(4, student.getSnapshot().getCompletedModuleCredits());
+            assertEquals(List.of("CS1010"), student.getModulesPlanned().getModulesCompleted());
+            assertTrue(student.redo());
+            assertEquals(0, student.getSnapshot().getCompletedModuleCredits());
+            assertTrue(student.undo());
+            assertEquals(4, student.getSnapshot().getCompletedModuleCredits());
+
+            journal.close();
+            Student restored = storage.getJournal("Alice").restore();
+            assertEquals(4, restored.getSnapshot().getCompletedModuleCredits());
+            assertEquals(List.of("CS1010"), restored.getModulesPlanned().getModulesCompleted());
+        }
+    }
+
+    @Test
+    void switchPlan_changesOnTwoPlans_expectEachPlanKept() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            student.addModulesSchedule(List.of(new ModulePlacement("CS1010", 1), new ModulePlacement("CS2040C", 2)));
+            student.createPlan("slower");
+            student.moveModuleSchedule("CS2040C", 4);
+            student.addModuleSchedule("MA1511", 4);
+            List<List<String>> slower = student.getSchedule().getModulesBySemester();
+
+            assertEquals(List.of("- MA1511 in semester 4", "~ CS2040C from semester 4 to semester 2"),
+                    student.diffPlan(ScheduleHistory.MAIN_BRANCH).toLines());
+            student.switchPlan(ScheduleHistory.MAIN_BRANCH);
+            assertEquals(List.of("CS2040C"), student.getSchedule().getModulesBySemester().get(1));
+            assertEquals(2, student.getSchedule().getNumberOfModules());
+            student.switchPlan("slower");
+            assertEquals(slower, student.getSchedule().getModulesBySemester());
+            assertThrows(IllegalArgumentException.class, () -> student.switchPlan("faster"));
+        }
+    }
+}
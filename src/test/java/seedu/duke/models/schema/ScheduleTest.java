@@ -1,9 +1,12 @@
 package seedu.duke.models.schema;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.controllers.NusModsStubFixture;
+import seedu.duke.exceptions.BatchAddException;
 import seedu.duke.exceptions.FailPrereqException;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -48,4 +51,46 @@ class ScheduleTest {
         assertThrows(IllegalArgumentException.class, () -> schedule.addModule("CS2040C", 1000));
     }
 
+    @Test
+    void getSnapshot_emptySchedule_expectEmptySemesters() {
+        Schedule schedule = new Schedule();
+        ScheduleSnapshot snapshot = schedule.getSnapshot();
+        assertEquals(Schedule.getMaximumSemesters(), snapshot.getModulesBySemester().size());
+        assertEquals(0, snapshot.getNumberOfModules());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getModulesBySemester().get(0).add("CS1010"));
+    }
+
+    @Test
+    void addModulesSchedule_outOfOrderBatch_expectAddedInOnePass() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            student.addModulesSchedule(List.of(new ModulePlacement("CS2113", 3), new ModulePlacement("CS2040C", 2),
+                    new ModulePlacement("MA1511", 1), new ModulePlacement("CS1010", 1)));
+
+            List<List<String>> semesters = student.getSchedule().getModulesBySemester();
+            assertEquals(List.of("MA1511", "CS1010"), semesters.get(0));
+            assertEquals(List.of("CS2040C"), semesters.get(1));
+            assertEquals(List.of("CS2113"), semesters.get(2));
+            assertEquals(4, student.getModulesPlanned().getModuleCodes().size());
+            assertEquals(4, student.getSchedule().getNumberOfModules());
+        }
+    }
+
+    @Test
+    void addModulesSchedule_invalidBatch_expectEveryViolationAndNothingAdded() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            BatchAddException e = assertThrows(BatchAddException.class, () -> student.addModulesSchedule(List.of(
+                    new ModulePlacement("CS2040C", 1), new ModulePlacement("CS1010", 1),
+                    new ModulePlacement("CS9999", 2), new ModulePlacement("CS1010", 3))));
+
+            assertEquals(List.of("CS9999 in semester 2: please select a valid module",
+                    "CS1010 in semester 3: module appears more than once in the batch",
+                    "CS2040C in semester 1: prerequisites not satisfied"), e.getViolations());
+            assertEquals(0, student.getSchedule().getNumberOfModules());
+        }
+    }
+
 }
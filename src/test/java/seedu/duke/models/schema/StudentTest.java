@@ -1,10 +1,16 @@
 package seedu.duke.models.schema;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.controllers.NusModsStubFixture;
+import seedu.duke.exceptions.FailPrereqException;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class StudentTest {
 
@@ -28,6 +34,84 @@ public class StudentTest {
         assertEquals(expected, student.getModuleCodesLeft());
     }
 
+    @Test
+    void getSnapshot_majorSet_expectPublishedProgress() {
+        Student student = new Student();
+        StudentSnapshot before = student.getSnapshot();
+        student.setMajor("CEG");
+        StudentSnapshot after = student.getSnapshot();
+
+        assertEquals(0, before.getModuleCodesLeft().size());
+        assertEquals("CEG", after.getMajor());
+        assertEquals(student.getModuleCodesLeft(), after.getModuleCodesLeft());
+    }
+
+    @Test
+    void getSnapshot_scheduleChanged_expectScheduleAndProgressPublishedTogether() {
+        Student student = new Student();
+        student.setMajor("CEG");
+        student.restoreModule("CS1010", 1, 4);
+        student.completeModuleSchedule("CS1010");
+        student.restoreModule("MA1511", 1, 2);
+        student.restoreMove("MA1511", 2);
+
+        StudentSnapshot snapshot = student.getSnapshot();
+        assertSame(student.getSchedule().getSnapshot(), snapshot.getSchedule());
+        assertEquals(List.of("CS1010"), snapshot.getSchedule().getModulesBySemester().get(0));
+        assertEquals(List.of("MA1511"), snapshot.getSchedule().getModulesBySemester().get(1));
+        assertFalse(snapshot.getModuleCodesLeft().contains("CS1010"));
+        assertEquals(4, snapshot.getCompletedModuleCredits());
+    }
+
+    @Test
+    void moveModuleSchedule_allowedMoves_expectMovedWithoutFetching() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            student.addModulesSchedule(List.of(new ModulePlacement("CS1010", 1), new ModulePlacement("MA1511", 1),
+                    new ModulePlacement("CS2040C", 2), new ModulePlacement("CS2113", 3)));
+            long requests = stub.getRequestCount();
+
+            student.moveModuleSchedule("CS2113", 5);
+            student.moveModuleSchedule("CS2040C", 4);
+            student.moveModuleSchedule("MA1511", 4);
+            student.moveModuleSchedule("CS2040C", 2);
+
+            List<List<String>> semesters = student.getSchedule().getModulesBySemester();
+            assertEquals(List.of("CS1010"), semesters.get(0));
+            assertEquals(List.of("CS2040C"), semesters.get(1));
+            assertEquals(List.of("MA1511"), semesters.get(3));
+            assertEquals(List.of("CS2113"), semesters.get(4));
+            assertEquals(4, student.getSchedule().getNumberOfModules());
+            assertEquals(requests, stub.getRequestCount());
+        }
+    }
+
+    @Test
+    void moveModuleSchedule_brokenPrerequisites_expectRejectedAndUnchanged() throws Exception {
+        try (NusModsStubFixture stub = NusModsStubFixture.start()) {
+            stub.writeChainFixtures();
+            Student student = new Student("Alice", "CEG", new Schedule());
+            student.addModulesSchedule(List.of(new ModulePlacement("CS1010", 1), new ModulePlacement("CS2040C", 2),
+                    new ModulePlacement("CS2113", 4)));
+            List<List<String>> before = student.getSchedule().getModulesBySemester();
+
+            FailPrereqException dependent = assertThrows(FailPrereqException.class,
+                    () -> student.moveModuleSchedule("CS2040C", 4));
+            assertEquals("Unable to move module. This module is a prerequisite for CS2113", dependent.getMessage());
+            FailPrereqException own = assertThrows(FailPrereqException.class,
+                    () -> student.moveModuleSchedule("CS2113", 2));
+            assertEquals("Unable to move module as prerequisites not satisfied for: CS2113", own.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> student.moveModuleSchedule("MA1511", 2));
+            assertThrows(IllegalArgumentException.class, () -> student.moveModuleSchedule("CS1010", 9));
+            assertEquals(before, student.getSchedule().getModulesBySemester());
+
+            // A dependent taken after the module's new semester is unaffected
+            student.moveModuleSchedule("CS2040C", 3);
+            assertEquals(List.of("CS2040C"), student.getSchedule().getModulesBySemester().get(2));
+        }
+    }
+
     // getModuleCodesLeft_noMajorSet_expectException()
     // getDifferenceTest_twoModuleList_expectDifference()
 
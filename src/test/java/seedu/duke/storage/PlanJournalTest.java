@@ -0,0 +1,170 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.Student;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlanJournalTest {
+
+    private static Student startPlan(PlanStorage storage) throws Exception {
+        Student student = new Student();
+        student.setName("Ryan Loh");
+        student.setMajor("CEG");
+        student.setYear("Y1/S1");
+        PlanJournal journal = storage.getJournal("Ryan Loh");
+        journal.writeSnapshot(student);
+        student.setJournal(journal);
+        return student;
+    }
+
+    private static void add(Student student, String moduleCode, int semester) {
+        student.restoreModule(moduleCode, semester, 4);
+        student.getJournal().record(JournalEntry.add(moduleCode, semester, 4), student);
+    }
+
+    @Test
+    void restore_snapshotAndJournal_expectSamePlan() throws Exception {
+        PlanStorage storage = new PlanStorage(Files.createTempDirectory("plans"));
+        assertFalse(storage.hasPlan("Ryan Loh"));
+        Student student = startPlan(storage);
+        add(student, "CS1010", 1);
+        add(student, "CS1231", 1);
+        add(student, "CS2040C", 2);
+        student.completeModuleSchedule("CS1010");
+        student.setYear("Y2/S1");
+        student.restoreDeletion("CS1231");
+        student.getJournal().record(JournalEntry.delete("CS1231"), student);
+        student.getJournal().close();
+
+        assertTrue(storage.hasPlan("ryan loh"));
+        Student restored = storage.getJournal("Ryan Loh").restore();
+        assertEquals("Ryan Loh", restored.getName());
+        assertEquals("CEG", restored.getMajor());
+        assertEquals("Y2/S1", restored.getYear());
+        assertEquals(student.getSchedule().getModulesBySemester(), restored.getSchedule().getModulesBySemester());
+        assertEquals(4, restored.getCurrentModuleCredits());
+        assertEquals(student.getModuleCodesLeft(), restored.getModuleCodesLeft());
+    }
+
+    @Test
+    void restore_journalCutShort_expectPartialEntryDiscarded() throws Exception {
+        Path directory = Files.createTempDirectory("plans");
+        PlanStorage storage = new PlanStorage(directory);
+        Student student = startPlan(storage);
+        add(student, "CS1010", 1);
+        student.getJournal().close();
+        Files.writeString(directory.resolve("ryan_loh.journal"), "2 ADD CS12", StandardOpenOption.APPEND);
+
+        PlanJournal journal = storage.getJournal("Ryan Loh");
+        Student restored = journal.restore();
+        assertEquals(Arrays.asList("CS1010"), restored.getSchedule().getModulesBySemester().get(0));
+
+        restored.setJournal(journal);
+        add(restored, "CS1231", 1);
+        journal.close();
+        List<String> lines = Files.readAllLines(directory.resolve("ryan_loh.journal"));
+        assertEquals(Arrays.asList("# NUSDegs plan journal", "name|Ryan Loh", "1 ADD CS1010 1 4", "2 ADD CS1231 1 4"),
+                lines);
+    }
+
+    @Test
+    void restore_malformedEntryBeforeOthers_expectExceptionAndJournalKept() throws Exception {
+        Path directory = Files.createTempDirectory("plans");
+        PlanStorage storage = new PlanStorage(directory);
+        Student student = startPlan(storage);
+        student.getJournal().close();
+        String journal = "1 ADD CS1010 1 4\nnot an entry\n2 ADD CS1231 1 4\n";
+        Files.writeString(directory.resolve("ryan_loh.journal"), journal);
+
+        assertThrows(IllegalArgumentException.class, () -> storage.getJournal("Ryan Loh").restore());
+        assertEquals(journal, Files.readString(directory.resolve("ryan_loh.journal")));
+    }
+
+    @Test
+    void record_manyChanges_expectJournalCompacted() throws Exception {
+        Path directory = Files.createTempDirectory("plans");
+        PlanStorage storage = new PlanStorage(directory);
+        Student student = startPlan(storage);
+        for (int i = 0; i < PlanJournal.COMPACTION_THRESHOLD; i++) {
+            student.setYear(i % 2 == 0 ? "Y2/S1" : "Y2/S2");
+        }
+        add(student, "CS1010", 3);
+        student.getJournal().close();
+
+        // The two header lines, then the one change made since the snapshot
+        assertEquals(3, Files.readAllLines(directory.resolve("ryan_loh.journal")).size());
+        Student restored = storage.getJournal("Ryan Loh").restore();
+        assertEquals("Y2/S2", restored.getYear());
+        assertEquals(Arrays.asList("CS1010"), restored.getSchedule().getModulesBySemester().get(2));
+    }
+
+    @Test
+    void getJournal_namesDifferingOnlyInPunctuation_expectSeparatePlans() throws Exception {
+        Path directory = Files.createTempDirectory("plans");
+        PlanStorage storage = new PlanStorage(directory);
+        Student student = new Student();
+        student.setName("O'Brien");
+        student.setMajor("CEG");
+        storage.getJournal("O'Brien").writeSnapshot(student);
+
+        assertTrue(storage.hasPlan("o'brien"));
+        assertFalse(storage.hasPlan("O Brien"));
+        assertFalse(storage.hasPlan("O-Brien"));
+        assertEquals("o%27brien", PlanStorage.toFileName("O'Brien"));
+        assertEquals("o_brien", PlanStorage.toFileName(" O Brien "));
+    }
+
+    @Test
+    void restore_filesOfAnotherStudent_expectException() throws Exception {
+        Path directory = Files.createTempDirectory("plans");
+        PlanStorage storage = new PlanStorage(directory);
+        Student student = startPlan(storage);
+        add(student, "CS1010", 1);
+        student.getJournal().close();
+        Files.copy(directory.resolve("ryan_loh.snapshot"), directory.resolve("ryan_lee.snapshot"));
+        assertThrows(IllegalArgumentException.class, () -> storage.getJournal("Ryan Lee").restore());
+
+        Student lee = new Student();
+        lee.setName("Ryan Lee");
+        storage.getJournal("Ryan Lee").writeSnapshot(lee);
+        Files.copy(directory.resolve("ryan_loh.journal"), directory.resolve("ryan_lee.journal"),
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(IllegalArgumentException.class, () -> storage.getJournal("Ryan Lee").restore());
+    }
+
+    @Test
+    void restore_movedModule_expectMovedToStartOfSemester() throws Exception {
+        PlanStorage storage = new PlanStorage(Files.createTempDirectory("plans"));
+        Student student = startPlan(storage);
+        add(student, "CS1010", 1);
+        add(student, "CS2040C", 2);
+        add(student, "CS2113", 3);
+        student.restoreMove("CS2040C", 3);
+        student.getJournal().record(JournalEntry.move("CS2040C", 3), student);
+        student.getJournal().close();
+
+        Student restored = storage.getJournal("Ryan Loh").restore();
+        assertEquals(Arrays.asList("CS2040C", "CS2113"), restored.getSchedule().getModulesBySemester().get(2));
+        assertEquals(student.getSchedule().getModulesBySemester(), restored.getSchedule().getModulesBySemester());
+    }
+
+    @Test
+    void parse_malformedLine_expectException() {
+        assertEquals("7 ADD CS2113 3 4", JournalEntry.parse("7 ADD CS2113 3 4").toLine());
+        assertEquals("9 MOVE CS2113 5", JournalEntry.parse("9 MOVE CS2113 5").toLine());
+        assertThrows(IllegalArgumentException.class, () -> JournalEntry.parse("8 ADD CS2113 3"));
+        assertThrows(IllegalArgumentException.class, () -> JournalEntry.parse("8 MOVE CS2113"));
+        assertThrows(IllegalArgumentException.class, () -> JournalEntry.parse("ADD CS2113 3 4"));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.Student;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlanStoreTest {
+
+    private static Student createStudent(String name, String major, String... modules) {
+        Student student = new Student();
+        student.setName(name);
+        student.setMajor(major);
+        student.setYear("Y2/S1");
+        // Modules are given as CODE:SEMESTER, with a trailing * marking a completed module
+        for (String module : modules) {
+            String[] fields = module.replace("*", "").split(":");
+            student.restoreModule(fields[0], Integer.parseInt(fields[1]), 4);
+        }
+        for (String module : modules) {
+            if (module.endsWith("*")) {
+                student.completeModuleSchedule(module.split(":")[0]);
+            }
+        }
+        return student;
+    }
+
+    @Test
+    void open_savedPlans_expectIndexesRebuilt() throws Exception {
+        Path file = Files.createTempDirectory("store").resolve("plans.db");
+        Student ryan = createStudent("Ryan Loh", "CEG", "CS1010:1*", "CS1231:1*", "CS2040C:3");
+        try (PlanStore store = PlanStore.open(file)) {
+            store.putAll(Arrays.asList(ryan,
+                    createStudent("Janelle", "CS", "CS1231S:1*", "CS2040C:3"),
+                    createStudent("Isaiah", "CS", "CS2040C:2")));
+        }
+
+        try (PlanStore store = PlanStore.open(file)) {
+            assertEquals(3, store.size());
+            assertEquals(2, store.countStudents("CS2040C", 3));
+            assertArrayEquals(new int[]{0, 1, 2, 0, 0, 0, 0, 0}, store.getModuleDemand("CS2040C"));
+            assertEquals(Set.of("ryan loh", "janelle"), store.getStudents("CS2040C", 3));
+            assertEquals(Set.of("janelle", "isaiah"), store.getStudentsByMajor("cs"));
+
+            SortedMap<String, Integer> firstSemester = store.getSemesterDemand(1);
+            assertEquals(Arrays.asList("CS1010", "CS1231", "CS1231S"), new ArrayList<>(firstSemester.keySet()));
+
+            assertEquals(Map.of(0, 1, 4, 1, 8, 1), store.getCompletionDistribution(null, 4));
+            assertEquals(Map.of(0, 1), store.getCompletionDistribution("CEG", 20));
+
+            Student restored = store.get("RYAN LOH").toStudent();
+            assertEquals(ryan.getSchedule().getModulesBySemester(), restored.getSchedule().getModulesBySemester());
+            assertEquals(8, restored.getCurrentModuleCredits());
+        }
+    }
+
+    @Test
+    void put_updatedPlan_expectOldPostingsRemoved() throws Exception {
+        Path file = Files.createTempDirectory("store").resolve("plans.db");
+        try (PlanStore store = PlanStore.open(file)) {
+            store.put(createStudent("Ryan Loh", "CEG", "CS2040C:3"));
+            store.put(createStudent("Ryan Loh", "CEG", "CS2040C:4"));
+            assertEquals(0, store.countStudents("CS2040C", 3));
+            assertEquals(1, store.countStudents("CS2040C", 4));
+
+            assertTrue(store.remove("ryan loh"));
+            assertEquals(0, store.size());
+            assertNull(store.get("Ryan Loh"));
+            assertTrue(store.getSemesterDemand(4).isEmpty());
+        }
+        try (PlanStore store = PlanStore.open(file)) {
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void compact_manyUpdates_expectOnlyLatestRecordsKept() throws Exception {
+        Path file = Files.createTempDirectory("store").resolve("plans.db");
+        try (PlanStore store = PlanStore.open(file)) {
+            for (int semester = 1; semester <= 8; semester++) {
+                store.put(createStudent("Ryan Loh", "CEG", "CS1010:" + semester));
+                store.put(createStudent("Janelle", "CS", "CS1231S:" + semester));
+            }
+            store.compact();
+            assertEquals(3, Files.readAllLines(file).size());
+            assertEquals(1, store.countStudents("CS1010", 8));
+            assertEquals("CS1231S", store.get("Janelle").getModuleCode(0));
+
+            List<String> names = new ArrayList<>();
+            store.forEach(record -> names.add(record.getName()));
+            assertEquals(2, names.size());
+        }
+    }
+
+    @Test
+    void open_recordCutShort_expectPartialRecordDiscarded() throws Exception {
+        Path file = Files.createTempDirectory("store").resolve("plans.db");
+        try (PlanStore store = PlanStore.open(file)) {
+            store.put(createStudent("Ryan Loh", "CEG", "CS1010:1"));
+        }
+        Files.writeString(file, "P Janelle|CS|Y1/S1|CS12", StandardOpenOption.APPEND);
+
+        try (PlanStore store = PlanStore.open(file)) {
+            assertEquals(1, store.size());
+            store.put(createStudent("Janelle", "CS", "CS1231S:1"));
+        }
+        try (PlanStore store = PlanStore.open(file)) {
+            assertEquals(2, store.size());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.duke.utils.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTest {
+    @Test
+    void bucketOf_consecutiveValues_expectBucketsCoverEveryValueOnce() {
+        for (long value = 0; value < 1_000_000; value++) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(value <= Histogram.highestValueOf(bucket));
+            if (bucket > 0) {
+                assertTrue(value > Histogram.highestValueOf(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    void getPercentile_uniformValues_expectWithinThreePercent() {
+        Histogram histogram = new Histogram(1);
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000L, histogram.getMax());
+        assertWithin(50_000_000L, histogram.getPercentile(50));
+        assertWithin(90_000_000L, histogram.getPercentile(90));
+        assertWithin(99_000_000L, histogram.getPercentile(99));
+        assertEquals(100_000_000L, histogram.getPercentile(100));
+    }
+
+    @Test
+    void getPercentile_smallValues_expectExact() {
+        Histogram histogram = new Histogram(1);
+        histogram.record(3);
+        histogram.record(5);
+        histogram.record(7);
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(99));
+        assertEquals(15, histogram.getSum());
+    }
+
+    @Test
+    void getPercentile_empty_expectZero() {
+        assertEquals(0, new Histogram(1).getPercentile(50));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.03, "expected about " + expected + " but was " + actual);
+    }
+}
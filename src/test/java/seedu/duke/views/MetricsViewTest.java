@@ -0,0 +1,39 @@
+package seedu.duke.views;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.utils.metrics.MetricsRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsViewTest {
+    @Test
+    void appendPrometheus_eachKindOfMetric_expectTextFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("planner_commands_total", "Commands handled.", "command", "add").add(3);
+        registry.counter("planner_commands_total", "Commands handled.", "command", "say \"hi\"").increment();
+        registry.gauge("planner_sessions", "Open sessions.", () -> 2);
+        registry.timer("planner_duration_seconds", "Time taken.").record(2_000_000);
+
+        RenderBuffer out = RenderBuffer.get();
+        MetricsView.appendPrometheus(out, registry);
+        String text = out.toString();
+
+        assertTrue(text.contains("# HELP planner_commands_total Commands handled.\n"
+                + "# TYPE planner_commands_total counter\n"
+                + "planner_commands_total{command=\"add\"} 3\n"
+                + "planner_commands_total{command=\"say \\\"hi\\\"\"} 1\n"), text);
+        assertTrue(text.contains("# TYPE planner_sessions gauge\nplanner_sessions 2\n"), text);
+        assertTrue(text.contains("# TYPE planner_duration_seconds summary\n"
+                + "planner_duration_seconds{quantile=\"0.5\"} 0.002"), text);
+        assertTrue(text.contains("planner_duration_seconds_sum 0.002\nplanner_duration_seconds_count 1\n"), text);
+    }
+
+    @Test
+    void appendStats_noMetrics_expectMessage() {
+        RenderBuffer out = RenderBuffer.get();
+        MetricsView.appendStats(out, new MetricsRegistry());
+        String text = out.toString();
+        assertEquals("No metrics recorded yet" + System.lineSeparator(), text);
+    }
+}
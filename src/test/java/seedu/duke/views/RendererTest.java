@@ -0,0 +1,63 @@
+package seedu.duke.views;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.ModuleWeekly;
+import seedu.duke.storage.PlanRecord;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RendererTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void jsonWriter_nestedValuesAndEscapes_expectValidJson() throws Exception {
+        StringWriter out = new StringWriter();
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject().name("title").value("Say \"hi\"\\\n").name("credits").value(4)
+                .name("tags").beginArray().value(true).nullValue().beginArray().endArray().endArray()
+                .endObject();
+        json.endLine();
+        assertEquals("{\"title\":\"Say \\\"hi\\\"\\\\\\n\",\"credits\":4,\"tags\":[true,null,[]]}" + NEWLINE,
+                out.toString());
+
+        json.beginArray();
+        assertThrows(IllegalStateException.class, json::endLine);
+    }
+
+    @Test
+    void csvRenderer_plan_expectOneQuotedRowPerModule() throws Exception {
+        PlanRecord plan = PlanRecord.parse("Loh, Ryan|CEG|Y2/S1|CS1010:1:4:c,CS2113:3:4:p");
+        StringWriter out = new StringWriter();
+        OutputFormat.CSV.createRenderer(out).renderPlan(plan);
+        assertEquals("plan,\"Loh, Ryan\",CEG,Y2/S1,CS1010,1,4,true" + NEWLINE
+                + "plan,\"Loh, Ryan\",CEG,Y2/S1,CS2113,3,4,false" + NEWLINE, out.toString());
+    }
+
+    @Test
+    void renderers_timetableAndPrerequisites_expectSameContentInEachFormat() throws Exception {
+        ModuleWeekly module = new ModuleWeekly("CS2113", 4);
+        module.addLecture("Friday", 16, 2);
+        List<ModuleWeekly> modules = Arrays.asList(module);
+
+        StringWriter json = new StringWriter();
+        Renderer jsonRenderer = OutputFormat.JSON.createRenderer(json);
+        jsonRenderer.renderTimetable(modules);
+        jsonRenderer.renderPrerequisites("CS2113", Arrays.asList("CS2040C", "CS1231"));
+        assertEquals("{\"type\":\"timetable\",\"lessons\":[{\"module\":\"CS2113\",\"lessonType\":\"Lecture\","
+                + "\"day\":\"Friday\",\"startHour\":16,\"endHour\":18}]}" + NEWLINE
+                + "{\"type\":\"prereq\",\"module\":\"CS2113\",\"prerequisites\":[\"CS2040C\",\"CS1231\"]}" + NEWLINE,
+                json.toString());
+
+        StringWriter text = new StringWriter();
+        Renderer textRenderer = OutputFormat.TEXT.createRenderer(text);
+        textRenderer.renderPrerequisites("CS1010", Arrays.asList());
+        textRenderer.renderSchedule(Arrays.asList(Arrays.asList("CS1010", "CS1231"), Arrays.asList()));
+        assertEquals("Module CS1010 has no prerequisites." + NEWLINE + "Sem 1: CS1010 CS1231 " + NEWLINE
+                + "Sem 2: " + NEWLINE, text.toString());
+    }
+}
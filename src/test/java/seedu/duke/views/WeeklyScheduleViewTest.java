@@ -9,6 +9,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class WeeklyScheduleViewTest {
@@ -48,4 +49,52 @@ class WeeklyScheduleViewTest {
         //assertTrue(false);
 
     }
+
+    @Test
+    void testPrintWeeklySchedule_clashingModules_expectClashPrinted() {
+        ArrayList<ModuleWeekly> currentSemesterModules = new ArrayList<ModuleWeekly>();
+
+        ModuleWeekly firstModule = new ModuleWeekly("CS1231", 4);
+        firstModule.addLecture("Monday", 13, 2);
+        ModuleWeekly secondModule = new ModuleWeekly("CS2040C", 4);
+        secondModule.addTutorial("Monday", 14, 1);
+
+        currentSemesterModules.add(firstModule);
+        currentSemesterModules.add(secondModule);
+
+        WeeklyScheduleView.printWeeklySchedule(currentSemesterModules);
+        assertTrue(outputStream.toString().contains("Clash: CS1231 and CS2040C on Monday 14:00"));
+    }
+
+    @Test
+    void testPrintWeeklySchedule_eveningLesson_expectLessonListedBelowTable() {
+        ArrayList<ModuleWeekly> currentSemesterModules = new ArrayList<ModuleWeekly>();
+
+        ModuleWeekly testModule = new ModuleWeekly("CS2113", 4);
+        testModule.addTutorial("Sunday", 19, 2);
+        testModule.addLecture("Friday", 16, 2);
+        currentSemesterModules.add(testModule);
+
+        WeeklyScheduleView.printWeeklySchedule(currentSemesterModules);
+        String newLine = System.lineSeparator();
+        assertTrue(outputStream.toString().contains("These lessons run outside 8am to 8pm and are not shown in full "
+                + "above:" + newLine + "  CS2113 Tutorial on Sunday 19:00-21:00" + newLine));
+        assertFalse(outputStream.toString().contains("Friday 16:00"));
+    }
+
+    @Test
+    void testPrintWeeklySchedule_nameFillingColumn_expectWrappedAtSpace() {
+        ArrayList<ModuleWeekly> currentSemesterModules = new ArrayList<ModuleWeekly>();
+
+        ModuleWeekly testModule = new ModuleWeekly("GEA1000", 4);
+        testModule.addLab("Wednesday", 12, 1);
+        currentSemesterModules.add(testModule);
+
+        WeeklyScheduleView.printWeeklySchedule(currentSemesterModules);
+        String newLine = System.lineSeparator();
+        assertTrue(outputStream.toString().contains(
+                "|12-1pm     |           |           |GEA1000    |           |           |           |           |"
+                + newLine
+                + "|           |           |           |Lab        |           |           |           |           |"));
+    }
 }